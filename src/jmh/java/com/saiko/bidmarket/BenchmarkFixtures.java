@@ -0,0 +1,48 @@
+package com.saiko.bidmarket;
+
+import java.util.List;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+
+/**
+ * 벤치마크들이 함께 쓰는 영속화되지 않은 엔티티. id 가 필요한 곳은 저장된 것처럼 채워 둔다.
+ */
+public final class BenchmarkFixtures {
+
+  private BenchmarkFixtures() {
+  }
+
+  public static User user(long id) {
+    User user = User
+        .builder()
+        .username("user" + id)
+        .profileImage("https://image.bidmarket.com/profile/" + id)
+        .provider("google")
+        .providerId(String.valueOf(100_000_000L + id))
+        .group(new Group())
+        .build();
+    ReflectionTestUtils.setField(user, "id", id);
+    return user;
+  }
+
+  public static Product product(long id, User writer) {
+    Product product = Product
+        .builder()
+        .title("텀블러 팝니다 " + id)
+        .description("한 번도 쓰지 않은 텀블러입니다")
+        .location("강남")
+        .category(Category.ETC)
+        .minimumPrice(10_000)
+        .images(List.of("https://image.bidmarket.com/product/" + id + "/1",
+                        "https://image.bidmarket.com/product/" + id + "/2"))
+        .writer(writer)
+        .build();
+    ReflectionTestUtils.setField(product, "id", id);
+    return product;
+  }
+}
@@ -0,0 +1,57 @@
+package com.saiko.bidmarket.bidding.entity;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.saiko.bidmarket.BenchmarkFixtures;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.user.entity.User;
+
+/**
+ * 입찰 생성과 검증. 생성자가 상품의 biddings 에 자신을 더하므로 매번 비워서 목록이 자라지 않게 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BiddingBenchmark {
+
+  private User bidder;
+
+  private Product product;
+
+  @Setup
+  public void setUp() {
+    bidder = BenchmarkFixtures.user(2L);
+    product = BenchmarkFixtures.product(1L, BenchmarkFixtures.user(1L));
+  }
+
+  @Benchmark
+  public Bidding create() {
+    Bidding bidding = new Bidding(20_000L, bidder, product);
+    product
+        .getBiddings()
+        .clear();
+    return bidding;
+  }
+
+  @Benchmark
+  public IllegalArgumentException rejectBelowMinimumPrice() {
+    try {
+      new Bidding(5_000L, bidder, product);
+      throw new IllegalStateException("Bidding below minimum price must be rejected");
+    } catch (IllegalArgumentException e) {
+      return e;
+    } finally {
+      product
+          .getBiddings()
+          .clear();
+    }
+  }
+}
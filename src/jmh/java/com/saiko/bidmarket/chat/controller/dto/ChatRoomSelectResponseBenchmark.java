@@ -0,0 +1,91 @@
+package com.saiko.bidmarket.chat.controller.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiko.bidmarket.BenchmarkFixtures;
+import com.saiko.bidmarket.chat.entity.ChatMessage;
+import com.saiko.bidmarket.chat.entity.ChatRoom;
+import com.saiko.bidmarket.user.entity.User;
+
+/**
+ * 채팅방 목록 한 페이지(20개)를 응답 타입으로 옮기고 JSON 으로 쓰는 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatRoomSelectResponseBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  private static final long USER_ID = 1L;
+
+  private List<ChatRoom> chatRooms;
+
+  private List<ChatMessage> lastMessages;
+
+  private List<ChatRoomSelectResponse> page;
+
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setUp() {
+    User seller = BenchmarkFixtures.user(USER_ID);
+    LocalDateTime sentAt = LocalDateTime.of(2022, 8, 8, 12, 0);
+
+    chatRooms = new ArrayList<>();
+    lastMessages = new ArrayList<>();
+    for (long id = 1; id <= PAGE_SIZE; id++) {
+      User winner = BenchmarkFixtures.user(USER_ID + id);
+      ChatRoom chatRoom = ChatRoom
+          .builder()
+          .seller(seller)
+          .winner(winner)
+          .product(BenchmarkFixtures.product(id, seller))
+          .build();
+      ReflectionTestUtils.setField(chatRoom, "id", id);
+      ChatMessage lastMessage = ChatMessage
+          .builder()
+          .sender(winner)
+          .chatRoom(chatRoom)
+          .message("거래 장소는 강남역 11번 출구로 할까요?")
+          .build();
+      ReflectionTestUtils.setField(lastMessage, "createdAt", sentAt);
+
+      chatRooms.add(chatRoom);
+      lastMessages.add(lastMessage);
+    }
+    page = map();
+    objectMapper = Jackson2ObjectMapperBuilder
+        .json()
+        .build();
+  }
+
+  @Benchmark
+  public List<ChatRoomSelectResponse> map() {
+    List<ChatRoomSelectResponse> responses = new ArrayList<>(PAGE_SIZE);
+    for (int i = 0; i < chatRooms.size(); i++) {
+      responses.add(ChatRoomSelectResponse.of(USER_ID, chatRooms.get(i), lastMessages.get(i)));
+    }
+    return responses;
+  }
+
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(page);
+  }
+}
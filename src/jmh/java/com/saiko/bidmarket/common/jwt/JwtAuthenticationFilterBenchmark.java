@@ -0,0 +1,72 @@
+package com.saiko.bidmarket.common.jwt;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 인증이 필요한 요청마다 한 번씩 거치는 필터. 토큰 검증과 권한 목록 생성, SecurityContext 설정까지 잰다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String HEADER = "Authorization";
+
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+  };
+
+  private JwtAuthenticationFilter filter;
+
+  private MockHttpServletRequest authenticatedRequest;
+
+  private MockHttpServletRequest anonymousRequest;
+
+  private MockHttpServletResponse response;
+
+  @Setup
+  public void setUp() {
+    Jwt jwt = new Jwt("saiko", "benchmark-client-secret", 3600);
+    filter = new JwtAuthenticationFilter(HEADER, jwt);
+
+    authenticatedRequest = new MockHttpServletRequest("GET", "/api/v1/chatRooms");
+    authenticatedRequest.addHeader(
+        HEADER, "Bearer " + jwt.sign(Jwt.Claims.from(1L, new String[] {"ROLE_USER"})));
+    anonymousRequest = new MockHttpServletRequest("GET", "/api/v1/products");
+    response = new MockHttpServletResponse();
+  }
+
+  @Benchmark
+  public Authentication authenticated() throws ServletException, IOException {
+    return doFilter(authenticatedRequest);
+  }
+
+  @Benchmark
+  public Authentication anonymous() throws ServletException, IOException {
+    return doFilter(anonymousRequest);
+  }
+
+  private Authentication doFilter(MockHttpServletRequest request)
+      throws ServletException, IOException {
+    SecurityContextHolder.clearContext();
+    filter.doFilter(request, response, NO_OP_CHAIN);
+    return SecurityContextHolder
+        .getContext()
+        .getAuthentication();
+  }
+}
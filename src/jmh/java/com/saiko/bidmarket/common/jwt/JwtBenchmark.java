@@ -0,0 +1,40 @@
+package com.saiko.bidmarket.common.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+  private Jwt jwt;
+
+  private Jwt.Claims claims;
+
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwt = new Jwt("saiko", "benchmark-client-secret", 3600);
+    claims = Jwt.Claims.from(1L, new String[] {"ROLE_USER"});
+    token = jwt.sign(claims);
+  }
+
+  @Benchmark
+  public String sign() {
+    return jwt.sign(claims);
+  }
+
+  @Benchmark
+  public Jwt.Claims verify() {
+    return jwt.verify(token);
+  }
+}
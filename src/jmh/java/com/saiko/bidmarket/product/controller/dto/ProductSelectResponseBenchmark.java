@@ -0,0 +1,75 @@
+package com.saiko.bidmarket.product.controller.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiko.bidmarket.BenchmarkFixtures;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.entity.ProductListing;
+import com.saiko.bidmarket.user.entity.User;
+
+/**
+ * 상품 목록 한 페이지를 응답 타입으로 옮기고 JSON 으로 쓰는 비용.
+ * ObjectMapper 는 Spring Boot 가 만드는 것과 같은 기본 설정을 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSelectResponseBenchmark {
+
+  @Param({"10", "100"})
+  private int pageSize;
+
+  private List<ProductListing> listings;
+
+  private List<ProductSelectResponse> page;
+
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setUp() {
+    User writer = BenchmarkFixtures.user(1L);
+    LocalDateTime createdAt = LocalDateTime.of(2022, 8, 1, 12, 0);
+
+    listings = new ArrayList<>();
+    for (long id = 1; id <= pageSize; id++) {
+      Product product = BenchmarkFixtures.product(id, writer);
+      ReflectionTestUtils.setField(product, "createdAt", createdAt);
+      ReflectionTestUtils.setField(product, "updatedAt", createdAt);
+      listings.add(ProductListing.from(product));
+    }
+    page = map();
+    objectMapper = Jackson2ObjectMapperBuilder
+        .json()
+        .build();
+  }
+
+  @Benchmark
+  public List<ProductSelectResponse> map() {
+    return listings
+        .stream()
+        .map(ProductSelectResponse::from)
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(page);
+  }
+}
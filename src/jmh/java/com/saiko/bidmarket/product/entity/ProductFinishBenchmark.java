@@ -0,0 +1,53 @@
+package com.saiko.bidmarket.product.entity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.saiko.bidmarket.BenchmarkFixtures;
+import com.saiko.bidmarket.bidding.entity.Bidding;
+import com.saiko.bidmarket.user.entity.User;
+
+/**
+ * 마감 스케줄러가 경매마다 부르는 finish 와 알림 대상을 고르는 getBiddersExceptWinner.
+ * biddings 는 DB 에서 읽을 때처럼 가격 내림차순으로 채운다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductFinishBenchmark {
+
+  private static final int BIDDER_COUNT = 100;
+
+  @Param({"10", "1000", "100000"})
+  private int biddingCount;
+
+  private Product product;
+
+  @Setup
+  public void setUp() {
+    product = BenchmarkFixtures.product(1L, BenchmarkFixtures.user(1L));
+    for (int i = biddingCount; i > 0; i--) {
+      User bidder = BenchmarkFixtures.user(2L + i % BIDDER_COUNT);
+      new Bidding(10_000L + i * 100L, bidder, product);
+    }
+  }
+
+  @Benchmark
+  public User finish() {
+    return product.finish();
+  }
+
+  @Benchmark
+  public List<User> biddersExceptWinner() {
+    return product.getBiddersExceptWinner();
+  }
+}
@@ -10,9 +10,35 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.saiko.bidmarket.common.config.ArchiveConfig;
+import com.saiko.bidmarket.common.config.CacheConfig;
+import com.saiko.bidmarket.common.config.ChatSegmentConfig;
+import com.saiko.bidmarket.common.config.DataSourceRoutingConfig;
+import com.saiko.bidmarket.common.config.DatasetConfig;
+import com.saiko.bidmarket.common.config.IdGeneratorConfig;
+import com.saiko.bidmarket.common.config.JfrConfig;
 import com.saiko.bidmarket.common.config.JwtConfig;
+import com.saiko.bidmarket.common.config.LeaseConfig;
+import com.saiko.bidmarket.common.config.MigrationConfig;
+import com.saiko.bidmarket.common.config.NotificationOutboxConfig;
+import com.saiko.bidmarket.common.config.ShardingConfig;
+import com.saiko.bidmarket.common.config.SqlBudgetConfig;
 
-@EnableConfigurationProperties(JwtConfig.class)
+@EnableConfigurationProperties({
+    JwtConfig.class,
+    LeaseConfig.class,
+    DataSourceRoutingConfig.class,
+    ShardingConfig.class,
+    CacheConfig.class,
+    SqlBudgetConfig.class,
+    JfrConfig.class,
+    DatasetConfig.class,
+    MigrationConfig.class,
+    ArchiveConfig.class,
+    ChatSegmentConfig.class,
+    IdGeneratorConfig.class,
+    NotificationOutboxConfig.class
+})
 @EnableJpaAuditing
 @EnableScheduling
 @SpringBootApplication
@@ -0,0 +1,48 @@
+package com.saiko.bidmarket.bidding.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.annotations.Immutable;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감된 지 오래된 상품의 입찰. {@link com.saiko.bidmarket.common.archive.ClosedProductArchiver} 가
+ * bidding 에서 옮겨 오며 이후로는 바뀌지 않는다. 상품 행이 함께 옮겨졌을 수 있으므로 연관 대신 id 만 가진다.
+ */
+@Entity
+@Immutable
+@Getter
+@Table(name = "bidding_archive")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedBidding {
+
+  @Id
+  private Long id;
+
+  @NotNull
+  private long biddingPrice;
+
+  private boolean won;
+
+  @NotNull
+  private long bidderId;
+
+  @NotNull
+  private long productId;
+
+  @NotNull
+  private LocalDateTime createdAt;
+
+  private LocalDateTime updatedAt;
+
+  @NotNull
+  private LocalDateTime archivedAt;
+}
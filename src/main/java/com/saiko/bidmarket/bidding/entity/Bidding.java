@@ -3,14 +3,15 @@ package com.saiko.bidmarket.bidding.entity;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import com.saiko.bidmarket.common.entity.BaseTime;
+import com.saiko.bidmarket.common.id.PooledTableIdGenerator;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.user.entity.User;
 
@@ -29,7 +30,8 @@ public class Bidding extends BaseTime {
   private static final long PRICE_UNIT_AMOUNT = 100L;
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = PooledTableIdGenerator.NAME)
+  @GenericGenerator(name = PooledTableIdGenerator.NAME, strategy = PooledTableIdGenerator.STRATEGY)
   private Long id;
 
   @NotNull
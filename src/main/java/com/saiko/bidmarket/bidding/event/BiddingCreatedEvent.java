@@ -0,0 +1,22 @@
+package com.saiko.bidmarket.bidding.event;
+
+import org.springframework.util.Assert;
+
+import lombok.Getter;
+
+@Getter
+public class BiddingCreatedEvent {
+  private final long productId;
+
+  private final long biddingPrice;
+
+  public BiddingCreatedEvent(
+      long productId,
+      long biddingPrice
+  ) {
+    Assert.isTrue(productId > 0, "Product id must be positive");
+
+    this.productId = productId;
+    this.biddingPrice = biddingPrice;
+  }
+}
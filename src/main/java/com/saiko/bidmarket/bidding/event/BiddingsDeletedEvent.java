@@ -0,0 +1,22 @@
+package com.saiko.bidmarket.bidding.event;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+import lombok.Getter;
+
+/**
+ * 입찰이 벌크 쿼리로 삭제되었을 때 최고 입찰가를 다시 계산해야 하는 상품 id 들을 알린다.
+ */
+@Getter
+public class BiddingsDeletedEvent {
+  private final List<Long> productIds;
+
+  public BiddingsDeletedEvent(Collection<Long> productIds) {
+    Assert.notNull(productIds, "Product ids must be provided");
+
+    this.productIds = List.copyOf(productIds);
+  }
+}
@@ -0,0 +1,13 @@
+package com.saiko.bidmarket.bidding.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.saiko.bidmarket.bidding.entity.ArchivedBidding;
+
+public interface ArchivedBiddingRepository extends JpaRepository<ArchivedBidding, Long> {
+  Optional<ArchivedBidding> findByBidderIdAndProductId(long bidderId, long productId);
+
+  void deleteAllBatchByBidderId(long bidderId);
+}
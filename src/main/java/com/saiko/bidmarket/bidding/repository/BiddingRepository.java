@@ -15,4 +15,7 @@ public interface BiddingRepository extends BiddingCustomRepository, JpaRepositor
   void deleteAllBatchByBidderId(long bidderId);
 
   void deleteAllBatchByProductId(long productId);
+
+  @Query("select distinct b.product.id from Bidding b where b.bidder.id = :bidderId")
+  List<Long> findAllProductIdsByBidderId(long bidderId);
 }
@@ -1,5 +1,6 @@
 package com.saiko.bidmarket.bidding.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -8,8 +9,10 @@ import com.saiko.bidmarket.bidding.controller.dto.BiddingCreateRequest;
 import com.saiko.bidmarket.bidding.controller.dto.BiddingCreateResponse;
 import com.saiko.bidmarket.bidding.controller.dto.BiddingPriceResponse;
 import com.saiko.bidmarket.bidding.entity.Bidding;
+import com.saiko.bidmarket.bidding.event.BiddingCreatedEvent;
 import com.saiko.bidmarket.bidding.repository.BiddingRepository;
 import com.saiko.bidmarket.common.exception.NotFoundException;
+import com.saiko.bidmarket.common.jfr.BiddingCreateJfrEvent;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.product.repository.ProductRepository;
 import com.saiko.bidmarket.user.entity.User;
@@ -27,6 +30,8 @@ public class DefaultBiddingService implements BiddingService {
 
   private final ProductRepository productRepository;
 
+  private final ApplicationEventPublisher publisher;
+
   @Transactional
   @Override
   public BiddingCreateResponse create(
@@ -35,20 +40,28 @@ public class DefaultBiddingService implements BiddingService {
   ) {
     Assert.notNull(createRequest, "createRequest must be provided");
 
-    User bidder = userRepository
-        .findById(userId)
-        .orElseThrow(NotFoundException::new);
+    BiddingCreateJfrEvent jfrEvent = BiddingCreateJfrEvent.start(
+        createRequest.getProductId(), userId, createRequest.getBiddingPrice());
+    try {
+      User bidder = userRepository
+          .findById(userId)
+          .orElseThrow(NotFoundException::new);
 
-    Product product = productRepository
-        .findById(createRequest.getProductId())
-        .orElseThrow(NotFoundException::new);
+      Product product = productRepository
+          .findById(createRequest.getProductId())
+          .orElseThrow(NotFoundException::new);
 
-    Bidding bidding = new Bidding(createRequest.getBiddingPrice(), bidder, product);
-    long createdBiddingId = biddingRepository
-        .save(bidding)
-        .getId();
+      Bidding bidding = new Bidding(createRequest.getBiddingPrice(), bidder, product);
+      long createdBiddingId = biddingRepository
+          .save(bidding)
+          .getId();
+      publisher.publishEvent(new BiddingCreatedEvent(product.getId(), bidding.getBiddingPrice()));
 
-    return BiddingCreateResponse.from(createdBiddingId);
+      jfrEvent.succeeded();
+      return BiddingCreateResponse.from(createdBiddingId);
+    } finally {
+      jfrEvent.commit();
+    }
   }
 
   @Override
@@ -1,7 +1,5 @@
 package com.saiko.bidmarket.chat.controller;
 
-import java.util.List;
-
 import javax.validation.Valid;
 
 import org.springframework.http.HttpStatus;
@@ -17,6 +15,7 @@ import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectRequest;
 import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectResponse;
 import com.saiko.bidmarket.chat.service.ChatMessageService;
 import com.saiko.bidmarket.common.jwt.JwtAuthentication;
+import com.saiko.bidmarket.common.page.CursorPage;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,7 +28,7 @@ public class ChatMessageApiController {
 
   @GetMapping("{chatRoomId}/messages")
   @ResponseStatus(HttpStatus.OK)
-  public List<ChatMessageSelectResponse> getAll(
+  public CursorPage<ChatMessageSelectResponse> getAll(
       @AuthenticationPrincipal
       JwtAuthentication jwtAuthentication,
       @PathVariable
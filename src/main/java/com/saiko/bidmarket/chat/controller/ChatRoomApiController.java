@@ -1,7 +1,5 @@
 package com.saiko.bidmarket.chat.controller;
 
-import java.util.List;
-
 import javax.validation.Valid;
 
 import org.springframework.http.HttpStatus;
@@ -16,6 +14,7 @@ import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectRequest;
 import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectResponse;
 import com.saiko.bidmarket.chat.service.ChatRoomService;
 import com.saiko.bidmarket.common.jwt.JwtAuthentication;
+import com.saiko.bidmarket.common.page.CursorPage;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -29,7 +28,7 @@ public class ChatRoomApiController {
 
   @GetMapping()
   @ResponseStatus(HttpStatus.OK)
-  public List<ChatRoomSelectResponse> findAll(
+  public CursorPage<ChatRoomSelectResponse> findAll(
       @AuthenticationPrincipal JwtAuthentication authentication,
       @ModelAttribute @Valid ChatRoomSelectRequest request
   ) {
@@ -16,6 +16,7 @@ import com.saiko.bidmarket.chat.controller.dto.ChatSendMessage;
 import com.saiko.bidmarket.chat.service.ChatMessageService;
 import com.saiko.bidmarket.chat.service.dto.ChatMessageCreateParam;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +31,7 @@ public class ChatWebSocketController {
 
   @MessageMapping("/room/{id}")
   @SendTo("/chat/room/{id}")
+  @Timed("chat.send")
   public ChatPublishMessage send(@DestinationVariable long id,
                                  @Valid ChatSendMessage chatSendMessage) {
     log.info("Chat Message | room : {}, user : {}, content : {}", id, chatSendMessage.getUserId(),
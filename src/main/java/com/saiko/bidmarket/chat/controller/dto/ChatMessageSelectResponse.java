@@ -3,6 +3,7 @@ package com.saiko.bidmarket.chat.controller.dto;
 import java.time.LocalDateTime;
 
 import com.saiko.bidmarket.chat.entity.ChatMessage;
+import com.saiko.bidmarket.chat.segment.ColdChatMessage;
 import com.saiko.bidmarket.user.entity.User;
 
 import lombok.AccessLevel;
@@ -27,4 +28,29 @@ public class ChatMessageSelectResponse {
         .createdAt(chatMessage.getCreatedAt())
         .build();
   }
+
+  public static ChatMessageSelectResponse of(
+      ColdChatMessage chatMessage,
+      User sender
+  ) {
+    return ChatMessageSelectResponse
+        .builder()
+        .userInfo(ChatUserInfo.from(sender))
+        .content(chatMessage.getMessage())
+        .createdAt(chatMessage.getCreatedAt())
+        .build();
+  }
+
+  public static ChatMessageSelectResponse of(
+      ChatUserInfo userInfo,
+      String content,
+      LocalDateTime createdAt
+  ) {
+    return ChatMessageSelectResponse
+        .builder()
+        .userInfo(userInfo)
+        .content(content)
+        .createdAt(createdAt)
+        .build();
+  }
 }
@@ -1,7 +1,6 @@
 package com.saiko.bidmarket.chat.controller.dto;
 
 import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +9,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ChatRoomSelectRequest {
 
-  @PositiveOrZero
-  private final long offset;
+  private final String cursor;
 
   @Positive
   private final int limit;
@@ -3,15 +3,16 @@ package com.saiko.bidmarket.chat.entity;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.validation.constraints.NotBlank;
 
+import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.util.Assert;
 
 import com.saiko.bidmarket.common.entity.BaseTime;
+import com.saiko.bidmarket.common.id.PooledTableIdGenerator;
 import com.saiko.bidmarket.user.entity.User;
 
 import lombok.AccessLevel;
@@ -25,7 +26,8 @@ import lombok.NoArgsConstructor;
 public class ChatMessage extends BaseTime {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = PooledTableIdGenerator.NAME)
+  @GenericGenerator(name = PooledTableIdGenerator.NAME, strategy = PooledTableIdGenerator.STRATEGY)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,70 @@
+package com.saiko.bidmarket.chat.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.annotations.Immutable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 오래된 채팅 메시지를 방별로 묶어 압축한 세그먼트. {@link com.saiko.bidmarket.chat.segment.ChatMessageCompactor}
+ * 가 chat_message 에서 옮겨 쓰며 이후로는 바뀌지 않는다. payload 형식은
+ * {@link com.saiko.bidmarket.chat.segment.ChatSegmentCodec} 을 따른다.
+ */
+@Getter
+@Entity
+@Immutable
+@IdClass(ChatMessageSegment.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageSegment {
+
+  @Id
+  private Long chatRoomId;
+
+  /**
+   * 방의 보관된 메시지를 오래된 순으로 셌을 때 이 세그먼트 마지막 메시지의 순번. 1부터 센다.
+   */
+  @Id
+  private Long endPosition;
+
+  private int messageCount;
+
+  private long firstMessageId;
+
+  private long lastMessageId;
+
+  @NotNull
+  private LocalDateTime firstCreatedAt;
+
+  @NotNull
+  private LocalDateTime lastCreatedAt;
+
+  @NotNull
+  @Column(columnDefinition = "mediumblob")
+  private byte[] payload;
+
+  @NotNull
+  private LocalDateTime createdAt;
+
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+
+    private Long chatRoomId;
+
+    private Long endPosition;
+  }
+}
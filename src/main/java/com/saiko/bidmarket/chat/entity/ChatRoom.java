@@ -7,15 +7,16 @@ import javax.persistence.CascadeType;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import com.saiko.bidmarket.common.entity.BaseTime;
+import com.saiko.bidmarket.common.id.PooledTableIdGenerator;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.user.entity.User;
 
@@ -30,7 +31,8 @@ import lombok.NoArgsConstructor;
 public class ChatRoom extends BaseTime {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = PooledTableIdGenerator.NAME)
+  @GenericGenerator(name = PooledTableIdGenerator.NAME, strategy = PooledTableIdGenerator.STRATEGY)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY, optional = false)
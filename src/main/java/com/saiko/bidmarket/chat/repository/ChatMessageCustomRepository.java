@@ -3,16 +3,21 @@ package com.saiko.bidmarket.chat.repository;
 import java.util.List;
 import java.util.Optional;
 
-import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectRequest;
 import com.saiko.bidmarket.chat.entity.ChatMessage;
+import com.saiko.bidmarket.common.page.Cursor;
 
 public interface ChatMessageCustomRepository {
 
   Optional<ChatMessage> findLastChatMessageOfChatRoom(long chatRoom);
 
+  /**
+   * @param cursor (created_at, id) 키. null 이면 가장 최신 메시지부터 읽는다
+   * @return cursor 보다 오래된 메시지를 최신 순으로 최대 limit 개
+   */
   List<ChatMessage> findAllChatMessage(
       long chatRoomId,
-      ChatMessageSelectRequest request
+      Cursor cursor,
+      int limit
   );
 
 }
@@ -8,10 +8,14 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
 
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectRequest;
 import com.saiko.bidmarket.chat.entity.ChatMessage;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.Keyset;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,17 +40,30 @@ public class ChatMessageCustomRepositoryImpl implements ChatMessageCustomReposit
   @Override
   public List<ChatMessage> findAllChatMessage(
       long chatRoomId,
-      ChatMessageSelectRequest request
+      Cursor cursor,
+      int limit
   ) {
+    Assert.isTrue(limit > 0, "Limit must be positive");
+
     return jpaQueryFactory
         .selectFrom(chatMessage)
         .join(chatMessage.chatRoom, chatRoom)
         .join(chatMessage.sender, user)
         .fetchJoin()
-        .where(chatMessage.chatRoom.id.eq(chatRoomId))
-        .orderBy(chatMessage.createdAt.desc())
-        .offset(request.getOffset())
-        .limit(request.getLimit())
+        .where(
+            chatMessage.chatRoom.id.eq(chatRoomId),
+            afterCursor(cursor)
+        )
+        .orderBy(Keyset.orderBy(Order.DESC, chatMessage.createdAt, chatMessage.id))
+        .limit(limit)
         .fetch();
   }
+
+  private Predicate afterCursor(Cursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    return Keyset.after(Order.DESC, chatMessage.createdAt, chatMessage.id,
+                        cursor.getDateTime(0), cursor.getLong(1));
+  }
 }
@@ -0,0 +1,34 @@
+package com.saiko.bidmarket.chat.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.saiko.bidmarket.chat.entity.ChatMessageSegment;
+
+public interface ChatMessageSegmentRepository
+    extends JpaRepository<ChatMessageSegment, ChatMessageSegment.Key> {
+
+  @Query("select max(s.endPosition) from ChatMessageSegment s where s.chatRoomId = :chatRoomId")
+  Optional<Long> findLastPosition(long chatRoomId);
+
+  /**
+   * 첫 메시지가 (createdAt, id) 보다 오래된 세그먼트 중 가장 최신 세그먼트의 endPosition.
+   * (createdAt, id) 바로 앞 메시지는 이 세그먼트에 있다.
+   */
+  @Query("select max(s.endPosition) from ChatMessageSegment s where s.chatRoomId = :chatRoomId "
+      + "and (s.firstCreatedAt < :createdAt "
+      + "or (s.firstCreatedAt = :createdAt and s.firstMessageId < :id))")
+  Optional<Long> findLastPositionBefore(long chatRoomId, LocalDateTime createdAt, long id);
+
+  /**
+   * 순번 from 부터 to 까지의 메시지를 담은 세그먼트의 endPosition 을 최신 세그먼트부터 반환한다.
+   */
+  @Query("select s.endPosition from ChatMessageSegment s "
+      + "where s.chatRoomId = :chatRoomId and s.endPosition >= :from "
+      + "and s.endPosition - s.messageCount < :to order by s.endPosition desc")
+  List<Long> findAllEndPositions(long chatRoomId, long from, long to);
+}
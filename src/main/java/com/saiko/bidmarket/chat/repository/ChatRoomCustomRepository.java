@@ -1,10 +1,13 @@
 package com.saiko.bidmarket.chat.repository;
 
-import java.util.List;
-
 import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectRequest;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
+import com.saiko.bidmarket.common.page.CursorPage;
 
 public interface ChatRoomCustomRepository {
-  List<ChatRoom> findAllByUserId(long userId, ChatRoomSelectRequest request);
+
+  /**
+   * 사용자가 판매자나 낙찰자인 채팅방을 최근에 만든 순서로 읽는다. cursor 키는 (id) 이다.
+   */
+  CursorPage<ChatRoom> findAllByUserId(long userId, ChatRoomSelectRequest request);
 }
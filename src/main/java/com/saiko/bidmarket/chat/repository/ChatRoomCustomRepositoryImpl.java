@@ -4,14 +4,20 @@ import static com.saiko.bidmarket.chat.entity.QChatRoom.*;
 import static com.saiko.bidmarket.product.entity.QProduct.*;
 import static com.saiko.bidmarket.user.entity.QUser.*;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.util.Assert;
 
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectRequest;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,19 +28,36 @@ public class ChatRoomCustomRepositoryImpl implements ChatRoomCustomRepository {
   private final JPAQueryFactory jpaQueryFactory;
 
   @Override
-  public List<ChatRoom> findAllByUserId(
+  public CursorPage<ChatRoom> findAllByUserId(
       long userId,
       ChatRoomSelectRequest request
   ) {
     Assert.isTrue(userId > 0, "User id must be positive");
     Assert.notNull(request, "Request must be provided");
 
+    // seller_id OR winner_id 는 한 인덱스로 id 순서를 지킬 수 없으므로 양쪽을 따로 limit + 1 개씩 읽어 합친다
+    Cursor cursor = Cursor.decode(request.getCursor(), 1);
+    int fetchSize = request.getLimit() + 1;
+    List<ChatRoom> chatRooms = Stream
+        .concat(findAllByParticipant(chatRoom.seller.id.eq(userId), cursor, fetchSize).stream(),
+                findAllByParticipant(chatRoom.winner.id.eq(userId), cursor, fetchSize).stream())
+        .sorted(Comparator.comparing(ChatRoom::getId).reversed())
+        .distinct()
+        .limit(fetchSize)
+        .collect(Collectors.toList());
+    return CursorPage.of(chatRooms, request.getLimit(), room -> Cursor.of(room.getId()));
+  }
+
+  private List<ChatRoom> findAllByParticipant(
+      Predicate participant,
+      Cursor cursor,
+      int limit
+  ) {
     return jpaQueryFactory
         .selectFrom(chatRoom)
         .where(
-            chatRoom.seller.id
-                .eq(userId)
-                .or(chatRoom.winner.id.eq(userId))
+            participant,
+            cursor == null ? null : chatRoom.id.lt(cursor.getLong(0))
         )
         .join(chatRoom.seller, user)
         .fetchJoin()
@@ -42,8 +65,8 @@ public class ChatRoomCustomRepositoryImpl implements ChatRoomCustomRepository {
         .fetchJoin()
         .join(chatRoom.product, product)
         .fetchJoin()
-        .offset(request.getOffset())
-        .limit(request.getLimit())
+        .orderBy(chatRoom.id.desc())
+        .limit(limit)
         .fetch();
   }
 }
@@ -0,0 +1,195 @@
+package com.saiko.bidmarket.chat.segment;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+
+/**
+ * hotRetention 이 지난 채팅 메시지를 방별로 segmentSize 개씩 세그먼트로 압축해 옮긴다.
+ * 방의 마지막 메시지는 채팅방 목록에 쓰이므로 오래됐어도 남긴다.
+ * 세그먼트 하나를 쓰고 원본을 지우는 것까지 한 트랜잭션이라 도중에 실패해도 메시지가 겹치거나 빠지지 않는다.
+ * 방은 경매 종료 파티션 lease 로 노드에 나눠 맡기고, lease 가 넘어가는 사이 두 노드가 같은 방을 압축하더라도
+ * 채팅방 행을 먼저 잠그므로 end_position 을 같은 값으로 두 번 쓰지 않는다.
+ */
+public class ChatMessageCompactor {
+
+  private static final String ROOM_QUERY =
+      "SELECT DISTINCT chat_room_id FROM chat_message "
+          + "WHERE created_at < :threshold AND chat_room_id > :lastRoomId "
+          + "AND MOD(chat_room_id, :partitionCount) IN (:partitions) "
+          + "ORDER BY chat_room_id LIMIT :limit";
+
+  private static final String ROOM_LOCK_QUERY =
+      "SELECT id FROM chat_room WHERE id = :chatRoomId FOR UPDATE";
+
+  private static final String LAST_MESSAGE_QUERY =
+      "SELECT id FROM chat_message WHERE chat_room_id = :chatRoomId "
+          + "ORDER BY created_at DESC, id DESC LIMIT 1";
+
+  private static final String AGED_MESSAGE_QUERY =
+      "SELECT id, sender_id, message, created_at FROM chat_message "
+          + "WHERE chat_room_id = :chatRoomId AND created_at < :threshold AND id <> :lastMessageId "
+          + "ORDER BY created_at, id LIMIT :limit FOR UPDATE";
+
+  private static final int ROOM_BATCH_SIZE = 100;
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Duration hotRetention;
+
+  private final int segmentSize;
+
+  private final Clock clock;
+
+  private final PartitionLeaseManager partitionLeaseManager;
+
+  public ChatMessageCompactor(
+      NamedParameterJdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      Duration hotRetention,
+      int segmentSize,
+      Clock clock,
+      PartitionLeaseManager partitionLeaseManager
+  ) {
+    Assert.notNull(jdbcTemplate, "JdbcTemplate must be provided");
+    Assert.notNull(transactionTemplate, "TransactionTemplate must be provided");
+    Assert.notNull(hotRetention, "Hot retention must be provided");
+    Assert.isTrue(segmentSize > 0, "Segment size must be positive");
+    Assert.notNull(clock, "Clock must be provided");
+    Assert.notNull(partitionLeaseManager, "PartitionLeaseManager must be provided");
+
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.hotRetention = hotRetention;
+    this.segmentSize = segmentSize;
+    this.clock = clock;
+    this.partitionLeaseManager = partitionLeaseManager;
+  }
+
+  @Scheduled(cron = "${chat-segment.cron:0 0 5 * * *}")
+  public void compact() {
+    PartitionAssignment assignment = partitionLeaseManager.ownedPartitions();
+    if (assignment.isEmpty()) {
+      return;
+    }
+    compact(LocalDateTime.now(clock), assignment);
+  }
+
+  /**
+   * @return 세그먼트로 옮긴 메시지 수
+   */
+  public int compact(LocalDateTime now, PartitionAssignment assignment) {
+    Assert.notNull(now, "Now must be provided");
+    Assert.notNull(assignment, "Assignment must be provided");
+
+    if (assignment.isEmpty()) {
+      return 0;
+    }
+
+    Timestamp threshold = Timestamp.valueOf(now.minus(hotRetention));
+    long startMillis = System.currentTimeMillis();
+    int rooms = 0;
+    int compacted = 0;
+    long lastRoomId = 0;
+    while (true) {
+      List<Long> roomIds = jdbcTemplate.queryForList(
+          ROOM_QUERY, new MapSqlParameterSource()
+              .addValue("threshold", threshold)
+              .addValue("lastRoomId", lastRoomId)
+              .addValue("partitionCount", assignment.getPartitionCount())
+              .addValue("partitions", assignment.getPartitions())
+              .addValue("limit", ROOM_BATCH_SIZE), Long.class);
+      for (long roomId : roomIds) {
+        int moved;
+        do {
+          moved = transactionTemplate.execute(status -> compactSegment(roomId, threshold, now));
+          compacted += moved;
+        } while (moved == segmentSize);
+        rooms++;
+      }
+      if (roomIds.size() < ROOM_BATCH_SIZE) {
+        break;
+      }
+      lastRoomId = roomIds.get(roomIds.size() - 1);
+    }
+    log.info("Chat messages compacted | threshold : {}, rooms : {}, messages : {}, elapsed : {}ms",
+             threshold, rooms, compacted, System.currentTimeMillis() - startMillis);
+    return compacted;
+  }
+
+  private int compactSegment(
+      long chatRoomId,
+      Timestamp threshold,
+      LocalDateTime now
+  ) {
+    MapSqlParameterSource parameters = new MapSqlParameterSource()
+        .addValue("chatRoomId", chatRoomId)
+        .addValue("threshold", threshold)
+        .addValue("limit", segmentSize);
+    // MAX(end_position) 는 잠그지 않는 읽기라 같은 방의 압축이 겹치지 않도록 방 행부터 잠근다
+    jdbcTemplate.queryForList(ROOM_LOCK_QUERY, parameters, Long.class);
+    Long lastMessageId = jdbcTemplate
+        .queryForList(LAST_MESSAGE_QUERY, parameters, Long.class)
+        .stream()
+        .findFirst()
+        .orElse(null);
+    if (lastMessageId == null) {
+      return 0;
+    }
+
+    List<ColdChatMessage> messages = jdbcTemplate.query(
+        AGED_MESSAGE_QUERY, parameters.addValue("lastMessageId", lastMessageId),
+        (rs, rowNum) -> new ColdChatMessage(rs.getLong("id"), rs.getLong("sender_id"),
+                                            rs.getString("message"),
+                                            rs.getTimestamp("created_at").toLocalDateTime()));
+    if (messages.isEmpty()) {
+      return 0;
+    }
+
+    long lastPosition = jdbcTemplate.queryForObject(
+        "SELECT COALESCE(MAX(end_position), 0) FROM chat_message_segment "
+            + "WHERE chat_room_id = :chatRoomId", parameters, Long.class);
+    ColdChatMessage first = messages.get(0);
+    ColdChatMessage last = messages.get(messages.size() - 1);
+    jdbcTemplate.update(
+        "INSERT INTO chat_message_segment (chat_room_id, end_position, message_count, "
+            + "first_message_id, last_message_id, first_created_at, last_created_at, payload, "
+            + "created_at) VALUES (:chatRoomId, :endPosition, :messageCount, :firstMessageId, "
+            + ":lastMessageId, :firstCreatedAt, :lastCreatedAt, :payload, :now)",
+        new MapSqlParameterSource()
+            .addValue("chatRoomId", chatRoomId)
+            .addValue("endPosition", lastPosition + messages.size())
+            .addValue("messageCount", messages.size())
+            .addValue("firstMessageId", first.getId())
+            .addValue("lastMessageId", last.getId())
+            .addValue("firstCreatedAt", Timestamp.valueOf(first.getCreatedAt()))
+            .addValue("lastCreatedAt", Timestamp.valueOf(last.getCreatedAt()))
+            .addValue("payload", ChatSegmentCodec.encode(messages))
+            .addValue("now", Timestamp.valueOf(now)));
+    jdbcTemplate.update(
+        "DELETE FROM chat_message WHERE id IN (:ids)",
+        new MapSqlParameterSource("ids", messages
+            .stream()
+            .map(ColdChatMessage::getId)
+            .collect(Collectors.toList())));
+    return messages.size();
+  }
+}
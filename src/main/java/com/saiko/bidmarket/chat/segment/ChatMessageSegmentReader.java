@@ -0,0 +1,143 @@
+package com.saiko.bidmarket.chat.segment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.saiko.bidmarket.chat.entity.ChatMessageSegment;
+import com.saiko.bidmarket.chat.repository.ChatMessageSegmentRepository;
+import com.saiko.bidmarket.common.exception.NotFoundException;
+
+/**
+ * 보관된 채팅 메시지를 최신 순으로 읽는다. 요청한 범위가 걸친 세그먼트만 읽고,
+ * 세그먼트는 바뀌지 않으므로 풀어 둔 메시지를 무효화 없이 캐시한다.
+ */
+public class ChatMessageSegmentReader {
+
+  private static final int MESSAGE_OVERHEAD_BYTES = 64;
+
+  private final ChatMessageSegmentRepository chatMessageSegmentRepository;
+
+  private final Cache<ChatMessageSegment.Key, List<ColdChatMessage>> cache;
+
+  public ChatMessageSegmentReader(
+      ChatMessageSegmentRepository chatMessageSegmentRepository,
+      DataSize cacheSize
+  ) {
+    Assert.notNull(chatMessageSegmentRepository, "Repository must be provided");
+    Assert.notNull(cacheSize, "Cache size must be provided");
+
+    this.chatMessageSegmentRepository = chatMessageSegmentRepository;
+    this.cache = Caffeine
+        .newBuilder()
+        .maximumWeight(cacheSize.toBytes())
+        .weigher((ChatMessageSegment.Key key, List<ColdChatMessage> messages) -> weigh(messages))
+        .build();
+  }
+
+  /**
+   * @param offset 보관된 메시지 중 최신 메시지부터 건너뛸 개수
+   * @return 최신 순으로 최대 limit 개
+   */
+  public List<ColdChatMessage> findAll(
+      long chatRoomId,
+      long offset,
+      int limit
+  ) {
+    Assert.isTrue(offset >= 0, "Offset must not be negative");
+    Assert.isTrue(limit > 0, "Limit must be positive");
+
+    long last = chatMessageSegmentRepository
+        .findLastPosition(chatRoomId)
+        .orElse(0L);
+    return findAllTo(chatRoomId, last - offset, limit);
+  }
+
+  /**
+   * cursor 를 준 뒤에 그 메시지가 보관됐어도 이어 읽도록 순번 대신 (createdAt, id) 로 위치를 찾는다.
+   *
+   * @return (createdAt, id) 보다 오래된 메시지를 최신 순으로 최대 limit 개
+   */
+  public List<ColdChatMessage> findAllBefore(
+      long chatRoomId,
+      LocalDateTime createdAt,
+      long id,
+      int limit
+  ) {
+    Assert.notNull(createdAt, "Created at must be provided");
+    Assert.isTrue(limit > 0, "Limit must be positive");
+
+    Optional<Long> endPosition =
+        chatMessageSegmentRepository.findLastPositionBefore(chatRoomId, createdAt, id);
+    if (endPosition.isEmpty()) {
+      return List.of();
+    }
+
+    List<ColdChatMessage> messages = load(chatRoomId, endPosition.get());
+    int index = messages.size() - 1;
+    while (index > 0 && !isBefore(messages.get(index), createdAt, id)) {
+      index--;
+    }
+    long to = endPosition.get() - (messages.size() - 1 - index);
+    return findAllTo(chatRoomId, to, limit);
+  }
+
+  private List<ColdChatMessage> findAllTo(
+      long chatRoomId,
+      long to,
+      int limit
+  ) {
+    if (to < 1) {
+      return List.of();
+    }
+    long from = Math.max(1, to - limit + 1);
+
+    List<ColdChatMessage> result = new ArrayList<>(limit);
+    for (long endPosition : chatMessageSegmentRepository.findAllEndPositions(chatRoomId, from,
+                                                                             to)) {
+      List<ColdChatMessage> messages = load(chatRoomId, endPosition);
+      long startPosition = endPosition - messages.size() + 1;
+      for (long position = Math.min(to, endPosition);
+           position >= Math.max(from, startPosition); position--) {
+        result.add(messages.get((int)(position - startPosition)));
+      }
+    }
+    return result;
+  }
+
+  private static boolean isBefore(
+      ColdChatMessage message,
+      LocalDateTime createdAt,
+      long id
+  ) {
+    int compared = message.getCreatedAt().compareTo(createdAt);
+    return compared < 0 || compared == 0 && message.getId() < id;
+  }
+
+  private List<ColdChatMessage> load(
+      long chatRoomId,
+      long endPosition
+  ) {
+    return cache.get(
+        new ChatMessageSegment.Key(chatRoomId, endPosition),
+        key -> ChatSegmentCodec.decode(chatMessageSegmentRepository
+                                           .findById(key)
+                                           .orElseThrow(() -> new NotFoundException(
+                                               "Chat message segment not exist"))
+                                           .getPayload()));
+  }
+
+  private static int weigh(List<ColdChatMessage> messages) {
+    long bytes = 0;
+    for (ColdChatMessage message : messages) {
+      bytes += MESSAGE_OVERHEAD_BYTES + message.getMessage().length() * 2L;
+    }
+    return (int)Math.min(Integer.MAX_VALUE, bytes);
+  }
+}
@@ -0,0 +1,70 @@
+package com.saiko.bidmarket.chat.segment;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.util.Assert;
+
+/**
+ * 세그먼트 payload 형식. 버전 1바이트 뒤에 deflate 로 압축한 메시지 수와
+ * (id, 보낸 사람 id, 작성 시각, 내용) 목록이 오래된 순으로 온다.
+ * 같은 방의 메시지는 짧고 비슷해서 묶어 압축하면 원본 행보다 훨씬 작다.
+ */
+public final class ChatSegmentCodec {
+
+  private static final int VERSION = 1;
+
+  private ChatSegmentCodec() {
+  }
+
+  public static byte[] encode(List<ColdChatMessage> messages) {
+    Assert.notEmpty(messages, "Messages must be provided");
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.write(VERSION);
+    try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+      out.writeInt(messages.size());
+      for (ColdChatMessage message : messages) {
+        out.writeLong(message.getId());
+        out.writeLong(message.getSenderId());
+        out.writeLong(message.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(message.getCreatedAt().getNano());
+        out.writeUTF(message.getMessage());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  public static List<ColdChatMessage> decode(byte[] payload) {
+    Assert.isTrue(payload != null && payload.length > 0, "Payload must be provided");
+    Assert.isTrue(payload[0] == VERSION, "Unknown segment version " + payload[0]);
+
+    try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+        new ByteArrayInputStream(payload, 1, payload.length - 1)))) {
+      int count = in.readInt();
+      List<ColdChatMessage> messages = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        long id = in.readLong();
+        long senderId = in.readLong();
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(),
+                                                              ZoneOffset.UTC);
+        messages.add(new ColdChatMessage(id, senderId, in.readUTF(), createdAt));
+      }
+      return messages;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
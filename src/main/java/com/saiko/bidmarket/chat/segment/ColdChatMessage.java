@@ -0,0 +1,22 @@
+package com.saiko.bidmarket.chat.segment;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 세그먼트에서 풀어낸 채팅 메시지. 보낸 사람은 채팅방의 판매자나 낙찰자이므로 id 만 가진다.
+ */
+@Getter
+@AllArgsConstructor
+public class ColdChatMessage {
+
+  private final long id;
+
+  private final long senderId;
+
+  private final String message;
+
+  private final LocalDateTime createdAt;
+}
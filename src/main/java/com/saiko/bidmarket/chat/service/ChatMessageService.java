@@ -1,16 +1,15 @@
 package com.saiko.bidmarket.chat.service;
 
-import java.util.List;
-
 import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectRequest;
 import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectResponse;
 import com.saiko.bidmarket.chat.controller.dto.ChatPublishMessage;
 import com.saiko.bidmarket.chat.service.dto.ChatMessageCreateParam;
+import com.saiko.bidmarket.common.page.CursorPage;
 
 public interface ChatMessageService {
   ChatPublishMessage create(ChatMessageCreateParam createParam);
 
-  List<ChatMessageSelectResponse> findAll(
+  CursorPage<ChatMessageSelectResponse> findAll(
       long userId,
       long chatRoomId,
       ChatMessageSelectRequest request
@@ -14,8 +14,13 @@ import com.saiko.bidmarket.chat.entity.ChatMessage;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.chat.repository.ChatMessageRepository;
 import com.saiko.bidmarket.chat.repository.ChatRoomRepository;
+import com.saiko.bidmarket.chat.segment.ChatMessageSegmentReader;
+import com.saiko.bidmarket.chat.segment.ColdChatMessage;
 import com.saiko.bidmarket.chat.service.dto.ChatMessageCreateParam;
 import com.saiko.bidmarket.common.exception.NotFoundException;
+import com.saiko.bidmarket.common.jfr.ChatSendJfrEvent;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.user.entity.User;
 import com.saiko.bidmarket.user.repository.UserRepository;
 
@@ -29,46 +34,115 @@ public class DefaultChatMessageService implements ChatMessageService {
   private final ChatMessageRepository chatMessageRepository;
   private final ChatRoomRepository chatRoomRepository;
   private final UserRepository userRepository;
+  private final ChatMessageSegmentReader chatMessageSegmentReader;
+  private final RecentChatMessageCache recentChatMessageCache;
 
   @Override
   public ChatPublishMessage create(ChatMessageCreateParam createParam) {
     Assert.notNull(createParam, "Create Param must be provided");
 
-    ChatRoom chatRoom = chatRoomRepository.findById(createParam.getRoomId())
-                                          .orElseThrow(
-                                              () -> new NotFoundException("Room not exist"));
+    ChatSendJfrEvent jfrEvent = ChatSendJfrEvent.start(createParam.getRoomId(),
+                                                       createParam.getUserId());
+    try {
+      ChatRoom chatRoom = chatRoomRepository.findById(createParam.getRoomId())
+                                            .orElseThrow(
+                                                () -> new NotFoundException("Room not exist"));
 
-    User sender = userRepository.findById(createParam.getUserId())
-                                .orElseThrow(() -> new NotFoundException("User not exist"));
+      User sender = userRepository.findById(createParam.getUserId())
+                                  .orElseThrow(() -> new NotFoundException("User not exist"));
 
-    ChatMessage chatMessage = ChatMessage.builder()
-                                         .message(createParam.getContent())
-                                         .sender(sender)
-                                         .chatRoom(chatRoom)
-                                         .build();
+      ChatMessage chatMessage = ChatMessage.builder()
+                                           .message(createParam.getContent())
+                                           .sender(sender)
+                                           .chatRoom(chatRoom)
+                                           .build();
 
-    ChatMessage savedChatMessage = chatMessageRepository.save(chatMessage);
+      ChatMessage savedChatMessage = chatMessageRepository.save(chatMessage);
+      recentChatMessageCache.append(chatRoom.getId(), savedChatMessage.getId(),
+                                    ChatMessageSelectResponse.from(savedChatMessage));
 
-    return ChatPublishMessage.of(savedChatMessage);
+      jfrEvent.succeeded();
+      return ChatPublishMessage.of(savedChatMessage);
+    } finally {
+      jfrEvent.commit();
+    }
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<ChatMessageSelectResponse> findAll(
+  public CursorPage<ChatMessageSelectResponse> findAll(
       long userId,
       long chatRoomId,
       ChatMessageSelectRequest request
   ) {
     Assert.notNull(request, "Request must be provided");
-    chatRoomRepository
+    Cursor cursor = Cursor.decode(request.getCursor(), 2);
+    if (recentChatMessageCache.covers(cursor, request.getLimit())) {
+      return recentChatMessageCache
+          .findLatest(chatRoomId, userId, request.getLimit(), this::loadRecent)
+          .map(RecentChatMessageCache.Message::getResponse);
+    }
+
+    ChatRoom chatRoom = chatRoomRepository
+        .findById(chatRoomId)
+        .orElseThrow(() -> new NotFoundException("ChatRoom not exists"));
+    chatRoom.checkParticipant(userId);
+
+    List<RecentChatMessageCache.Message> messages =
+        findPage(chatRoom, cursor, request.getLimit() + 1);
+    return CursorPage
+        .of(messages, request.getLimit(), RecentChatMessageCache.Message::toCursor)
+        .map(RecentChatMessageCache.Message::getResponse);
+  }
+
+  private RecentChatMessageCache.Snapshot loadRecent(long chatRoomId) {
+    ChatRoom chatRoom = chatRoomRepository
         .findById(chatRoomId)
-        .orElseThrow(() -> new NotFoundException("ChatRoom not exists"))
-        .checkParticipant(userId);
+        .orElseThrow(() -> new NotFoundException("ChatRoom not exists"));
+    return new RecentChatMessageCache.Snapshot(
+        chatRoom.getSeller().getId(), chatRoom.getWinner().getId(),
+        findPage(chatRoom, null, recentChatMessageCache.getMessagesPerRoom() + 1));
+  }
 
-    return chatMessageRepository
-        .findAllChatMessage(chatRoomId, request)
+  /**
+   * @return cursor 보다 오래된 메시지를 최신 순으로 최대 limit 개
+   */
+  private List<RecentChatMessageCache.Message> findPage(
+      ChatRoom chatRoom,
+      Cursor cursor,
+      int limit
+  ) {
+    long chatRoomId = chatRoom.getId();
+    List<RecentChatMessageCache.Message> messages = chatMessageRepository
+        .findAllChatMessage(chatRoomId, cursor, limit)
         .stream()
-        .map(ChatMessageSelectResponse::from)
-        .collect(Collectors.toUnmodifiableList());
+        .map(message -> new RecentChatMessageCache.Message(
+            message.getId(), ChatMessageSelectResponse.from(message)))
+        .collect(Collectors.toList());
+    if (messages.size() == limit) {
+      return messages;
+    }
+
+    // 최근 메시지가 모자라면 그보다 오래된 메시지는 세그먼트에 있다.
+    // 최근 메시지를 하나라도 읽었거나 첫 페이지면 가장 최신 세그먼트부터, 아니면 cursor 위치부터 읽는다
+    int remaining = limit - messages.size();
+    List<ColdChatMessage> coldMessages = cursor == null || !messages.isEmpty()
+        ? chatMessageSegmentReader.findAll(chatRoomId, 0, remaining)
+        : chatMessageSegmentReader.findAllBefore(chatRoomId, cursor.getDateTime(0),
+                                                 cursor.getLong(1), remaining);
+    coldMessages.forEach(message -> {
+      User sender = findParticipant(chatRoom, message.getSenderId());
+      messages.add(new RecentChatMessageCache.Message(
+          message.getId(), ChatMessageSelectResponse.of(message, sender)));
+    });
+    return messages;
+  }
+
+  private User findParticipant(
+      ChatRoom chatRoom,
+      long userId
+  ) {
+    User seller = chatRoom.getSeller();
+    return seller.getId() == userId ? seller : chatRoom.getWinner();
   }
 }
@@ -1,8 +1,5 @@
 package com.saiko.bidmarket.chat.service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -13,6 +10,7 @@ import com.saiko.bidmarket.chat.entity.ChatMessage;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.chat.repository.ChatMessageRepository;
 import com.saiko.bidmarket.chat.repository.ChatRoomRepository;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.user.entity.User;
 import com.saiko.bidmarket.user.repository.UserRepository;
@@ -42,7 +40,7 @@ public class DefaultChatRoomService implements ChatRoomService {
 
   @Override
   @Transactional(readOnly = true)
-  public List<ChatRoomSelectResponse> findAll(
+  public CursorPage<ChatRoomSelectResponse> findAll(
       long userId,
       ChatRoomSelectRequest request
   ) {
@@ -51,14 +49,12 @@ public class DefaultChatRoomService implements ChatRoomService {
 
     return chatRoomRepository
         .findAllByUserId(userId, request)
-        .stream()
         .map(chatRoom -> ChatRoomSelectResponse.of(
                  userId,
                  chatRoom,
                  getLastMessageOfChatRoom(chatRoom.getId())
              )
-        )
-        .collect(Collectors.toUnmodifiableList());
+        );
   }
 
   private ChatMessage getLastMessageOfChatRoom(long chatRoomId) {
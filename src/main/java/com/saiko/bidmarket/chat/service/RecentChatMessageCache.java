@@ -0,0 +1,325 @@
+package com.saiko.bidmarket.chat.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectResponse;
+import com.saiko.bidmarket.chat.controller.dto.ChatUserInfo;
+import com.saiko.bidmarket.common.config.CacheConfig;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
+import com.saiko.bidmarket.user.event.UserUpdatedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 채팅방별 마지막 messagesPerRoom 개 메시지를 담은 링 버퍼 캐시. 방에 처음 들어올 때 채우고
+ * 이후 보낸 메시지는 저장 직후 덧붙이므로 첫 페이지는 DB 를 거치지 않는다.
+ * 참여자도 함께 두어 참여 여부 확인도 캐시에서 한다. 채팅방의 참여자는 바뀌지 않는다.
+ * 메시지는 이 인스턴스로 보낸 것만 덧붙으므로 같은 방의 참여자는 같은 인스턴스의 브로커에 붙어 있어야 한다.
+ */
+public class RecentChatMessageCache {
+
+  public static final String NAME = "chatRecent";
+
+  private final Cache<Long, Room> cache;
+
+  private final int messagesPerRoom;
+
+  private final boolean offHeap;
+
+  public RecentChatMessageCache(
+      CacheConfig.ChatRecent config,
+      Ticker ticker
+  ) {
+    Assert.notNull(config, "Config must be provided");
+    Assert.notNull(ticker, "Ticker must be provided");
+
+    this.messagesPerRoom = config.getMessagesPerRoom();
+    this.offHeap = config.isOffHeap();
+    this.cache = Caffeine
+        .newBuilder()
+        .maximumSize(config.getMaximumRooms())
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * @return 첫 페이지이고 limit 이 방마다 두는 메시지 수 이하면 true
+   */
+  public boolean covers(
+      Cursor cursor,
+      int limit
+  ) {
+    return cursor == null && limit <= messagesPerRoom;
+  }
+
+  public int getMessagesPerRoom() {
+    return messagesPerRoom;
+  }
+
+  /**
+   * @param loader 캐시에 없는 방의 참여자와 최근 메시지를 최신 순으로 messagesPerRoom + 1 개까지 읽는다.
+   *               하나 더 읽은 메시지로 캐시에 담은 것보다 오래된 메시지가 있는지 안다
+   * @return 최신 순으로 최대 limit 개
+   */
+  public CursorPage<Message> findLatest(
+      long chatRoomId,
+      long userId,
+      int limit,
+      LongFunction<Snapshot> loader
+  ) {
+    Assert.isTrue(covers(null, limit), "Limit must not exceed messages per room");
+    Assert.notNull(loader, "Loader must be provided");
+
+    Room room = cache.get(chatRoomId, id -> new Room(loader.apply(id)));
+    if (room.sellerId != userId && room.winnerId != userId) {
+      throw new IllegalArgumentException("채팅방에 참여중인 사용자가 아닙니다");
+    }
+    return room.latest(limit);
+  }
+
+  /**
+   * 캐시에 있는 방에만 덧붙인다. 채우는 중인 방이면 채우기가 끝난 뒤에 덧붙이고, 이미 담긴 메시지는 건너뛴다.
+   */
+  public void append(
+      long chatRoomId,
+      long messageId,
+      ChatMessageSelectResponse response
+  ) {
+    Assert.notNull(response, "Response must be provided");
+
+    cache
+        .asMap()
+        .computeIfPresent(chatRoomId, (id, room) -> {
+          room.append(messageId, response);
+          return room;
+        });
+  }
+
+  public void invalidate(long chatRoomId) {
+    cache.invalidate(chatRoomId);
+  }
+
+  public void invalidateAllOfUser(long userId) {
+    cache
+        .asMap()
+        .values()
+        .removeIf(room -> room.sellerId == userId || room.winnerId == userId);
+  }
+
+  public void bindTo(MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(UserUpdatedEvent event) {
+    invalidateAllOfUser(event.getUserId());
+  }
+
+  public static final class Snapshot {
+
+    private final long sellerId;
+
+    private final long winnerId;
+
+    private final List<Message> messages;
+
+    /**
+     * @param messages 최신 순
+     */
+    public Snapshot(
+        long sellerId,
+        long winnerId,
+        List<Message> messages
+    ) {
+      Assert.notNull(messages, "Messages must be provided");
+
+      this.sellerId = sellerId;
+      this.winnerId = winnerId;
+      this.messages = messages;
+    }
+  }
+
+  public static final class Message {
+
+    private final long id;
+
+    private final ChatMessageSelectResponse response;
+
+    public Message(
+        long id,
+        ChatMessageSelectResponse response
+    ) {
+      Assert.notNull(response, "Response must be provided");
+
+      this.id = id;
+      this.response = response;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public ChatMessageSelectResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * 채팅 메시지 목록의 cursor 키는 (created_at, id) 이다.
+     */
+    public Cursor toCursor() {
+      return Cursor.of(Cursor.key(response.getCreatedAt()), id);
+    }
+  }
+
+  private final class Room {
+
+    private final long sellerId;
+
+    private final long winnerId;
+
+    private final long[] ids = new long[messagesPerRoom];
+
+    private final Object[] slots = new Object[messagesPerRoom];
+
+    private int head;
+
+    private int size;
+
+    /**
+     * 방의 메시지가 모두 링에 있으면 true. 링을 넘쳐 덮어쓰면 false 가 된다.
+     */
+    private boolean complete;
+
+    private Room(Snapshot snapshot) {
+      this.sellerId = snapshot.sellerId;
+      this.winnerId = snapshot.winnerId;
+      List<Message> messages = snapshot.messages;
+      this.complete = messages.size() <= messagesPerRoom;
+      for (int i = Math.min(messages.size(), messagesPerRoom) - 1; i >= 0; i--) {
+        append(messages.get(i).id, messages.get(i).response);
+      }
+    }
+
+    private synchronized void append(
+        long id,
+        ChatMessageSelectResponse response
+    ) {
+      for (int i = 0; i < size; i++) {
+        if (ids[i] == id) {
+          return;
+        }
+      }
+      if (size == messagesPerRoom) {
+        complete = false;
+      }
+      ids[head] = id;
+      slots[head] = offHeap ? OffHeapSlot.encode(response) : response;
+      head = (head + 1) % messagesPerRoom;
+      size = Math.min(size + 1, messagesPerRoom);
+    }
+
+    private synchronized CursorPage<Message> latest(int limit) {
+      int count = Math.min(limit, size);
+      List<Message> messages = new ArrayList<>(count);
+      for (int i = 1; i <= count; i++) {
+        int index = Math.floorMod(head - i, messagesPerRoom);
+        Object slot = slots[index];
+        messages.add(new Message(ids[index], offHeap ? OffHeapSlot.decode((ByteBuffer)slot)
+                                                     : (ChatMessageSelectResponse)slot));
+      }
+      return CursorPage.of(messages, size > limit || !complete, Message::toCursor);
+    }
+  }
+
+  /**
+   * 응답을 직렬화해 direct 버퍼에 담는다. 힙에는 버퍼를 가리키는 작은 객체만 남는다.
+   */
+  private static final class OffHeapSlot {
+
+    private static ByteBuffer encode(ChatMessageSelectResponse response) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        ChatUserInfo userInfo = response.getUserInfo();
+        out.writeLong(userInfo.getUserId());
+        writeNullable(out, userInfo.getUsername());
+        writeNullable(out, userInfo.getProfileImage());
+        writeNullable(out, response.getContent());
+        LocalDateTime createdAt = response.getCreatedAt();
+        out.writeBoolean(createdAt != null);
+        if (createdAt != null) {
+          out.writeLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+          out.writeInt(createdAt.getNano());
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+      buffer.put(bytes.toByteArray());
+      return buffer.flip();
+    }
+
+    private static ChatMessageSelectResponse decode(ByteBuffer buffer) {
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer
+          .duplicate()
+          .get(bytes);
+      try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+        ChatUserInfo userInfo = ChatUserInfo
+            .builder()
+            .userId(in.readLong())
+            .username(readNullable(in))
+            .profileImage(readNullable(in))
+            .build();
+        String content = readNullable(in);
+        LocalDateTime createdAt = in.readBoolean()
+            ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+            : null;
+        return ChatMessageSelectResponse.of(userInfo, content, createdAt);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+      out.writeBoolean(value != null);
+      if (value != null) {
+        out.writeUTF(value);
+      }
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+      return in.readBoolean() ? in.readUTF() : null;
+    }
+  }
+}
@@ -10,7 +10,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.Assert;
 
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.ComparablePath;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.saiko.bidmarket.comment.controller.dto.CommentSelectRequest;
@@ -43,14 +43,12 @@ public class CommentCustomRepositoryImpl
         .fetch();
   }
 
-  private OrderSpecifier getOrderSpecifier(Sort sort) {
-    for (Sort value : Sort.values()) {
-      if (sort == value) {
-        Path<Object> fieldPath = Expressions.path(Object.class, product,
-                                                  value.getProperty());
-        return new OrderSpecifier(value.getOrder(), fieldPath);
-      }
+  private OrderSpecifier<?> getOrderSpecifier(Sort sort) {
+    if (sort == null) {
+      return null;
     }
-    return null;
+    ComparablePath<Comparable> fieldPath = Expressions.comparablePath(
+        Comparable.class, product, sort.getProperty());
+    return new OrderSpecifier<>(sort.getOrder(), fieldPath);
   }
 }
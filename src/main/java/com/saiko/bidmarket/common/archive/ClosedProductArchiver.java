@@ -0,0 +1,220 @@
+package com.saiko.bidmarket.common.archive;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+
+/**
+ * 마감 후 retention 이 지난 상품의 입찰을 bidding_archive 로 옮긴다.
+ * 채팅방이 없는 상품은 상품, 이미지, 댓글까지 함께 옮기고 같은 트랜잭션에서 product_listing 행을 archived 로 표시한다.
+ * 목록 행은 지우지 않으므로 내 상품, 입찰, 찜 목록에는 계속 보이고 전체 상품 목록에서만 빠진다.
+ * 낙찰된 상품은 채팅방이 상품을 참조하므로 상품 행을 남긴다.
+ * 경매 종료와 같은 파티션 lease 를 따라 각 노드는 자신이 가진 파티션의 상품만 옮긴다.
+ */
+public class ClosedProductArchiver {
+
+  private static final List<String> PRODUCT_COLUMNS = List.of(
+      "id", "title", "description", "minimum_price", "category", "thumbnail_image", "location",
+      "progressed", "winning_price", "expire_at", "created_at", "updated_at", "user_id");
+
+  private static final List<String> IMAGE_COLUMNS = List.of(
+      "id", "product_id", "url", "`order`", "created_at", "updated_at");
+
+  private static final List<String> COMMENT_COLUMNS = List.of(
+      "id", "content", "product_id", "user_id", "created_at", "updated_at");
+
+  private static final List<String> BIDDING_COLUMNS = List.of(
+      "id", "bidding_price", "won", "created_at", "updated_at", "bidder_id", "product_id");
+
+  // 한 번 옮긴 상품은 입찰이 없고 채팅방이 있으므로 다시 뽑히지 않는다
+  private static final String CANDIDATE_QUERY =
+      "SELECT p.id, p.expire_at FROM product p "
+          + "WHERE p.progressed = false AND p.expire_at < :threshold "
+          + "AND (p.expire_at > :lastExpireAt OR (p.expire_at = :lastExpireAt AND p.id > :lastId)) "
+          + "AND MOD(p.id, :partitionCount) IN (:partitions) "
+          + "AND (EXISTS (SELECT 1 FROM bidding b WHERE b.product_id = p.id) "
+          + "OR NOT EXISTS (SELECT 1 FROM chat_room c WHERE c.product_id = p.id)) "
+          + "ORDER BY p.expire_at, p.id LIMIT :limit FOR UPDATE";
+
+  private static final Cursor START = new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Duration retention;
+
+  private final int batchSize;
+
+  private final Clock clock;
+
+  private final PartitionLeaseManager partitionLeaseManager;
+
+  public ClosedProductArchiver(
+      NamedParameterJdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      Duration retention,
+      int batchSize,
+      Clock clock,
+      PartitionLeaseManager partitionLeaseManager
+  ) {
+    Assert.notNull(jdbcTemplate, "JdbcTemplate must be provided");
+    Assert.notNull(transactionTemplate, "TransactionTemplate must be provided");
+    Assert.notNull(retention, "Retention must be provided");
+    Assert.isTrue(batchSize > 0, "Batch size must be positive");
+    Assert.notNull(clock, "Clock must be provided");
+    Assert.notNull(partitionLeaseManager, "PartitionLeaseManager must be provided");
+
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.retention = retention;
+    this.batchSize = batchSize;
+    this.clock = clock;
+    this.partitionLeaseManager = partitionLeaseManager;
+  }
+
+  @Scheduled(cron = "${archive.cron:0 30 4 * * *}")
+  public void archive() {
+    PartitionAssignment assignment = partitionLeaseManager.ownedPartitions();
+    if (assignment.isEmpty()) {
+      return;
+    }
+    archive(LocalDateTime.now(clock), assignment);
+  }
+
+  /**
+   * batchSize 개씩 나눠 각자 트랜잭션에서 옮기므로 오래 걸려도 잠금은 짧다.
+   *
+   * @return 입찰이나 상품 행을 옮긴 상품 수
+   */
+  public int archive(LocalDateTime now, PartitionAssignment assignment) {
+    Assert.notNull(now, "Now must be provided");
+    Assert.notNull(assignment, "Assignment must be provided");
+
+    if (assignment.isEmpty()) {
+      return 0;
+    }
+
+    LocalDateTime threshold = now.minus(retention);
+    Cursor cursor = START;
+    int archived = 0;
+    long startMillis = System.currentTimeMillis();
+    while (cursor != null) {
+      Cursor from = cursor;
+      Batch batch = transactionTemplate.execute(
+          status -> archiveBatch(threshold, now, assignment, from));
+      archived += batch.products;
+      cursor = batch.next;
+    }
+    log.info("Closed products archived | threshold : {}, partitions : {}, products : {}, "
+                 + "elapsed : {}ms", threshold, assignment, archived,
+             System.currentTimeMillis() - startMillis);
+    return archived;
+  }
+
+  private Batch archiveBatch(
+      LocalDateTime threshold,
+      LocalDateTime now,
+      PartitionAssignment assignment,
+      Cursor from
+  ) {
+    List<Cursor> candidates = jdbcTemplate.query(
+        CANDIDATE_QUERY, new MapSqlParameterSource()
+            .addValue("threshold", Timestamp.valueOf(threshold))
+            .addValue("lastExpireAt", Timestamp.valueOf(from.expireAt))
+            .addValue("lastId", from.id)
+            .addValue("partitionCount", assignment.getPartitionCount())
+            .addValue("partitions", assignment.getPartitions())
+            .addValue("limit", batchSize),
+        (rs, rowNum) -> new Cursor(rs.getTimestamp("expire_at").toLocalDateTime(),
+                                   rs.getLong("id")));
+    if (candidates.isEmpty()) {
+      return new Batch(0, null);
+    }
+
+    List<Long> productIds = candidates
+        .stream()
+        .map(candidate -> candidate.id)
+        .collect(Collectors.toList());
+    Set<Long> withChatRoom = new HashSet<>(jdbcTemplate.queryForList(
+        "SELECT product_id FROM chat_room WHERE product_id IN (:ids)",
+        Map.of("ids", productIds), Long.class));
+    List<Long> movableIds = new ArrayList<>(productIds);
+    movableIds.removeAll(withChatRoom);
+
+    Timestamp archivedAt = Timestamp.valueOf(now);
+    int biddings = move("bidding", BIDDING_COLUMNS, productIds, archivedAt);
+    if (!movableIds.isEmpty()) {
+      move("image", IMAGE_COLUMNS, movableIds, archivedAt);
+      move("comment", COMMENT_COLUMNS, movableIds, archivedAt);
+      move("product", PRODUCT_COLUMNS, movableIds, archivedAt);
+      jdbcTemplate.update("UPDATE product_listing SET archived = true WHERE product_id IN (:ids)",
+                          Map.of("ids", movableIds));
+    }
+    log.info("Archive batch moved | products : {}, biddings : {}, productRows : {}",
+             productIds.size(), biddings, movableIds.size());
+
+    Cursor next = candidates.size() < batchSize ? null : candidates.get(candidates.size() - 1);
+    return new Batch(productIds.size(), next);
+  }
+
+  private int move(String table, List<String> columns, List<Long> productIds,
+                   Timestamp archivedAt) {
+    String key = "product".equals(table) ? "id" : "product_id";
+    String columnList = String.join(", ", columns);
+    MapSqlParameterSource parameters = new MapSqlParameterSource()
+        .addValue("ids", productIds)
+        .addValue("archivedAt", archivedAt);
+
+    int moved = jdbcTemplate.update(
+        "INSERT INTO " + table + "_archive (" + columnList + ", archived_at) "
+            + "SELECT " + columnList + ", :archivedAt FROM " + table
+            + " WHERE " + key + " IN (:ids)", parameters);
+    jdbcTemplate.update("DELETE FROM " + table + " WHERE " + key + " IN (:ids)", parameters);
+    return moved;
+  }
+
+  private static class Cursor {
+
+    private final LocalDateTime expireAt;
+
+    private final long id;
+
+    private Cursor(LocalDateTime expireAt, long id) {
+      this.expireAt = expireAt;
+      this.id = id;
+    }
+  }
+
+  private static class Batch {
+
+    private final int products;
+
+    private final Cursor next;
+
+    private Batch(int products, Cursor next) {
+      this.products = products;
+      this.next = next;
+    }
+  }
+}
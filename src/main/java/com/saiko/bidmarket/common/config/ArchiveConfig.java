@@ -0,0 +1,68 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+/**
+ * 마감 후 retention 이 지난 상품을 보관 테이블로 옮기는 설정. cron 마다 batchSize 개씩 나눠 옮긴다.
+ */
+@ConfigurationProperties(prefix = "archive")
+@ConstructorBinding
+public class ArchiveConfig {
+
+  private final boolean enabled;
+
+  private final Duration retention;
+
+  private final int batchSize;
+
+  private final String cron;
+
+  public ArchiveConfig(
+      boolean enabled,
+      @DefaultValue("90d") Duration retention,
+      @DefaultValue("500") int batchSize,
+      @DefaultValue("0 30 4 * * *") String cron
+  ) {
+    Assert.isTrue(!retention.isNegative() && !retention.isZero(), "Retention must be positive");
+    Assert.isTrue(batchSize > 0, "Batch size must be positive");
+    Assert.hasText(cron, "Cron must be provided");
+
+    this.enabled = enabled;
+    this.retention = retention;
+    this.batchSize = batchSize;
+    this.cron = cron;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public Duration getRetention() {
+    return retention;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public String getCron() {
+    return cron;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("enabled", enabled)
+        .append("retention", retention)
+        .append("batchSize", batchSize)
+        .append("cron", cron)
+        .build();
+  }
+}
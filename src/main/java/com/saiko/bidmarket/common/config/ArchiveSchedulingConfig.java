@@ -0,0 +1,38 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.common.archive.ClosedProductArchiver;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+
+/**
+ * archive.enabled 를 켜면 archive.cron 마다 마감된 지 오래된 상품을 보관 테이블로 옮긴다.
+ * 여러 노드가 같은 cron 에 깨어나도 경매 종료 파티션 lease 를 가진 노드만 자기 몫을 옮긴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "archive", name = "enabled", havingValue = "true")
+public class ArchiveSchedulingConfig {
+
+  @Bean
+  public ClosedProductArchiver closedProductArchiver(
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager,
+      ArchiveConfig archiveConfig,
+      Clock clock,
+      PartitionLeaseManager partitionLeaseManager
+  ) {
+    return new ClosedProductArchiver(new NamedParameterJdbcTemplate(dataSource),
+                                     new TransactionTemplate(transactionManager),
+                                     archiveConfig.getRetention(), archiveConfig.getBatchSize(),
+                                     clock, partitionLeaseManager);
+  }
+}
@@ -0,0 +1,200 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "cache")
+@ConstructorBinding
+public class CacheConfig {
+
+  private final ProductDetail productDetail;
+
+  private final ProductListing productListing;
+
+  private final ChatRecent chatRecent;
+
+  public CacheConfig(
+      @DefaultValue ProductDetail productDetail,
+      @DefaultValue ProductListing productListing,
+      @DefaultValue ChatRecent chatRecent
+  ) {
+    this.productDetail = productDetail;
+    this.productListing = productListing;
+    this.chatRecent = chatRecent;
+  }
+
+  public ProductDetail getProductDetail() {
+    return productDetail;
+  }
+
+  public ProductListing getProductListing() {
+    return productListing;
+  }
+
+  public ChatRecent getChatRecent() {
+    return chatRecent;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("productDetail", productDetail)
+        .append("productListing", productListing)
+        .append("chatRecent", chatRecent)
+        .build();
+  }
+
+  /**
+   * 상품 상세 응답 캐시. 엔트리 크기는 응답의 문자열 길이로 어림잡는다.
+   * 종료된 상품은 더 바뀌지 않으므로 closedTtl 동안 길게 둔다.
+   */
+  @ConstructorBinding
+  public static class ProductDetail {
+
+    private final DataSize maximumSize;
+
+    private final Duration progressedTtl;
+
+    private final Duration closedTtl;
+
+    public ProductDetail(
+        @DefaultValue("64MB") DataSize maximumSize,
+        @DefaultValue("1m") Duration progressedTtl,
+        @DefaultValue("1h") Duration closedTtl
+    ) {
+      Assert.isTrue(maximumSize.toBytes() > 0, "Maximum size must be positive");
+      Assert.isTrue(!progressedTtl.isNegative(), "Progressed ttl must not be negative");
+      Assert.isTrue(!closedTtl.isNegative(), "Closed ttl must not be negative");
+
+      this.maximumSize = maximumSize;
+      this.progressedTtl = progressedTtl;
+      this.closedTtl = closedTtl;
+    }
+
+    public DataSize getMaximumSize() {
+      return maximumSize;
+    }
+
+    public Duration getProgressedTtl() {
+      return progressedTtl;
+    }
+
+    public Duration getClosedTtl() {
+      return closedTtl;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+          .append("maximumSize", maximumSize)
+          .append("progressedTtl", progressedTtl)
+          .append("closedTtl", closedTtl)
+          .build();
+    }
+  }
+
+  /**
+   * 제목 검색이 없는 앞쪽 cacheablePages 페이지의 상품 목록 캐시.
+   * 상품이 등록되거나 종료되면 해당 카테고리의 버전이 올라가 이전 페이지는 더 조회되지 않는다.
+   * 찜 개수처럼 버전을 올리지 않는 변경은 ttl 동안 늦게 보일 수 있다.
+   */
+  @ConstructorBinding
+  public static class ProductListing {
+
+    private final long maximumSize;
+
+    private final Duration ttl;
+
+    private final int cacheablePages;
+
+    public ProductListing(
+        @DefaultValue("1000") long maximumSize,
+        @DefaultValue("5s") Duration ttl,
+        @DefaultValue("2") int cacheablePages
+    ) {
+      Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+      Assert.isTrue(!ttl.isNegative(), "Ttl must not be negative");
+      Assert.isTrue(cacheablePages >= 0, "Cacheable pages must not be negative");
+
+      this.maximumSize = maximumSize;
+      this.ttl = ttl;
+      this.cacheablePages = cacheablePages;
+    }
+
+    public long getMaximumSize() {
+      return maximumSize;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public int getCacheablePages() {
+      return cacheablePages;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+          .append("maximumSize", maximumSize)
+          .append("ttl", ttl)
+          .append("cacheablePages", cacheablePages)
+          .build();
+    }
+  }
+
+  /**
+   * 채팅방별 최근 메시지 캐시. 최근 maximumRooms 개 방의 마지막 messagesPerRoom 개 메시지를 둔다.
+   * offHeap 을 켜면 메시지를 직렬화해 힙 밖 버퍼에 두어 방이 많아도 힙과 GC 부담이 늘지 않는다.
+   */
+  @ConstructorBinding
+  public static class ChatRecent {
+
+    private final long maximumRooms;
+
+    private final int messagesPerRoom;
+
+    private final boolean offHeap;
+
+    public ChatRecent(
+        @DefaultValue("10000") long maximumRooms,
+        @DefaultValue("50") int messagesPerRoom,
+        @DefaultValue("false") boolean offHeap
+    ) {
+      Assert.isTrue(maximumRooms > 0, "Maximum rooms must be positive");
+      Assert.isTrue(messagesPerRoom > 0, "Messages per room must be positive");
+
+      this.maximumRooms = maximumRooms;
+      this.messagesPerRoom = messagesPerRoom;
+      this.offHeap = offHeap;
+    }
+
+    public long getMaximumRooms() {
+      return maximumRooms;
+    }
+
+    public int getMessagesPerRoom() {
+      return messagesPerRoom;
+    }
+
+    public boolean isOffHeap() {
+      return offHeap;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+          .append("maximumRooms", maximumRooms)
+          .append("messagesPerRoom", messagesPerRoom)
+          .append("offHeap", offHeap)
+          .build();
+    }
+  }
+}
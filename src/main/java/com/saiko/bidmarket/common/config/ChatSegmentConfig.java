@@ -0,0 +1,81 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * hotRetention 이 지난 채팅 메시지를 방별로 segmentSize 개씩 압축해 chat_message_segment 로 옮기는 설정.
+ * 세그먼트는 바뀌지 않으므로 풀어 둔 내용을 cacheSize 만큼 로컬에 캐시한다.
+ */
+@ConfigurationProperties(prefix = "chat-segment")
+@ConstructorBinding
+public class ChatSegmentConfig {
+
+  private final boolean enabled;
+
+  private final Duration hotRetention;
+
+  private final int segmentSize;
+
+  private final String cron;
+
+  private final DataSize cacheSize;
+
+  public ChatSegmentConfig(
+      boolean enabled,
+      @DefaultValue("30d") Duration hotRetention,
+      @DefaultValue("500") int segmentSize,
+      @DefaultValue("0 0 5 * * *") String cron,
+      @DefaultValue("32MB") DataSize cacheSize
+  ) {
+    Assert.isTrue(!hotRetention.isNegative() && !hotRetention.isZero(),
+                  "Hot retention must be positive");
+    Assert.isTrue(segmentSize > 0, "Segment size must be positive");
+    Assert.hasText(cron, "Cron must be provided");
+    Assert.isTrue(cacheSize.toBytes() > 0, "Cache size must be positive");
+
+    this.enabled = enabled;
+    this.hotRetention = hotRetention;
+    this.segmentSize = segmentSize;
+    this.cron = cron;
+    this.cacheSize = cacheSize;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public Duration getHotRetention() {
+    return hotRetention;
+  }
+
+  public int getSegmentSize() {
+    return segmentSize;
+  }
+
+  public String getCron() {
+    return cron;
+  }
+
+  public DataSize getCacheSize() {
+    return cacheSize;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("enabled", enabled)
+        .append("hotRetention", hotRetention)
+        .append("segmentSize", segmentSize)
+        .append("cron", cron)
+        .append("cacheSize", cacheSize)
+        .build();
+  }
+}
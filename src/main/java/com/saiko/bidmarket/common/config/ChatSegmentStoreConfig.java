@@ -0,0 +1,49 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.chat.repository.ChatMessageSegmentRepository;
+import com.saiko.bidmarket.chat.segment.ChatMessageCompactor;
+import com.saiko.bidmarket.chat.segment.ChatMessageSegmentReader;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+
+/**
+ * 세그먼트 읽기는 항상 켜 두고, chat-segment.enabled 를 켠 경우에만 chat-segment.cron 마다 압축한다.
+ */
+@Configuration
+public class ChatSegmentStoreConfig {
+
+  @Bean
+  public ChatMessageSegmentReader chatMessageSegmentReader(
+      ChatMessageSegmentRepository chatMessageSegmentRepository,
+      ChatSegmentConfig chatSegmentConfig
+  ) {
+    return new ChatMessageSegmentReader(chatMessageSegmentRepository,
+                                        chatSegmentConfig.getCacheSize());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "chat-segment", name = "enabled", havingValue = "true")
+  public ChatMessageCompactor chatMessageCompactor(
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager,
+      ChatSegmentConfig chatSegmentConfig,
+      Clock clock,
+      PartitionLeaseManager partitionLeaseManager
+  ) {
+    return new ChatMessageCompactor(new NamedParameterJdbcTemplate(dataSource),
+                                    new TransactionTemplate(transactionManager),
+                                    chatSegmentConfig.getHotRetention(),
+                                    chatSegmentConfig.getSegmentSize(), clock,
+                                    partitionLeaseManager);
+  }
+}
@@ -0,0 +1,18 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 경매 생성, 만료, 마감이 함께 쓰는 시계. 테스트와 시뮬레이션에서는 @Primary 시계로 바꿔 시간을 돌린다.
+ */
+@Configuration
+public class ClockConfig {
+
+  @Bean
+  public Clock clock() {
+    return Clock.systemDefaultZone();
+  }
+}
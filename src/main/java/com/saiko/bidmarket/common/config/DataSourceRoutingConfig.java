@@ -0,0 +1,116 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+@ConfigurationProperties(prefix = "datasource.routing")
+@ConstructorBinding
+public class DataSourceRoutingConfig {
+
+  private final boolean enabled;
+
+  private final List<Replica> replicas;
+
+  private final Duration maxLag;
+
+  private final Duration stickyDuration;
+
+  public DataSourceRoutingConfig(
+      boolean enabled,
+      List<Replica> replicas,
+      @DefaultValue("5s") Duration maxLag,
+      @DefaultValue("5s") Duration stickyDuration
+  ) {
+    Assert.isTrue(!maxLag.isNegative(), "Max lag must not be negative");
+    Assert.isTrue(!stickyDuration.isNegative(), "Sticky duration must not be negative");
+
+    this.enabled = enabled;
+    this.replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    this.maxLag = maxLag;
+    this.stickyDuration = stickyDuration;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public List<Replica> getReplicas() {
+    return replicas;
+  }
+
+  public Duration getMaxLag() {
+    return maxLag;
+  }
+
+  public Duration getStickyDuration() {
+    return stickyDuration;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("enabled", enabled)
+        .append("replicas", replicas)
+        .append("maxLag", maxLag)
+        .append("stickyDuration", stickyDuration)
+        .build();
+  }
+
+  @ConstructorBinding
+  public static class Replica {
+
+    private final String url;
+
+    private final String username;
+
+    private final String password;
+
+    private final int maximumPoolSize;
+
+    public Replica(
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize
+    ) {
+      Assert.isTrue(maximumPoolSize > 0, "Maximum pool size must be positive");
+
+      this.url = url;
+      this.username = username;
+      this.password = password;
+      this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public String getUrl() {
+      return url;
+    }
+
+    public String getUsername() {
+      return username;
+    }
+
+    public String getPassword() {
+      return password;
+    }
+
+    public int getMaximumPoolSize() {
+      return maximumPoolSize;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+          .append("url", url)
+          .append("username", username)
+          .append("maximumPoolSize", maximumPoolSize)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.saiko.bidmarket.common.config;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+/**
+ * 성능 테스트용 합성 데이터 설정. enabled 를 켜고 기동하면 한 번 적재한다.
+ * 같은 seed 와 규모면 같은 데이터가 만들어진다.
+ */
+@ConfigurationProperties(prefix = "dataset")
+@ConstructorBinding
+public class DatasetConfig {
+
+  private static final int MAX_PLACEHOLDERS = 65_535;
+
+  private static final int WIDEST_TABLE_COLUMNS = 13;
+
+  private final boolean enabled;
+
+  private final long seed;
+
+  private final int users;
+
+  private final int products;
+
+  private final long biddings;
+
+  private final long hearts;
+
+  private final long comments;
+
+  private final int chatMessagesPerRoom;
+
+  private final double skew;
+
+  private final int historyDays;
+
+  private final int batchSize;
+
+  public DatasetConfig(
+      boolean enabled,
+      @DefaultValue("42") long seed,
+      @DefaultValue("100000") int users,
+      @DefaultValue("1000000") int products,
+      @DefaultValue("10000000") long biddings,
+      @DefaultValue("3000000") long hearts,
+      @DefaultValue("2000000") long comments,
+      @DefaultValue("10") int chatMessagesPerRoom,
+      @DefaultValue("1.1") double skew,
+      @DefaultValue("60") int historyDays,
+      @DefaultValue("1000") int batchSize
+  ) {
+    Assert.isTrue(users > 1, "Users must be greater than 1");
+    Assert.isTrue(products > 0, "Products must be positive");
+    Assert.isTrue(biddings >= 0, "Biddings must not be negative");
+    Assert.isTrue(hearts >= 0, "Hearts must not be negative");
+    Assert.isTrue(hearts <= (long)users * products, "Hearts must fit in users x products");
+    Assert.isTrue(comments >= 0, "Comments must not be negative");
+    Assert.isTrue(chatMessagesPerRoom >= 0, "Chat messages per room must not be negative");
+    Assert.isTrue(skew > 0, "Skew must be positive");
+    Assert.isTrue(historyDays > 0, "History days must be positive");
+    Assert.isTrue(batchSize > 0, "Batch size must be positive");
+    Assert.isTrue((long)batchSize * WIDEST_TABLE_COLUMNS <= MAX_PLACEHOLDERS,
+                  "Batch size must keep a multi-row insert under the placeholder limit");
+
+    this.enabled = enabled;
+    this.seed = seed;
+    this.users = users;
+    this.products = products;
+    this.biddings = biddings;
+    this.hearts = hearts;
+    this.comments = comments;
+    this.chatMessagesPerRoom = chatMessagesPerRoom;
+    this.skew = skew;
+    this.historyDays = historyDays;
+    this.batchSize = batchSize;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public int getUsers() {
+    return users;
+  }
+
+  public int getProducts() {
+    return products;
+  }
+
+  public long getBiddings() {
+    return biddings;
+  }
+
+  public long getHearts() {
+    return hearts;
+  }
+
+  public long getComments() {
+    return comments;
+  }
+
+  public int getChatMessagesPerRoom() {
+    return chatMessagesPerRoom;
+  }
+
+  public double getSkew() {
+    return skew;
+  }
+
+  public int getHistoryDays() {
+    return historyDays;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("enabled", enabled)
+        .append("seed", seed)
+        .append("users", users)
+        .append("products", products)
+        .append("biddings", biddings)
+        .append("hearts", hearts)
+        .append("comments", comments)
+        .append("chatMessagesPerRoom", chatMessagesPerRoom)
+        .append("skew", skew)
+        .append("historyDays", historyDays)
+        .append("batchSize", batchSize)
+        .build();
+  }
+}
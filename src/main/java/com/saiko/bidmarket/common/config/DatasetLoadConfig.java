@@ -0,0 +1,38 @@
+package com.saiko.bidmarket.common.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.common.dataset.DatasetLoader;
+import com.saiko.bidmarket.common.dataset.DatasetRunner;
+import com.saiko.bidmarket.common.shard.UserShardRouter;
+
+/**
+ * dataset.enabled 를 켜고 기동하면 합성 데이터를 적재한다. 운영 DB 에서는 켜지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "dataset", name = "enabled", havingValue = "true")
+public class DatasetLoadConfig {
+
+  @Bean
+  public DatasetLoader datasetLoader(
+      DataSource dataSource,
+      UserShardRouter userShardRouter,
+      PlatformTransactionManager transactionManager,
+      DatasetConfig datasetConfig
+  ) {
+    return new DatasetLoader(new JdbcTemplate(dataSource), userShardRouter,
+                             new TransactionTemplate(transactionManager), datasetConfig);
+  }
+
+  @Bean
+  public DatasetRunner datasetRunner(DatasetLoader datasetLoader) {
+    return new DatasetRunner(datasetLoader);
+  }
+}
@@ -0,0 +1,36 @@
+package com.saiko.bidmarket.common.config;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+/**
+ * id 블록 확보 전용 커넥션 풀 설정.
+ * 블록은 INCREMENT_SIZE 건마다 한 번 확보하므로 작은 풀로 충분하다.
+ */
+@ConfigurationProperties(prefix = "id-generator")
+@ConstructorBinding
+public class IdGeneratorConfig {
+
+  private final int maximumPoolSize;
+
+  public IdGeneratorConfig(@DefaultValue("2") int maximumPoolSize) {
+    Assert.isTrue(maximumPoolSize > 0, "Maximum pool size must be positive");
+
+    this.maximumPoolSize = maximumPoolSize;
+  }
+
+  public int getMaximumPoolSize() {
+    return maximumPoolSize;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("maximumPoolSize", maximumPoolSize)
+        .build();
+  }
+}
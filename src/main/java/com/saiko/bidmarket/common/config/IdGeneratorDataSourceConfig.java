@@ -0,0 +1,47 @@
+package com.saiko.bidmarket.common.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.saiko.bidmarket.common.id.IdGeneratorDataSource;
+import com.saiko.bidmarket.common.id.PooledTableIdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class IdGeneratorDataSourceConfig {
+
+  private static final String POOL_NAME = "id-generator";
+
+  @Bean
+  public IdGeneratorDataSource idGeneratorDataSource(
+      DataSourceProperties properties,
+      IdGeneratorConfig idGeneratorConfig,
+      ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(POOL_NAME);
+    dataSource.setDriverClassName(properties.determineDriverClassName());
+    dataSource.setJdbcUrl(properties.determineUrl());
+    dataSource.setUsername(properties.determineUsername());
+    dataSource.setPassword(properties.determinePassword());
+    dataSource.setMaximumPoolSize(idGeneratorConfig.getMaximumPoolSize());
+    meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+    return new IdGeneratorDataSource(dataSource);
+  }
+
+  /**
+   * Hibernate 가 만든 id 생성기에 전용 풀을 넘긴다.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer idGeneratorHibernatePropertiesCustomizer(
+      IdGeneratorDataSource idGeneratorDataSource
+  ) {
+    return hibernateProperties -> hibernateProperties.put(
+        PooledTableIdGenerator.DATA_SOURCE, idGeneratorDataSource.getDataSource());
+  }
+}
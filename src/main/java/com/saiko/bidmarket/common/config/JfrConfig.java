@@ -0,0 +1,61 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * actuator jfr 엔드포인트로 시작하는 녹화의 설정.
+ * settings 는 JDK 에 들어있는 설정 이름(default, profile)이고, 녹화는 maxAge, maxSize 만큼만 디스크에 남긴다.
+ */
+@ConfigurationProperties(prefix = "jfr")
+@ConstructorBinding
+public class JfrConfig {
+
+  private final String settings;
+
+  private final Duration maxAge;
+
+  private final DataSize maxSize;
+
+  public JfrConfig(
+      @DefaultValue("profile") String settings,
+      @DefaultValue("30m") Duration maxAge,
+      @DefaultValue("256MB") DataSize maxSize
+  ) {
+    Assert.hasText(settings, "Settings must be provided");
+    Assert.isTrue(!maxAge.isNegative() && !maxAge.isZero(), "Max age must be positive");
+    Assert.isTrue(maxSize.toBytes() > 0, "Max size must be positive");
+
+    this.settings = settings;
+    this.maxAge = maxAge;
+    this.maxSize = maxSize;
+  }
+
+  public String getSettings() {
+    return settings;
+  }
+
+  public Duration getMaxAge() {
+    return maxAge;
+  }
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("settings", settings)
+        .append("maxAge", maxAge)
+        .append("maxSize", maxSize)
+        .build();
+  }
+}
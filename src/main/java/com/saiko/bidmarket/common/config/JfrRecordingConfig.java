@@ -0,0 +1,24 @@
+package com.saiko.bidmarket.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.saiko.bidmarket.common.jfr.JfrRecorder;
+import com.saiko.bidmarket.common.jfr.JfrRecordingEndpoint;
+
+/**
+ * 입찰, 마감, 채팅 전송, JWT 검증 JFR 이벤트를 담는 녹화와 그 녹화를 다루는 actuator 엔드포인트.
+ */
+@Configuration
+public class JfrRecordingConfig {
+
+  @Bean(destroyMethod = "stop")
+  public JfrRecorder jfrRecorder(JfrConfig jfrConfig) {
+    return new JfrRecorder(jfrConfig);
+  }
+
+  @Bean
+  public JfrRecordingEndpoint jfrRecordingEndpoint(JfrRecorder jfrRecorder) {
+    return new JfrRecordingEndpoint(jfrRecorder);
+  }
+}
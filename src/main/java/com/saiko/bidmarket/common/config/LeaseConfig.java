@@ -0,0 +1,84 @@
+package com.saiko.bidmarket.common.config;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+
+@ConfigurationProperties(prefix = "scheduler.lease")
+@ConstructorBinding
+public class LeaseConfig {
+
+  // lease.name 컬럼(varchar(64))에 멤버 lease 이름 접두사와 함께 들어가야 한다
+  private static final int MAX_NODE_ID_LENGTH = 64 - PartitionLeaseManager.MEMBER_PREFIX.length();
+
+  private final String nodeId;
+
+  private final int partitionCount;
+
+  private final Duration ttl;
+
+  private final Duration safetyMargin;
+
+  public LeaseConfig(
+      String nodeId,
+      @DefaultValue("16") int partitionCount,
+      @DefaultValue("15s") Duration ttl,
+      @DefaultValue("3s") Duration safetyMargin
+  ) {
+    Assert.isTrue(partitionCount > 0, "Partition count must be positive");
+    Assert.isTrue(ttl.compareTo(safetyMargin) > 0, "Ttl must be longer than safety margin");
+    Assert.isTrue(nodeId == null || nodeId.length() <= MAX_NODE_ID_LENGTH,
+                  "Node id must be at most " + MAX_NODE_ID_LENGTH + " characters");
+
+    this.nodeId = StringUtils.isNotBlank(nodeId) ? nodeId : generateNodeId();
+    this.partitionCount = partitionCount;
+    this.ttl = ttl;
+    this.safetyMargin = safetyMargin;
+  }
+
+  private static String generateNodeId() {
+    String random = UUID.randomUUID().toString().substring(0, 8);
+    try {
+      return StringUtils.left(InetAddress.getLocalHost().getHostName(), 40) + "-" + random;
+    } catch (UnknownHostException e) {
+      return "node-" + random;
+    }
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public Duration getSafetyMargin() {
+    return safetyMargin;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("nodeId", nodeId)
+        .append("partitionCount", partitionCount)
+        .append("ttl", ttl)
+        .append("safetyMargin", safetyMargin)
+        .build();
+  }
+}
@@ -0,0 +1,53 @@
+package com.saiko.bidmarket.common.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.saiko.bidmarket.chat.service.RecentChatMessageCache;
+import com.saiko.bidmarket.product.service.ProductDetailCache;
+import com.saiko.bidmarket.product.service.ProductListingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인스턴스마다 따로 두는 로컬 캐시들. 무효화는 각 인스턴스가 받는 도메인 이벤트로 한다.
+ * 통계는 캐시 이름을 cache 태그로 달아 MeterRegistry 에 등록한다.
+ */
+@Configuration
+public class LocalCacheConfig {
+
+  @Bean
+  public ProductDetailCache productDetailCache(
+      CacheConfig cacheConfig,
+      ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    ProductDetailCache cache =
+        new ProductDetailCache(cacheConfig.getProductDetail(), Ticker.systemTicker());
+    meterRegistry.ifAvailable(cache::bindTo);
+    return cache;
+  }
+
+  @Bean
+  public ProductListingCache productListingCache(
+      CacheConfig cacheConfig,
+      ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    ProductListingCache cache =
+        new ProductListingCache(cacheConfig.getProductListing(), Ticker.systemTicker());
+    meterRegistry.ifAvailable(cache::bindTo);
+    return cache;
+  }
+
+  @Bean
+  public RecentChatMessageCache recentChatMessageCache(
+      CacheConfig cacheConfig,
+      ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    RecentChatMessageCache cache =
+        new RecentChatMessageCache(cacheConfig.getChatRecent(), Ticker.systemTicker());
+    meterRegistry.ifAvailable(cache::bindTo);
+    return cache;
+  }
+}
@@ -0,0 +1,36 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.saiko.bidmarket.common.metrics.AuctionClosingMetrics;
+import com.saiko.bidmarket.common.metrics.RepositoryQueryTimingAspect;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 컨트롤러는 actuator 의 http.server.requests 가 재고,
+ * 여기서는 @Timed 가 붙은 스케줄러와 STOMP 핸들러, 직접 작성한 리포지토리 쿼리, 경매 마감 지연을 잰다.
+ * 백분위수와 히스토그램 설정은 management.metrics.distribution 에 둔다.
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+
+  @Bean
+  public AuctionClosingMetrics auctionClosingMetrics(MeterRegistry meterRegistry, Clock clock) {
+    return new AuctionClosingMetrics(meterRegistry, clock);
+  }
+
+  @Bean
+  public RepositoryQueryTimingAspect repositoryQueryTimingAspect(MeterRegistry meterRegistry) {
+    return new RepositoryQueryTimingAspect(meterRegistry);
+  }
+}
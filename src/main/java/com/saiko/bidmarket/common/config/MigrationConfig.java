@@ -0,0 +1,144 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+/**
+ * 버전별 스키마 마이그레이션 설정. 적용된 버전은 schema_version 에 남고 다음 기동부터는 건너뛴다.
+ * baselineVersion 은 이 기능 이전에 sql.init 으로 만들어진 DB 를 어느 버전까지 적용된 것으로 볼지다.
+ */
+@ConfigurationProperties(prefix = "migration")
+@ConstructorBinding
+public class MigrationConfig {
+
+  private final boolean enabled;
+
+  private final int baselineVersion;
+
+  private final Duration lockTimeout;
+
+  private final Duration onlineLockWaitTimeout;
+
+  private final List<Version> versions;
+
+  public MigrationConfig(
+      boolean enabled,
+      @DefaultValue("0") int baselineVersion,
+      @DefaultValue("60s") Duration lockTimeout,
+      @DefaultValue("5s") Duration onlineLockWaitTimeout,
+      List<Version> versions
+  ) {
+    Assert.isTrue(baselineVersion >= 0, "Baseline version must not be negative");
+    Assert.isTrue(lockTimeout.toSeconds() > 0, "Lock timeout must be at least 1 second");
+    Assert.isTrue(onlineLockWaitTimeout.toSeconds() > 0,
+                  "Online lock wait timeout must be at least 1 second");
+    List<Version> copied = versions == null ? List.of() : List.copyOf(versions);
+    Set<Integer> numbers = new HashSet<>();
+    copied.forEach(version -> Assert.isTrue(numbers.add(version.getVersion()),
+                                            () -> "Duplicated version " + version.getVersion()));
+
+    this.enabled = enabled;
+    this.baselineVersion = baselineVersion;
+    this.lockTimeout = lockTimeout;
+    this.onlineLockWaitTimeout = onlineLockWaitTimeout;
+    this.versions = copied;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public int getBaselineVersion() {
+    return baselineVersion;
+  }
+
+  public Duration getLockTimeout() {
+    return lockTimeout;
+  }
+
+  public Duration getOnlineLockWaitTimeout() {
+    return onlineLockWaitTimeout;
+  }
+
+  public List<Version> getVersions() {
+    return versions;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("enabled", enabled)
+        .append("baselineVersion", baselineVersion)
+        .append("lockTimeout", lockTimeout)
+        .append("onlineLockWaitTimeout", onlineLockWaitTimeout)
+        .append("versions", versions)
+        .build();
+  }
+
+  /**
+   * 한 버전에서 순서대로 실행할 스크립트들. online 이면 MySQL 에서 ALTER TABLE, CREATE INDEX 를
+   * 테이블 잠금 없이 실행하도록 강제하고, 그럴 수 없는 변경은 잠그는 대신 실패시킨다.
+   */
+  @ConstructorBinding
+  public static class Version {
+
+    private final int version;
+
+    private final String description;
+
+    private final List<String> scripts;
+
+    private final boolean online;
+
+    public Version(
+        int version,
+        String description,
+        List<String> scripts,
+        boolean online
+    ) {
+      Assert.isTrue(version > 0, "Version must be positive");
+      Assert.hasText(description, "Description must be provided");
+      Assert.notEmpty(scripts, "Scripts must be provided");
+
+      this.version = version;
+      this.description = description;
+      this.scripts = List.copyOf(scripts);
+      this.online = online;
+    }
+
+    public int getVersion() {
+      return version;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    public List<String> getScripts() {
+      return scripts;
+    }
+
+    public boolean isOnline() {
+      return online;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+          .append("version", version)
+          .append("description", description)
+          .append("scripts", scripts.size())
+          .append("online", online)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.saiko.bidmarket.common.config;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+/**
+ * 커밋 뒤 사용자 샤드로 옮기지 못한 알림을 relay 가 batchSize 개씩 다시 옮기고, maxAttempts 번 실패하면 남겨 두는 설정.
+ */
+@ConfigurationProperties(prefix = "notification-outbox")
+@ConstructorBinding
+public class NotificationOutboxConfig {
+
+  private final int batchSize;
+
+  private final int maxAttempts;
+
+  public NotificationOutboxConfig(
+      @DefaultValue("100") int batchSize,
+      @DefaultValue("10") int maxAttempts
+  ) {
+    Assert.isTrue(batchSize > 0, "Batch size must be positive");
+    Assert.isTrue(maxAttempts > 0, "Max attempts must be positive");
+
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("batchSize", batchSize)
+        .append("maxAttempts", maxAttempts)
+        .build();
+  }
+}
@@ -0,0 +1,38 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.notification.outbox.NotificationOutbox;
+import com.saiko.bidmarket.notification.repository.NotificationRepository;
+
+/**
+ * 알림 outbox 는 주 DataSource 에 두고, notification-outbox.relay-interval 마다 남은 행을 다시 옮긴다.
+ */
+@Configuration
+public class NotificationOutboxSchedulingConfig {
+
+  @Bean
+  public NotificationOutbox notificationOutbox(
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager,
+      NotificationRepository notificationRepository,
+      NotificationOutboxConfig notificationOutboxConfig,
+      Clock clock
+  ) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return new NotificationOutbox(new NamedParameterJdbcTemplate(dataSource), transactionTemplate,
+                                  notificationRepository,
+                                  notificationOutboxConfig.getBatchSize(),
+                                  notificationOutboxConfig.getMaxAttempts(), clock);
+  }
+}
@@ -0,0 +1,119 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.datasource.ReadAfterWriteTracker;
+import com.saiko.bidmarket.common.datasource.ReplicaDataSources;
+import com.saiko.bidmarket.common.datasource.ReplicaLagMonitor;
+import com.saiko.bidmarket.common.datasource.ReplicaSelector;
+import com.saiko.bidmarket.common.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * datasource.routing.enabled 가 true 일 때 기본 DataSource 를 primary/복제본 라우팅 DataSource 로 바꾼다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+  private static final String REPLICA_PREFIX = "replica-";
+
+  @Bean
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties
+        .initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+  }
+
+  @Bean
+  public ReplicaDataSources replicaDataSources(
+      DataSourceProperties properties,
+      DataSourceRoutingConfig routingConfig,
+      ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    List<DataSourceRoutingConfig.Replica> replicas = routingConfig.getReplicas();
+    Assert.notEmpty(replicas, "At least one replica must be configured when routing is enabled");
+
+    Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+    for (int i = 0; i < replicas.size(); i++) {
+      DataSourceRoutingConfig.Replica replica = replicas.get(i);
+      Assert.hasText(replica.getUrl(), "Replica url must be provided");
+
+      HikariDataSource dataSource = new HikariDataSource();
+      dataSource.setPoolName(REPLICA_PREFIX + i);
+      dataSource.setDriverClassName(properties.determineDriverClassName());
+      dataSource.setJdbcUrl(replica.getUrl());
+      dataSource.setUsername(replica.getUsername());
+      dataSource.setPassword(replica.getPassword());
+      dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+      dataSource.setReadOnly(true);
+      meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+      dataSources.put(REPLICA_PREFIX + i, dataSource);
+    }
+    return new ReplicaDataSources(dataSources);
+  }
+
+  @Bean
+  public ReplicaSelector replicaSelector(ReplicaDataSources replicaDataSources) {
+    return new ReplicaSelector(List.copyOf(replicaDataSources.asMap().keySet()));
+  }
+
+  @Bean
+  public ReadAfterWriteTracker readAfterWriteTracker(DataSourceRoutingConfig routingConfig) {
+    return new ReadAfterWriteTracker(routingConfig.getStickyDuration(), Clock.systemUTC());
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      ReplicaDataSources replicaDataSources,
+      ReplicaSelector replicaSelector,
+      ReadAfterWriteTracker readAfterWriteTracker,
+      DataSourceRoutingConfig routingConfig
+  ) {
+    return new ReplicaLagMonitor(replicaDataSources.asMap(), replicaSelector,
+                                 readAfterWriteTracker, routingConfig.getMaxLag());
+  }
+
+  @Bean
+  public ReplicationRoutingDataSource replicationRoutingDataSource(
+      HikariDataSource primaryDataSource,
+      ReplicaDataSources replicaDataSources,
+      ReplicaSelector replicaSelector,
+      ReadAfterWriteTracker readAfterWriteTracker
+  ) {
+    Map<Object, Object> targets = new HashMap<>(replicaDataSources.asMap());
+    targets.put(ReplicationRoutingDataSource.PRIMARY, primaryDataSource);
+
+    ReplicationRoutingDataSource routingDataSource =
+        new ReplicationRoutingDataSource(replicaSelector, readAfterWriteTracker);
+    routingDataSource.setTargetDataSources(targets);
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+    return routingDataSource;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+  }
+}
@@ -1,7 +1,10 @@
 package com.saiko.bidmarket.common.config;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -10,9 +13,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.saiko.bidmarket.chat.service.ChatRoomService;
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+import com.saiko.bidmarket.common.metrics.AuctionClosingMetrics;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.product.service.ProductService;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
@@ -23,20 +30,42 @@ public class ScheduledConfig {
 
   private final ProductService productService;
   private final ChatRoomService chatRoomService;
+  private final PartitionLeaseManager partitionLeaseManager;
+  private final AuctionClosingMetrics auctionClosingMetrics;
+  private final Clock clock;
 
   @Component
   public class Scheduler {
 
+    @Scheduled(fixedDelayString = "${scheduler.lease.heartbeat-interval:5000}")
+    public void renewLease() {
+      partitionLeaseManager.heartbeat();
+    }
+
     @Scheduled(cron = "0 * * * * *")
+    @Timed("scheduler.closing")
     @Transactional
     public void closeProduct() {
-      LocalDateTime now = LocalDateTime.now();
-      LocalDateTime nowTime = LocalDateTime.of(now.getYear(), now.getMonth(), now.getDayOfMonth(),
-                                             now.getHour(), now.getMinute());
+      PartitionAssignment assignment = partitionLeaseManager.ownedPartitions();
+      if (assignment.isEmpty()) {
+        return;
+      }
+
+      AuctionClosingMetrics.Run run = auctionClosingMetrics.startRun();
+
+      LocalDateTime nowTime = LocalDateTime
+          .now(clock)
+          .truncatedTo(ChronoUnit.MINUTES);
 
-      List<Product> productsInProgress = productService.findAllThatNeedToClose(nowTime);
+      List<Product> productsInProgress = productService.findAllThatNeedToClose(nowTime,
+                                                                               assignment);
+      run.overdue(productsInProgress
+                      .stream()
+                      .map(Product::getExpireAt)
+                      .collect(Collectors.toList()));
 
-      productsInProgress.forEach(productService::executeClosingProduct);
+      productsInProgress.forEach(product -> run.closed(
+          product.getExpireAt(), productService.executeClosingProduct(product)));
       productsInProgress.forEach(chatRoomService::create);
     }
   }
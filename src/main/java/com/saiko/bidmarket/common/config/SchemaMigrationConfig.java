@@ -0,0 +1,44 @@
+package com.saiko.bidmarket.common.config;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import com.saiko.bidmarket.common.migration.Migration;
+import com.saiko.bidmarket.common.migration.SchemaMigrator;
+
+/**
+ * migration.enabled 를 켜면 sql.init 대신 버전별 마이그레이션으로 스키마와 시드 데이터를 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "migration", name = "enabled", havingValue = "true")
+public class SchemaMigrationConfig {
+
+  @Bean
+  public SchemaMigrator schemaMigrator(
+      DataSource dataSource,
+      MigrationConfig migrationConfig,
+      ResourceLoader resourceLoader,
+      Clock clock
+  ) {
+    List<Migration> migrations = migrationConfig
+        .getVersions()
+        .stream()
+        .map(version -> new Migration(version.getVersion(), version.getDescription(), version
+            .getScripts()
+            .stream()
+            .map(resourceLoader::getResource)
+            .collect(Collectors.toList()), version.isOnline()))
+        .collect(Collectors.toList());
+    return new SchemaMigrator(dataSource, migrations, migrationConfig.getBaselineVersion(),
+                              migrationConfig.getLockTimeout(),
+                              migrationConfig.getOnlineLockWaitTimeout(), clock);
+  }
+}
@@ -0,0 +1,97 @@
+package com.saiko.bidmarket.common.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.saiko.bidmarket.common.shard.ReshardingCopier;
+import com.saiko.bidmarket.common.shard.ReshardingRunner;
+import com.saiko.bidmarket.common.shard.ShardDataSources;
+import com.saiko.bidmarket.common.shard.ShardedTableRepository;
+import com.saiko.bidmarket.common.shard.UserShardRouter;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ShardDataSourceConfig {
+
+  private static final String SHARD_PREFIX = "shard-";
+
+  private static final String SHARD_SCHEMA = "sql/shard/shard_schema.sql";
+
+  @Bean
+  public ShardDataSources shardDataSources(
+      DataSourceProperties properties,
+      ShardingConfig shardingConfig,
+      ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    List<ShardingConfig.Shard> shards = shardingConfig.getShards();
+
+    List<HikariDataSource> dataSources = new ArrayList<>();
+    for (int i = 0; i < shards.size(); i++) {
+      ShardingConfig.Shard shard = shards.get(i);
+      HikariDataSource dataSource = new HikariDataSource();
+      dataSource.setPoolName(SHARD_PREFIX + (i + 1));
+      dataSource.setDriverClassName(properties.determineDriverClassName());
+      dataSource.setJdbcUrl(shard.getUrl());
+      dataSource.setUsername(shard.getUsername());
+      dataSource.setPassword(shard.getPassword());
+      dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+      dataSource.addDataSourceProperty("rewriteBatchedStatements", true);
+      dataSource.addDataSourceProperty("useLocalSessionState", true);
+      meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+      DatabasePopulatorUtils.execute(
+          new ResourceDatabasePopulator(new ClassPathResource(SHARD_SCHEMA)), dataSource);
+      dataSources.add(dataSource);
+    }
+    return new ShardDataSources(dataSources);
+  }
+
+  /**
+   * 0번 샤드는 주 DataSource 라 JPA 트랜잭션과 같은 트랜잭션 매니저로 새 트랜잭션을 연다.
+   */
+  @Bean
+  public UserShardRouter userShardRouter(
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager,
+      ShardDataSources shardDataSources,
+      ShardingConfig shardingConfig
+  ) {
+    List<NamedParameterJdbcTemplate> shards = new ArrayList<>();
+    List<PlatformTransactionManager> transactionManagers = new ArrayList<>();
+    shards.add(new NamedParameterJdbcTemplate(dataSource));
+    transactionManagers.add(transactionManager);
+    shardDataSources
+        .asList()
+        .forEach(shard -> {
+          shards.add(new NamedParameterJdbcTemplate(shard));
+          transactionManagers.add(new DataSourceTransactionManager(shard));
+        });
+    return new UserShardRouter(shards, transactionManagers, shardingConfig.getScatterThreads());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "sharding.resharding", name = "enabled", havingValue = "true")
+  public ReshardingRunner reshardingRunner(
+      UserShardRouter userShardRouter,
+      List<ShardedTableRepository> repositories,
+      ShardingConfig shardingConfig
+  ) {
+    return new ReshardingRunner(new ReshardingCopier(userShardRouter), repositories,
+                                shardingConfig.getResharding());
+  }
+}
@@ -0,0 +1,163 @@
+package com.saiko.bidmarket.common.config;
+
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+/**
+ * 사용자 단위 테이블(heart, notification)을 나눠 담을 샤드 설정.
+ * 0번 샤드는 항상 기본 DataSource 이고, shards 에는 1번 샤드부터 순서대로 추가한다.
+ * 샤드는 뒤에 추가만 할 수 있으며 순서를 바꾸면 사용자의 데이터 위치가 달라진다.
+ */
+@ConfigurationProperties(prefix = "sharding")
+@ConstructorBinding
+public class ShardingConfig {
+
+  private final List<Shard> shards;
+
+  private final int scatterThreads;
+
+  private final Resharding resharding;
+
+  public ShardingConfig(
+      List<Shard> shards,
+      @DefaultValue("8") int scatterThreads,
+      Resharding resharding
+  ) {
+    Assert.isTrue(scatterThreads > 0, "Scatter threads must be positive");
+
+    this.shards = shards == null ? List.of() : List.copyOf(shards);
+    this.scatterThreads = scatterThreads;
+    this.resharding = resharding != null ? resharding : new Resharding(false, 0, 1000);
+  }
+
+  public List<Shard> getShards() {
+    return shards;
+  }
+
+  public int getScatterThreads() {
+    return scatterThreads;
+  }
+
+  public Resharding getResharding() {
+    return resharding;
+  }
+
+  public int getShardCount() {
+    return shards.size() + 1;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("shards", shards)
+        .append("scatterThreads", scatterThreads)
+        .append("resharding", resharding)
+        .build();
+  }
+
+  @ConstructorBinding
+  public static class Shard {
+
+    private final String url;
+
+    private final String username;
+
+    private final String password;
+
+    private final int maximumPoolSize;
+
+    public Shard(
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize
+    ) {
+      Assert.hasText(url, "Shard url must be provided");
+      Assert.isTrue(maximumPoolSize > 0, "Maximum pool size must be positive");
+
+      this.url = url;
+      this.username = username;
+      this.password = password;
+      this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public String getUrl() {
+      return url;
+    }
+
+    public String getUsername() {
+      return username;
+    }
+
+    public String getPassword() {
+      return password;
+    }
+
+    public int getMaximumPoolSize() {
+      return maximumPoolSize;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+          .append("url", url)
+          .append("username", username)
+          .append("maximumPoolSize", maximumPoolSize)
+          .build();
+    }
+  }
+
+  /**
+   * 샤드를 추가한 뒤 한 번 켜고 기동하면, 이전 샤드 수 기준으로 놓여 있던 행들을
+   * 새 샤드 배치에 맞는 곳으로 옮긴다.
+   */
+  @ConstructorBinding
+  public static class Resharding {
+
+    private final boolean enabled;
+
+    private final int previousShardCount;
+
+    private final int batchSize;
+
+    public Resharding(
+        boolean enabled,
+        int previousShardCount,
+        @DefaultValue("1000") int batchSize
+    ) {
+      Assert.isTrue(previousShardCount >= 0, "Previous shard count must not be negative");
+      Assert.isTrue(batchSize > 0, "Batch size must be positive");
+
+      this.enabled = enabled;
+      this.previousShardCount = previousShardCount;
+      this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public int getPreviousShardCount() {
+      return previousShardCount;
+    }
+
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+          .append("enabled", enabled)
+          .append("previousShardCount", previousShardCount)
+          .append("batchSize", batchSize)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.saiko.bidmarket.common.config;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+/**
+ * HTTP 요청과 STOMP 메시지 하나가 실행하는 SQL 의 예산.
+ * maxStatements 를 넘거나 같은 모양의 statement 가 repeatThreshold 번 이상 나가면 경고를 남긴다.
+ * Server-Timing 헤더는 local 과 test 프로필에서만 켠다.
+ */
+@ConfigurationProperties(prefix = "sql-budget")
+@ConstructorBinding
+public class SqlBudgetConfig {
+
+  private final boolean enabled;
+
+  private final int maxStatements;
+
+  private final int repeatThreshold;
+
+  private final boolean serverTiming;
+
+  public SqlBudgetConfig(
+      @DefaultValue("true") boolean enabled,
+      @DefaultValue("20") int maxStatements,
+      @DefaultValue("3") int repeatThreshold,
+      @DefaultValue("false") boolean serverTiming
+  ) {
+    Assert.isTrue(maxStatements > 0, "Max statements must be positive");
+    Assert.isTrue(repeatThreshold > 1, "Repeat threshold must be greater than 1");
+
+    this.enabled = enabled;
+    this.maxStatements = maxStatements;
+    this.repeatThreshold = repeatThreshold;
+    this.serverTiming = serverTiming;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public int getMaxStatements() {
+    return maxStatements;
+  }
+
+  public int getRepeatThreshold() {
+    return repeatThreshold;
+  }
+
+  public boolean isServerTiming() {
+    return serverTiming;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+        .append("enabled", enabled)
+        .append("maxStatements", maxStatements)
+        .append("repeatThreshold", repeatThreshold)
+        .append("serverTiming", serverTiming)
+        .build();
+  }
+}
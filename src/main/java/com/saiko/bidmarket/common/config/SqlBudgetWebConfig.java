@@ -0,0 +1,40 @@
+package com.saiko.bidmarket.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.saiko.bidmarket.common.sql.SqlStatementBudget;
+import com.saiko.bidmarket.common.sql.SqlStatementBudgetFilter;
+import com.saiko.bidmarket.common.sql.SqlStatementChannelInterceptor;
+
+/**
+ * SQL 기록은 hibernate 설정의 inspector 와 listener 가 하고,
+ * 여기서는 HTTP 요청과 STOMP 메시지 단위로 기록을 시작하고 끝내는 쪽을 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlBudgetWebConfig {
+
+  @Bean
+  public SqlStatementBudget sqlStatementBudget(SqlBudgetConfig sqlBudgetConfig) {
+    return new SqlStatementBudget(sqlBudgetConfig);
+  }
+
+  @Bean
+  public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(
+      SqlStatementBudget sqlStatementBudget) {
+    FilterRegistrationBean<SqlStatementBudgetFilter> registration = new FilterRegistrationBean<>(
+        new SqlStatementBudgetFilter(sqlStatementBudget));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  @Bean
+  public SqlStatementChannelInterceptor sqlStatementChannelInterceptor(
+      SqlStatementBudget sqlStatementBudget) {
+    return new SqlStatementChannelInterceptor(sqlStatementBudget);
+  }
+}
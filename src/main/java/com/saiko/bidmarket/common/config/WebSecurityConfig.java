@@ -136,6 +136,8 @@ public class WebSecurityConfig {
         .antMatchers(HttpMethod.GET, "/api/v1/biddings/products/{productId}").hasAnyRole("USER", "ADMIN")
         .antMatchers(HttpMethod.GET, "/api/v1/chatRooms").hasAnyRole("USER", "ADMIN")
         .antMatchers(HttpMethod.GET, "/api/v1/chatRooms/**").hasAnyRole("USER", "ADMIN")
+        .antMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+        .antMatchers("/actuator/**").hasRole("ADMIN")
         .anyRequest().permitAll()
         .and()
         .cors()
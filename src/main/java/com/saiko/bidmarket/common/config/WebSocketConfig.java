@@ -1,15 +1,26 @@
 package com.saiko.bidmarket.common.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import com.saiko.bidmarket.common.sql.SqlStatementChannelInterceptor;
+
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+  private final ObjectProvider<SqlStatementChannelInterceptor> sqlStatementChannelInterceptor;
+
+  public WebSocketConfig(
+      ObjectProvider<SqlStatementChannelInterceptor> sqlStatementChannelInterceptor) {
+    this.sqlStatementChannelInterceptor = sqlStatementChannelInterceptor;
+  }
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry.addEndpoint("/ws-stomp")
@@ -22,4 +33,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     registry.enableSimpleBroker("/chat", "error");
     registry.setApplicationDestinationPrefixes("/message");
   }
+
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    sqlStatementChannelInterceptor.ifAvailable(registration::interceptors);
+  }
 }
@@ -0,0 +1,351 @@
+package com.saiko.bidmarket.common.dataset;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.config.DatasetConfig;
+import com.saiko.bidmarket.notification.NotificationType;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.entity.Product;
+
+/**
+ * 규모와 seed 만으로 같은 데이터를 다시 만들어내는 합성 데이터 생성기.
+ * 모든 값은 (종류, index) 로 seed 를 나눈 난수에서 나오므로 행을 메모리에 쌓지 않고 테이블마다 다시 계산해 흘려보낸다.
+ * 입찰, 찜, 댓글이 몰리는 상품은 zipf 분포를 따른다. 한 상품의 입찰 수는 작성자를 뺀 사용자 수를 넘지 않으므로
+ * 사용자가 적으면 실제 입찰 행 수는 설정보다 적을 수 있다.
+ */
+public class DatasetGenerator {
+
+  public static final String USER = "user";
+
+  public static final String PRODUCT = "product";
+
+  public static final String IMAGE = "image";
+
+  public static final String BIDDING = "bidding";
+
+  public static final String COMMENT = "comment";
+
+  public static final String CHAT_ROOM = "chat_room";
+
+  public static final String CHAT_MESSAGE = "chat_message";
+
+  private static final long USER_GROUP_ID = 1L;
+
+  private static final long SECONDS_OF_DAY = 24 * 60 * 60L;
+
+  private static final int PRICE_UNIT = 100;
+
+  private static final Category[] CATEGORIES = Arrays
+      .stream(Category.values())
+      .filter(category -> category != Category.ALL)
+      .toArray(Category[]::new);
+
+  private static final String[] LOCATIONS = {"서울", "경기", "인천", "부산", "대구", "광주", "대전", null};
+
+  private static final String[] COMMENTS = {
+      "아직 판매 중인가요?", "상태 괜찮은가요?", "직거래 가능한가요?", "사용 기간이 궁금합니다.", "박스 포함인가요?"};
+
+  private static final String[] CHATS = {
+      "안녕하세요, 낙찰받았습니다.", "감사합니다! 언제 거래 가능하세요?", "내일 저녁 괜찮으세요?", "네 좋아요.", "도착하면 연락드릴게요."};
+
+  private static final long PRODUCT_SALT = 1;
+
+  private static final long HEART_SALT = 2;
+
+  private static final long COMMENT_SALT = 3;
+
+  private static final long USER_SALT = 4;
+
+  private static final long NOTIFICATION_SALT = 5;
+
+  private final DatasetConfig config;
+
+  private final LocalDateTime now;
+
+  private final SkewedIndex popularity;
+
+  private final long bidderStride;
+
+  public DatasetGenerator(DatasetConfig config, LocalDateTime now) {
+    Assert.notNull(config, "Config must be provided");
+    Assert.notNull(now, "Now must be provided");
+
+    this.config = config;
+    this.now = now;
+    this.popularity = new SkewedIndex(config.getProducts(), config.getSkew());
+    this.bidderStride = SkewedIndex.coprimeStride(config.getUsers() - 1L);
+  }
+
+  public ProductSpec product(int index) {
+    SplittableRandom random = random(PRODUCT_SALT, index);
+    LocalDateTime createdAt = now.minusSeconds(
+        random.nextLong(config.getHistoryDays() * SECONDS_OF_DAY));
+    LocalDateTime expireAt = createdAt.plusDays(Product.PROGRESSION_PERIOD_OF_BIDDING);
+
+    double expected = config.getBiddings() * popularity.weight(index);
+    long biddingCount = (long)expected + (random.nextDouble() < expected % 1 ? 1 : 0);
+
+    return ProductSpec
+        .builder()
+        .index(index)
+        .writerIndex(random.nextInt(config.getUsers()))
+        .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+        .minimumPrice((int)Math.round(10 * Math.pow(100, random.nextDouble())) * PRICE_UNIT)
+        .createdAt(createdAt)
+        .expireAt(expireAt)
+        .closed(!expireAt.isAfter(now))
+        .biddingCount((int)Math.min(biddingCount, config.getUsers() - 1L))
+        .priceStep(PRICE_UNIT * (1 + random.nextInt(10)))
+        .firstBidder(random.nextInt(config.getUsers() - 1))
+        .build();
+  }
+
+  /**
+   * order 번째 입찰자. 작성자를 뺀 사용자를 stride 로 건너뛰며 고르므로 한 상품 안에서 겹치지 않는다.
+   */
+  public int bidderIndex(ProductSpec product, int order) {
+    Assert.isTrue(order < product.getBiddingCount(), "Order must be less than bidding count");
+
+    int candidate = (int)((product.getFirstBidder() + order * bidderStride)
+                          % (config.getUsers() - 1));
+    return candidate >= product.getWriterIndex() ? candidate + 1 : candidate;
+  }
+
+  public int winnerIndex(ProductSpec product) {
+    Assert.isTrue(product.hasWinner(), "Product must have a winner");
+
+    return bidderIndex(product, product.getBiddingCount() - 1);
+  }
+
+  DatasetPlan plan() {
+    int products = config.getProducts();
+    long[] biddingOffsets = new long[products + 1];
+    int[] chatRoomOffsets = new int[products + 1];
+    for (int i = 0; i < products; i++) {
+      ProductSpec product = product(i);
+      biddingOffsets[i + 1] = biddingOffsets[i] + product.getBiddingCount();
+      chatRoomOffsets[i + 1] = chatRoomOffsets[i] + (product.hasWinner() ? 1 : 0);
+    }
+
+    Map<String, Long> rowCounts = new LinkedHashMap<>();
+    rowCounts.put(USER, (long)config.getUsers());
+    rowCounts.put(PRODUCT, (long)products);
+    rowCounts.put(IMAGE, (long)products);
+    rowCounts.put(BIDDING, biddingOffsets[products]);
+    rowCounts.put(COMMENT, config.getComments());
+    rowCounts.put(CHAT_ROOM, (long)chatRoomOffsets[products]);
+    rowCounts.put(CHAT_MESSAGE, (long)chatRoomOffsets[products] * config.getChatMessagesPerRoom());
+    return new DatasetPlan(biddingOffsets, chatRoomOffsets, rowCounts);
+  }
+
+  Stream<Object[]> users(DatasetIds ids) {
+    return IntStream
+        .range(0, config.getUsers())
+        .mapToObj(i -> {
+          long id = ids.of(USER, i);
+          Timestamp createdAt = timestamp(now.minusSeconds(
+              random(USER_SALT, i).nextLong(2 * config.getHistoryDays() * SECONDS_OF_DAY)));
+          return new Object[] {id, "user" + i, "google", "dataset-" + id,
+              "https://image.bidmarket.com/profile/" + i, USER_GROUP_ID, createdAt, createdAt};
+        });
+  }
+
+  Stream<Object[]> products(DatasetIds ids) {
+    return products().map(product -> {
+      Timestamp createdAt = timestamp(product.getCreatedAt());
+      return new Object[] {ids.of(PRODUCT, product.getIndex()), title(product),
+          product.getCategory().getDisplayName() + " 상품입니다.", product.getMinimumPrice(),
+          product.getCategory().name(), thumbnail(product),
+          LOCATIONS[product.getIndex() % LOCATIONS.length], !product.isClosed(),
+          product.hasWinner() ? product.topBiddingPrice() : null,
+          timestamp(product.getExpireAt()), createdAt, createdAt,
+          ids.of(USER, product.getWriterIndex())};
+    });
+  }
+
+  Stream<Object[]> images(DatasetIds ids) {
+    return products().map(product -> {
+      Timestamp createdAt = timestamp(product.getCreatedAt());
+      return new Object[] {ids.of(IMAGE, product.getIndex()), ids.of(PRODUCT, product.getIndex()),
+          thumbnail(product), 1, createdAt, createdAt};
+    });
+  }
+
+  /**
+   * 찜 수는 찜 행을 적재하면서 센 값을 받는다.
+   */
+  Stream<Object[]> productListings(DatasetIds ids, long[] heartCounts) {
+    Assert.isTrue(heartCounts.length == config.getProducts(), "Heart counts must cover products");
+
+    return products().map(product -> {
+      Timestamp createdAt = timestamp(product.getCreatedAt());
+      return new Object[] {ids.of(PRODUCT, product.getIndex()),
+          ids.of(USER, product.getWriterIndex()), title(product), thumbnail(product),
+          product.getMinimumPrice(), product.topBiddingPrice(), heartCounts[product.getIndex()],
+          product.getCategory().name(), !product.isClosed(), timestamp(product.getExpireAt()),
+          createdAt, createdAt};
+    });
+  }
+
+  Stream<Object[]> biddings(DatasetIds ids, DatasetPlan plan) {
+    return products().flatMap(product -> IntStream
+        .range(0, product.getBiddingCount())
+        .mapToObj(order -> {
+          Timestamp createdAt = timestamp(product.biddingAt(order, now));
+          boolean won = product.hasWinner() && order == product.getBiddingCount() - 1;
+          return new Object[] {ids.of(BIDDING, plan.biddingOffset(product.getIndex()) + order),
+              product.biddingPrice(order), won, createdAt, createdAt,
+              ids.of(USER, bidderIndex(product, order)), ids.of(PRODUCT, product.getIndex())};
+        }));
+  }
+
+  /**
+   * 사용자마다 고르게 나눈 수만큼 인기 상품 쪽으로 치우쳐 찜한다. 같은 상품을 두 번 찜하지 않는다.
+   */
+  Stream<Object[]> hearts(DatasetIds ids) {
+    int users = config.getUsers();
+    long base = config.getHearts() / users;
+    long remainder = config.getHearts() % users;
+    return IntStream
+        .range(0, users)
+        .boxed()
+        .flatMap(user -> {
+          SplittableRandom random = random(HEART_SALT, user);
+          int count = (int)(base + (user < remainder ? 1 : 0));
+          return heartedProducts(random, count)
+              .stream()
+              .map(productIndex -> {
+                ProductSpec product = product(productIndex);
+                Timestamp createdAt = timestamp(sinceCreated(product, random));
+                return new Object[] {ids.of(USER, user), ids.of(PRODUCT, productIndex),
+                    random.nextInt(10) != 0, createdAt, createdAt, product.getMinimumPrice(),
+                    timestamp(product.getExpireAt()), timestamp(product.getCreatedAt())};
+              });
+        });
+  }
+
+  Stream<Object[]> comments(DatasetIds ids) {
+    return LongStream
+        .range(0, config.getComments())
+        .mapToObj(i -> {
+          SplittableRandom random = random(COMMENT_SALT, i);
+          ProductSpec product = product(popularity.sample(random));
+          Timestamp createdAt = timestamp(sinceCreated(product, random));
+          return new Object[] {ids.of(COMMENT, i), COMMENTS[random.nextInt(COMMENTS.length)],
+              ids.of(PRODUCT, product.getIndex()),
+              ids.of(USER, random.nextInt(config.getUsers())), createdAt, createdAt};
+        });
+  }
+
+  Stream<Object[]> chatRooms(DatasetIds ids, DatasetPlan plan) {
+    return products()
+        .filter(ProductSpec::hasWinner)
+        .map(product -> {
+          Timestamp createdAt = timestamp(product.getExpireAt());
+          return new Object[] {ids.of(CHAT_ROOM, plan.chatRoomOffset(product.getIndex())),
+              ids.of(USER, product.getWriterIndex()), ids.of(USER, winnerIndex(product)),
+              ids.of(PRODUCT, product.getIndex()), createdAt, createdAt};
+        });
+  }
+
+  Stream<Object[]> chatMessages(DatasetIds ids, DatasetPlan plan) {
+    int perRoom = config.getChatMessagesPerRoom();
+    return products()
+        .filter(ProductSpec::hasWinner)
+        .flatMap(product -> {
+          int room = plan.chatRoomOffset(product.getIndex());
+          long[] members = {ids.of(USER, winnerIndex(product)),
+              ids.of(USER, product.getWriterIndex())};
+          return IntStream
+              .range(0, perRoom)
+              .mapToObj(order -> {
+                Timestamp createdAt = timestamp(product.getExpireAt().plusMinutes(order));
+                return new Object[] {ids.of(CHAT_MESSAGE, (long)room * perRoom + order),
+                    members[order % 2], ids.of(CHAT_ROOM, room), CHATS[order % CHATS.length],
+                    createdAt, createdAt};
+              });
+        });
+  }
+
+  /**
+   * 마감된 상품마다 ProductService 의 마감 처리가 보내는 것과 같은 알림을 만든다.
+   */
+  Stream<Object[]> notifications(DatasetIds ids) {
+    return products()
+        .filter(ProductSpec::isClosed)
+        .flatMap(product -> {
+          SplittableRandom random = random(NOTIFICATION_SALT, product.getIndex());
+          Timestamp createdAt = timestamp(product.getExpireAt());
+          long productId = ids.of(PRODUCT, product.getIndex());
+          NotificationType writerType = product.hasWinner()
+              ? NotificationType.END_PRODUCT_FOR_WRITER_WITH_WINNER
+              : NotificationType.END_PRODUCT_FOR_WRITER_NOT_WITH_WINNER;
+
+          Stream<Object[]> writer = Stream.<Object[]>of(new Object[] {writerType.name(), productId,
+              ids.of(USER, product.getWriterIndex()), random.nextBoolean(), createdAt, createdAt});
+          Stream<Object[]> bidders = IntStream
+              .range(0, product.getBiddingCount())
+              .mapToObj(order -> {
+                NotificationType type = order == product.getBiddingCount() - 1
+                    ? NotificationType.END_PRODUCT_FOR_WINNER
+                    : NotificationType.END_PRODUCT_FOR_BIDDER;
+                return new Object[] {type.name(), productId,
+                    ids.of(USER, bidderIndex(product, order)), random.nextBoolean(), createdAt,
+                    createdAt};
+              });
+          return Stream.concat(writer, bidders);
+        });
+  }
+
+  private Stream<ProductSpec> products() {
+    return IntStream
+        .range(0, config.getProducts())
+        .mapToObj(this::product);
+  }
+
+  private Set<Integer> heartedProducts(SplittableRandom random, int count) {
+    Set<Integer> products = new HashSet<>();
+    for (int attempt = 0; products.size() < count && attempt < count * 10; attempt++) {
+      products.add(popularity.sample(random));
+    }
+    for (int index = 0; products.size() < count; index++) {
+      products.add(index);
+    }
+    return products;
+  }
+
+  private LocalDateTime sinceCreated(ProductSpec product, SplittableRandom random) {
+    LocalDateTime end = product.isClosed() ? product.getExpireAt() : now;
+    long span = Duration.between(product.getCreatedAt(), end).getSeconds();
+    return product.getCreatedAt().plusSeconds(span > 0 ? random.nextLong(span) : 0);
+  }
+
+  private SplittableRandom random(long salt, long index) {
+    return new SplittableRandom(config.getSeed() ^ (salt << 56) ^ (index * 0x9E3779B97F4A7C15L));
+  }
+
+  private static String title(ProductSpec product) {
+    return product.getCategory().getDisplayName() + " 팝니다 " + product.getIndex();
+  }
+
+  private static String thumbnail(ProductSpec product) {
+    return "https://image.bidmarket.com/product/" + product.getIndex();
+  }
+
+  private static Timestamp timestamp(LocalDateTime dateTime) {
+    return Timestamp.valueOf(dateTime);
+  }
+}
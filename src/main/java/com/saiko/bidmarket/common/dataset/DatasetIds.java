@@ -0,0 +1,25 @@
+package com.saiko.bidmarket.common.dataset;
+
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * id_sequence 에서 확보한 테이블별 첫 id. n 번째 행의 id 는 첫 id + n 이다.
+ */
+class DatasetIds {
+
+  private final Map<String, Long> firstIds;
+
+  DatasetIds(Map<String, Long> firstIds) {
+    Assert.notNull(firstIds, "First ids must be provided");
+
+    this.firstIds = Map.copyOf(firstIds);
+  }
+
+  long of(String table, long index) {
+    Long first = firstIds.get(table);
+    Assert.state(first != null, () -> "No id reserved for " + table);
+    return first + index;
+  }
+}
@@ -0,0 +1,235 @@
+package com.saiko.bidmarket.common.dataset;
+
+import static com.saiko.bidmarket.common.dataset.DatasetGenerator.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.config.DatasetConfig;
+import com.saiko.bidmarket.common.shard.UserShardRouter;
+
+/**
+ * DatasetGenerator 가 만든 행을 batchSize 개씩 묶은 multi-row insert 로 적재한다.
+ * id 는 id_sequence 에서 테이블별로 한 번에 확보하므로 적재 뒤에도 애플리케이션의 id 생성과 겹치지 않는다.
+ * heart, notification 은 user_id 의 샤드로 나눠 넣는다.
+ */
+public class DatasetLoader {
+
+  private static final List<String> USER_COLUMNS = List.of(
+      "id", "username", "provider", "provider_id", "profile_image", "group_id", "created_at",
+      "updated_at");
+
+  private static final List<String> PRODUCT_COLUMNS = List.of(
+      "id", "title", "description", "minimum_price", "category", "thumbnail_image", "location",
+      "progressed", "winning_price", "expire_at", "created_at", "updated_at", "user_id");
+
+  private static final List<String> IMAGE_COLUMNS = List.of(
+      "id", "product_id", "url", "`order`", "created_at", "updated_at");
+
+  private static final List<String> PRODUCT_LISTING_COLUMNS = List.of(
+      "product_id", "writer_id", "title", "thumbnail_image", "minimum_price", "top_bid_price",
+      "heart_count", "category", "progressed", "expire_at", "created_at", "updated_at");
+
+  private static final List<String> BIDDING_COLUMNS = List.of(
+      "id", "bidding_price", "won", "created_at", "updated_at", "bidder_id", "product_id");
+
+  private static final List<String> HEART_COLUMNS = List.of(
+      "user_id", "product_id", "actived", "created_at", "updated_at", "product_minimum_price",
+      "product_expire_at", "product_created_at");
+
+  private static final List<String> COMMENT_COLUMNS = List.of(
+      "id", "content", "product_id", "user_id", "created_at", "updated_at");
+
+  private static final List<String> CHAT_ROOM_COLUMNS = List.of(
+      "id", "seller_id", "winner_id", "product_id", "created_at", "updated_at");
+
+  private static final List<String> CHAT_MESSAGE_COLUMNS = List.of(
+      "id", "sender_id", "chat_room_id", "message", "created_at", "updated_at");
+
+  private static final List<String> NOTIFICATION_COLUMNS = List.of(
+      "type", "product_id", "user_id", "checked", "created_at", "updated_at");
+
+  private static final int HEART_USER_ID = 0;
+
+  private static final int HEART_PRODUCT_ID = 1;
+
+  private static final int HEART_ACTIVED = 2;
+
+  private static final int NOTIFICATION_USER_ID = 2;
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final UserShardRouter router;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final DatasetConfig config;
+
+  public DatasetLoader(
+      JdbcTemplate jdbcTemplate,
+      UserShardRouter router,
+      TransactionTemplate transactionTemplate,
+      DatasetConfig config
+  ) {
+    Assert.notNull(jdbcTemplate, "JdbcTemplate must be provided");
+    Assert.notNull(router, "Router must be provided");
+    Assert.notNull(transactionTemplate, "TransactionTemplate must be provided");
+    Assert.notNull(config, "Config must be provided");
+
+    this.jdbcTemplate = jdbcTemplate;
+    this.router = router;
+    this.transactionTemplate = transactionTemplate;
+    this.config = config;
+  }
+
+  public void load(LocalDateTime now) {
+    Assert.notNull(now, "Now must be provided");
+
+    log.info("Dataset loading started | {}", config);
+    DatasetGenerator generator = new DatasetGenerator(config, now);
+    DatasetPlan plan = generator.plan();
+    DatasetIds ids = reserve(plan.getRowCounts());
+
+    insert("`user`", USER_COLUMNS, generator.users(ids));
+    insert(PRODUCT, PRODUCT_COLUMNS, generator.products(ids));
+    insert(IMAGE, IMAGE_COLUMNS, generator.images(ids));
+    insert(BIDDING, BIDDING_COLUMNS, generator.biddings(ids, plan));
+
+    long[] heartCounts = new long[config.getProducts()];
+    long firstProductId = ids.of(PRODUCT, 0);
+    insertByUser("heart", HEART_COLUMNS, HEART_USER_ID, generator
+        .hearts(ids)
+        .peek(row -> {
+          if (Boolean.TRUE.equals(row[HEART_ACTIVED])) {
+            heartCounts[(int)((long)row[HEART_PRODUCT_ID] - firstProductId)]++;
+          }
+        }));
+    insert("product_listing", PRODUCT_LISTING_COLUMNS,
+           generator.productListings(ids, heartCounts));
+
+    insert(COMMENT, COMMENT_COLUMNS, generator.comments(ids));
+    insert(CHAT_ROOM, CHAT_ROOM_COLUMNS, generator.chatRooms(ids, plan));
+    insert(CHAT_MESSAGE, CHAT_MESSAGE_COLUMNS, generator.chatMessages(ids, plan));
+    insertByUser("notification", NOTIFICATION_COLUMNS, NOTIFICATION_USER_ID,
+                 generator.notifications(ids));
+    log.info("Dataset loading finished");
+  }
+
+  /**
+   * 테이블마다 next_val 을 잠그고 만들 행 수만큼 한 번에 올려 그 구간을 이번 적재의 id 로 쓴다.
+   */
+  private DatasetIds reserve(Map<String, Long> rowCounts) {
+    return transactionTemplate.execute(status -> {
+      Map<String, Long> firstIds = new LinkedHashMap<>();
+      rowCounts.forEach((table, count) -> {
+        Long first = jdbcTemplate.queryForObject(
+            "select next_val from id_sequence where sequence_name = ? for update", Long.class,
+            table);
+        jdbcTemplate.update("update id_sequence set next_val = ? where sequence_name = ?",
+                            first + count, table);
+        firstIds.put(table, first);
+      });
+      return new DatasetIds(firstIds);
+    });
+  }
+
+  private void insert(
+      String table,
+      List<String> columns,
+      Stream<Object[]> rows
+  ) {
+    long startMillis = System.currentTimeMillis();
+    Batch batch = new Batch(jdbcTemplate, table, columns);
+    rows.forEach(batch::add);
+    batch.flush();
+    log.info("Dataset loaded | table : {}, rows : {}, elapsed : {}ms", table, batch.getRows(),
+             System.currentTimeMillis() - startMillis);
+  }
+
+  private void insertByUser(
+      String table,
+      List<String> columns,
+      int userIdColumn,
+      Stream<Object[]> rows
+  ) {
+    long startMillis = System.currentTimeMillis();
+    List<Batch> batches = new ArrayList<>();
+    for (int shard = 0; shard < router.getShardCount(); shard++) {
+      batches.add(new Batch(router.shard(shard).getJdbcTemplate(), table, columns));
+    }
+    rows.forEach(row -> batches
+        .get(router.shardOf((long)row[userIdColumn]))
+        .add(row));
+    batches.forEach(Batch::flush);
+    log.info("Dataset loaded | table : {}, rows : {}, elapsed : {}ms", table,
+             batches.stream().mapToLong(Batch::getRows).sum(),
+             System.currentTimeMillis() - startMillis);
+  }
+
+  private class Batch {
+
+    private final JdbcTemplate target;
+
+    private final String prefix;
+
+    private final String tuple;
+
+    private final String fullSql;
+
+    private final List<Object> args;
+
+    private int pending;
+
+    private long rows;
+
+    private Batch(JdbcTemplate target, String table, List<String> columns) {
+      this.target = target;
+      this.prefix = "insert into " + table + " (" + String.join(", ", columns) + ") values ";
+      this.tuple = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+      this.fullSql = sql(config.getBatchSize());
+      this.args = new ArrayList<>(config.getBatchSize() * columns.size());
+    }
+
+    private void add(Object[] row) {
+      Collections.addAll(args, row);
+      if (++pending == config.getBatchSize()) {
+        flush();
+      }
+    }
+
+    private void flush() {
+      if (pending == 0) {
+        return;
+      }
+      target.update(pending == config.getBatchSize() ? fullSql : sql(pending), args.toArray());
+      rows += pending;
+      pending = 0;
+      args.clear();
+    }
+
+    private long getRows() {
+      return rows;
+    }
+
+    private String sql(int tuples) {
+      return prefix + Collections
+          .nCopies(tuples, tuple)
+          .stream()
+          .collect(Collectors.joining(", "));
+    }
+  }
+}
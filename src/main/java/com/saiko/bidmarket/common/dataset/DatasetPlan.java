@@ -0,0 +1,37 @@
+package com.saiko.bidmarket.common.dataset;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품별 입찰과 채팅방이 몇 번째 행부터 시작하는지. 행을 만들기 전에 id 를 한꺼번에 확보하는 데 쓴다.
+ */
+class DatasetPlan {
+
+  private final long[] biddingOffsets;
+
+  private final int[] chatRoomOffsets;
+
+  private final Map<String, Long> rowCounts;
+
+  DatasetPlan(long[] biddingOffsets, int[] chatRoomOffsets, Map<String, Long> rowCounts) {
+    this.biddingOffsets = biddingOffsets;
+    this.chatRoomOffsets = chatRoomOffsets;
+    this.rowCounts = new LinkedHashMap<>(rowCounts);
+  }
+
+  long biddingOffset(int productIndex) {
+    return biddingOffsets[productIndex];
+  }
+
+  int chatRoomOffset(int productIndex) {
+    return chatRoomOffsets[productIndex];
+  }
+
+  /**
+   * id_sequence 를 쓰는 테이블별로 만들어질 행 수.
+   */
+  Map<String, Long> getRowCounts() {
+    return rowCounts;
+  }
+}
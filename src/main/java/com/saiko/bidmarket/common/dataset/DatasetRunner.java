@@ -0,0 +1,20 @@
+package com.saiko.bidmarket.common.dataset;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+public class DatasetRunner implements ApplicationRunner {
+
+  private final DatasetLoader loader;
+
+  public DatasetRunner(DatasetLoader loader) {
+    this.loader = loader;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    loader.load(LocalDateTime.now());
+  }
+}
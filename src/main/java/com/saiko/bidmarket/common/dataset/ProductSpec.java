@@ -0,0 +1,64 @@
+package com.saiko.bidmarket.common.dataset;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.saiko.bidmarket.product.Category;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 합성 상품 하나와 그 상품에 들어갈 입찰의 모양. 입찰 행은 이 값으로부터 다시 계산된다.
+ * 입찰자는 상품마다 겹치지 않으며 금액은 입찰 순서대로 priceStep 씩 오르므로 마지막 입찰자가 낙찰자다.
+ */
+@Getter
+@Builder(access = AccessLevel.PACKAGE)
+public class ProductSpec {
+
+  private final int index;
+
+  private final int writerIndex;
+
+  private final Category category;
+
+  private final int minimumPrice;
+
+  private final LocalDateTime createdAt;
+
+  private final LocalDateTime expireAt;
+
+  private final boolean closed;
+
+  private final int biddingCount;
+
+  private final int priceStep;
+
+  private final int firstBidder;
+
+  public boolean hasBidding() {
+    return biddingCount > 0;
+  }
+
+  public boolean hasWinner() {
+    return closed && hasBidding();
+  }
+
+  public long biddingPrice(int order) {
+    return minimumPrice + (long)priceStep * (order + 1);
+  }
+
+  public Long topBiddingPrice() {
+    return hasBidding() ? biddingPrice(biddingCount - 1) : null;
+  }
+
+  /**
+   * order 번째 입찰이 들어온 시각. 마감된 상품은 마감 전, 진행 중인 상품은 now 전까지 고르게 퍼진다.
+   */
+  public LocalDateTime biddingAt(int order, LocalDateTime now) {
+    LocalDateTime end = closed ? expireAt : now;
+    long span = Duration.between(createdAt, end).getSeconds();
+    return createdAt.plusSeconds(span * (order + 1) / (biddingCount + 1));
+  }
+}
@@ -0,0 +1,75 @@
+package com.saiko.bidmarket.common.dataset;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * 0 부터 size - 1 까지의 index 를 zipf 분포에 가깝게 뽑는다.
+ * 인기 순위(rank)는 size 와 서로소인 stride 를 곱해 index 로 흩으므로 인기 상품이 id 순서로 몰리지 않는다.
+ */
+class SkewedIndex {
+
+  private static final long STRIDE = 1_000_003L;
+
+  private final int size;
+
+  private final double skew;
+
+  private final long stride;
+
+  private final long inverse;
+
+  private final double harmonic;
+
+  SkewedIndex(int size, double skew) {
+    Assert.isTrue(size > 0, "Size must be positive");
+    Assert.isTrue(skew > 0, "Skew must be positive");
+
+    this.size = size;
+    this.skew = skew;
+    this.stride = coprimeStride(size);
+    this.inverse = size == 1 ? 0 : BigInteger
+        .valueOf(stride)
+        .modInverse(BigInteger.valueOf(size))
+        .longValue();
+
+    double sum = 0;
+    for (int rank = 1; rank <= size; rank++) {
+      sum += Math.pow(rank, -skew);
+    }
+    this.harmonic = sum;
+  }
+
+  static long coprimeStride(long size) {
+    long stride = STRIDE;
+    while (BigInteger.valueOf(stride).gcd(BigInteger.valueOf(size)).intValue() != 1) {
+      stride += 2;
+    }
+    return stride;
+  }
+
+  int sample(SplittableRandom random) {
+    double u = random.nextDouble();
+    double rank = skew == 1.0
+        ? Math.pow(size + 1.0, u)
+        : Math.pow((Math.pow(size + 1.0, 1 - skew) - 1) * u + 1, 1 / (1 - skew));
+    return indexOf(Math.min(size, Math.max(1, (long)rank)));
+  }
+
+  /**
+   * 이 index 가 뽑힐 확률.
+   */
+  double weight(int index) {
+    return Math.pow(rankOf(index), -skew) / harmonic;
+  }
+
+  int indexOf(long rank) {
+    return (int)((rank - 1) * stride % size);
+  }
+
+  long rankOf(int index) {
+    return (long)index * inverse % size + 1;
+  }
+}
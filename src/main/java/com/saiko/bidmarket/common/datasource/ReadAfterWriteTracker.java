@@ -0,0 +1,46 @@
+package com.saiko.bidmarket.common.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * 사용자가 직접 쓴 데이터를 곧바로 다시 읽을 때 복제 지연 때문에 이전 값을 보지 않도록,
+ * 마지막 쓰기 커밋 이후 일정 시간 동안은 해당 사용자의 읽기를 primary 로 보낸다.
+ */
+public class ReadAfterWriteTracker {
+
+  private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+  private final Duration stickyDuration;
+
+  private final Clock clock;
+
+  public ReadAfterWriteTracker(Duration stickyDuration, Clock clock) {
+    Assert.notNull(stickyDuration, "Sticky duration must be provided");
+    Assert.notNull(clock, "Clock must be provided");
+
+    this.stickyDuration = stickyDuration;
+    this.clock = clock;
+  }
+
+  public void recordWrite(long userId) {
+    lastWrites.put(userId, clock.millis());
+  }
+
+  public boolean isSticky(long userId) {
+    Long writtenAt = lastWrites.get(userId);
+    if (writtenAt == null) {
+      return false;
+    }
+    return clock.millis() - writtenAt < stickyDuration.toMillis();
+  }
+
+  public void evictExpired() {
+    long threshold = clock.millis() - stickyDuration.toMillis();
+    lastWrites.values().removeIf(writtenAt -> writtenAt <= threshold);
+  }
+}
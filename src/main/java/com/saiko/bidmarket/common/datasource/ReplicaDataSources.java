@@ -0,0 +1,30 @@
+package com.saiko.bidmarket.common.datasource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 복제본 커넥션 풀 묶음. 빈으로 등록되어 컨텍스트가 닫힐 때 풀을 함께 닫는다.
+ */
+public class ReplicaDataSources implements AutoCloseable {
+
+  private final Map<String, HikariDataSource> dataSources;
+
+  public ReplicaDataSources(Map<String, HikariDataSource> dataSources) {
+    this.dataSources = Collections.unmodifiableMap(new LinkedHashMap<>(dataSources));
+  }
+
+  public Map<String, DataSource> asMap() {
+    return Collections.unmodifiableMap(dataSources);
+  }
+
+  @Override
+  public void close() {
+    dataSources.values().forEach(HikariDataSource::close);
+  }
+}
@@ -0,0 +1,90 @@
+package com.saiko.bidmarket.common.datasource;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.Assert;
+
+/**
+ * 주기적으로 각 복제본의 복제 지연을 확인해 허용치를 넘거나 복제가 멈춘 복제본을 격리한다.
+ * 지연이 다시 허용치 안으로 들어오면 격리를 푼다.
+ */
+public class ReplicaLagMonitor {
+
+  private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+
+  private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final Map<String, JdbcTemplate> replicas;
+
+  private final ReplicaSelector replicaSelector;
+
+  private final ReadAfterWriteTracker readAfterWriteTracker;
+
+  private final Duration maxLag;
+
+  public ReplicaLagMonitor(
+      Map<String, DataSource> replicas,
+      ReplicaSelector replicaSelector,
+      ReadAfterWriteTracker readAfterWriteTracker,
+      Duration maxLag
+  ) {
+    Assert.notEmpty(replicas, "Replicas must be provided");
+
+    this.replicas = new LinkedHashMap<>();
+    replicas.forEach((key, dataSource) -> this.replicas.put(key, new JdbcTemplate(dataSource)));
+    this.replicaSelector = replicaSelector;
+    this.readAfterWriteTracker = readAfterWriteTracker;
+    this.maxLag = maxLag;
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:1000}")
+  public void check() {
+    replicas.forEach(this::check);
+    readAfterWriteTracker.evictExpired();
+  }
+
+  private void check(String key, JdbcTemplate jdbcTemplate) {
+    boolean healthy;
+    try {
+      healthy = isWithinMaxLag(jdbcTemplate.queryForList(REPLICA_STATUS_QUERY));
+    } catch (RuntimeException e) {
+      log.warn("Replica lag check failed | replica : {}", key, e);
+      healthy = false;
+    }
+
+    boolean fenced = replicaSelector.isFenced(key);
+    if (healthy && fenced) {
+      replicaSelector.unfence(key);
+      log.info("Replica unfenced | replica : {}", key);
+    }
+    if (!healthy && !fenced) {
+      replicaSelector.fence(key);
+      log.warn("Replica fenced | replica : {}, maxLag : {}", key, maxLag);
+    }
+  }
+
+  private boolean isWithinMaxLag(List<Map<String, Object>> status) {
+    // 복제 설정이 없는 서버라면 primary 와 같은 데이터를 가진 것으로 본다
+    if (status.isEmpty()) {
+      return true;
+    }
+
+    Object lag = status.get(0).get(LAG_COLUMN);
+    // 복제 SQL 스레드가 멈추면 지연 값이 NULL 이 된다
+    if (lag == null) {
+      return false;
+    }
+    return ((Number)lag).longValue() <= maxLag.toSeconds();
+  }
+}
@@ -0,0 +1,56 @@
+package com.saiko.bidmarket.common.datasource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.Assert;
+
+/**
+ * 복제본들을 라운드로빈으로 고른다. 지연이 커서 격리된 복제본은 건너뛰고,
+ * 모두 격리되었다면 빈 값을 돌려줘 호출자가 primary 로 보내도록 한다.
+ */
+public class ReplicaSelector {
+
+  private final List<String> replicaKeys;
+
+  private final Set<String> fenced = ConcurrentHashMap.newKeySet();
+
+  private final AtomicInteger counter = new AtomicInteger();
+
+  public ReplicaSelector(List<String> replicaKeys) {
+    Assert.notEmpty(replicaKeys, "Replica keys must be provided");
+
+    this.replicaKeys = List.copyOf(replicaKeys);
+  }
+
+  public Optional<String> next() {
+    int size = replicaKeys.size();
+    int start = Math.floorMod(counter.getAndIncrement(), size);
+    for (int offset = 0; offset < size; offset++) {
+      String key = replicaKeys.get((start + offset) % size);
+      if (!fenced.contains(key)) {
+        return Optional.of(key);
+      }
+    }
+    return Optional.empty();
+  }
+
+  public void fence(String key) {
+    fenced.add(key);
+  }
+
+  public void unfence(String key) {
+    fenced.remove(key);
+  }
+
+  public boolean isFenced(String key) {
+    return fenced.contains(key);
+  }
+
+  public List<String> getReplicaKeys() {
+    return replicaKeys;
+  }
+}
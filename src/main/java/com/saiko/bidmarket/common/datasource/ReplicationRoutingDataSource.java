@@ -0,0 +1,74 @@
+package com.saiko.bidmarket.common.datasource;
+
+import java.util.Optional;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.saiko.bidmarket.common.jwt.JwtAuthentication;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 나머지는 primary 로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+  public static final String PRIMARY = "primary";
+
+  private final ReplicaSelector replicaSelector;
+
+  private final ReadAfterWriteTracker readAfterWriteTracker;
+
+  public ReplicationRoutingDataSource(
+      ReplicaSelector replicaSelector,
+      ReadAfterWriteTracker readAfterWriteTracker
+  ) {
+    this.replicaSelector = replicaSelector;
+    this.readAfterWriteTracker = readAfterWriteTracker;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    Optional<Long> userId = currentUserId();
+
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      userId.ifPresent(this::recordWriteAfterCommit);
+      return PRIMARY;
+    }
+
+    if (userId.isPresent() && readAfterWriteTracker.isSticky(userId.get())) {
+      return PRIMARY;
+    }
+
+    return replicaSelector
+        .next()
+        .orElse(PRIMARY);
+  }
+
+  private void recordWriteAfterCommit(long userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        readAfterWriteTracker.recordWrite(userId);
+      }
+    });
+  }
+
+  private Optional<Long> currentUserId() {
+    Authentication authentication = SecurityContextHolder
+        .getContext()
+        .getAuthentication();
+    if (authentication == null || !(authentication.getPrincipal() instanceof JwtAuthentication)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(((JwtAuthentication)authentication.getPrincipal()).getUserId());
+  }
+}
@@ -0,0 +1,27 @@
+package com.saiko.bidmarket.common.id;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * id 블록 확보 전용 커넥션 풀. 빈으로 등록되어 컨텍스트가 닫힐 때 풀을 함께 닫는다.
+ * 기본 DataSource 로 잡히지 않도록 DataSource 빈이 아닌 이 객체로 감싼다.
+ */
+public class IdGeneratorDataSource implements AutoCloseable {
+
+  private final HikariDataSource dataSource;
+
+  public IdGeneratorDataSource(HikariDataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  @Override
+  public void close() {
+    dataSource.close();
+  }
+}
@@ -0,0 +1,153 @@
+package com.saiko.bidmarket.common.id;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+import org.springframework.util.StringUtils;
+
+/**
+ * id_sequence 테이블에서 엔티티 테이블별로 id 를 INCREMENT_SIZE 만큼 미리 받아 쓰는 생성기.
+ * IDENTITY 와 달리 insert 전에 id 를 알 수 있어 Hibernate 의 JDBC batch insert 가 동작하고,
+ * 블록 확보는 행 잠금으로 이뤄지므로 여러 인스턴스가 함께 써도 id 가 겹치지 않는다.
+ * pooled-lo 를 사용하므로 next_val 은 다음에 나눠줄 블록의 시작 값이다.
+ * <p>
+ * 블록 확보는 요청 트랜잭션과 따로 커밋해야 해서 커넥션이 하나 더 필요하다.
+ * 같은 풀에서 받으면 커넥션을 쥔 요청들이 서로를 기다리다 풀이 고갈되므로,
+ * {@link #DATA_SOURCE} 로 전용 풀이 주어지면 그 풀에서 확보한다.
+ */
+public class PooledTableIdGenerator extends TableGenerator {
+
+  public static final String NAME = "pooled_table_id";
+
+  public static final String STRATEGY = "com.saiko.bidmarket.common.id.PooledTableIdGenerator";
+
+  public static final String DATA_SOURCE = "bidmarket.id_generator.data_source";
+
+  public static final int INCREMENT_SIZE = 50;
+
+  private DataSource dataSource;
+
+  @Override
+  public void configure(
+      Type type,
+      Properties params,
+      ServiceRegistry serviceRegistry
+  ) throws MappingException {
+    params.putIfAbsent(TABLE_PARAM, "id_sequence");
+    params.putIfAbsent(SEGMENT_COLUMN_PARAM, "sequence_name");
+    params.putIfAbsent(SEGMENT_LENGTH_PARAM, "64");
+    params.putIfAbsent(VALUE_COLUMN_PARAM, "next_val");
+    params.putIfAbsent(INCREMENT_PARAM, String.valueOf(INCREMENT_SIZE));
+    params.putIfAbsent(INITIAL_PARAM, "1");
+    params.putIfAbsent(OPT_PARAM, "pooled-lo");
+    super.configure(type, params, serviceRegistry);
+
+    Object configured = serviceRegistry
+        .getService(ConfigurationService.class)
+        .getSettings()
+        .get(DATA_SOURCE);
+    dataSource = configured instanceof DataSource ? (DataSource)configured : null;
+  }
+
+  @Override
+  protected String determineSegmentValue(Properties params) {
+    String segmentValue = params.getProperty(SEGMENT_VALUE_PARAM);
+    if (StringUtils.hasText(segmentValue)) {
+      return segmentValue;
+    }
+    return StringUtils.deleteAny(params.getProperty(PersistentIdentifierGenerator.TABLE), "`\"");
+  }
+
+  @Override
+  public Serializable generate(
+      SharedSessionContractImplementor session,
+      Object object
+  ) {
+    if (dataSource == null) {
+      return super.generate(session, object);
+    }
+
+    return getOptimizer().generate(new AccessCallback() {
+      @Override
+      public IntegralDataTypeHolder getNextValue() {
+        IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(
+            getIdentifierType().getReturnedClass());
+        value.initialize(reserveBlock());
+        return value;
+      }
+
+      @Override
+      public String getTenantIdentifier() {
+        return session.getTenantIdentifier();
+      }
+    });
+  }
+
+  private long reserveBlock() {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        long blockStart = reserveBlock(connection);
+        connection.commit();
+        return blockStart;
+      } catch (SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      }
+    } catch (SQLException e) {
+      throw new HibernateException("Could not reserve id block for " + getSegmentValue(), e);
+    }
+  }
+
+  private long reserveBlock(Connection connection) throws SQLException {
+    Long blockStart = selectForUpdate(connection);
+    if (blockStart == null) {
+      blockStart = (long)getInitialValue();
+      try (PreparedStatement insert = connection.prepareStatement(
+          "insert into " + getTableName() + " (" + getSegmentColumnName() + ", "
+              + getValueColumnName() + ") values (?, ?)")) {
+        insert.setString(1, getSegmentValue());
+        insert.setLong(2, blockStart + getIncrementSize());
+        insert.executeUpdate();
+      }
+      return blockStart;
+    }
+
+    try (PreparedStatement update = connection.prepareStatement(
+        "update " + getTableName() + " set " + getValueColumnName() + " = ? where "
+            + getSegmentColumnName() + " = ?")) {
+      update.setLong(1, blockStart + getIncrementSize());
+      update.setString(2, getSegmentValue());
+      update.executeUpdate();
+    }
+    return blockStart;
+  }
+
+  private Long selectForUpdate(Connection connection) throws SQLException {
+    try (PreparedStatement select = connection.prepareStatement(
+        "select " + getValueColumnName() + " from " + getTableName() + " where "
+            + getSegmentColumnName() + " = ? for update")) {
+      select.setString(1, getSegmentValue());
+      try (ResultSet resultSet = select.executeQuery()) {
+        return resultSet.next() ? resultSet.getLong(1) : null;
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.saiko.bidmarket.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * DefaultBiddingService.create 한 번. 예외로 끝나도 commit 되고 succeeded 가 false 로 남는다.
+ */
+@Name("com.saiko.bidmarket.BiddingCreate")
+@Label("Bidding Create")
+@Category({"Bidmarket", "Bidding"})
+public class BiddingCreateJfrEvent extends Event {
+
+  @Label("Product Id")
+  private long productId;
+
+  @Label("User Id")
+  private long userId;
+
+  @Label("Bidding Price")
+  private long biddingPrice;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+
+  private BiddingCreateJfrEvent() {
+  }
+
+  public static BiddingCreateJfrEvent start(long productId, long userId, long biddingPrice) {
+    BiddingCreateJfrEvent event = new BiddingCreateJfrEvent();
+    event.productId = productId;
+    event.userId = userId;
+    event.biddingPrice = biddingPrice;
+    event.begin();
+    return event;
+  }
+
+  public void succeeded() {
+    this.succeeded = true;
+  }
+}
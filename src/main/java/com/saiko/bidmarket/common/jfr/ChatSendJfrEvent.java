@@ -0,0 +1,39 @@
+package com.saiko.bidmarket.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * DefaultChatMessageService.create 한 번. STOMP 로 받은 메시지를 저장하는 구간이다.
+ */
+@Name("com.saiko.bidmarket.ChatSend")
+@Label("Chat Send")
+@Category({"Bidmarket", "Chat"})
+public class ChatSendJfrEvent extends Event {
+
+  @Label("Room Id")
+  private long roomId;
+
+  @Label("User Id")
+  private long userId;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+
+  private ChatSendJfrEvent() {
+  }
+
+  public static ChatSendJfrEvent start(long roomId, long userId) {
+    ChatSendJfrEvent event = new ChatSendJfrEvent();
+    event.roomId = roomId;
+    event.userId = userId;
+    event.begin();
+    return event;
+  }
+
+  public void succeeded() {
+    this.succeeded = true;
+  }
+}
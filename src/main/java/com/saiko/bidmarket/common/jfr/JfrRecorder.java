@@ -0,0 +1,106 @@
+package com.saiko.bidmarket.common.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.config.JfrConfig;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * 애플리케이션 전체에서 하나만 돌리는 JFR 녹화.
+ * 녹화가 없을 때 비즈니스 이벤트의 begin, commit 은 아무 일도 하지 않는다.
+ */
+public class JfrRecorder {
+
+  static final String RECORDING_NAME = "bidmarket";
+
+  static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+      BiddingCreateJfrEvent.class,
+      ProductCloseJfrEvent.class,
+      ChatSendJfrEvent.class,
+      JwtVerifyJfrEvent.class
+  );
+
+  /**
+   * 환경 변수, 시스템 프로퍼티, JVM 인자를 그대로 남기는 이벤트들.
+   * DB_PASSWORD, JWT, OAuth 비밀 값이 덤프 파일로 새어 나가므로 설정 파일과 상관없이 끈다.
+   */
+  static final List<String> SENSITIVE_EVENT_NAMES = List.of(
+      "jdk.InitialEnvironmentVariable",
+      "jdk.InitialSystemProperty",
+      "jdk.JVMInformation"
+  );
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final JfrConfig config;
+
+  private Recording recording;
+
+  public JfrRecorder(JfrConfig config) {
+    Assert.notNull(config, "Config must be provided");
+
+    this.config = config;
+  }
+
+  public synchronized JfrRecordingStatus start() throws IOException, ParseException {
+    if (isRunning()) {
+      return status();
+    }
+
+    Recording newRecording = new Recording(Configuration.getConfiguration(config.getSettings()));
+    newRecording.setName(RECORDING_NAME);
+    newRecording.setToDisk(true);
+    newRecording.setMaxAge(config.getMaxAge());
+    newRecording.setMaxSize(config.getMaxSize().toBytes());
+    EVENT_TYPES.forEach(newRecording::enable);
+    SENSITIVE_EVENT_NAMES.forEach(newRecording::disable);
+    newRecording.start();
+
+    recording = newRecording;
+    log.info("JFR recording started | {}", config);
+    return status();
+  }
+
+  /**
+   * 녹화를 멈추지 않고 지금까지의 내용을 임시 파일로 쓴다. 파일은 호출한 쪽이 지운다.
+   */
+  public synchronized Path dump() throws IOException {
+    Assert.state(isRunning(), "Recording is not running");
+
+    Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+    recording.dump(file);
+    return file;
+  }
+
+  public synchronized JfrRecordingStatus stop() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+      log.info("JFR recording stopped");
+    }
+    return status();
+  }
+
+  public synchronized JfrRecordingStatus status() {
+    if (recording == null) {
+      return JfrRecordingStatus.notRunning();
+    }
+    return JfrRecordingStatus.of(recording);
+  }
+
+  public synchronized boolean isRunning() {
+    return recording != null && recording.getState() == RecordingState.RUNNING;
+  }
+}
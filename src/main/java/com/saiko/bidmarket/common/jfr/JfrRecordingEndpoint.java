@@ -0,0 +1,80 @@
+package com.saiko.bidmarket.common.jfr;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * management 포트의 /actuator/jfr.
+ * POST 는 녹화를 시작하고, GET 은 녹화를 멈추지 않은 채 지금까지의 내용을 .jfr 파일로 내려주고, DELETE 는 녹화를 끝낸다.
+ */
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+  private final JfrRecorder recorder;
+
+  public JfrRecordingEndpoint(JfrRecorder recorder) {
+    Assert.notNull(recorder, "Recorder must be provided");
+
+    this.recorder = recorder;
+  }
+
+  @WriteOperation
+  public JfrRecordingStatus start() throws IOException, ParseException {
+    return recorder.start();
+  }
+
+  @ReadOperation(produces = "application/octet-stream")
+  public WebEndpointResponse<Resource> dump() throws IOException {
+    if (!recorder.isRunning()) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    return new WebEndpointResponse<>(new TemporaryFileResource(recorder.dump()));
+  }
+
+  @DeleteOperation
+  public JfrRecordingStatus stop() {
+    return recorder.stop();
+  }
+
+  /**
+   * 응답을 다 쓰고 스트림이 닫히면 덤프 파일을 지운다.
+   */
+  static class TemporaryFileResource extends FileSystemResource {
+
+    TemporaryFileResource(Path file) {
+      super(file);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return new FilterInputStream(super.getInputStream()) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            Files.deleteIfExists(getFile().toPath());
+          }
+        }
+      };
+    }
+
+    @Override
+    public boolean isFile() {
+      return false;
+    }
+  }
+}
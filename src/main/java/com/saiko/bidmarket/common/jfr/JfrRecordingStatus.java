@@ -0,0 +1,42 @@
+package com.saiko.bidmarket.common.jfr;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class JfrRecordingStatus {
+  private final boolean running;
+  private final String name;
+  private final String state;
+  private final Instant startTime;
+  private final Duration maxAge;
+  private final long maxSize;
+  private final long size;
+
+  public static JfrRecordingStatus notRunning() {
+    return JfrRecordingStatus
+        .builder()
+        .running(false)
+        .build();
+  }
+
+  public static JfrRecordingStatus of(Recording recording) {
+    return JfrRecordingStatus
+        .builder()
+        .running(recording.getState() == RecordingState.RUNNING)
+        .name(recording.getName())
+        .state(recording.getState().name())
+        .startTime(recording.getStartTime())
+        .maxAge(recording.getMaxAge())
+        .maxSize(recording.getMaxSize())
+        .size(recording.getSize())
+        .build();
+  }
+}
@@ -0,0 +1,31 @@
+package com.saiko.bidmarket.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Jwt.verify 한 번. 서명 검증에 실패하면 succeeded 가 false 로 남는다.
+ */
+@Name("com.saiko.bidmarket.JwtVerify")
+@Label("JWT Verify")
+@Category({"Bidmarket", "Security"})
+public class JwtVerifyJfrEvent extends Event {
+
+  @Label("Succeeded")
+  private boolean succeeded;
+
+  private JwtVerifyJfrEvent() {
+  }
+
+  public static JwtVerifyJfrEvent start() {
+    JwtVerifyJfrEvent event = new JwtVerifyJfrEvent();
+    event.begin();
+    return event;
+  }
+
+  public void succeeded() {
+    this.succeeded = true;
+  }
+}
@@ -0,0 +1,39 @@
+package com.saiko.bidmarket.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * DefaultProductService.executeClosingProduct 한 번. 낙찰 처리와 알림 이벤트 발행까지 포함한다.
+ */
+@Name("com.saiko.bidmarket.ProductClose")
+@Label("Product Close")
+@Category({"Bidmarket", "Product"})
+public class ProductCloseJfrEvent extends Event {
+
+  @Label("Product Id")
+  private long productId;
+
+  @Label("Has Winner")
+  private boolean hasWinner;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+
+  private ProductCloseJfrEvent() {
+  }
+
+  public static ProductCloseJfrEvent start(long productId) {
+    ProductCloseJfrEvent event = new ProductCloseJfrEvent();
+    event.productId = productId;
+    event.begin();
+    return event;
+  }
+
+  public void closed(boolean hasWinner) {
+    this.hasWinner = hasWinner;
+    this.succeeded = true;
+  }
+}
@@ -14,6 +14,7 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.saiko.bidmarket.common.jfr.JwtVerifyJfrEvent;
 
 public class Jwt {
 
@@ -51,7 +52,14 @@ public class Jwt {
 
   public Claims verify(String token) throws JWTVerificationException {
 
-    return new Claims(jwtVerifier.verify(token));
+    JwtVerifyJfrEvent jfrEvent = JwtVerifyJfrEvent.start();
+    try {
+      Claims claims = new Claims(jwtVerifier.verify(token));
+      jfrEvent.succeeded();
+      return claims;
+    } finally {
+      jfrEvent.commit();
+    }
   }
 
   public String getIssuer() {
@@ -0,0 +1,56 @@
+package com.saiko.bidmarket.common.lease;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.util.Assert;
+
+public class PartitionAssignment {
+
+  private final int partitionCount;
+
+  private final Set<Integer> partitions;
+
+  private PartitionAssignment(int partitionCount, Collection<Integer> partitions) {
+    Assert.isTrue(partitionCount > 0, "Partition count must be positive");
+    Assert.notNull(partitions, "Partitions must be provided");
+
+    this.partitionCount = partitionCount;
+    this.partitions = Collections.unmodifiableSet(new TreeSet<>(partitions));
+  }
+
+  public static PartitionAssignment of(int partitionCount, Collection<Integer> partitions) {
+    return new PartitionAssignment(partitionCount, partitions);
+  }
+
+  public static PartitionAssignment empty(int partitionCount) {
+    return new PartitionAssignment(partitionCount, Collections.emptySet());
+  }
+
+  public static int partitionOf(long id, int partitionCount) {
+    return (int)Math.floorMod(id, (long)partitionCount);
+  }
+
+  public boolean contains(long id) {
+    return partitions.contains(partitionOf(id, partitionCount));
+  }
+
+  public boolean isEmpty() {
+    return partitions.isEmpty();
+  }
+
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
+  public Set<Integer> getPartitions() {
+    return partitions;
+  }
+
+  @Override
+  public String toString() {
+    return partitions + "/" + partitionCount;
+  }
+}
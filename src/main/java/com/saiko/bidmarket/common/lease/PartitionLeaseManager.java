@@ -0,0 +1,187 @@
+package com.saiko.bidmarket.common.lease;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.saiko.bidmarket.common.config.LeaseConfig;
+import com.saiko.bidmarket.common.lease.entity.Lease;
+import com.saiko.bidmarket.common.lease.repository.LeaseRepository;
+
+/**
+ * 경매 종료 작업을 상품 id 의 해시 파티션 단위로 노드들에게 나눠준다.
+ * 각 노드는 heartbeat 마다 자신의 멤버 lease 와 파티션 lease 를 갱신하고,
+ * 살아있는 노드 수 기준 공정 분배량을 넘는 파티션은 반납, 모자라면 만료된 파티션을 가져간다.
+ * 죽은 노드의 파티션은 ttl 이 지나면 다른 노드가 다음 heartbeat 에 인수한다.
+ * lease 의 만료 판정은 DB 시각으로만 하고, 노드 시계는 자신의 lease 가 유효한 남은 시간을 재는 데만 쓴다.
+ */
+@Component
+public class PartitionLeaseManager {
+
+  public static final String PARTITION_PREFIX = "close-product#";
+
+  public static final String MEMBER_PREFIX = "close-product@";
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final LeaseRepository leaseRepository;
+
+  private final LeaseConfig leaseConfig;
+
+  private volatile PartitionAssignment assignment;
+
+  private volatile LocalDateTime validUntil = LocalDateTime.MIN;
+
+  public PartitionLeaseManager(
+      LeaseRepository leaseRepository,
+      LeaseConfig leaseConfig
+  ) {
+    this.leaseRepository = leaseRepository;
+    this.leaseConfig = leaseConfig;
+    this.assignment = PartitionAssignment.empty(leaseConfig.getPartitionCount());
+  }
+
+  @Transactional
+  public void heartbeat() {
+    // lease 를 갱신하기 전에 잰 노드 시각이라야 DB 에 기록될 만료 시각보다 먼저 끝난다
+    LocalDateTime renewedUntil = LocalDateTime
+        .now()
+        .plus(leaseConfig.getTtl())
+        .minus(leaseConfig.getSafetyMargin());
+    String nodeId = leaseConfig.getNodeId();
+    long ttlMicros = toMicros(leaseConfig.getTtl());
+
+    registerMember(nodeId, ttlMicros);
+    LocalDateTime now = leaseRepository.currentTime();
+    Map<Integer, Lease> partitions = findPartitions(ttlMicros);
+    int fairShare = ceilDiv(leaseConfig.getPartitionCount(), countLiveMembers(now));
+
+    List<Integer> owned = partitions
+        .entrySet()
+        .stream()
+        .filter(entry -> entry.getValue().isOwnedBy(nodeId, now))
+        .map(Map.Entry::getKey)
+        .sorted()
+        .collect(Collectors.toList());
+
+    while (owned.size() > fairShare) {
+      int surplus = owned.remove(owned.size() - 1);
+      leaseRepository.release(partitionName(surplus), nodeId);
+    }
+
+    owned.removeIf(
+        partition -> leaseRepository.acquire(partitionName(partition), nodeId, ttlMicros) == 0);
+
+    for (int partition : freePartitions(partitions, now, nodeId)) {
+      if (owned.size() >= fairShare) {
+        break;
+      }
+      if (leaseRepository.acquire(partitionName(partition), nodeId, ttlMicros) == 1) {
+        owned.add(partition);
+      }
+    }
+
+    PartitionAssignment renewed = PartitionAssignment.of(leaseConfig.getPartitionCount(), owned);
+    if (!renewed.getPartitions().equals(assignment.getPartitions())) {
+      log.info("Partition lease changed | node : {}, partitions : {}", nodeId, renewed);
+    }
+    assignment = renewed;
+    validUntil = renewedUntil;
+  }
+
+  /**
+   * lease 가 안전 여유 시간 안쪽으로 유효할 때만 파티션을 돌려준다.
+   * heartbeat 가 밀려 lease 를 잃었을 수 있다면 빈 파티션을 돌려줘 중복 종료를 막는다.
+   */
+  public PartitionAssignment ownedPartitions() {
+    if (LocalDateTime.now().isAfter(validUntil)) {
+      return PartitionAssignment.empty(leaseConfig.getPartitionCount());
+    }
+    return assignment;
+  }
+
+  private void registerMember(
+      String nodeId,
+      long ttlMicros
+  ) {
+    String memberName = MEMBER_PREFIX + nodeId;
+    leaseRepository.createIfAbsent(memberName, ttlMicros);
+    leaseRepository.acquire(memberName, nodeId, ttlMicros);
+    leaseRepository.deleteAllExpired(MEMBER_PREFIX, ttlMicros * 4);
+  }
+
+  private Map<Integer, Lease> findPartitions(long ttlMicros) {
+    Map<Integer, Lease> partitions = findExistingPartitions();
+    if (partitions.size() < leaseConfig.getPartitionCount()) {
+      for (int partition = 0; partition < leaseConfig.getPartitionCount(); partition++) {
+        if (!partitions.containsKey(partition)) {
+          leaseRepository.createIfAbsent(partitionName(partition), ttlMicros);
+        }
+      }
+      partitions = findExistingPartitions();
+    }
+    return partitions;
+  }
+
+  private Map<Integer, Lease> findExistingPartitions() {
+    return leaseRepository
+        .findAllByNameStartingWith(PARTITION_PREFIX)
+        .stream()
+        .filter(lease -> partitionOf(lease) < leaseConfig.getPartitionCount())
+        .collect(Collectors.toMap(this::partitionOf, Function.identity()));
+  }
+
+  private long countLiveMembers(LocalDateTime now) {
+    return Math.max(1, leaseRepository
+        .findAllByNameStartingWith(MEMBER_PREFIX)
+        .stream()
+        .filter(lease -> !lease.isExpired(now))
+        .count());
+  }
+
+  private List<Integer> freePartitions(
+      Map<Integer, Lease> partitions,
+      LocalDateTime now,
+      String nodeId
+  ) {
+    // 노드마다 탐색 시작점을 달리해 동시에 같은 파티션을 두고 경합하지 않도록 한다
+    int start = Math.floorMod(nodeId.hashCode(), leaseConfig.getPartitionCount());
+
+    List<Integer> free = new ArrayList<>();
+    partitions.forEach((partition, lease) -> {
+      if (lease.isExpired(now)) {
+        free.add(partition);
+      }
+    });
+    free.sort(Comparator.comparingInt(
+        partition -> Math.floorMod(partition - start, leaseConfig.getPartitionCount())));
+    return free;
+  }
+
+  private static long toMicros(Duration duration) {
+    return TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
+  }
+
+  private int partitionOf(Lease lease) {
+    return Integer.parseInt(lease.getName().substring(PARTITION_PREFIX.length()));
+  }
+
+  private static String partitionName(int partition) {
+    return PARTITION_PREFIX + partition;
+  }
+
+  private static int ceilDiv(int dividend, long divisor) {
+    return (int)((dividend + divisor - 1) / divisor);
+  }
+}
@@ -0,0 +1,39 @@
+package com.saiko.bidmarket.common.lease.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.validation.constraints.NotNull;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Lease {
+
+  @Id
+  @Column(length = 64)
+  private String name;
+
+  @Column(length = 64)
+  private String owner;
+
+  @NotNull
+  private LocalDateTime expireAt;
+
+  public boolean isOwnedBy(
+      String owner,
+      LocalDateTime now
+  ) {
+    return owner.equals(this.owner) && expireAt.isAfter(now);
+  }
+
+  public boolean isExpired(LocalDateTime now) {
+    return expireAt.isBefore(now);
+  }
+}
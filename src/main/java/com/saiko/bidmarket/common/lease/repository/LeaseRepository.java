@@ -0,0 +1,53 @@
+package com.saiko.bidmarket.common.lease.repository;
+
+import static org.hibernate.jpa.QueryHints.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.saiko.bidmarket.common.lease.entity.Lease;
+
+/**
+ * 만료 시각은 모두 DB 의 now(6) 를 기준으로 계산해 노드 간 시계 차이가 lease 판정에 끼어들지 않게 한다.
+ * native 쿼리는 lease 테이블만 건드린다고 알려 heartbeat 마다 2차 캐시 전체가 비워지지 않게 한다.
+ */
+public interface LeaseRepository extends JpaRepository<Lease, String> {
+
+  @Query(value = "select now(6)", nativeQuery = true)
+  LocalDateTime currentTime();
+
+  List<Lease> findAllByNameStartingWith(String prefix);
+
+  @Modifying(clearAutomatically = true)
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "lease"))
+  @Query(value = "insert ignore into lease(name, owner, expire_at) "
+      + "values (:name, null, now(6) - interval :ttlMicros microsecond)", nativeQuery = true)
+  int createIfAbsent(String name, long ttlMicros);
+
+  @Modifying(clearAutomatically = true)
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "lease"))
+  @Query(value = "update lease set owner = :owner, "
+      + "expire_at = now(6) + interval :ttlMicros microsecond "
+      + "where name = :name and (owner = :owner or expire_at < now(6))", nativeQuery = true)
+  int acquire(String name, String owner, long ttlMicros);
+
+  // expire_at 은 밀리초로 반올림되므로 1ms 앞당겨야 바로 다음 acquire 에서 만료로 보인다
+  @Modifying(clearAutomatically = true)
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "lease"))
+  @Query(value = "update lease set expire_at = now(6) - interval 1000 microsecond "
+      + "where name = :name and owner = :owner", nativeQuery = true)
+  int release(String name, String owner);
+
+  @Modifying(clearAutomatically = true)
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "lease"))
+  @Query(value = "delete from lease where name like concat(:prefix, '%') "
+      + "and expire_at < now(6) - interval :graceMicros microsecond", nativeQuery = true)
+  int deleteAllExpired(String prefix, long graceMicros);
+}
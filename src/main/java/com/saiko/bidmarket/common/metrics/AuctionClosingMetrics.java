@@ -0,0 +1,155 @@
+package com.saiko.bidmarket.common.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 경매 마감 스케줄러 한 번의 실행을 잰다. "낙찰되었습니다" 알림 SLO 의 근거가 되는 값들이다.
+ * 마감은 커밋되어야 끝난 것이므로 지연, 마감 건수, 알림 건수는 커밋된 실행에서만 남긴다.
+ */
+public class AuctionClosingMetrics {
+
+  public static final String LAG = "auction.closing.lag";
+
+  public static final String PRODUCTS = "auction.closing.products";
+
+  public static final String NOTIFICATIONS = "auction.closing.notifications";
+
+  public static final String TRANSACTION = "auction.closing.transaction";
+
+  public static final String OLDEST_OVERDUE = "auction.closing.oldest.overdue";
+
+  public static final String LAST_SUCCESS = "auction.closing.last.success";
+
+  private final Clock clock;
+
+  private final Timer lag;
+
+  private final DistributionSummary products;
+
+  private final DistributionSummary notifications;
+
+  private final Timer committed;
+
+  private final Timer rolledBack;
+
+  private final AtomicLong oldestOverdueMillis = new AtomicLong();
+
+  private final AtomicLong lastSuccessEpochMillis = new AtomicLong();
+
+  public AuctionClosingMetrics(MeterRegistry meterRegistry, Clock clock) {
+    Assert.notNull(meterRegistry, "MeterRegistry must be provided");
+    Assert.notNull(clock, "Clock must be provided");
+
+    this.clock = clock;
+    this.lag = Timer
+        .builder(LAG)
+        .description("expireAt 부터 마감이 커밋될 때까지 걸린 시간")
+        .register(meterRegistry);
+    this.products = DistributionSummary
+        .builder(PRODUCTS)
+        .description("한 번의 실행에서 마감한 경매 수")
+        .baseUnit("products")
+        .register(meterRegistry);
+    this.notifications = DistributionSummary
+        .builder(NOTIFICATIONS)
+        .description("한 번의 실행에서 발행한 마감 알림 수")
+        .baseUnit("notifications")
+        .register(meterRegistry);
+    this.committed = transactionTimer(meterRegistry, "committed");
+    this.rolledBack = transactionTimer(meterRegistry, "rolled_back");
+    TimeGauge
+        .builder(OLDEST_OVERDUE, oldestOverdueMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+        .description("가장 최근 실행이 시작될 때 가장 오래 밀려 있던 경매의 expireAt 이후 경과 시간")
+        .register(meterRegistry);
+    TimeGauge
+        .builder(LAST_SUCCESS, lastSuccessEpochMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+        .description("마지막으로 커밋된 실행의 시각(epoch)")
+        .register(meterRegistry);
+  }
+
+  private static Timer transactionTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer
+        .builder(TRANSACTION)
+        .description("마감 트랜잭션의 시작부터 커밋 또는 롤백까지 걸린 시간")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 진행 중인 트랜잭션이 있으면 끝날 때 결과가 기록되도록 등록한다.
+   */
+  public Run startRun() {
+    Run run = new Run(clock.millis());
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(run);
+    }
+    return run;
+  }
+
+  private Duration since(LocalDateTime expireAt) {
+    Duration elapsed = Duration.between(expireAt, LocalDateTime.now(clock));
+    return elapsed.isNegative() ? Duration.ZERO : elapsed;
+  }
+
+  public class Run implements TransactionSynchronization {
+
+    private final long startMillis;
+
+    private final List<LocalDateTime> closedExpireAts = new ArrayList<>();
+
+    private int notificationCount;
+
+    private Run(long startMillis) {
+      this.startMillis = startMillis;
+    }
+
+    public void overdue(List<LocalDateTime> expireAts) {
+      Assert.notNull(expireAts, "ExpireAts must be provided");
+
+      oldestOverdueMillis.set(expireAts
+                                  .stream()
+                                  .min(LocalDateTime::compareTo)
+                                  .map(AuctionClosingMetrics.this::since)
+                                  .orElse(Duration.ZERO)
+                                  .toMillis());
+    }
+
+    public void closed(LocalDateTime expireAt, int notificationCount) {
+      Assert.notNull(expireAt, "ExpireAt must be provided");
+
+      closedExpireAts.add(expireAt);
+      this.notificationCount += notificationCount;
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      long endMillis = clock.millis();
+      Duration transaction = Duration.ofMillis(endMillis - startMillis);
+
+      if (status != STATUS_COMMITTED) {
+        rolledBack.record(transaction);
+        return;
+      }
+      committed.record(transaction);
+      closedExpireAts.forEach(expireAt -> lag.record(since(expireAt)));
+      products.record(closedExpireAts.size());
+      notifications.record(notificationCount);
+      lastSuccessEpochMillis.set(endMillis);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.saiko.bidmarket.common.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * QueryDSL 로 직접 작성한 *CustomRepositoryImpl 쿼리들의 실행 시간을 repository.query 타이머에 남긴다.
+ * Spring Data 가 만든 파생 쿼리는 대상이 아니다.
+ */
+@Aspect
+public class RepositoryQueryTimingAspect {
+
+  public static final String METRIC_NAME = "repository.query";
+
+  private static final String NONE = "none";
+
+  private final MeterRegistry meterRegistry;
+
+  public RepositoryQueryTimingAspect(MeterRegistry meterRegistry) {
+    Assert.notNull(meterRegistry, "MeterRegistry must be provided");
+
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(public * com.saiko.bidmarket..repository.*CustomRepositoryImpl.*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String exception = NONE;
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      exception = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      sample.stop(Timer
+                      .builder(METRIC_NAME)
+                      .tag("repository", ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName())
+                      .tag("method", joinPoint.getSignature().getName())
+                      .tag("exception", exception)
+                      .register(meterRegistry));
+    }
+  }
+}
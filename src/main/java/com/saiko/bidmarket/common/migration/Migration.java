@@ -0,0 +1,80 @@
+package com.saiko.bidmarket.common.migration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * 한 버전의 스크립트들. 체크섬은 줄바꿈을 맞춘 스크립트 내용으로 계산하므로
+ * 이미 적용된 스크립트를 고치면 다음 기동에서 드러난다.
+ */
+public class Migration {
+
+  private final int version;
+
+  private final String description;
+
+  private final boolean online;
+
+  private final List<String> statements;
+
+  private final long checksum;
+
+  public Migration(int version, String description, List<Resource> scripts, boolean online) {
+    Assert.isTrue(version > 0, "Version must be positive");
+    Assert.hasText(description, "Description must be provided");
+    Assert.notEmpty(scripts, "Scripts must be provided");
+
+    this.version = version;
+    this.description = description;
+    this.online = online;
+
+    List<String> statements = new ArrayList<>();
+    CRC32 crc32 = new CRC32();
+    for (Resource script : scripts) {
+      String content = read(script);
+      crc32.update(content.getBytes(StandardCharsets.UTF_8));
+      statements.addAll(SqlScript.split(content));
+    }
+    this.statements = Collections.unmodifiableList(statements);
+    this.checksum = crc32.getValue();
+  }
+
+  public int getVersion() {
+    return version;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public boolean isOnline() {
+    return online;
+  }
+
+  public List<String> getStatements() {
+    return statements;
+  }
+
+  public long getChecksum() {
+    return checksum;
+  }
+
+  private static String read(Resource script) {
+    try {
+      String content = new String(FileCopyUtils.copyToByteArray(script.getInputStream()),
+                                  StandardCharsets.UTF_8);
+      return content.replace("\r\n", "\n");
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read migration script " + script, e);
+    }
+  }
+}
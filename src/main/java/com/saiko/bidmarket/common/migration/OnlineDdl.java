@@ -0,0 +1,37 @@
+package com.saiko.bidmarket.common.migration;
+
+import java.util.regex.Pattern;
+
+/**
+ * MySQL 온라인 DDL 로 바꾼다. ALGORITHM=INPLACE, LOCK=NONE 을 붙이면 MySQL 은 테이블을 복사하거나
+ * 쓰기를 막아야 하는 변경을 조용히 잠금으로 실행하지 않고 바로 실패한다.
+ * 이미 ALGORITHM 이나 LOCK 을 적은 문장과 DDL 이 아닌 문장은 그대로 둔다.
+ */
+final class OnlineDdl {
+
+  private static final Pattern ALTER_TABLE =
+      Pattern.compile("^\\s*ALTER\\s+TABLE\\s", Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern CREATE_INDEX =
+      Pattern.compile("^\\s*CREATE\\s+(UNIQUE\\s+)?INDEX\\s", Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern EXPLICIT =
+      Pattern.compile("\\b(ALGORITHM|LOCK)\\s*=", Pattern.CASE_INSENSITIVE);
+
+  private OnlineDdl() {
+  }
+
+  static String rewrite(String statement) {
+    String trimmed = statement.strip();
+    if (EXPLICIT.matcher(trimmed).find()) {
+      return trimmed;
+    }
+    if (ALTER_TABLE.matcher(trimmed).find()) {
+      return trimmed + ", ALGORITHM=INPLACE, LOCK=NONE";
+    }
+    if (CREATE_INDEX.matcher(trimmed).find()) {
+      return trimmed + " ALGORITHM=INPLACE LOCK=NONE";
+    }
+    return trimmed;
+  }
+}
@@ -0,0 +1,288 @@
+package com.saiko.bidmarket.common.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.util.Assert;
+
+/**
+ * 기동할 때 아직 적용되지 않은 버전만 순서대로 실행하고 schema_version 에 기록한다.
+ * 적용된 버전은 체크섬만 비교하므로 스키마와 시드 데이터가 늘어도 기동 시간은 일정하다.
+ * MySQL 에서는 GET_LOCK 으로 여러 인스턴스가 동시에 기동해도 한 곳에서만 실행한다.
+ */
+public class SchemaMigrator implements InitializingBean {
+
+  static final String TABLE = "schema_version";
+
+  private static final String LOCK_NAME = "bidmarket_schema_migration";
+
+  private static final String MYSQL = "MySQL";
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final DataSource dataSource;
+
+  private final List<Migration> migrations;
+
+  private final int baselineVersion;
+
+  private final Duration lockTimeout;
+
+  private final Duration onlineLockWaitTimeout;
+
+  private final Clock clock;
+
+  public SchemaMigrator(
+      DataSource dataSource,
+      List<Migration> migrations,
+      int baselineVersion,
+      Duration lockTimeout,
+      Duration onlineLockWaitTimeout,
+      Clock clock
+  ) {
+    Assert.notNull(dataSource, "DataSource must be provided");
+    Assert.notNull(migrations, "Migrations must be provided");
+    Assert.isTrue(baselineVersion >= 0, "Baseline version must not be negative");
+    Assert.notNull(lockTimeout, "Lock timeout must be provided");
+    Assert.notNull(onlineLockWaitTimeout, "Online lock wait timeout must be provided");
+    Assert.notNull(clock, "Clock must be provided");
+
+    this.dataSource = dataSource;
+    this.migrations = migrations
+        .stream()
+        .sorted(Comparator.comparingInt(Migration::getVersion))
+        .collect(Collectors.toUnmodifiableList());
+    this.baselineVersion = baselineVersion;
+    this.lockTimeout = lockTimeout;
+    this.onlineLockWaitTimeout = onlineLockWaitTimeout;
+    this.clock = clock;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    migrate();
+  }
+
+  /**
+   * @return 이번에 실행한 버전 수
+   */
+  public int migrate() {
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      boolean mysql = MYSQL.equals(connection.getMetaData().getDatabaseProductName());
+      JdbcTemplate jdbcTemplate =
+          new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+      if (mysql) {
+        lock(jdbcTemplate);
+      }
+      try {
+        return migrate(connection, jdbcTemplate, mysql);
+      } finally {
+        if (mysql) {
+          jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+        }
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to read database metadata", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private int migrate(
+      Connection connection,
+      JdbcTemplate jdbcTemplate,
+      boolean mysql
+  ) throws SQLException {
+    boolean existingDatabase = hasTables(connection);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                             + "version int not null, "
+                             + "description varchar(200) not null, "
+                             + "checksum bigint not null, "
+                             + "installed_at timestamp not null, "
+                             + "execution_ms bigint not null, "
+                             + "success boolean not null, "
+                             + "CONSTRAINT PK_SCHEMA_VERSION PRIMARY KEY (version))");
+
+    Map<Integer, AppliedMigration> applied = findApplied(jdbcTemplate);
+    if (applied.isEmpty() && existingDatabase && baselineVersion > 0) {
+      baseline(jdbcTemplate);
+      applied = findApplied(jdbcTemplate);
+    }
+    int latest = validate(applied);
+
+    int current = latest;
+    int executed = 0;
+    for (Migration migration : migrations) {
+      if (applied.containsKey(migration.getVersion())) {
+        continue;
+      }
+      Assert.state(migration.getVersion() > latest,
+                   () -> "Migration V" + migration.getVersion()
+                       + " is older than the applied V" + latest);
+      execute(jdbcTemplate, migration, mysql);
+      current = migration.getVersion();
+      executed++;
+    }
+    log.info("Schema is up to date | version : {}, executed : {}", current, executed);
+    return executed;
+  }
+
+  private void lock(JdbcTemplate jdbcTemplate) {
+    Integer acquired = jdbcTemplate.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class,
+                                                   LOCK_NAME, lockTimeout.toSeconds());
+    Assert.state(Integer.valueOf(1).equals(acquired),
+                 () -> "Failed to acquire the migration lock in " + lockTimeout);
+  }
+
+  /**
+   * 이 기능 이전의 sql.init 으로 이미 만들어진 DB 는 baselineVersion 까지 실행하지 않고 기록만 한다.
+   */
+  private void baseline(JdbcTemplate jdbcTemplate) {
+    for (Migration migration : migrations) {
+      if (migration.getVersion() > baselineVersion) {
+        break;
+      }
+      record(jdbcTemplate, migration, 0, true);
+      log.info("Schema baselined | version : {}, description : {}", migration.getVersion(),
+               migration.getDescription());
+    }
+  }
+
+  /**
+   * @return 적용된 가장 높은 버전
+   */
+  private int validate(Map<Integer, AppliedMigration> applied) {
+    Map<Integer, Migration> known = migrations
+        .stream()
+        .collect(Collectors.toMap(Migration::getVersion, migration -> migration));
+    int latest = 0;
+    for (AppliedMigration migration : applied.values()) {
+      Assert.state(migration.success,
+                   () -> "Migration V" + migration.version + " failed at " + migration.installedAt
+                       + ". Repair the schema and delete the row from " + TABLE);
+      Migration script = known.get(migration.version);
+      if (script == null) {
+        log.warn("Applied migration is not known to this build | version : {}",
+                 migration.version);
+      } else {
+        Assert.state(script.getChecksum() == migration.checksum,
+                     () -> "Migration V" + migration.version
+                         + " was changed after it was applied");
+      }
+      latest = Math.max(latest, migration.version);
+    }
+    return latest;
+  }
+
+  private void execute(JdbcTemplate jdbcTemplate, Migration migration, boolean mysql) {
+    boolean online = migration.isOnline() && mysql;
+    long startMillis = System.currentTimeMillis();
+    Long previousLockWaitTimeout = null;
+    try {
+      if (online) {
+        previousLockWaitTimeout = jdbcTemplate.queryForObject(
+            "SELECT @@SESSION.lock_wait_timeout", Long.class);
+        jdbcTemplate.execute(
+            "SET SESSION lock_wait_timeout = " + onlineLockWaitTimeout.toSeconds());
+      }
+      for (String statement : migration.getStatements()) {
+        jdbcTemplate.execute(online ? OnlineDdl.rewrite(statement) : statement);
+      }
+    } catch (DataAccessException e) {
+      record(jdbcTemplate, migration, System.currentTimeMillis() - startMillis, false);
+      throw new IllegalStateException("Migration V" + migration.getVersion() + " failed", e);
+    } finally {
+      if (previousLockWaitTimeout != null) {
+        jdbcTemplate.execute("SET SESSION lock_wait_timeout = " + previousLockWaitTimeout);
+      }
+    }
+    long elapsed = System.currentTimeMillis() - startMillis;
+    record(jdbcTemplate, migration, elapsed, true);
+    log.info("Schema migrated | version : {}, description : {}, statements : {}, elapsed : {}ms",
+             migration.getVersion(), migration.getDescription(),
+             migration.getStatements().size(), elapsed);
+  }
+
+  private void record(
+      JdbcTemplate jdbcTemplate,
+      Migration migration,
+      long executionMillis,
+      boolean success
+  ) {
+    jdbcTemplate.update("INSERT INTO " + TABLE
+                            + " (version, description, checksum, installed_at, execution_ms, "
+                            + "success) VALUES (?, ?, ?, ?, ?, ?)",
+                        migration.getVersion(), migration.getDescription(),
+                        migration.getChecksum(), Timestamp.valueOf(LocalDateTime.now(clock)),
+                        executionMillis, success);
+  }
+
+  private Map<Integer, AppliedMigration> findApplied(JdbcTemplate jdbcTemplate) {
+    Map<Integer, AppliedMigration> applied = new LinkedHashMap<>();
+    jdbcTemplate
+        .query("SELECT version, checksum, installed_at, success FROM " + TABLE
+                   + " ORDER BY version",
+               (rs, rowNum) -> new AppliedMigration(
+                   rs.getInt("version"), rs.getLong("checksum"),
+                   rs.getTimestamp("installed_at").toLocalDateTime(), rs.getBoolean("success")))
+        .forEach(migration -> applied.put(migration.version, migration));
+    return applied;
+  }
+
+  private boolean hasTables(Connection connection) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(),
+                                               "%", null)) {
+      while (tables.next()) {
+        if (!TABLE.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static class AppliedMigration {
+
+    private final int version;
+
+    private final long checksum;
+
+    private final LocalDateTime installedAt;
+
+    private final boolean success;
+
+    private AppliedMigration(
+        int version,
+        long checksum,
+        LocalDateTime installedAt,
+        boolean success
+    ) {
+      this.version = version;
+      this.checksum = checksum;
+      this.installedAt = installedAt;
+      this.success = success;
+    }
+  }
+}
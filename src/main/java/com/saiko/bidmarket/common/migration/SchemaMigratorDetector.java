@@ -0,0 +1,16 @@
+package com.saiko.bidmarket.common.migration;
+
+import java.util.Set;
+
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+
+/**
+ * JPA, JdbcTemplate 처럼 DB 를 쓰는 빈이 SchemaMigrator 가 끝난 뒤에 만들어지도록 알려준다.
+ */
+public class SchemaMigratorDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+
+  @Override
+  protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+    return Set.of(SchemaMigrator.class);
+  }
+}
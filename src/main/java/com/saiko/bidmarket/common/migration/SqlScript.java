@@ -0,0 +1,74 @@
+package com.saiko.bidmarket.common.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마이그레이션 스크립트를 세미콜론 단위 문장으로 나눈다.
+ * 따옴표와 백틱 안의 세미콜론은 문장 끝으로 보지 않고, -- 와 블록 주석은 버린다.
+ */
+final class SqlScript {
+
+  private static final char SEPARATOR = ';';
+
+  private SqlScript() {
+  }
+
+  static List<String> split(String script) {
+    List<String> statements = new ArrayList<>();
+    StringBuilder statement = new StringBuilder();
+    char quote = 0;
+    int index = 0;
+    while (index < script.length()) {
+      char current = script.charAt(index);
+      if (quote != 0) {
+        statement.append(current);
+        if (current == '\\' && quote != '`' && index + 1 < script.length()) {
+          statement.append(script.charAt(++index));
+        } else if (current == quote) {
+          quote = 0;
+        }
+        index++;
+        continue;
+      }
+
+      if (script.startsWith("--", index)) {
+        int end = script.indexOf('\n', index);
+        index = end < 0 ? script.length() : end;
+        continue;
+      }
+      if (script.startsWith("/*", index)) {
+        int end = script.indexOf("*/", index + 2);
+        if (end < 0) {
+          throw new IllegalArgumentException("Unterminated block comment in migration script");
+        }
+        index = end + 2;
+        statement.append(' ');
+        continue;
+      }
+
+      if (current == SEPARATOR) {
+        add(statements, statement);
+        statement.setLength(0);
+      } else {
+        if (current == '\'' || current == '"' || current == '`') {
+          quote = current;
+        }
+        statement.append(current);
+      }
+      index++;
+    }
+    if (quote != 0) {
+      throw new IllegalArgumentException("Unterminated quote in migration script : " + quote);
+    }
+    add(statements, statement);
+    return statements;
+  }
+
+  private static void add(List<String> statements, StringBuilder statement) {
+    String trimmed = statement.toString().strip();
+    if (!trimmed.isEmpty()) {
+      statements.add(trimmed);
+    }
+  }
+}
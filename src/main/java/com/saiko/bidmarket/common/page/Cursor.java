@@ -0,0 +1,121 @@
+package com.saiko.bidmarket.common.page;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.springframework.util.Assert;
+
+/**
+ * 목록에서 마지막으로 준 항목의 정렬 키. 다음 페이지는 이 키 다음부터 읽으므로 앞쪽을 건너뛰는 offset 없이
+ * 페이지 크기만큼만 읽는다. 키 구성은 목록마다 다르고 정렬 키가 같을 때를 가르도록 마지막 키는 id 로 둔다.
+ * 클라이언트에는 해석할 필요 없는 문자열로 준다.
+ */
+public final class Cursor {
+
+  private static final byte VERSION = 1;
+
+  private static final String INVALID = "Invalid cursor";
+
+  private final long[] keys;
+
+  private Cursor(long[] keys) {
+    this.keys = keys;
+  }
+
+  public static Cursor of(long... keys) {
+    Assert.isTrue(keys != null && keys.length > 0, "Keys must be provided");
+
+    return new Cursor(keys.clone());
+  }
+
+  /**
+   * @return 첫 페이지 요청이라 token 이 비어 있으면 null
+   * @throws IllegalArgumentException 이 서버가 만든 cursor 가 아니거나 키 개수가 다르면
+   */
+  public static Cursor decode(
+      String token,
+      int size
+  ) {
+    if (token == null || token.isEmpty()) {
+      return null;
+    }
+
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(token);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(INVALID, e);
+    }
+    Assert.isTrue(bytes.length == 1 + size * Long.BYTES && bytes[0] == VERSION, INVALID);
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+    long[] keys = new long[size];
+    for (int i = 0; i < size; i++) {
+      keys[i] = buffer.getLong();
+    }
+    return new Cursor(keys);
+  }
+
+  /**
+   * 시각을 UTC 기준 epoch 나노초로 바꾼다. 2262년까지 표현한다.
+   */
+  public static long key(LocalDateTime dateTime) {
+    Assert.notNull(dateTime, "Date time must be provided");
+
+    return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L),
+                         dateTime.getNano());
+  }
+
+  public String encode() {
+    ByteBuffer buffer = ByteBuffer.allocate(1 + keys.length * Long.BYTES);
+    buffer.put(VERSION);
+    for (long key : keys) {
+      buffer.putLong(key);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  public int size() {
+    return keys.length;
+  }
+
+  public long getLong(int index) {
+    return keys[index];
+  }
+
+  public int getInt(int index) {
+    Assert.isTrue(keys[index] == (int)keys[index], INVALID);
+
+    return (int)keys[index];
+  }
+
+  public LocalDateTime getDateTime(int index) {
+    return LocalDateTime.ofEpochSecond(Math.floorDiv(keys[index], 1_000_000_000L),
+                                       (int)Math.floorMod(keys[index], 1_000_000_000L),
+                                       ZoneOffset.UTC);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(keys, ((Cursor)o).keys);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(keys);
+  }
+
+  @Override
+  public String toString() {
+    return "Cursor" + Arrays.toString(keys);
+  }
+}
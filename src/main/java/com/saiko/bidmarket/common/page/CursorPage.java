@@ -0,0 +1,73 @@
+package com.saiko.bidmarket.common.page;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+import lombok.Getter;
+
+/**
+ * cursor 로 읽은 한 페이지. 다음 페이지가 있으면 nextCursor 를 다음 요청에 그대로 넘긴다.
+ */
+@Getter
+public class CursorPage<T> {
+
+  private final List<T> items;
+
+  private final String nextCursor;
+
+  private final boolean hasNext;
+
+  private CursorPage(
+      List<T> items,
+      String nextCursor
+  ) {
+    this.items = List.copyOf(items);
+    this.nextCursor = nextCursor;
+    this.hasNext = nextCursor != null;
+  }
+
+  public static <T> CursorPage<T> empty() {
+    return new CursorPage<>(List.of(), null);
+  }
+
+  /**
+   * @param fetched 다음 페이지가 있는지 알 수 있도록 limit + 1 개까지 읽은 결과
+   */
+  public static <T> CursorPage<T> of(
+      List<T> fetched,
+      int limit,
+      Function<? super T, Cursor> cursorOf
+  ) {
+    Assert.notNull(fetched, "Fetched items must be provided");
+    Assert.isTrue(limit > 0, "Limit must be positive");
+
+    boolean hasNext = fetched.size() > limit;
+    return of(hasNext ? fetched.subList(0, limit) : fetched, hasNext, cursorOf);
+  }
+
+  public static <T> CursorPage<T> of(
+      List<T> items,
+      boolean hasNext,
+      Function<? super T, Cursor> cursorOf
+  ) {
+    Assert.notNull(items, "Items must be provided");
+    Assert.notNull(cursorOf, "Cursor function must be provided");
+
+    if (!hasNext || items.isEmpty()) {
+      return new CursorPage<>(items, null);
+    }
+    return new CursorPage<>(items, cursorOf.apply(items.get(items.size() - 1)).encode());
+  }
+
+  public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+    Assert.notNull(mapper, "Mapper must be provided");
+
+    return new CursorPage<>(items
+                                .stream()
+                                .map(mapper)
+                                .collect(Collectors.toList()), nextCursor);
+  }
+}
@@ -0,0 +1,57 @@
+package com.saiko.bidmarket.common.page;
+
+import org.springframework.util.Assert;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+
+/**
+ * (정렬 키, id) 순서로 cursor 다음 행을 고르는 조건과 정렬. id 는 정렬 키와 같은 방향으로 정렬해
+ * 정렬 키가 같은 행도 순서가 정해지고, (정렬 키, id) 인덱스를 범위로 탄다.
+ */
+public final class Keyset {
+
+  private Keyset() {
+  }
+
+  /**
+   * @return cursor 가 null 이면 null 이라 where 에서 빠진다
+   */
+  public static <T extends Comparable<?>> BooleanExpression after(
+      Order order,
+      Expression<T> key,
+      Expression<Long> id,
+      T cursorKey,
+      Long cursorId
+  ) {
+    Assert.notNull(order, "Order must be provided");
+    Assert.notNull(key, "Key must be provided");
+    Assert.notNull(id, "Id must be provided");
+
+    if (cursorKey == null || cursorId == null) {
+      return null;
+    }
+    Ops direction = order == Order.ASC ? Ops.GT : Ops.LT;
+    return Expressions
+        .booleanOperation(direction, key, Expressions.constant(cursorKey))
+        .or(Expressions
+                .booleanOperation(Ops.EQ, key, Expressions.constant(cursorKey))
+                .and(Expressions.booleanOperation(direction, id,
+                                                  Expressions.constant(cursorId))));
+  }
+
+  public static <T extends Comparable<?>> OrderSpecifier<?>[] orderBy(
+      Order order,
+      Expression<T> key,
+      Expression<Long> id
+  ) {
+    Assert.notNull(order, "Order must be provided");
+
+    return new OrderSpecifier<?>[] {new OrderSpecifier<>(order, key),
+                                    new OrderSpecifier<>(order, id)};
+  }
+}
@@ -0,0 +1,120 @@
+package com.saiko.bidmarket.common.page;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.Assert;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.saiko.bidmarket.common.Sort;
+
+/**
+ * {@link Sort} 로 정렬한 상품 목록의 cursor. 키는 (sort, 정렬 키, id) 이고 다른 정렬로 만든 cursor 는 받지 않는다.
+ * 정렬 키는 상품이나 상품 응답의 {@link Sort#getProperty()} 속성에서 읽는다.
+ */
+public final class SortCursor {
+
+  private static final int SIZE = 3;
+
+  private SortCursor() {
+  }
+
+  /**
+   * @return 첫 페이지 요청이면 null
+   */
+  public static Cursor decode(
+      String token,
+      Sort sort
+  ) {
+    Assert.notNull(sort, "Sort must be provided");
+
+    Cursor cursor = Cursor.decode(token, SIZE);
+    Assert.isTrue(cursor == null || cursor.getLong(0) == sort.ordinal(),
+                  "Cursor does not match the sort");
+    return cursor;
+  }
+
+  /**
+   * @param item 정렬 키 속성을 가진 상품이나 상품 응답
+   */
+  public static Cursor of(
+      Sort sort,
+      Object item,
+      long id
+  ) {
+    Assert.notNull(sort, "Sort must be provided");
+    Assert.notNull(item, "Item must be provided");
+
+    Object key = PropertyAccessorFactory
+        .forBeanPropertyAccess(item)
+        .getPropertyValue(sort.getProperty());
+    Assert.notNull(key, () -> "Sort key must not be null : " + sort.getProperty());
+    long encoded = key instanceof LocalDateTime
+        ? Cursor.key((LocalDateTime)key)
+        : ((Number)key).longValue();
+    return Cursor.of(sort.ordinal(), encoded, id);
+  }
+
+  /**
+   * @param parent 정렬 키 속성을 가진 상품 경로
+   * @return cursor 가 null 이면 null 이라 where 에서 빠진다
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public static BooleanExpression after(
+      Sort sort,
+      Path<?> parent,
+      Expression<Long> id,
+      Cursor cursor
+  ) {
+    if (cursor == null) {
+      return null;
+    }
+    return Keyset.after(sort.getOrder(), key(sort, parent), id, (Comparable)keyOf(sort, cursor),
+                        idOf(cursor));
+  }
+
+  /**
+   * SQL 로 keyset 조건을 직접 쓸 때 쓰는 정렬 키. 시각 정렬이면 LocalDateTime, 가격 정렬이면 Integer 다.
+   */
+  public static Comparable<?> keyOf(
+      Sort sort,
+      Cursor cursor
+  ) {
+    Assert.notNull(sort, "Sort must be provided");
+    Assert.notNull(cursor, "Cursor must be provided");
+
+    return isDateTime(sort) ? cursor.getDateTime(1) : cursor.getInt(1);
+  }
+
+  public static long idOf(Cursor cursor) {
+    Assert.notNull(cursor, "Cursor must be provided");
+
+    return cursor.getLong(2);
+  }
+
+  public static OrderSpecifier<?>[] orderBy(
+      Sort sort,
+      Path<?> parent,
+      Expression<Long> id
+  ) {
+    Assert.notNull(sort, "Sort must be provided");
+
+    return Keyset.orderBy(sort.getOrder(), key(sort, parent), id);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static Expression<Comparable> key(
+      Sort sort,
+      Path<?> parent
+  ) {
+    return Expressions.comparablePath(Comparable.class, parent, sort.getProperty());
+  }
+
+  private static boolean isDateTime(Sort sort) {
+    return sort != Sort.MINIMUM_PRICE_ASC && sort != Sort.MINIMUM_PRICE_DESC;
+  }
+}
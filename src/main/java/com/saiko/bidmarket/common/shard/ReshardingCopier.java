@@ -0,0 +1,105 @@
+package com.saiko.bidmarket.common.shard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
+
+/**
+ * 샤드를 추가한 뒤 이전 배치 기준으로 놓여 있던 행을 새 배치의 샤드로 옮긴다.
+ * id 순으로 batchSize 씩 읽어 대상 샤드에 복사한 뒤 원본에서 지운다.
+ * 샤드 간 트랜잭션이 없으므로 복사와 삭제 사이에 중단되면 마지막 배치가 중복될 수 있어,
+ * 쓰기를 멈춘 점검 시간에 실행하고 중단되었다면 로그의 마지막 id 를 확인한다.
+ */
+public class ReshardingCopier {
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final UserShardRouter router;
+
+  public ReshardingCopier(UserShardRouter router) {
+    this.router = router;
+  }
+
+  public long copy(
+      ShardedTable table,
+      int previousShardCount,
+      int batchSize
+  ) {
+    Assert.notNull(table, "Table must be provided");
+    Assert.isTrue(previousShardCount > 0, "Previous shard count must be positive");
+    Assert.isTrue(previousShardCount <= router.getShardCount(),
+                  "Shards can only be appended");
+    Assert.isTrue(batchSize > 0, "Batch size must be positive");
+
+    long moved = 0;
+    for (int source = 0; source < previousShardCount; source++) {
+      moved += copyFrom(table, source, batchSize);
+    }
+    return moved;
+  }
+
+  private long copyFrom(
+      ShardedTable table,
+      int source,
+      int batchSize
+  ) {
+    NamedParameterJdbcTemplate sourceShard = router.shard(source);
+    String select = String.format(
+        "select id, %s from %s where id > :lastId order by id limit :batchSize",
+        String.join(", ", table.getColumns()), table.getName());
+    String insert = String.format(
+        "insert into %s (%s) values (%s)", table.getName(),
+        String.join(", ", table.getColumns()),
+        table.getColumns().stream().map(column -> ":" + column).collect(Collectors.joining(", ")));
+    String delete = String.format("delete from %s where id in (:ids)", table.getName());
+
+    long moved = 0;
+    long lastId = 0;
+    while (true) {
+      List<Map<String, Object>> rows = sourceShard.queryForList(
+          select, new MapSqlParameterSource()
+              .addValue("lastId", lastId)
+              .addValue("batchSize", batchSize));
+      if (rows.isEmpty()) {
+        break;
+      }
+      lastId = ((Number)rows.get(rows.size() - 1).get("id")).longValue();
+
+      Map<Integer, List<Map<String, Object>>> byTarget = new HashMap<>();
+      for (Map<String, Object> row : rows) {
+        int target = router.shardOf(((Number)row.get("user_id")).longValue());
+        if (target != source) {
+          byTarget.computeIfAbsent(target, key -> new ArrayList<>()).add(row);
+        }
+      }
+      if (byTarget.isEmpty()) {
+        continue;
+      }
+
+      List<Object> movedIds = new ArrayList<>();
+      byTarget.forEach((target, targetRows) -> {
+        SqlParameterSource[] batch = targetRows
+            .stream()
+            .map(MapSqlParameterSource::new)
+            .toArray(SqlParameterSource[]::new);
+        router.shard(target).batchUpdate(insert, batch);
+        targetRows.forEach(row -> movedIds.add(row.get("id")));
+      });
+      sourceShard.update(delete, new MapSqlParameterSource("ids", movedIds));
+
+      moved += movedIds.size();
+      log.info("Resharding | table : {}, source : {}, lastId : {}, moved : {}", table.getName(),
+               source, lastId, moved);
+    }
+    return moved;
+  }
+}
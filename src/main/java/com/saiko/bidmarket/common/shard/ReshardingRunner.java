@@ -0,0 +1,41 @@
+package com.saiko.bidmarket.common.shard;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import com.saiko.bidmarket.common.config.ShardingConfig;
+
+public class ReshardingRunner implements ApplicationRunner {
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final ReshardingCopier copier;
+
+  private final List<ShardedTableRepository> repositories;
+
+  private final ShardingConfig.Resharding resharding;
+
+  public ReshardingRunner(
+      ReshardingCopier copier,
+      List<ShardedTableRepository> repositories,
+      ShardingConfig.Resharding resharding
+  ) {
+    this.copier = copier;
+    this.repositories = repositories;
+    this.resharding = resharding;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    for (ShardedTableRepository repository : repositories) {
+      ShardedTable table = repository.getShardedTable();
+      long moved = copier.copy(table, resharding.getPreviousShardCount(),
+                               resharding.getBatchSize());
+      log.info("Resharding finished | table : {}, moved : {}", table.getName(), moved);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.saiko.bidmarket.common.shard;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 1번 이후 샤드의 커넥션 풀 묶음. 빈으로 등록되어 컨텍스트가 닫힐 때 풀을 함께 닫는다.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+  private final List<HikariDataSource> dataSources;
+
+  public ShardDataSources(List<HikariDataSource> dataSources) {
+    this.dataSources = List.copyOf(dataSources);
+  }
+
+  public List<DataSource> asList() {
+    return Collections.unmodifiableList(dataSources);
+  }
+
+  @Override
+  public void close() {
+    dataSources.forEach(HikariDataSource::close);
+  }
+}
@@ -0,0 +1,35 @@
+package com.saiko.bidmarket.common.shard;
+
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * 샤딩된 테이블의 이름과 재배치 시 복사할 컬럼 목록.
+ * id 는 대상 샤드에서 새로 발급되므로 columns 에 넣지 않는다.
+ */
+public class ShardedTable {
+
+  private final String name;
+
+  private final List<String> columns;
+
+  public ShardedTable(
+      String name,
+      List<String> columns
+  ) {
+    Assert.hasText(name, "Name must be provided");
+    Assert.isTrue(columns.contains("user_id"), "Columns must contain user_id");
+
+    this.name = name;
+    this.columns = List.copyOf(columns);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<String> getColumns() {
+    return columns;
+  }
+}
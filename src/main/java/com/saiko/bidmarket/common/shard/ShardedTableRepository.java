@@ -0,0 +1,5 @@
+package com.saiko.bidmarket.common.shard;
+
+public interface ShardedTableRepository {
+  ShardedTable getShardedTable();
+}
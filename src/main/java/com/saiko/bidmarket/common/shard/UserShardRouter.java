@@ -0,0 +1,176 @@
+package com.saiko.bidmarket.common.shard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * user_id 의 jump consistent hash 로 샤드를 고른다.
+ * 샤드를 뒤에 추가하면 새 샤드로 옮겨가야 하는 사용자만 위치가 바뀌고 나머지는 그대로 남는다.
+ * 샤드 쓰기는 호출한 쪽 트랜잭션에 묶이지 않으므로 {@link #inTransaction} 으로 샤드만의 트랜잭션에서 실행하고,
+ * 주 트랜잭션의 결과에 따라 생기는 쓰기라면 그 트랜잭션이 커밋된 뒤에 호출한다.
+ */
+public class UserShardRouter implements AutoCloseable {
+
+  private final List<NamedParameterJdbcTemplate> shards;
+
+  private final List<TransactionTemplate> transactions;
+
+  private final ExecutorService scatterExecutor;
+
+  /**
+   * 샤드마다 그 샤드의 DataSource 로 트랜잭션을 연다.
+   */
+  public UserShardRouter(
+      List<NamedParameterJdbcTemplate> shards,
+      int scatterThreads
+  ) {
+    this(shards, shards
+             .stream()
+             .map(shard -> new DataSourceTransactionManager(
+                 shard.getJdbcTemplate().getDataSource()))
+             .collect(Collectors.toList()), scatterThreads);
+  }
+
+  /**
+   * @param transactionManagers 샤드와 같은 순서. 0번 샤드는 주 DataSource 이므로 JPA 트랜잭션 매니저를 준다
+   */
+  public UserShardRouter(
+      List<NamedParameterJdbcTemplate> shards,
+      List<? extends PlatformTransactionManager> transactionManagers,
+      int scatterThreads
+  ) {
+    Assert.notEmpty(shards, "Shards must be provided");
+    Assert.isTrue(shards.size() == transactionManagers.size(),
+                  "Transaction managers must match the shards");
+    Assert.isTrue(scatterThreads > 0, "Scatter threads must be positive");
+
+    this.shards = List.copyOf(shards);
+    this.transactions = transactionManagers
+        .stream()
+        .map(UserShardRouter::requiresNew)
+        .collect(Collectors.toUnmodifiableList());
+    this.scatterExecutor = Executors.newFixedThreadPool(scatterThreads, scatterThreadFactory());
+  }
+
+  public static int shardOf(
+      long userId,
+      int shardCount
+  ) {
+    Assert.isTrue(shardCount > 0, "Shard count must be positive");
+
+    long key = userId;
+    long bucket = -1;
+    long jump = 0;
+    while (jump < shardCount) {
+      bucket = jump;
+      key = key * 2862933555777941757L + 1;
+      jump = (long)((bucket + 1) * ((double)(1L << 31) / (double)((key >>> 33) + 1)));
+    }
+    return (int)bucket;
+  }
+
+  public int shardOf(long userId) {
+    return shardOf(userId, shards.size());
+  }
+
+  public NamedParameterJdbcTemplate forUser(long userId) {
+    return shards.get(shardOf(userId));
+  }
+
+  public NamedParameterJdbcTemplate shard(int index) {
+    return shards.get(index);
+  }
+
+  public int getShardCount() {
+    return shards.size();
+  }
+
+  /**
+   * 사용자의 샤드에서 새 트랜잭션으로 실행하고 커밋한다. 진행 중인 트랜잭션은 잠시 멈춘다.
+   */
+  public <T> T inTransaction(
+      long userId,
+      Function<NamedParameterJdbcTemplate, T> work
+  ) {
+    return inShardTransaction(shardOf(userId), work);
+  }
+
+  public <T> T inShardTransaction(
+      int index,
+      Function<NamedParameterJdbcTemplate, T> work
+  ) {
+    Assert.notNull(work, "Work must be provided");
+
+    NamedParameterJdbcTemplate shard = shards.get(index);
+    return transactions
+        .get(index)
+        .execute(status -> work.apply(shard));
+  }
+
+  /**
+   * 모든 샤드에 같은 질의를 보내고 샤드 순서대로 결과를 모은다.
+   * 0번 샤드는 호출 스레드에서 실행해 진행 중인 트랜잭션과 읽기 라우팅을 그대로 따르게 한다.
+   */
+  public <T> List<T> scatter(Function<NamedParameterJdbcTemplate, T> query) {
+    Assert.notNull(query, "Query must be provided");
+
+    List<CompletableFuture<T>> remotes = new ArrayList<>();
+    for (int i = 1; i < shards.size(); i++) {
+      NamedParameterJdbcTemplate shard = shards.get(i);
+      remotes.add(CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor));
+    }
+
+    List<T> results = new ArrayList<>(shards.size());
+    results.add(query.apply(shards.get(0)));
+    for (CompletableFuture<T> remote : remotes) {
+      results.add(join(remote));
+    }
+    return results;
+  }
+
+  @Override
+  public void close() {
+    scatterExecutor.shutdown();
+  }
+
+  private static TransactionTemplate requiresNew(PlatformTransactionManager transactionManager) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return transactionTemplate;
+  }
+
+  private static ThreadFactory scatterThreadFactory() {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "shard-scatter-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException)e.getCause();
+      }
+      throw e;
+    }
+  }
+}
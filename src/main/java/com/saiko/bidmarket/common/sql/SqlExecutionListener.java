@@ -0,0 +1,32 @@
+package com.saiko.bidmarket.common.sql;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * hibernate.session.events.auto 로 등록하며 세션마다 새로 만들어진다.
+ * statement 실행과 batch 실행에 걸린 시간을 현재 기록에 더한다.
+ */
+public class SqlExecutionListener extends BaseSessionEventListener {
+
+  private long executionStart;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    executionStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    SqlStatementRecorder.recordExecution(System.nanoTime() - executionStart);
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    executionStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    SqlStatementRecorder.recordExecution(System.nanoTime() - executionStart);
+  }
+}
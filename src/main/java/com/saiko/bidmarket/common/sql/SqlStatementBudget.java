@@ -0,0 +1,60 @@
+package com.saiko.bidmarket.common.sql;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.config.SqlBudgetConfig;
+
+/**
+ * 끝난 기록을 예산과 비교해 로그를 남기고 Server-Timing 값을 만든다.
+ */
+public class SqlStatementBudget {
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final SqlBudgetConfig config;
+
+  public SqlStatementBudget(SqlBudgetConfig config) {
+    Assert.notNull(config, "Config must be provided");
+
+    this.config = config;
+  }
+
+  public void check(
+      String target,
+      SqlStatementRecording recording
+  ) {
+    Map<String, Integer> repeated = recording.getRepeatedStatements(config.getRepeatThreshold());
+    repeated.forEach((shape, count) -> log.warn("Repeated statement ({} times) in {}: {}", count,
+                                                target, shape));
+
+    if (recording.getStatementCount() > config.getMaxStatements()) {
+      log.warn("{} executed {} statements (budget: {}, {} ms)", target,
+               recording.getStatementCount(), config.getMaxStatements(),
+               recording.getExecutionTime().toMillis());
+    }
+  }
+
+  /**
+   * 예: {@code sql;desc="4 statements, 1 repeated";dur=3.25}
+   */
+  public String serverTiming(SqlStatementRecording recording) {
+    int repeated = recording
+        .getRepeatedStatements(config.getRepeatThreshold())
+        .size();
+    double millis = recording
+        .getExecutionTime()
+        .toNanos() / 1_000_000.0;
+
+    return String.format(Locale.ROOT, "sql;desc=\"%d statements, %d repeated\";dur=%.2f",
+                         recording.getStatementCount(), repeated, millis);
+  }
+
+  public boolean isServerTimingEnabled() {
+    return config.isServerTiming();
+  }
+}
@@ -0,0 +1,74 @@
+package com.saiko.bidmarket.common.sql;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 하나 동안의 SQL 을 기록한다. 응답 본문이 나가기 전에 헤더를 붙여야 하므로
+ * 응답이 commit 되는 순간 Server-Timing 을 쓰고, 본문 없이 끝난 응답은 마지막에 쓴다.
+ */
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+  public static final String SERVER_TIMING = "Server-Timing";
+
+  private final SqlStatementBudget budget;
+
+  public SqlStatementBudgetFilter(SqlStatementBudget budget) {
+    Assert.notNull(budget, "Budget must be provided");
+
+    this.budget = budget;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+    SqlStatementRecording recording = SqlStatementRecorder.start();
+    ServerTimingResponse timingResponse = new ServerTimingResponse(response, recording);
+    try {
+      filterChain.doFilter(request, timingResponse);
+    } finally {
+      SqlStatementRecorder.stop(recording);
+      timingResponse.writeServerTiming();
+      budget.check(request.getMethod() + " " + request.getRequestURI(), recording);
+    }
+  }
+
+  private class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+    private final SqlStatementRecording recording;
+
+    private boolean written;
+
+    ServerTimingResponse(
+        HttpServletResponse response,
+        SqlStatementRecording recording
+    ) {
+      super(response);
+      this.recording = recording;
+    }
+
+    @Override
+    protected void onResponseCommitted() {
+      writeServerTiming();
+    }
+
+    void writeServerTiming() {
+      if (written || !budget.isServerTimingEnabled() || isCommitted()) {
+        return;
+      }
+      written = true;
+      addHeader(SERVER_TIMING, budget.serverTiming(recording));
+    }
+  }
+}
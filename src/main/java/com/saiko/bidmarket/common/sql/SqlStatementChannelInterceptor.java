@@ -0,0 +1,55 @@
+package com.saiko.bidmarket.common.sql;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.util.Assert;
+
+/**
+ * clientInboundChannel 의 메시지 처리 하나 동안의 SQL 을 기록한다.
+ * beforeHandle 과 afterMessageHandled 는 핸들러를 실행하는 스레드에서 불린다.
+ */
+public class SqlStatementChannelInterceptor implements ExecutorChannelInterceptor {
+
+  private final ThreadLocal<SqlStatementRecording> current = new ThreadLocal<>();
+
+  private final SqlStatementBudget budget;
+
+  public SqlStatementChannelInterceptor(SqlStatementBudget budget) {
+    Assert.notNull(budget, "Budget must be provided");
+
+    this.budget = budget;
+  }
+
+  @Override
+  public Message<?> beforeHandle(
+      Message<?> message,
+      MessageChannel channel,
+      MessageHandler handler
+  ) {
+    current.set(SqlStatementRecorder.start());
+    return message;
+  }
+
+  @Override
+  public void afterMessageHandled(
+      Message<?> message,
+      MessageChannel channel,
+      MessageHandler handler,
+      Exception ex
+  ) {
+    SqlStatementRecording recording = current.get();
+    if (recording == null) {
+      return;
+    }
+    current.remove();
+    SqlStatementRecorder.stop(recording);
+
+    if (recording.getStatementCount() > 0) {
+      budget.check("STOMP " + SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                   recording);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.saiko.bidmarket.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * hibernate.session_factory.statement_inspector 로 등록한다. SQL 은 바꾸지 않는다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    SqlStatementRecorder.recordStatement(sql);
+    return sql;
+  }
+}
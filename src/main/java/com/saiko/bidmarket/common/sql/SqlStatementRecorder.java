@@ -0,0 +1,79 @@
+package com.saiko.bidmarket.common.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 을 진행 중인 모든 {@link SqlStatementRecording} 에 기록한다.
+ * Hibernate 가 설정의 클래스 이름으로 직접 만드는 {@link SqlStatementInspector},
+ * {@link SqlExecutionListener} 가 기록하므로 스프링 빈이 아니라 스레드 로컬로 둔다.
+ * 기록은 중첩될 수 있어서 테스트의 측정 안에서 요청 필터가 따로 측정해도 서로 영향이 없다.
+ */
+public final class SqlStatementRecorder {
+
+  private static final ThreadLocal<Deque<SqlStatementRecording>> RECORDINGS = new ThreadLocal<>();
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+  private SqlStatementRecorder() {/*no-op*/}
+
+  public static SqlStatementRecording start() {
+    Deque<SqlStatementRecording> recordings = RECORDINGS.get();
+    if (recordings == null) {
+      recordings = new ArrayDeque<>();
+      RECORDINGS.set(recordings);
+    }
+
+    SqlStatementRecording recording = new SqlStatementRecording();
+    recordings.push(recording);
+    return recording;
+  }
+
+  public static void stop(SqlStatementRecording recording) {
+    Assert.notNull(recording, "Recording must be provided");
+
+    Deque<SqlStatementRecording> recordings = RECORDINGS.get();
+    if (recordings == null) {
+      return;
+    }
+    recordings.remove(recording);
+    if (recordings.isEmpty()) {
+      RECORDINGS.remove();
+    }
+  }
+
+  static void recordStatement(String sql) {
+    Deque<SqlStatementRecording> recordings = RECORDINGS.get();
+    if (recordings == null) {
+      return;
+    }
+
+    String shape = shapeOf(sql);
+    recordings.forEach(recording -> recording.addStatement(shape));
+  }
+
+  static void recordExecution(long nanos) {
+    Deque<SqlStatementRecording> recordings = RECORDINGS.get();
+    if (recordings == null) {
+      return;
+    }
+    recordings.forEach(recording -> recording.addExecutionNanos(nanos));
+  }
+
+  /**
+   * 파라미터 개수만 다른 in 절은 같은 모양으로 본다.
+   */
+  static String shapeOf(String sql) {
+    String collapsed = WHITESPACE
+        .matcher(sql.trim())
+        .replaceAll(" ");
+    return PARAMETER_LIST
+        .matcher(collapsed)
+        .replaceAll("(?)");
+  }
+}
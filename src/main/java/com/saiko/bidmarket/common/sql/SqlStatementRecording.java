@@ -0,0 +1,54 @@
+package com.saiko.bidmarket.common.sql;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 한 요청 또는 메시지 처리 동안의 SQL 실행 기록. 기록한 스레드 안에서만 쓴다.
+ */
+public class SqlStatementRecording {
+
+  private final Map<String, Integer> statementCounts = new LinkedHashMap<>();
+
+  private int statementCount;
+
+  private long executionNanos;
+
+  SqlStatementRecording() {/*no-op*/}
+
+  void addStatement(String shape) {
+    statementCounts.merge(shape, 1, Integer::sum);
+    statementCount++;
+  }
+
+  void addExecutionNanos(long nanos) {
+    executionNanos += nanos;
+  }
+
+  public int getStatementCount() {
+    return statementCount;
+  }
+
+  public Duration getExecutionTime() {
+    return Duration.ofNanos(executionNanos);
+  }
+
+  public Map<String, Integer> getStatementCounts() {
+    return Collections.unmodifiableMap(statementCounts);
+  }
+
+  /**
+   * threshold 번 이상 실행된 statement 모양. N+1 의심 대상이다.
+   */
+  public Map<String, Integer> getRepeatedStatements(int threshold) {
+    return statementCounts
+        .entrySet()
+        .stream()
+        .filter(entry -> entry.getValue() >= threshold)
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a,
+                                  LinkedHashMap::new));
+  }
+}
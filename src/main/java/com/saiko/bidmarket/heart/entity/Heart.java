@@ -1,63 +1,68 @@
 package com.saiko.bidmarket.heart.entity;
 
-import javax.persistence.Entity;
-import javax.persistence.FetchType;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
-import javax.persistence.JoinColumn;
-import javax.persistence.ManyToOne;
+import java.time.LocalDateTime;
 
 import org.springframework.util.Assert;
 
-import com.saiko.bidmarket.common.entity.BaseTime;
-import com.saiko.bidmarket.product.entity.Product;
-import com.saiko.bidmarket.user.entity.User;
-
-import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
-@Entity
+/**
+ * heart 는 user_id 기준으로 샤딩되어 JPA 엔티티가 아닌 JDBC 로 저장한다.
+ * 상품과 사용자는 id 로만 참조하고, 상품은 찜 목록 정렬 키만 함께 복사해 둔다.
+ */
 @Getter
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Heart extends BaseTime {
+public class Heart {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
+  private final Long id;
 
-  @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "user_id")
-  private User user;
+  private final long userId;
 
-  @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "product_id")
-  private Product product;
+  private final HeartedProduct product;
 
   private boolean actived;
 
+  private final LocalDateTime createdAt;
+
+  private LocalDateTime updatedAt;
+
   @Builder
-  private Heart(User user, Product product) {
+  private Heart(
+      Long id,
+      long userId,
+      HeartedProduct product,
+      boolean actived,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt
+  ) {
+    Assert.isTrue(userId > 0, "User id must be positive");
     Assert.notNull(product, "Product must be provided");
 
-    this.user = user;
+    this.id = id;
+    this.userId = userId;
     this.product = product;
+    this.actived = actived;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
   }
 
   public static Heart of(
-      User user,
-      Product product
+      long userId,
+      HeartedProduct product
   ) {
     return Heart
         .builder()
-        .user(user)
+        .userId(userId)
         .product(product)
         .build();
   }
 
+  public long getProductId() {
+    return product.getId();
+  }
+
   public void toggle() {
     actived = !actived;
   }
+
 }
@@ -0,0 +1,41 @@
+package com.saiko.bidmarket.heart.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.util.Assert;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 찜한 상품의 id 와 목록 정렬 키. 찜 목록을 사용자 샤드 안에서 바로 keyset 으로 넘기도록 heart 행에 복사해 둔다.
+ * 최소 가격, 마감 시각, 등록 시각은 상품을 등록한 뒤 바뀌지 않으므로 처음 찜할 때 한 번만 복사한다.
+ */
+@Getter
+public class HeartedProduct {
+
+  private final long id;
+
+  private final int minimumPrice;
+
+  private final LocalDateTime expireAt;
+
+  private final LocalDateTime createdAt;
+
+  @Builder
+  private HeartedProduct(
+      long id,
+      int minimumPrice,
+      LocalDateTime expireAt,
+      LocalDateTime createdAt
+  ) {
+    Assert.isTrue(id > 0, "Product id must be positive");
+    Assert.notNull(expireAt, "Expire at must be provided");
+    Assert.notNull(createdAt, "Created at must be provided");
+
+    this.id = id;
+    this.minimumPrice = minimumPrice;
+    this.expireAt = expireAt;
+    this.createdAt = createdAt;
+  }
+}
@@ -0,0 +1,36 @@
+package com.saiko.bidmarket.heart.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.saiko.bidmarket.heart.repository.HeartRepository;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * heart 는 사용자 샤드에 있어 요청한 트랜잭션이 커밋된 뒤 샤드 트랜잭션으로 바꾼다.
+ * 실제로 상태가 바뀐 경우에만 찜 개수 변경을 발행하므로 동시 요청이 개수를 두 번 더하지 않는다.
+ * 커밋이 끝난 트랜잭션에는 참여할 수 없으므로 product_listing 반영은 새 트랜잭션에서 한다.
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public class HeartToggleHandler {
+  private final HeartRepository heartRepository;
+
+  private final ApplicationEventPublisher publisher;
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void toggle(HeartToggleRequestedEvent event) {
+    boolean changed = heartRepository.changeActived(
+        event.getUserId(), event.getProduct(), event.isActived());
+    if (!changed) {
+      return;
+    }
+    publisher.publishEvent(new HeartToggledEvent(event.getProductId(), event.isActived()));
+  }
+}
@@ -0,0 +1,37 @@
+package com.saiko.bidmarket.heart.event;
+
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.heart.entity.HeartedProduct;
+
+import lombok.Getter;
+
+/**
+ * actived 는 요청 시점에 본 상태를 뒤집은 목표 상태다.
+ * 같은 목표로 두 번 요청되어도 한 번만 바뀌도록 목표 상태를 싣는다.
+ */
+@Getter
+public class HeartToggleRequestedEvent {
+  private final long userId;
+
+  private final HeartedProduct product;
+
+  private final boolean actived;
+
+  public HeartToggleRequestedEvent(
+      long userId,
+      HeartedProduct product,
+      boolean actived
+  ) {
+    Assert.isTrue(userId > 0, "User id must be positive");
+    Assert.notNull(product, "Product must be provided");
+
+    this.userId = userId;
+    this.product = product;
+    this.actived = actived;
+  }
+
+  public long getProductId() {
+    return product.getId();
+  }
+}
@@ -0,0 +1,18 @@
+package com.saiko.bidmarket.heart.event;
+
+import lombok.Getter;
+
+@Getter
+public class HeartToggledEvent {
+  private final long productId;
+
+  private final boolean actived;
+
+  public HeartToggledEvent(
+      long productId,
+      boolean actived
+  ) {
+    this.productId = productId;
+    this.actived = actived;
+  }
+}
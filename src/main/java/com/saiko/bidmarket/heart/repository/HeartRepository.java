@@ -1,15 +1,33 @@
 package com.saiko.bidmarket.heart.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.page.Cursor;
 import com.saiko.bidmarket.heart.entity.Heart;
-import com.saiko.bidmarket.product.entity.Product;
-import com.saiko.bidmarket.user.entity.User;
-
-public interface HeartRepository extends HeartCustomRepository, JpaRepository<Heart, Long> {
-  Optional<Heart> findByUserAndProduct(User user, Product product);
+import com.saiko.bidmarket.heart.entity.HeartedProduct;
 
+public interface HeartRepository {
   Optional<Heart> findByUserIdAndProductId(long userId, long productId);
+
+  Heart save(Heart heart);
+
+  /**
+   * 활성 상태가 actived 와 다를 때만 바꾸고, 바뀌었는지 반환한다. 행이 없으면 비활성으로 만든 뒤 바꾼다.
+   */
+  boolean changeActived(long userId, HeartedProduct product, boolean actived);
+
+  /**
+   * 활성 heart 의 상품 id 를 heart 에 복사해 둔 상품 정렬 키로 sort 순서대로 cursor 다음부터 limit 개까지 읽는다.
+   * cursor 는 {@link com.saiko.bidmarket.common.page.SortCursor} 로 만든 것이고 null 이면 처음부터 읽는다.
+   */
+  List<Long> findAllActivedProductIds(long userId, Sort sort, Cursor cursor, int limit);
+
+  /**
+   * 모든 샤드에서 상품별 활성 heart 수를 모아 합친다. heart 가 없는 상품은 결과에 없다.
+   */
+  Map<Long, Long> countAllActivedByProductIds(Collection<Long> productIds);
 }
@@ -0,0 +1,199 @@
+package com.saiko.bidmarket.heart.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+
+import com.querydsl.core.types.Order;
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.SortCursor;
+import com.saiko.bidmarket.common.shard.ShardedTable;
+import com.saiko.bidmarket.common.shard.ShardedTableRepository;
+import com.saiko.bidmarket.common.shard.UserShardRouter;
+import com.saiko.bidmarket.heart.entity.Heart;
+import com.saiko.bidmarket.heart.entity.HeartedProduct;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public class ShardedHeartRepository implements HeartRepository, ShardedTableRepository {
+
+  private static final ShardedTable TABLE = new ShardedTable(
+      "heart", List.of("user_id", "product_id", "product_minimum_price", "product_expire_at",
+                       "product_created_at", "actived", "created_at", "updated_at"));
+
+  // Sort 의 정렬 키 속성마다 heart 에 복사해 둔 컬럼. 컬럼마다 (user_id, actived, 컬럼, product_id) 인덱스가 있다
+  private static final Map<String, String> SORT_COLUMNS = Map.of(
+      "minimumPrice", "product_minimum_price",
+      "expireAt", "product_expire_at",
+      "createdAt", "product_created_at");
+
+  private static final String INSERT_SQL =
+      "insert into heart (user_id, product_id, product_minimum_price, product_expire_at, "
+          + "product_created_at, actived, created_at, updated_at) "
+          + "values (:userId, :productId, :minimumPrice, :expireAt, :createdAt, :initialActived, "
+          + ":now, :now) ";
+
+  private final UserShardRouter router;
+
+  @Override
+  public Optional<Heart> findByUserIdAndProductId(
+      long userId,
+      long productId
+  ) {
+    return router
+        .forUser(userId)
+        .query("select * from heart where user_id = :userId and product_id = :productId",
+               new MapSqlParameterSource()
+                   .addValue("userId", userId)
+                   .addValue("productId", productId),
+               (rs, rowNum) -> mapRow(rs))
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * (user_id, product_id) 유니크 키로 upsert 해서 동시에 처음 찜해도 중복 키 오류가 나지 않는다.
+   */
+  @Override
+  public Heart save(Heart heart) {
+    Assert.notNull(heart, "Heart must be provided");
+
+    MapSqlParameterSource parameters = parameters(heart.getUserId(), heart.getProduct())
+        .addValue("initialActived", heart.isActived())
+        .addValue("actived", heart.isActived());
+
+    return router.inTransaction(heart.getUserId(), shard -> {
+      shard.update(INSERT_SQL + "on duplicate key update actived = :actived, updated_at = :now",
+                   parameters);
+      return shard.queryForObject(
+          "select * from heart where user_id = :userId and product_id = :productId",
+          parameters, (rs, rowNum) -> mapRow(rs));
+    });
+  }
+
+  @Override
+  public boolean changeActived(
+      long userId,
+      HeartedProduct product,
+      boolean actived
+  ) {
+    Assert.notNull(product, "Product must be provided");
+
+    MapSqlParameterSource parameters = parameters(userId, product)
+        .addValue("initialActived", false)
+        .addValue("actived", actived);
+
+    return router.inTransaction(userId, shard -> {
+      if (actived) {
+        shard.update(INSERT_SQL + "on duplicate key update user_id = user_id", parameters);
+      }
+      return shard.update("update heart set actived = :actived, updated_at = :now "
+                              + "where user_id = :userId and product_id = :productId "
+                              + "and actived <> :actived",
+                          parameters) > 0;
+    });
+  }
+
+  @Override
+  public List<Long> findAllActivedProductIds(
+      long userId,
+      Sort sort,
+      Cursor cursor,
+      int limit
+  ) {
+    Assert.notNull(sort, "Sort must be provided");
+    Assert.isTrue(limit > 0, "Limit must be positive");
+
+    String column = SORT_COLUMNS.get(sort.getProperty());
+    String direction = sort.getOrder() == Order.ASC ? "asc" : "desc";
+    MapSqlParameterSource parameters = new MapSqlParameterSource()
+        .addValue("userId", userId)
+        .addValue("limit", limit);
+    String after = "";
+    if (cursor != null) {
+      String operator = sort.getOrder() == Order.ASC ? " > " : " < ";
+      after = "and (" + column + operator + ":key or (" + column + " = :key and product_id"
+          + operator + ":productId)) ";
+      Object key = SortCursor.keyOf(sort, cursor);
+      parameters
+          .addValue("key", key instanceof LocalDateTime
+              ? Timestamp.valueOf((LocalDateTime)key) : key)
+          .addValue("productId", SortCursor.idOf(cursor));
+    }
+
+    return router
+        .forUser(userId)
+        .queryForList("select product_id from heart "
+                          + "where user_id = :userId and actived = true " + after
+                          + "order by " + column + " " + direction + ", product_id " + direction
+                          + " limit :limit", parameters, Long.class);
+  }
+
+  @Override
+  public Map<Long, Long> countAllActivedByProductIds(Collection<Long> productIds) {
+    Assert.notNull(productIds, "Product ids must be provided");
+
+    Map<Long, Long> counts = new HashMap<>();
+    if (productIds.isEmpty()) {
+      return counts;
+    }
+
+    router
+        .scatter(shard -> shard.query(
+            "select product_id, count(1) as heart_count from heart "
+                + "where product_id in (:productIds) and actived = true group by product_id",
+            new MapSqlParameterSource("productIds", productIds),
+            (rs, rowNum) -> Map.entry(rs.getLong("product_id"), rs.getLong("heart_count"))))
+        .forEach(entries -> entries.forEach(
+            entry -> counts.merge(entry.getKey(), entry.getValue(), Long::sum)));
+    return counts;
+  }
+
+  @Override
+  public ShardedTable getShardedTable() {
+    return TABLE;
+  }
+
+  private MapSqlParameterSource parameters(long userId, HeartedProduct product) {
+    return new MapSqlParameterSource()
+        .addValue("userId", userId)
+        .addValue("productId", product.getId())
+        .addValue("minimumPrice", product.getMinimumPrice())
+        .addValue("expireAt", Timestamp.valueOf(product.getExpireAt()))
+        .addValue("createdAt", Timestamp.valueOf(product.getCreatedAt()))
+        .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+  }
+
+  private Heart mapRow(ResultSet rs) throws SQLException {
+    Timestamp updatedAt = rs.getTimestamp("updated_at");
+    return Heart
+        .builder()
+        .id(rs.getLong("id"))
+        .userId(rs.getLong("user_id"))
+        .product(HeartedProduct
+                     .builder()
+                     .id(rs.getLong("product_id"))
+                     .minimumPrice(rs.getInt("product_minimum_price"))
+                     .expireAt(rs.getTimestamp("product_expire_at").toLocalDateTime())
+                     .createdAt(rs.getTimestamp("product_created_at").toLocalDateTime())
+                     .build())
+        .actived(rs.getBoolean("actived"))
+        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+        .updatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime())
+        .build();
+  }
+}
@@ -2,7 +2,8 @@ package com.saiko.bidmarket.notification.controller.dto;
 
 import java.time.LocalDateTime;
 
-import com.saiko.bidmarket.notification.repository.dto.NotificationRepoDto;
+import com.saiko.bidmarket.notification.entity.Notification;
+import com.saiko.bidmarket.product.entity.Product;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -31,22 +32,25 @@ public class NotificationSelectResponse {
 
   private final LocalDateTime updatedAt;
 
-  public static NotificationSelectResponse from(NotificationRepoDto notificationRepoDto) {
+  public static NotificationSelectResponse from(
+      Notification notification,
+      Product product
+  ) {
     return NotificationSelectResponse
         .builder()
-        .id(notificationRepoDto.getId())
-        .productId(notificationRepoDto.getProductId())
-        .title(notificationRepoDto.getTitle())
-        .thumbnailImage(notificationRepoDto.getThumbnailImage())
-        .type(notificationRepoDto
+        .id(notification.getId())
+        .productId(product.getId())
+        .title(product.getTitle())
+        .thumbnailImage(product.getThumbnailImage())
+        .type(notification
                   .getType()
                   .getType())
-        .content(notificationRepoDto
+        .content(notification
                      .getType()
                      .getMessage())
-        .checked(notificationRepoDto.isChecked())
-        .createdAt(notificationRepoDto.getCreatedAt())
-        .updatedAt(notificationRepoDto.getUpdatedAt())
+        .checked(notification.isChecked())
+        .createdAt(notification.getCreatedAt())
+        .updatedAt(notification.getUpdatedAt())
         .build();
   }
 }
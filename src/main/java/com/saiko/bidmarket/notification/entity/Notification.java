@@ -1,63 +1,59 @@
 package com.saiko.bidmarket.notification.entity;
 
-import javax.persistence.Entity;
-import javax.persistence.EnumType;
-import javax.persistence.Enumerated;
-import javax.persistence.FetchType;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
-import javax.persistence.JoinColumn;
-import javax.persistence.ManyToOne;
-import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 import org.springframework.util.Assert;
 
-import com.saiko.bidmarket.common.entity.BaseTime;
 import com.saiko.bidmarket.notification.NotificationType;
-import com.saiko.bidmarket.product.entity.Product;
-import com.saiko.bidmarket.user.entity.User;
 
-import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
-@Entity
+/**
+ * notification 은 user_id 기준으로 샤딩되어 JPA 엔티티가 아닌 JDBC 로 저장한다.
+ * 상품과 사용자는 id 로만 참조한다.
+ */
 @Getter
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Notification extends BaseTime {
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
+public class Notification {
+  private final Long id;
 
-  @NotNull
-  @Enumerated(EnumType.STRING)
-  private NotificationType type;
+  private final NotificationType type;
 
-  @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "product_id")
-  private Product product;
+  private final long productId;
 
-  @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "user_id")
-  private User user;
+  private final long userId;
 
   private boolean checked;
 
+  private final LocalDateTime createdAt;
+
+  private final LocalDateTime updatedAt;
+
   @Builder
-  public Notification(NotificationType type, Product product, User user) {
+  public Notification(
+      Long id,
+      NotificationType type,
+      long productId,
+      long userId,
+      boolean checked,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt
+  ) {
     Assert.notNull(type, "Type must be provided");
-    Assert.notNull(product, "Product must be provided");
-    Assert.notNull(user, "User must be provided");
+    Assert.isTrue(productId > 0, "Product id must be positive");
+    Assert.isTrue(userId > 0, "User id must be positive");
 
+    this.id = id;
     this.type = type;
-    this.product = product;
-    this.user = user;
+    this.productId = productId;
+    this.userId = userId;
+    this.checked = checked;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
   }
 
   public boolean isNotPossibleToAccessNotification(long userId) {
-    return !this.user.isSameUser(userId);
+    return this.userId != userId;
   }
 
   public void check() {
@@ -1,9 +1,17 @@
 package com.saiko.bidmarket.notification.event;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.saiko.bidmarket.notification.entity.Notification;
+import com.saiko.bidmarket.notification.outbox.NotificationOutbox;
 import com.saiko.bidmarket.notification.repository.NotificationRepository;
 
 import lombok.AccessLevel;
@@ -12,15 +20,58 @@ import lombok.RequiredArgsConstructor;
 @Component
 @RequiredArgsConstructor(access = AccessLevel.PUBLIC)
 public class NotificationCreateHandler {
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
   private final NotificationRepository notificationRepository;
 
+  private final NotificationOutbox notificationOutbox;
+
+  /**
+   * 트랜잭션 안에서 발행된 알림은 같은 트랜잭션으로 outbox 에 남기고, 커밋된 뒤 모아서 사용자 샤드로 한 번에 옮긴다.
+   * 알림은 사용자 샤드에 있어 주 트랜잭션과 함께 롤백될 수 없으므로 커밋된 결과에만 알림을 남긴다.
+   * 커밋 뒤 옮기지 못한 알림은 outbox 에 남아 relay 가 다시 옮긴다.
+   */
   @EventListener
   public void create(NotificationCreateEvent event) {
-    notificationRepository.save(Notification
-                                    .builder()
-                                    .type(event.getNotificationType())
-                                    .product(event.getProduct())
-                                    .user(event.getUser())
-                                    .build());
+    Notification notification = Notification
+        .builder()
+        .type(event.getNotificationType())
+        .productId(event.getProduct().getId())
+        .userId(event.getUser().getId())
+        .build();
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      notificationRepository.save(notification);
+      return;
+    }
+    pendingOutboxIds().add(notificationOutbox.append(notification));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Long> pendingOutboxIds() {
+    List<Long> pending = (List<Long>)TransactionSynchronizationManager.getResource(this);
+    if (pending != null) {
+      return pending;
+    }
+
+    List<Long> created = new ArrayList<>();
+    TransactionSynchronizationManager.bindResource(this, created);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        try {
+          notificationOutbox.deliver(created);
+        } catch (RuntimeException e) {
+          log.warn("Failed to deliver {} notifications after commit, left for relay",
+                   created.size(), e);
+        }
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(NotificationCreateHandler.this);
+      }
+    });
+    return created;
   }
 }
@@ -0,0 +1,178 @@
+package com.saiko.bidmarket.notification.outbox;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.notification.NotificationType;
+import com.saiko.bidmarket.notification.entity.Notification;
+import com.saiko.bidmarket.notification.repository.NotificationRepository;
+
+/**
+ * 주 트랜잭션에서 생긴 알림을 같은 트랜잭션으로 주 DB 의 notification_outbox 에 남겼다가 커밋된 뒤 사용자 샤드로 옮긴다.
+ * 옮기다 실패한 행은 attempts 를 올려 남겨 두고 relay 가 다시 옮기며, maxAttempts 번 실패한 행은 더 옮기지 않는다.
+ * 샤드에 저장한 뒤 outbox 행을 지우기 전에 실패하면 같은 알림이 한 번 더 저장될 수 있다.
+ */
+public class NotificationOutbox {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO notification_outbox (type, product_id, user_id, attempts, created_at) "
+          + "VALUES (:type, :productId, :userId, 0, :now)";
+
+  private static final String LOCK_BY_IDS_QUERY =
+      "SELECT id, type, product_id, user_id FROM notification_outbox "
+          + "WHERE id IN (:ids) FOR UPDATE SKIP LOCKED";
+
+  private static final String LOCK_PENDING_QUERY =
+      "SELECT id, type, product_id, user_id FROM notification_outbox "
+          + "WHERE attempts < :maxAttempts ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final NotificationRepository notificationRepository;
+
+  private final int batchSize;
+
+  private final int maxAttempts;
+
+  private final Clock clock;
+
+  /**
+   * @param transactionTemplate 주 트랜잭션의 afterCommit 에서도 새 트랜잭션을 열도록 REQUIRES_NEW 여야 한다
+   */
+  public NotificationOutbox(
+      NamedParameterJdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      NotificationRepository notificationRepository,
+      int batchSize,
+      int maxAttempts,
+      Clock clock
+  ) {
+    Assert.notNull(jdbcTemplate, "JdbcTemplate must be provided");
+    Assert.notNull(transactionTemplate, "TransactionTemplate must be provided");
+    Assert.isTrue(transactionTemplate.getPropagationBehavior()
+                      == TransactionDefinition.PROPAGATION_REQUIRES_NEW,
+                  "TransactionTemplate must require a new transaction");
+    Assert.notNull(notificationRepository, "NotificationRepository must be provided");
+    Assert.isTrue(batchSize > 0, "Batch size must be positive");
+    Assert.isTrue(maxAttempts > 0, "Max attempts must be positive");
+    Assert.notNull(clock, "Clock must be provided");
+
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.notificationRepository = notificationRepository;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.clock = clock;
+  }
+
+  /**
+   * 진행 중인 주 트랜잭션 안에서 호출해야 알림이 그 트랜잭션과 함께 커밋되거나 롤백된다.
+   *
+   * @return outbox 행의 id
+   */
+  public long append(Notification notification) {
+    Assert.notNull(notification, "Notification must be provided");
+    Assert.state(TransactionSynchronizationManager.isActualTransactionActive(),
+                 "Notification outbox must be written in a transaction");
+
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+                            .addValue("type", notification.getType().name())
+                            .addValue("productId", notification.getProductId())
+                            .addValue("userId", notification.getUserId())
+                            .addValue("now", Timestamp.valueOf(LocalDateTime.now(clock))),
+                        keyHolder, new String[] {"id"});
+    return keyHolder.getKey().longValue();
+  }
+
+  /**
+   * 커밋된 outbox 행을 사용자 샤드로 옮긴다. 다른 노드의 relay 가 잡고 있는 행은 건너뛴다.
+   *
+   * @return 옮긴 알림 수
+   */
+  public int deliver(Collection<Long> ids) {
+    Assert.notNull(ids, "Ids must be provided");
+
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    return transfer(LOCK_BY_IDS_QUERY, new MapSqlParameterSource("ids", ids));
+  }
+
+  /**
+   * 커밋 뒤 옮기지 못하고 남은 행을 오래된 순으로 batchSize 개씩 다시 옮긴다.
+   *
+   * @return 옮긴 알림 수
+   */
+  @Scheduled(fixedDelayString = "${notification-outbox.relay-interval:10000}")
+  public int relay() {
+    return transfer(LOCK_PENDING_QUERY, new MapSqlParameterSource()
+        .addValue("maxAttempts", maxAttempts)
+        .addValue("limit", batchSize));
+  }
+
+  private int transfer(
+      String lockQuery,
+      MapSqlParameterSource parameters
+  ) {
+    List<Long> lockedIds = new ArrayList<>();
+    try {
+      Integer transferred = transactionTemplate.execute(status -> {
+        List<Notification> notifications = new ArrayList<>();
+        jdbcTemplate.query(lockQuery, parameters, rs -> {
+          lockedIds.add(rs.getLong("id"));
+          notifications.add(mapRow(rs));
+        });
+        if (notifications.isEmpty()) {
+          return 0;
+        }
+
+        notificationRepository.saveAll(notifications);
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE id IN (:ids)",
+                            new MapSqlParameterSource("ids", lockedIds));
+        return notifications.size();
+      });
+      return transferred == null ? 0 : transferred;
+    } catch (RuntimeException e) {
+      if (lockedIds.isEmpty()) {
+        throw e;
+      }
+      log.warn("Failed to deliver notifications from outbox | ids : {}", lockedIds, e);
+      transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+          "UPDATE notification_outbox SET attempts = attempts + 1 WHERE id IN (:ids)",
+          new MapSqlParameterSource("ids", lockedIds)));
+      return 0;
+    }
+  }
+
+  private Notification mapRow(ResultSet rs) throws SQLException {
+    return Notification
+        .builder()
+        .type(NotificationType.valueOf(rs.getString("type")))
+        .productId(rs.getLong("product_id"))
+        .userId(rs.getLong("user_id"))
+        .build();
+  }
+}
@@ -1,9 +1,28 @@
 package com.saiko.bidmarket.notification.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+import java.util.Optional;
 
+import com.saiko.bidmarket.notification.controller.dto.NotificationSelectRequest;
 import com.saiko.bidmarket.notification.entity.Notification;
 
-public interface NotificationRepository
-    extends NotificationCustomRepository, JpaRepository<Notification, Long> {
+public interface NotificationRepository {
+  Notification save(Notification notification);
+
+  /**
+   * 사용자 샤드별로 묶어 batch insert 한다. 생성된 id 는 돌려주지 않는다.
+   */
+  void saveAll(List<Notification> notifications);
+
+  /**
+   * id 는 샤드 안에서만 유일하므로 요청한 사용자의 샤드에서 찾는다.
+   */
+  Optional<Notification> findByIdInShardOf(long userId, long id);
+
+  List<Notification> findAllNotification(
+      long userId,
+      NotificationSelectRequest request
+  );
+
+  void check(Notification notification);
 }
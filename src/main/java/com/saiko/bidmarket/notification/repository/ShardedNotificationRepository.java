@@ -0,0 +1,162 @@
+package com.saiko.bidmarket.notification.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.common.shard.ShardedTable;
+import com.saiko.bidmarket.common.shard.ShardedTableRepository;
+import com.saiko.bidmarket.common.shard.UserShardRouter;
+import com.saiko.bidmarket.notification.NotificationType;
+import com.saiko.bidmarket.notification.controller.dto.NotificationSelectRequest;
+import com.saiko.bidmarket.notification.entity.Notification;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 샤드 쓰기는 샤드마다 자기 트랜잭션으로 커밋한다. 여러 샤드에 걸친 저장은 샤드 단위로만 원자적이다.
+ */
+@Repository
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public class ShardedNotificationRepository
+    implements NotificationRepository, ShardedTableRepository {
+
+  private static final ShardedTable TABLE = new ShardedTable(
+      "notification",
+      List.of("type", "product_id", "user_id", "checked", "created_at", "updated_at"));
+
+  private final UserShardRouter router;
+
+  @Override
+  public Notification save(Notification notification) {
+    Assert.notNull(notification, "Notification must be provided");
+    Assert.isNull(notification.getId(), "Notification is already saved");
+
+    LocalDateTime now = LocalDateTime.now();
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    router.inTransaction(notification.getUserId(), shard -> shard
+        .update("insert into notification (type, product_id, user_id, checked, created_at, "
+                    + "updated_at) values (:type, :productId, :userId, :checked, :now, :now)",
+                new MapSqlParameterSource()
+                    .addValue("type", notification.getType().name())
+                    .addValue("productId", notification.getProductId())
+                    .addValue("userId", notification.getUserId())
+                    .addValue("checked", notification.isChecked())
+                    .addValue("now", Timestamp.valueOf(now)),
+                keyHolder, new String[] {"id"}));
+
+    return Notification
+        .builder()
+        .id(keyHolder.getKey().longValue())
+        .type(notification.getType())
+        .productId(notification.getProductId())
+        .userId(notification.getUserId())
+        .checked(notification.isChecked())
+        .createdAt(now)
+        .updatedAt(now)
+        .build();
+  }
+
+  @Override
+  public void saveAll(List<Notification> notifications) {
+    Assert.notNull(notifications, "Notifications must be provided");
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    Map<Integer, List<MapSqlParameterSource>> paramsByShard = new HashMap<>();
+    for (Notification notification : notifications) {
+      Assert.isNull(notification.getId(), "Notification is already saved");
+      paramsByShard
+          .computeIfAbsent(router.shardOf(notification.getUserId()), shard -> new ArrayList<>())
+          .add(new MapSqlParameterSource()
+                   .addValue("type", notification.getType().name())
+                   .addValue("productId", notification.getProductId())
+                   .addValue("userId", notification.getUserId())
+                   .addValue("checked", notification.isChecked())
+                   .addValue("now", now));
+    }
+
+    paramsByShard.forEach((index, params) -> router.inShardTransaction(index, shard -> shard
+        .batchUpdate("insert into notification (type, product_id, user_id, checked, created_at, "
+                         + "updated_at) values (:type, :productId, :userId, :checked, :now, :now)",
+                     params.toArray(new MapSqlParameterSource[0]))));
+  }
+
+  @Override
+  public Optional<Notification> findByIdInShardOf(
+      long userId,
+      long id
+  ) {
+    return router
+        .forUser(userId)
+        .query("select * from notification where id = :id",
+               new MapSqlParameterSource("id", id),
+               (rs, rowNum) -> mapRow(rs))
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public List<Notification> findAllNotification(
+      long userId,
+      NotificationSelectRequest request
+  ) {
+    Assert.notNull(request, "Request must be provided");
+
+    return router
+        .forUser(userId)
+        .query("select * from notification where user_id = :userId "
+                   + "order by id desc limit :limit offset :offset",
+               new MapSqlParameterSource()
+                   .addValue("userId", userId)
+                   .addValue("limit", request.getLimit())
+                   .addValue("offset", request.getOffset()),
+               (rs, rowNum) -> mapRow(rs));
+  }
+
+  @Override
+  public void check(Notification notification) {
+    Assert.notNull(notification, "Notification must be provided");
+    Assert.notNull(notification.getId(), "Notification must be saved");
+
+    router.inTransaction(notification.getUserId(), shard -> shard
+        .update("update notification set checked = :checked, updated_at = :now "
+                    + "where id = :id and user_id = :userId",
+                new MapSqlParameterSource()
+                    .addValue("checked", notification.isChecked())
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+                    .addValue("id", notification.getId())
+                    .addValue("userId", notification.getUserId())));
+  }
+
+  @Override
+  public ShardedTable getShardedTable() {
+    return TABLE;
+  }
+
+  private Notification mapRow(ResultSet rs) throws SQLException {
+    Timestamp updatedAt = rs.getTimestamp("updated_at");
+    return Notification
+        .builder()
+        .id(rs.getLong("id"))
+        .type(NotificationType.valueOf(rs.getString("type")))
+        .productId(rs.getLong("product_id"))
+        .userId(rs.getLong("user_id"))
+        .checked(rs.getBoolean("checked"))
+        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+        .updatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime())
+        .build();
+  }
+}
@@ -1,6 +1,8 @@
 package com.saiko.bidmarket.notification.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.security.access.AuthorizationServiceException;
@@ -13,6 +15,8 @@ import com.saiko.bidmarket.notification.controller.dto.NotificationSelectRequest
 import com.saiko.bidmarket.notification.controller.dto.NotificationSelectResponse;
 import com.saiko.bidmarket.notification.entity.Notification;
 import com.saiko.bidmarket.notification.repository.NotificationRepository;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.repository.ProductRepository;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +28,8 @@ public class DefaultNotificationService implements NotificationService {
 
   private final NotificationRepository notificationRepository;
 
+  private final ProductRepository productRepository;
+
   @Override
   public List<NotificationSelectResponse> findAllNotifications(
       long userId,
@@ -31,10 +37,22 @@ public class DefaultNotificationService implements NotificationService {
   ) {
     Assert.notNull(request, "Request must be provided");
 
-    return notificationRepository.findAllNotification(userId, request)
-                            .stream()
-                            .map((NotificationSelectResponse::from))
-                            .collect(Collectors.toList());
+    List<Notification> notifications = notificationRepository.findAllNotification(userId,
+                                                                                  request);
+    Map<Long, Product> products = productRepository
+        .findAllById(notifications
+                         .stream()
+                         .map(Notification::getProductId)
+                         .collect(Collectors.toSet()))
+        .stream()
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+    return notifications
+        .stream()
+        .filter(notification -> products.containsKey(notification.getProductId()))
+        .map(notification -> NotificationSelectResponse.from(
+            notification, products.get(notification.getProductId())))
+        .collect(Collectors.toList());
   }
 
   @Override
@@ -43,7 +61,7 @@ public class DefaultNotificationService implements NotificationService {
       long id
   ) {
     Notification notification = notificationRepository
-        .findById(id)
+        .findByIdInShardOf(userId, id)
         .orElseThrow(() -> new NotFoundException("Notification not exist"));
 
     if (notification.isNotPossibleToAccessNotification(userId)) {
@@ -51,5 +69,6 @@ public class DefaultNotificationService implements NotificationService {
     }
 
     notification.check();
+    notificationRepository.check(notification);
   }
 }
@@ -2,13 +2,15 @@ package com.saiko.bidmarket.product.controller.dto;
 
 import java.time.LocalDateTime;
 
-import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.entity.ProductListing;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
+@AllArgsConstructor
 @Builder(access = AccessLevel.PRIVATE)
 public class ProductSelectResponse {
   private final long id;
@@ -20,16 +22,16 @@ public class ProductSelectResponse {
   private final LocalDateTime createdAt;
   private final LocalDateTime updatedAt;
 
-  public static ProductSelectResponse from(Product product) {
+  public static ProductSelectResponse from(ProductListing listing) {
     return new ProductSelectResponse(
-        product.getId(),
-        product.getTitle(),
-        product.getThumbnailImage(),
-        product.getMinimumPrice(),
-        product.getHeartCount(),
-        product.getExpireAt(),
-        product.getCreatedAt(),
-        product.getUpdatedAt()
+        listing.getProductId(),
+        listing.getTitle(),
+        listing.getThumbnailImage(),
+        listing.getMinimumPrice(),
+        listing.getHeartCount(),
+        listing.getExpireAt(),
+        listing.getCreatedAt(),
+        listing.getUpdatedAt()
     );
   }
 }
@@ -4,20 +4,22 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import com.saiko.bidmarket.common.entity.BaseTime;
+import com.saiko.bidmarket.common.id.PooledTableIdGenerator;
 
 @Entity
 public class Image extends BaseTime {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = PooledTableIdGenerator.NAME)
+  @GenericGenerator(name = PooledTableIdGenerator.NAME, strategy = PooledTableIdGenerator.STRATEGY)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -2,12 +2,12 @@ package com.saiko.bidmarket.product.entity;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-import javax.persistence.Basic;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -15,20 +15,22 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OrderBy;
 import javax.validation.constraints.NotNull;
 
 import org.hibernate.Hibernate;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import com.saiko.bidmarket.bidding.entity.Bidding;
 import com.saiko.bidmarket.common.entity.BaseTime;
+import com.saiko.bidmarket.common.id.PooledTableIdGenerator;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.controller.dto.ProductCreateRequest;
 import com.saiko.bidmarket.user.entity.User;
@@ -41,11 +43,19 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@NamedEntityGraph(
+    name = Product.DETAIL_GRAPH,
+    attributeNodes = {@NamedAttributeNode("writer"), @NamedAttributeNode("images")}
+)
 public class Product extends BaseTime {
   public static final int PROGRESSION_PERIOD_OF_BIDDING = 7;
 
+  // 상세 조회는 작성자와 이미지를 한 번의 select 로 함께 읽는다
+  public static final String DETAIL_GRAPH = "Product.detail";
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = PooledTableIdGenerator.NAME)
+  @GenericGenerator(name = PooledTableIdGenerator.NAME, strategy = PooledTableIdGenerator.STRATEGY)
   private Long id;
 
   @NotNull
@@ -74,14 +84,11 @@ public class Product extends BaseTime {
 
   private Long winningPrice;
 
-  @Basic(fetch = FetchType.LAZY)
-  @Formula("(select count(1) from heart h where h.product_id = id and h.actived = true)")
-  private long heartCount;
-
   @NotNull
   private LocalDateTime expireAt;
 
   @OneToMany(mappedBy = "product", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+  @OrderBy(value = "order asc")
   private List<Image> images = new ArrayList<>();
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -104,7 +111,8 @@ public class Product extends BaseTime {
       Category category,
       String location,
       List<String> images,
-      User writer
+      User writer,
+      LocalDateTime startAt
   ) {
     Assert.hasText(title, "Title must be provided");
     Assert.hasText(description, "Description must be provided");
@@ -115,8 +123,7 @@ public class Product extends BaseTime {
     this.minimumPrice = minimumPrice;
     this.category = category;
     this.location = location;
-    this.expireAt = LocalDateTime
-        .now()
+    this.expireAt = (startAt == null ? LocalDateTime.now() : startAt)
         .plusDays(PROGRESSION_PERIOD_OF_BIDDING);
     this.images = createImages(images);
     this.thumbnailImage = createThumbnailImage(images);
@@ -124,10 +131,16 @@ public class Product extends BaseTime {
     this.progressed = true;
   }
 
+  /**
+   * startAt 부터 PROGRESSION_PERIOD_OF_BIDDING 일 동안 입찰을 받는다.
+   */
   public static Product of(
       ProductCreateRequest request,
-      User writer
+      User writer,
+      LocalDateTime startAt
   ) {
+    Assert.notNull(startAt, "StartAt must be provided");
+
     return Product
         .builder()
         .title(request.getTitle())
@@ -137,6 +150,7 @@ public class Product extends BaseTime {
         .minimumPrice(request.getMinimumPrice())
         .images(request.getImages())
         .writer(writer)
+        .startAt(startAt)
         .build();
   }
 
@@ -185,31 +199,42 @@ public class Product extends BaseTime {
       return null;
     }
 
-    Bidding wonBidding = biddings.get(0);
+    List<Bidding> rankedBiddings = rankBiddings();
+    Bidding wonBidding = rankedBiddings.get(0);
 
     wonBidding.win();
 
-    setWinningPrice();
+    setWinningPrice(rankedBiddings);
 
     return wonBidding.getBidder();
   }
 
-  private void setWinningPrice() {
+  private void setWinningPrice(List<Bidding> rankedBiddings) {
     this.winningPrice =
-        biddings.size() == 1 ? (long)minimumPrice : biddings
+        rankedBiddings.size() == 1 ? (long)minimumPrice : rankedBiddings
             .get(1)
             .getBiddingPrice() + 1000L;
   }
 
   public List<User> getBiddersExceptWinner() {
-    List<User> bidders = biddings
+    return rankBiddings()
         .stream()
+        .skip(1)
         .map(Bidding::getBidder)
         .collect(Collectors.toList());
+  }
 
-    bidders.remove(0);
-
-    return bidders;
+  /**
+   * DB 에서 읽은 biddings 는 금액 내림차순이지만, 같은 영속성 컨텍스트에서 추가된 입찰은 목록 끝에 붙으므로
+   * 순서에 기대지 않고 금액으로 다시 정렬한다.
+   */
+  private List<Bidding> rankBiddings() {
+    return biddings
+        .stream()
+        .sorted(Comparator
+                    .comparingLong(Bidding::getBiddingPrice)
+                    .reversed())
+        .collect(Collectors.toList());
   }
 
   @Override
@@ -0,0 +1,95 @@
+package com.saiko.bidmarket.product.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.product.Category;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록 조회 전용 테이블. product, bidding, heart 의 변경 이벤트로 갱신되며
+ * 목록 응답에 필요한 컬럼만 가진다. 정렬 기준 컬럼 이름은 {@link com.saiko.bidmarket.common.Sort} 와 같다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductListing {
+
+  @Id
+  private Long productId;
+
+  @NotNull
+  private Long writerId;
+
+  @NotNull
+  @Column(length = 32)
+  private String title;
+
+  @Column(length = 512)
+  private String thumbnailImage;
+
+  @NotNull
+  private int minimumPrice;
+
+  private Long topBidPrice;
+
+  private long heartCount;
+
+  @NotNull
+  @Enumerated(EnumType.STRING)
+  private Category category;
+
+  private boolean progressed;
+
+  // 상품 행이 보관 테이블로 옮겨졌다. 사용자 기록에는 남기고 전체 목록에서만 뺀다
+  private boolean archived;
+
+  @NotNull
+  private LocalDateTime expireAt;
+
+  @NotNull
+  private LocalDateTime createdAt;
+
+  private LocalDateTime updatedAt;
+
+  public static ProductListing from(Product product) {
+    Assert.notNull(product, "Product must be provided");
+    Assert.notNull(product.getId(), "Product must be saved");
+
+    ProductListing listing = new ProductListing();
+    listing.productId = product.getId();
+    listing.writerId = product
+        .getWriter()
+        .getId();
+    listing.minimumPrice = product.getMinimumPrice();
+    listing.category = product.getCategory();
+    listing.expireAt = product.getExpireAt();
+    listing.createdAt = product.getCreatedAt();
+    listing.heartCount = 0;
+    listing.update(product);
+    return listing;
+  }
+
+  public void update(Product product) {
+    Assert.notNull(product, "Product must be provided");
+    Assert.isTrue(product
+                      .getId()
+                      .equals(productId), "Product does not match listing");
+
+    this.title = product.getTitle();
+    this.thumbnailImage = product.getThumbnailImage();
+    this.progressed = product.isProgressed();
+    this.updatedAt = product.getUpdatedAt();
+  }
+}
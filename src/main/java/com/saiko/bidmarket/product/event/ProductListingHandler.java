@@ -0,0 +1,61 @@
+package com.saiko.bidmarket.product.event;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.saiko.bidmarket.bidding.event.BiddingCreatedEvent;
+import com.saiko.bidmarket.bidding.event.BiddingsDeletedEvent;
+import com.saiko.bidmarket.heart.event.HeartToggledEvent;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.entity.ProductListing;
+import com.saiko.bidmarket.product.repository.ProductListingRepository;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트를 받아 product_listing 을 갱신한다.
+ * 이벤트를 발행한 트랜잭션 안에서 실행되므로 원본과 함께 커밋되거나 롤백된다.
+ * 카운터와 최고 입찰가는 동시 요청에도 값을 잃지 않도록 조건부 update 로 바꾼다.
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public class ProductListingHandler {
+  private final ProductListingRepository productListingRepository;
+
+  @EventListener
+  public void apply(ProductSavedEvent event) {
+    Product product = event.getProduct();
+    productListingRepository
+        .findById(product.getId())
+        .ifPresentOrElse(
+            listing -> listing.update(product),
+            () -> productListingRepository.save(ProductListing.from(product))
+        );
+  }
+
+  @EventListener
+  public void apply(WriterProductsClosedEvent event) {
+    productListingRepository.closeAllByWriterId(event.getWriterId());
+  }
+
+  @EventListener
+  public void apply(BiddingCreatedEvent event) {
+    productListingRepository.raiseTopBidPrice(event.getProductId(), event.getBiddingPrice());
+  }
+
+  @EventListener
+  public void apply(BiddingsDeletedEvent event) {
+    if (event
+        .getProductIds()
+        .isEmpty()) {
+      return;
+    }
+    productListingRepository.refreshTopBidPrice(event.getProductIds());
+  }
+
+  @EventListener
+  public void apply(HeartToggledEvent event) {
+    productListingRepository.addHeartCount(event.getProductId(), event.isActived() ? 1 : -1);
+  }
+}
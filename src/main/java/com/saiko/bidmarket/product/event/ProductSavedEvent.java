@@ -0,0 +1,21 @@
+package com.saiko.bidmarket.product.event;
+
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.product.entity.Product;
+
+import lombok.Getter;
+
+/**
+ * 상품이 등록되거나 제목, 진행 여부 같은 목록 표시 정보가 바뀌었을 때 발행한다.
+ */
+@Getter
+public class ProductSavedEvent {
+  private final Product product;
+
+  public ProductSavedEvent(Product product) {
+    Assert.notNull(product, "Product must be provided");
+
+    this.product = product;
+  }
+}
@@ -0,0 +1,19 @@
+package com.saiko.bidmarket.product.event;
+
+import org.springframework.util.Assert;
+
+import lombok.Getter;
+
+/**
+ * 탈퇴 등으로 한 사용자의 상품이 벌크 쿼리로 한꺼번에 종료되었을 때 발행한다.
+ */
+@Getter
+public class WriterProductsClosedEvent {
+  private final long writerId;
+
+  public WriterProductsClosedEvent(long writerId) {
+    Assert.isTrue(writerId > 0, "Writer id must be positive");
+
+    this.writerId = writerId;
+  }
+}
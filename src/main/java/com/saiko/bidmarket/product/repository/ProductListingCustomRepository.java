@@ -0,0 +1,38 @@
+package com.saiko.bidmarket.product.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.saiko.bidmarket.common.page.CursorPage;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectResponse;
+import com.saiko.bidmarket.product.repository.dto.UserProductSelectQueryParameter;
+import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectResponse;
+import com.saiko.bidmarket.user.controller.dto.UserHeartSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserHeartSelectResponse;
+import com.saiko.bidmarket.user.controller.dto.UserProductSelectResponse;
+
+public interface ProductListingCustomRepository {
+  List<ProductSelectResponse> findAllProductListing(ProductSelectRequest productSelectRequest);
+
+  List<UserProductSelectResponse> findAllUserProductListing(
+      UserProductSelectQueryParameter userProductSelectQueryParameter);
+
+  /**
+   * 보관된 입찰까지 정렬 순서대로 읽는다. cursor 키는 (sort, 정렬 키, 상품 id) 이다.
+   */
+  CursorPage<UserBiddingSelectResponse> findAllUserBiddingListing(
+      long userId,
+      UserBiddingSelectRequest request
+  );
+
+  /**
+   * productIds 는 heart 에서 request 의 정렬과 cursor 로 이미 고른 한 페이지(limit + 1 개)의 상품 id 다.
+   * 한 번의 IN 조회로 목록 행을 읽어 같은 순서로 정렬한다.
+   */
+  CursorPage<UserHeartSelectResponse> findAllHeartedProductListing(
+      Collection<Long> productIds,
+      UserHeartSelectRequest request
+  );
+}
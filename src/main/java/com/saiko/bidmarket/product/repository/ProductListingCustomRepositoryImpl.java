@@ -0,0 +1,219 @@
+package com.saiko.bidmarket.product.repository;
+
+import static com.saiko.bidmarket.bidding.entity.QArchivedBidding.*;
+import static com.saiko.bidmarket.bidding.entity.QBidding.*;
+import static com.saiko.bidmarket.product.entity.QProductListing.*;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
+import com.saiko.bidmarket.common.page.SortCursor;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectResponse;
+import com.saiko.bidmarket.product.repository.dto.UserProductSelectQueryParameter;
+import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectResponse;
+import com.saiko.bidmarket.user.controller.dto.UserHeartSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserHeartSelectResponse;
+import com.saiko.bidmarket.user.controller.dto.UserProductSelectResponse;
+
+/**
+ * 목록 응답은 모두 같은 8개 컬럼만 쓰므로 엔티티 대신 응답 타입으로 바로 projection 한다.
+ * 영속성 컨텍스트에 엔티티가 올라가지 않아 dirty checking 스냅샷도 생기지 않는다.
+ */
+@Repository
+public class ProductListingCustomRepositoryImpl
+    implements ProductListingCustomRepository {
+  private final JPAQueryFactory jpaQueryFactory;
+
+  public ProductListingCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+    this.jpaQueryFactory = jpaQueryFactory;
+  }
+
+  @Override
+  public List<ProductSelectResponse> findAllProductListing(
+      ProductSelectRequest productSelectRequest) {
+    Assert.notNull(productSelectRequest, "ProductSelectRequest must be provided");
+    return jpaQueryFactory
+        .select(Projections.constructor(ProductSelectResponse.class, listingColumns()))
+        .from(productListing)
+        .where(
+            productListing.archived.isFalse(),
+            eqCategory(productSelectRequest.getCategory()),
+            eqProgressed(productSelectRequest.getProgressed()),
+            eqTitle(productSelectRequest.getTitle())
+        )
+        .offset(productSelectRequest.getOffset())
+        .limit(productSelectRequest.getLimit())
+        .orderBy(getOrderSpecifier(productSelectRequest.getSort()))
+        .fetch();
+  }
+
+  @Override
+  public List<UserProductSelectResponse> findAllUserProductListing(
+      UserProductSelectQueryParameter query) {
+    Assert.notNull(query, "Operation must be provided");
+
+    return jpaQueryFactory
+        .select(Projections.constructor(UserProductSelectResponse.class, listingColumns()))
+        .from(productListing)
+        .where(productListing.writerId.eq(query.getUserId()))
+        .offset(query.getOffset())
+        .limit(query.getLimit())
+        .orderBy(getOrderSpecifier(query.getSort()))
+        .fetch();
+  }
+
+  @Override
+  public CursorPage<UserBiddingSelectResponse> findAllUserBiddingListing(
+      long userId,
+      UserBiddingSelectRequest request
+  ) {
+    Assert.notNull(request, "Request must be provided");
+
+    // 보관 테이블로 옮겨진 입찰도 함께 보여야 하므로 두 테이블에서 cursor 다음 limit + 1 개씩 읽어 합친 뒤 자른다
+    Sort sort = request.getSort();
+    Cursor cursor = SortCursor.decode(request.getCursor(), sort);
+    int fetchSize = request.getLimit() + 1;
+    List<UserBiddingSelectResponse> archived = jpaQueryFactory
+        .select(Projections.constructor(UserBiddingSelectResponse.class, listingColumns()))
+        .from(archivedBidding)
+        .join(productListing)
+        .on(productListing.productId.eq(archivedBidding.productId))
+        .where(
+            archivedBidding.bidderId.eq(userId),
+            SortCursor.after(sort, productListing, productListing.productId, cursor)
+        )
+        .limit(fetchSize)
+        .orderBy(SortCursor.orderBy(sort, productListing, productListing.productId))
+        .fetch();
+    List<UserBiddingSelectResponse> hot = findAllHotBiddingListing(userId, sort, cursor,
+                                                                   fetchSize);
+    List<UserBiddingSelectResponse> merged = archived.isEmpty()
+        ? hot
+        : Stream
+            .concat(hot.stream(), archived.stream())
+            .sorted(biddingComparator(sort))
+            .limit(fetchSize)
+            .collect(Collectors.toList());
+    return CursorPage.of(merged, request.getLimit(),
+                         response -> SortCursor.of(sort, response, response.getId()));
+  }
+
+  @Override
+  public CursorPage<UserHeartSelectResponse> findAllHeartedProductListing(
+      Collection<Long> productIds,
+      UserHeartSelectRequest request
+  ) {
+    Assert.notNull(productIds, "Product ids must be provided");
+    Assert.notNull(request, "Request must be provided");
+
+    Sort sort = request.getSort();
+    if (productIds.isEmpty()) {
+      return CursorPage.empty();
+    }
+
+    List<UserHeartSelectResponse> responses = jpaQueryFactory
+        .select(Projections.constructor(UserHeartSelectResponse.class, listingColumns()))
+        .from(productListing)
+        .where(productListing.productId.in(productIds))
+        .orderBy(SortCursor.orderBy(sort, productListing, productListing.productId))
+        .fetch();
+    return CursorPage.of(responses, request.getLimit(),
+                         response -> SortCursor.of(sort, response, response.getId()));
+  }
+
+  private Expression<?>[] listingColumns() {
+    return new Expression<?>[] {
+        productListing.productId, productListing.title, productListing.thumbnailImage,
+        productListing.minimumPrice, productListing.heartCount, productListing.expireAt,
+        productListing.createdAt, productListing.updatedAt
+    };
+  }
+
+  private Predicate eqCategory(Category category) {
+    if (category == null || category == Category.ALL) {
+      return null;
+    }
+    return productListing.category.eq(category);
+  }
+
+  private Predicate eqProgressed(String progressed) {
+    if (progressed == null) {
+      return null;
+    }
+    return productListing.progressed.eq(Boolean.valueOf(progressed));
+  }
+
+  private Predicate eqTitle(String title) {
+    if (title == null) {
+      return null;
+    }
+    return productListing.title.contains(title);
+  }
+
+  private List<UserBiddingSelectResponse> findAllHotBiddingListing(
+      long userId,
+      Sort sort,
+      Cursor cursor,
+      int limit
+  ) {
+    return jpaQueryFactory
+        .select(Projections.constructor(UserBiddingSelectResponse.class, listingColumns()))
+        .from(bidding)
+        .join(productListing)
+        .on(productListing.productId.eq(bidding.product.id))
+        .where(
+            bidding.bidder.id.eq(userId),
+            SortCursor.after(sort, productListing, productListing.productId, cursor)
+        )
+        .limit(limit)
+        .orderBy(SortCursor.orderBy(sort, productListing, productListing.productId))
+        .fetch();
+  }
+
+  private Comparator<UserBiddingSelectResponse> biddingComparator(Sort sort) {
+    Comparator<UserBiddingSelectResponse> comparator;
+    switch (sort) {
+      case MINIMUM_PRICE_ASC:
+      case MINIMUM_PRICE_DESC:
+        comparator = Comparator.comparingInt(UserBiddingSelectResponse::getMinimumPrice);
+        break;
+      case CREATED_AT_ASC:
+      case CREATED_AT_DESC:
+        comparator = Comparator.comparing(UserBiddingSelectResponse::getCreatedAt);
+        break;
+      default:
+        comparator = Comparator.comparing(UserBiddingSelectResponse::getExpireAt);
+    }
+    comparator = comparator.thenComparingLong(UserBiddingSelectResponse::getId);
+    return sort.getOrder() == Order.DESC ? comparator.reversed() : comparator;
+  }
+
+  private OrderSpecifier<?> getOrderSpecifier(Sort sort) {
+    if (sort == null) {
+      return null;
+    }
+    ComparablePath<Comparable> fieldPath = Expressions.comparablePath(
+        Comparable.class, productListing, sort.getProperty());
+    return new OrderSpecifier<>(sort.getOrder(), fieldPath);
+  }
+}
@@ -0,0 +1,32 @@
+package com.saiko.bidmarket.product.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.saiko.bidmarket.product.entity.ProductListing;
+
+public interface ProductListingRepository
+    extends ProductListingCustomRepository, JpaRepository<ProductListing, Long> {
+
+  @Modifying
+  @Query("update ProductListing l set l.heartCount = l.heartCount + :delta "
+      + "where l.productId = :productId")
+  void addHeartCount(long productId, long delta);
+
+  @Modifying
+  @Query("update ProductListing l set l.topBidPrice = :biddingPrice where l.productId = :productId "
+      + "and (l.topBidPrice is null or l.topBidPrice < :biddingPrice)")
+  void raiseTopBidPrice(long productId, long biddingPrice);
+
+  @Modifying
+  @Query("update ProductListing l set l.topBidPrice = (select max(b.biddingPrice) from Bidding b "
+      + "where b.product.id = l.productId) where l.productId in :productIds")
+  void refreshTopBidPrice(Collection<Long> productIds);
+
+  @Modifying
+  @Query("update ProductListing l set l.progressed = false where l.writerId = :writerId")
+  void closeAllByWriterId(long writerId);
+}
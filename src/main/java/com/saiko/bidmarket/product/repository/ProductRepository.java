@@ -1,22 +1,36 @@
 package com.saiko.bidmarket.product.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import com.saiko.bidmarket.product.entity.Product;
 
-public interface ProductRepository extends ProductCustomRepository, JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long> {
 
   List<Product> findAllByProgressedAndExpireAtLessThan(boolean progressed, LocalDateTime nowTime);
 
+  @Query("select p from Product p where p.progressed = true and p.expireAt < :nowTime "
+      + "and mod(p.id, :partitionCount) in :partitions")
+  List<Product> findAllThatNeedToCloseInPartitions(
+      LocalDateTime nowTime,
+      int partitionCount,
+      Collection<Integer> partitions
+  );
+
   @Query("select p from Product p join fetch p.writer where p.id = :id")
   Optional<Product> findByIdJoinWithUser(long id);
 
+  @EntityGraph(Product.DETAIL_GRAPH)
+  @Query("select distinct p from Product p where p.id = :id")
+  Optional<Product> findDetailById(long id);
+
   @Modifying(clearAutomatically = true)
   @Query("update Product p set p.progressed = false where p.writer.id = :userId")
   void finishByUserId(long userId);
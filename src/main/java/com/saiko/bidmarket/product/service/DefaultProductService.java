@@ -2,21 +2,26 @@ package com.saiko.bidmarket.product.service;
 
 import static com.saiko.bidmarket.notification.NotificationType.*;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import com.saiko.bidmarket.bidding.entity.ArchivedBidding;
 import com.saiko.bidmarket.bidding.entity.Bidding;
+import com.saiko.bidmarket.bidding.repository.ArchivedBiddingRepository;
 import com.saiko.bidmarket.bidding.repository.BiddingRepository;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.chat.repository.ChatRoomRepository;
 import com.saiko.bidmarket.common.exception.NotFoundException;
+import com.saiko.bidmarket.common.jfr.ProductCloseJfrEvent;
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
 import com.saiko.bidmarket.notification.event.NotificationCreateEvent;
 import com.saiko.bidmarket.product.controller.dto.BiddingResultResponse;
 import com.saiko.bidmarket.product.controller.dto.ProductCreateRequest;
@@ -25,6 +30,8 @@ import com.saiko.bidmarket.product.controller.dto.ProductDetailResponse;
 import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
 import com.saiko.bidmarket.product.controller.dto.ProductSelectResponse;
 import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.event.ProductSavedEvent;
+import com.saiko.bidmarket.product.repository.ProductListingRepository;
 import com.saiko.bidmarket.product.repository.ProductRepository;
 import com.saiko.bidmarket.user.entity.User;
 import com.saiko.bidmarket.user.repository.UserRepository;
@@ -43,10 +50,20 @@ public class DefaultProductService implements ProductService {
 
   private final BiddingRepository biddingRepository;
 
+  private final ArchivedBiddingRepository archivedBiddingRepository;
+
   private final ChatRoomRepository chatRoomRepository;
 
+  private final ProductListingRepository productListingRepository;
+
+  private final ProductDetailCache productDetailCache;
+
+  private final ProductListingCache productListingCache;
+
   private final ApplicationEventPublisher publisher;
 
+  private final Clock clock;
+
   @Override
   @Transactional
   public ProductCreateResponse create(
@@ -60,82 +77,112 @@ public class DefaultProductService implements ProductService {
         .orElseThrow(
             () -> new NotFoundException("Product not exist"));
 
-    final Product product = Product.of(productCreateRequest, writer);
+    final Product product = productRepository.save(
+        Product.of(productCreateRequest, writer, LocalDateTime.now(clock)));
+    publisher.publishEvent(new ProductSavedEvent(product));
 
-    return ProductCreateResponse.from(productRepository
-                                          .save(product)
-                                          .getId());
+    return ProductCreateResponse.from(product.getId());
   }
 
   @Override
   public List<ProductSelectResponse> findAll(ProductSelectRequest productSelectRequest) {
     Assert.notNull(productSelectRequest, "ProductSelectRequest must be provided");
-    return productRepository
-        .findAllProduct(productSelectRequest)
-        .stream()
-        .map(ProductSelectResponse::from)
-        .collect(Collectors.toList());
+
+    return productListingCache.get(productSelectRequest,
+                                   productListingRepository::findAllProductListing);
   }
 
   @Override
   public ProductDetailResponse findById(long id) {
     Assert.isTrue(id > 0, "Id must be positive");
 
-    return ProductDetailResponse.from(productRepository
-                                          .findById(id)
-                                          .orElseThrow(() -> new NotFoundException(
-                                              "Product not exist")));
+    return productDetailCache.get(id, productId -> productRepository
+        .findDetailById(productId)
+        .orElseThrow(() -> new NotFoundException("Product not exist")));
   }
 
   @Override
-  public List<Product> findAllThatNeedToClose(LocalDateTime nowTime) {
+  public List<Product> findAllThatNeedToClose(
+      LocalDateTime nowTime,
+      PartitionAssignment assignment
+  ) {
     Assert.notNull(nowTime, "nowTime must be provided");
+    Assert.notNull(assignment, "Assignment must be provided");
 
-    return productRepository.findAllByProgressedAndExpireAtLessThan(true, nowTime);
+    if (assignment.isEmpty()) {
+      return List.of();
+    }
+
+    return productRepository.findAllThatNeedToCloseInPartitions(
+        nowTime,
+        assignment.getPartitionCount(),
+        assignment.getPartitions()
+    );
   }
 
   @Override
   @Transactional
-  public void executeClosingProduct(Product product) {
+  public int executeClosingProduct(Product product) {
     Assert.notNull(product, "Product must be provided");
 
-    User winner = product.finish();
+    ProductCloseJfrEvent jfrEvent = ProductCloseJfrEvent.start(product.getId());
+    try {
+      User winner = product.finish();
+      publisher.publishEvent(new ProductSavedEvent(product));
+
+      List<NotificationCreateEvent> notifications = closingNotifications(product, winner);
+      notifications.forEach(publisher::publishEvent);
+
+      jfrEvent.closed(winner != null);
+      return notifications.size();
+    } finally {
+      jfrEvent.commit();
+    }
+  }
+
+  private List<NotificationCreateEvent> closingNotifications(
+      Product product,
+      User winner
+  ) {
+    List<NotificationCreateEvent> notifications = new ArrayList<>();
 
     if (winner == null) {
-      publisher.publishEvent(NotificationCreateEvent
-                                 .builder()
-                                 .user(product.getWriter())
-                                 .notificationType(
-                                     END_PRODUCT_FOR_WRITER_NOT_WITH_WINNER)
-                                 .product(product)
-                                 .build());
-    } else {
-      publisher.publishEvent(NotificationCreateEvent
-                                 .builder()
-                                 .user(product.getWriter())
-                                 .notificationType(
-                                     END_PRODUCT_FOR_WRITER_WITH_WINNER)
-                                 .product(product)
-                                 .build());
-
-      publisher.publishEvent(NotificationCreateEvent
-                                 .builder()
-                                 .user(winner)
-                                 .notificationType(
-                                     END_PRODUCT_FOR_WINNER)
-                                 .product(product)
-                                 .build());
-      product
-          .getBiddersExceptWinner()
-          .forEach(bidder ->
-                       publisher.publishEvent(NotificationCreateEvent
-                                                  .builder()
-                                                  .user(bidder)
-                                                  .notificationType(
-                                                      END_PRODUCT_FOR_BIDDER)
-                                                  .product(product)
-                                                  .build()));
+      notifications.add(NotificationCreateEvent
+                            .builder()
+                            .user(product.getWriter())
+                            .notificationType(
+                                END_PRODUCT_FOR_WRITER_NOT_WITH_WINNER)
+                            .product(product)
+                            .build());
+      return notifications;
     }
+
+    notifications.add(NotificationCreateEvent
+                          .builder()
+                          .user(product.getWriter())
+                          .notificationType(
+                              END_PRODUCT_FOR_WRITER_WITH_WINNER)
+                          .product(product)
+                          .build());
+
+    notifications.add(NotificationCreateEvent
+                          .builder()
+                          .user(winner)
+                          .notificationType(
+                              END_PRODUCT_FOR_WINNER)
+                          .product(product)
+                          .build());
+    product
+        .getBiddersExceptWinner()
+        .forEach(bidder ->
+                     notifications.add(NotificationCreateEvent
+                                           .builder()
+                                           .user(bidder)
+                                           .notificationType(
+                                               END_PRODUCT_FOR_BIDDER)
+                                           .product(product)
+                                           .build()));
+    return notifications;
   }
 
   @Override
@@ -188,8 +235,7 @@ public class DefaultProductService implements ProductService {
       long userId,
       Optional<ChatRoom> optionalChatRoom
   ) {
-    Bidding biddingOfUser = findBiddingOfUser(product.getId(), userId);
-    if (biddingOfUser.isWon()) {
+    if (isWonBy(product.getId(), userId)) {
       ChatRoom chatRoom = verifyChatRoom(optionalChatRoom);
       return BiddingResultResponse.responseForSuccessfulBidder(
           chatRoom.getId(), product.getWinningPrice());
@@ -197,12 +243,18 @@ public class DefaultProductService implements ProductService {
     return BiddingResultResponse.responseForFailedBidder();
   }
 
-  private Bidding findBiddingOfUser(
+  private boolean isWonBy(
       long productId,
       long userId
   ) {
-    return biddingRepository
+    Optional<Bidding> bidding = biddingRepository.findByBidderIdAndProductId(userId, productId);
+    if (bidding.isPresent()) {
+      return bidding.get().isWon();
+    }
+    // 마감된 지 오래된 상품의 입찰은 보관 테이블로 옮겨져 있다
+    return archivedBiddingRepository
         .findByBidderIdAndProductId(userId, productId)
+        .map(ArchivedBidding::isWon)
         .orElseThrow(() -> new NotFoundException("Bidding not exist"));
   }
 
@@ -0,0 +1,181 @@
+package com.saiko.bidmarket.product.service;
+
+import java.util.function.LongFunction;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.saiko.bidmarket.common.config.CacheConfig;
+import com.saiko.bidmarket.product.controller.dto.ImagBasicResponse;
+import com.saiko.bidmarket.product.controller.dto.ProductDetailResponse;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.event.ProductSavedEvent;
+import com.saiko.bidmarket.product.event.WriterProductsClosedEvent;
+import com.saiko.bidmarket.user.event.UserUpdatedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 상품 id 별 {@link ProductDetailResponse} 캐시.
+ * 같은 id 의 동시 miss 는 Caffeine 이 하나의 로더 호출로 묶는다.
+ * 무효화는 커밋 이후에 해서, 커밋 전 값을 다른 요청이 다시 캐시에 올리지 않도록 한다.
+ */
+public class ProductDetailCache {
+
+  public static final String NAME = "productDetail";
+
+  private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+  private final Cache<Long, Entry> cache;
+
+  public ProductDetailCache(
+      CacheConfig.ProductDetail config,
+      Ticker ticker
+  ) {
+    Assert.notNull(config, "Config must be provided");
+    Assert.notNull(ticker, "Ticker must be provided");
+
+    long progressedTtl = config
+        .getProgressedTtl()
+        .toNanos();
+    long closedTtl = config
+        .getClosedTtl()
+        .toNanos();
+
+    this.cache = Caffeine
+        .newBuilder()
+        .maximumWeight(config
+                           .getMaximumSize()
+                           .toBytes())
+        .weigher((Long id, Entry entry) -> entry.weight)
+        .expireAfter(new Expiry<Long, Entry>() {
+          @Override
+          public long expireAfterCreate(
+              Long id,
+              Entry entry,
+              long currentTime
+          ) {
+            return entry.closed ? closedTtl : progressedTtl;
+          }
+
+          @Override
+          public long expireAfterUpdate(
+              Long id,
+              Entry entry,
+              long currentTime,
+              long currentDuration
+          ) {
+            return expireAfterCreate(id, entry, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(
+              Long id,
+              Entry entry,
+              long currentTime,
+              long currentDuration
+          ) {
+            return currentDuration;
+          }
+        })
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  public ProductDetailResponse get(
+      long productId,
+      LongFunction<Product> loader
+  ) {
+    Assert.notNull(loader, "Loader must be provided");
+
+    return cache
+        .get(productId, id -> new Entry(loader.apply(id)))
+        .response;
+  }
+
+  public void invalidate(long productId) {
+    cache.invalidate(productId);
+  }
+
+  public void invalidateAllOfWriter(long writerId) {
+    cache
+        .asMap()
+        .values()
+        .removeIf(entry -> entry.writerId == writerId);
+  }
+
+  public void bindTo(MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(ProductSavedEvent event) {
+    invalidate(event
+                   .getProduct()
+                   .getId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(WriterProductsClosedEvent event) {
+    invalidateAllOfWriter(event.getWriterId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(UserUpdatedEvent event) {
+    invalidateAllOfWriter(event.getUserId());
+  }
+
+  private static final class Entry {
+    private final ProductDetailResponse response;
+
+    private final long writerId;
+
+    private final boolean closed;
+
+    private final int weight;
+
+    private Entry(Product product) {
+      this.response = ProductDetailResponse.from(product);
+      this.writerId = response
+          .getWriter()
+          .getId();
+      this.closed = !product.isProgressed();
+      this.weight = estimateWeight(response);
+    }
+
+    private static int estimateWeight(ProductDetailResponse response) {
+      long chars = length(response.getTitle())
+          + length(response.getDescription())
+          + length(response.getLocation())
+          + length(response
+                       .getWriter()
+                       .getUsername())
+          + length(response
+                       .getWriter()
+                       .getProfileImage());
+      for (ImagBasicResponse image : response.getImages()) {
+        chars += length(image.getUrl()) + Integer.BYTES;
+      }
+      return (int)Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + chars * Character.BYTES);
+    }
+
+    private static int length(String value) {
+      return value == null ? 0 : value.length();
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.saiko.bidmarket.product.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.config.CacheConfig;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectResponse;
+import com.saiko.bidmarket.product.event.ProductSavedEvent;
+import com.saiko.bidmarket.product.event.WriterProductsClosedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 목록 앞쪽 페이지 캐시. 키에는 정규화한 요청 값과 카테고리 버전이 들어간다.
+ * 카테고리에 상품이 등록되거나 종료되면 그 카테고리와 전체(ALL) 버전을 올려
+ * 이전 키를 더 이상 조회하지 않게 하고, 남은 엔트리는 ttl 로 정리한다.
+ */
+public class ProductListingCache {
+
+  public static final String NAME = "productListing";
+
+  private final Cache<Key, List<ProductSelectResponse>> cache;
+
+  private final Map<Category, AtomicLong> versions = new EnumMap<>(Category.class);
+
+  private final int cacheablePages;
+
+  public ProductListingCache(
+      CacheConfig.ProductListing config,
+      Ticker ticker
+  ) {
+    Assert.notNull(config, "Config must be provided");
+    Assert.notNull(ticker, "Ticker must be provided");
+
+    for (Category category : Category.values()) {
+      versions.put(category, new AtomicLong());
+    }
+    this.cacheablePages = config.getCacheablePages();
+    this.cache = Caffeine
+        .newBuilder()
+        .maximumSize(config.getMaximumSize())
+        .expireAfterWrite(config.getTtl())
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  public List<ProductSelectResponse> get(
+      ProductSelectRequest request,
+      Function<ProductSelectRequest, List<ProductSelectResponse>> loader
+  ) {
+    Assert.notNull(request, "Request must be provided");
+    Assert.notNull(loader, "Loader must be provided");
+
+    if (!isCacheable(request)) {
+      return loader.apply(request);
+    }
+
+    Category category = normalize(request.getCategory());
+    Key key = new Key(
+        category,
+        request.getProgressed() == null ? null : Boolean.valueOf(request.getProgressed()),
+        request.getSort(),
+        request.getOffset(),
+        request.getLimit(),
+        versions
+            .get(category)
+            .get()
+    );
+    return cache.get(key, k -> List.copyOf(loader.apply(request)));
+  }
+
+  public void bump(Category category) {
+    Category normalized = normalize(category);
+    versions
+        .get(normalized)
+        .incrementAndGet();
+    if (normalized != Category.ALL) {
+      versions
+          .get(Category.ALL)
+          .incrementAndGet();
+    }
+  }
+
+  public void bumpAll() {
+    versions
+        .values()
+        .forEach(AtomicLong::incrementAndGet);
+  }
+
+  /**
+   * 적중, 실패, 제거 수를 cache.* 메트릭으로 내보낸다.
+   */
+  public void bindTo(MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(ProductSavedEvent event) {
+    bump(event
+             .getProduct()
+             .getCategory());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(WriterProductsClosedEvent event) {
+    bumpAll();
+  }
+
+  private boolean isCacheable(ProductSelectRequest request) {
+    return !StringUtils.hasText(request.getTitle())
+        && request.getOffset() < (long)request.getLimit() * cacheablePages;
+  }
+
+  private Category normalize(Category category) {
+    return category == null ? Category.ALL : category;
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static final class Key {
+    private final Category category;
+
+    private final Boolean progressed;
+
+    private final Sort sort;
+
+    private final long offset;
+
+    private final int limit;
+
+    private final long version;
+  }
+}
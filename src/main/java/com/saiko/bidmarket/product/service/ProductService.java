@@ -3,6 +3,7 @@ package com.saiko.bidmarket.product.service;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
 import com.saiko.bidmarket.product.controller.dto.BiddingResultResponse;
 import com.saiko.bidmarket.product.controller.dto.ProductCreateRequest;
 import com.saiko.bidmarket.product.controller.dto.ProductCreateResponse;
@@ -21,9 +22,15 @@ public interface ProductService {
 
   ProductDetailResponse findById(long id);
 
-  List<Product> findAllThatNeedToClose(LocalDateTime nowTime);
+  List<Product> findAllThatNeedToClose(
+      LocalDateTime nowTime,
+      PartitionAssignment assignment
+  );
 
-  void executeClosingProduct(Product product);
+  /**
+   * @return 발행한 마감 알림 수
+   */
+  int executeClosingProduct(Product product);
 
   BiddingResultResponse getBiddingResult(
       long productId,
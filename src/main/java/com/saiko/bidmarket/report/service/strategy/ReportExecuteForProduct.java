@@ -1,13 +1,18 @@
 package com.saiko.bidmarket.report.service.strategy;
 
+import java.util.List;
+
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
+import com.saiko.bidmarket.bidding.event.BiddingsDeletedEvent;
 import com.saiko.bidmarket.bidding.repository.BiddingRepository;
 import com.saiko.bidmarket.common.exception.NotFoundException;
 import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.event.ProductSavedEvent;
 import com.saiko.bidmarket.product.repository.ProductRepository;
 import com.saiko.bidmarket.report.entity.Report;
 import com.saiko.bidmarket.report.repository.ReportRepository;
@@ -32,6 +37,8 @@ public class ReportExecuteForProduct implements ReportExecuteStrategy {
 
   private final ReportValidator validator;
 
+  private final ApplicationEventPublisher publisher;
+
   @Override
   @Transactional
   public void execute(
@@ -68,6 +75,8 @@ public class ReportExecuteForProduct implements ReportExecuteStrategy {
     if (validator.isOverMaxReportCount(REPORT_TYPE, product.getId())) {
       biddingRepository.deleteAllBatchByProductId(product.getId());
       product.reportPenalty();
+      publisher.publishEvent(new BiddingsDeletedEvent(List.of(product.getId())));
+      publisher.publishEvent(new ProductSavedEvent(product));
     }
   }
 }
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.saiko.bidmarket.common.jwt.JwtAuthentication;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
 import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectResponse;
 import com.saiko.bidmarket.user.controller.dto.UserHeartCheckResponse;
@@ -74,7 +75,7 @@ public class UserApiController {
 
   @GetMapping("biddings")
   @ResponseStatus(HttpStatus.OK)
-  public List<UserBiddingSelectResponse> getAllUserBidding(
+  public CursorPage<UserBiddingSelectResponse> getAllUserBidding(
       @AuthenticationPrincipal
       JwtAuthentication authentication,
       @ModelAttribute @Valid
@@ -105,7 +106,7 @@ public class UserApiController {
 
   @GetMapping("hearts")
   @ResponseStatus(HttpStatus.OK)
-  public List<UserHeartSelectResponse> getAllUserHearts(
+  public CursorPage<UserHeartSelectResponse> getAllUserHearts(
       @AuthenticationPrincipal
       JwtAuthentication authentication,
       @ModelAttribute @Valid
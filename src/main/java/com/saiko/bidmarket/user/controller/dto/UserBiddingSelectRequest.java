@@ -3,7 +3,6 @@ package com.saiko.bidmarket.user.controller.dto;
 import static com.saiko.bidmarket.common.Sort.*;
 
 import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
 
 import com.saiko.bidmarket.common.Sort;
 
@@ -11,8 +10,7 @@ import lombok.Getter;
 
 @Getter
 public class UserBiddingSelectRequest {
-  @PositiveOrZero
-  private final long offset;
+  private final String cursor;
 
   @Positive
   private final int limit;
@@ -20,11 +18,11 @@ public class UserBiddingSelectRequest {
   private final Sort sort;
 
   public UserBiddingSelectRequest(
-      long offset,
+      String cursor,
       int limit,
       Sort sort
   ) {
-    this.offset = offset;
+    this.cursor = cursor;
     this.limit = limit;
     this.sort = sort != null ? sort : END_DATE_ASC;
   }
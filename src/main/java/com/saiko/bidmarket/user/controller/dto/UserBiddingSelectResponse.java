@@ -5,10 +5,12 @@ import java.time.LocalDateTime;
 import com.saiko.bidmarket.product.entity.Product;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
+@AllArgsConstructor
 @Builder(access = AccessLevel.PRIVATE)
 public class UserBiddingSelectResponse {
   private final long id;
@@ -27,14 +29,17 @@ public class UserBiddingSelectResponse {
 
   private final LocalDateTime updatedAt;
 
-  public static UserBiddingSelectResponse from(Product product) {
+  public static UserBiddingSelectResponse from(
+      Product product,
+      long heartCount
+  ) {
     return UserBiddingSelectResponse
         .builder()
         .id(product.getId())
         .title(product.getTitle())
         .thumbnailImage(product.getThumbnailImage())
         .minimumPrice(product.getMinimumPrice())
-        .heartCount(product.getHeartCount())
+        .heartCount(heartCount)
         .expireAt(product.getExpireAt())
         .createdAt(product.getCreatedAt())
         .updatedAt(product.getUpdatedAt())
@@ -3,7 +3,6 @@ package com.saiko.bidmarket.user.controller.dto;
 import static com.saiko.bidmarket.common.Sort.*;
 
 import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
 
 import com.saiko.bidmarket.common.Sort;
 
@@ -11,16 +10,15 @@ import lombok.Getter;
 
 @Getter
 public class UserHeartSelectRequest {
-  @PositiveOrZero
-  private final long offset;
+  private final String cursor;
 
   @Positive
   private final int limit;
 
   private final Sort sort;
 
-  public UserHeartSelectRequest(long offset, int limit, Sort sort) {
-    this.offset = offset;
+  public UserHeartSelectRequest(String cursor, int limit, Sort sort) {
+    this.cursor = cursor;
     this.limit = limit;
     this.sort = sort != null ? sort : END_DATE_ASC;
   }
@@ -4,12 +4,11 @@ import java.time.LocalDateTime;
 
 import com.saiko.bidmarket.product.entity.Product;
 
-import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor
 public class UserHeartSelectResponse {
   private final long id;
 
@@ -27,13 +26,16 @@ public class UserHeartSelectResponse {
 
   private final LocalDateTime updatedAt;
 
-  public static UserHeartSelectResponse from(Product product) {
+  public static UserHeartSelectResponse from(
+      Product product,
+      long heartCount
+  ) {
     return new UserHeartSelectResponse(
         product.getId(),
         product.getTitle(),
         product.getThumbnailImage(),
         product.getMinimumPrice(),
-        product.getHeartCount(),
+        heartCount,
         product.getExpireAt(),
         product.getCreatedAt(),
         product.getUpdatedAt()
@@ -4,12 +4,11 @@ import java.time.LocalDateTime;
 
 import com.saiko.bidmarket.product.entity.Product;
 
-import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor
 public class UserProductSelectResponse {
 
   private final long id;
@@ -28,12 +27,15 @@ public class UserProductSelectResponse {
 
   private final LocalDateTime updatedAt;
 
-  public static UserProductSelectResponse from(Product product) {
+  public static UserProductSelectResponse from(
+      Product product,
+      long heartCount
+  ) {
     return new UserProductSelectResponse(product.getId(),
                                          product.getTitle(),
                                          product.getThumbnailImage(),
                                          product.getMinimumPrice(),
-                                         product.getHeartCount(),
+                                         heartCount,
                                          product.getExpireAt(),
                                          product.getCreatedAt(),
                                          product.getUpdatedAt()
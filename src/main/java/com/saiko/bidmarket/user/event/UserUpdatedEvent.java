@@ -0,0 +1,19 @@
+package com.saiko.bidmarket.user.event;
+
+import org.springframework.util.Assert;
+
+import lombok.Getter;
+
+/**
+ * 이름, 프로필 이미지처럼 다른 응답에 함께 실리는 사용자 정보가 바뀌었을 때 발행한다.
+ */
+@Getter
+public class UserUpdatedEvent {
+  private final long userId;
+
+  public UserUpdatedEvent(long userId) {
+    Assert.isTrue(userId > 0, "User id must be positive");
+
+    this.userId = userId;
+  }
+}
@@ -1,11 +1,18 @@
 package com.saiko.bidmarket.user.repository;
 
+import static org.hibernate.jpa.QueryHints.*;
+
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.saiko.bidmarket.user.entity.Group;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
+  // 그룹은 변경되지 않으므로 이름 조회 결과도 query cache 에 둔다
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   Optional<Group> findByName(String name);
 }
@@ -12,7 +12,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
   @Query("select u from User u join fetch u.group g left join fetch g.permissions gp join fetch gp.permission where u.username = :username")
   Optional<User> findByUsername(String username);
 
-  @Query("select u from User u join fetch u.group g left join fetch g.permissions gp join fetch gp.permission where u.provider = :provider and u.providerId = :providerId")
+  // group 과 권한은 2차 캐시에서 채워지므로 user 행만 읽는다
   Optional<User> findByProviderAndProviderId(String provider, String providerId);
 
   @Query("select b.bidder from Bidding b join b.product p where b.won = true and p.id = :productId")
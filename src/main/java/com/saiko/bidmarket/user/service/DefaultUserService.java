@@ -6,16 +6,26 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import com.saiko.bidmarket.bidding.event.BiddingsDeletedEvent;
+import com.saiko.bidmarket.bidding.repository.ArchivedBiddingRepository;
 import com.saiko.bidmarket.bidding.repository.BiddingRepository;
 import com.saiko.bidmarket.common.exception.NotFoundException;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
+import com.saiko.bidmarket.common.page.SortCursor;
 import com.saiko.bidmarket.heart.entity.Heart;
+import com.saiko.bidmarket.heart.entity.HeartedProduct;
+import com.saiko.bidmarket.heart.event.HeartToggleRequestedEvent;
 import com.saiko.bidmarket.heart.repository.HeartRepository;
 import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.event.WriterProductsClosedEvent;
+import com.saiko.bidmarket.product.repository.ProductListingRepository;
 import com.saiko.bidmarket.product.repository.ProductRepository;
 import com.saiko.bidmarket.product.repository.dto.UserProductSelectQueryParameter;
 import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
@@ -29,6 +39,7 @@ import com.saiko.bidmarket.user.controller.dto.UserSelectResponse;
 import com.saiko.bidmarket.user.controller.dto.UserUpdateRequest;
 import com.saiko.bidmarket.user.entity.Group;
 import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.event.UserUpdatedEvent;
 import com.saiko.bidmarket.user.repository.UserRepository;
 
 import lombok.AccessLevel;
@@ -42,10 +53,13 @@ public class DefaultUserService implements UserService {
   private final Logger log = LoggerFactory.getLogger(getClass());
 
   private final ProductRepository productRepository;
+  private final ProductListingRepository productListingRepository;
   private final BiddingRepository biddingRepository;
+  private final ArchivedBiddingRepository archivedBiddingRepository;
   private final UserRepository userRepository;
   private final HeartRepository heartRepository;
   private final GroupService groupService;
+  private final ApplicationEventPublisher publisher;
 
   @Override
   public User findByProviderAndProviderId(String provider, String providerId) {
@@ -102,6 +116,7 @@ public class DefaultUserService implements UserService {
                                     .orElseThrow(
                                         () -> new NotFoundException("User does not exist"));
     user.update(request.getUsername(), request.getProfileImage());
+    publisher.publishEvent(new UserUpdatedEvent(id));
   }
 
   @Override
@@ -115,25 +130,17 @@ public class DefaultUserService implements UserService {
     final UserProductSelectQueryParameter queryParameter = UserProductSelectQueryParameter.of(
         userId, request);
 
-    return productRepository.findAllUserProduct(queryParameter)
-                            .stream()
-                            .map(UserProductSelectResponse::from)
-                            .collect(Collectors.toList());
+    return productListingRepository.findAllUserProductListing(queryParameter);
   }
 
   @Override
-  public List<UserBiddingSelectResponse> findAllUserBiddings(
+  public CursorPage<UserBiddingSelectResponse> findAllUserBiddings(
       long userId,
       UserBiddingSelectRequest request
   ) {
     Assert.notNull(request, "Request must be provided");
 
-    return biddingRepository
-        .findAllUserBidding(userId, request)
-        .stream()
-        .map((bidding) -> bidding.getProduct())
-        .map(UserBiddingSelectResponse::from)
-        .collect(Collectors.toList());
+    return productListingRepository.findAllUserBiddingListing(userId, request);
   }
 
   @Override
@@ -145,7 +152,10 @@ public class DefaultUserService implements UserService {
         .findById(userId)
         .orElseThrow(() -> new  NotFoundException("User does not exist"));
 
+    List<Long> biddingProductIds = biddingRepository.findAllProductIdsByBidderId(userId);
     biddingRepository.deleteAllBatchByBidderId(userId);
+    archivedBiddingRepository.deleteAllBatchByBidderId(userId);
+    publisher.publishEvent(new BiddingsDeletedEvent(biddingProductIds));
     finishUserProducts(userId);
     user.delete();
     //TODO: productRepository를 변경하도록 수정해야함
@@ -158,7 +168,7 @@ public class DefaultUserService implements UserService {
       long userId,
       long productId
   ) {
-    User user = userRepository
+    userRepository
         .findById(userId)
         .orElseThrow(() -> new NotFoundException("Product does not exist"));
 
@@ -166,22 +176,31 @@ public class DefaultUserService implements UserService {
         .findById(productId)
         .orElseThrow(() -> new NotFoundException("Product does not exist"));
 
-    Heart heart = findHeart(user, product);
-    heart.toggle();
+    boolean actived = heartRepository
+        .findByUserIdAndProductId(userId, productId)
+        .map(heart -> !heart.isActived())
+        .orElse(true);
+    HeartedProduct heartedProduct = HeartedProduct
+        .builder()
+        .id(productId)
+        .minimumPrice(product.getMinimumPrice())
+        .expireAt(product.getExpireAt())
+        .createdAt(product.getCreatedAt())
+        .build();
+    publisher.publishEvent(new HeartToggleRequestedEvent(userId, heartedProduct, actived));
   }
 
   @Override
-  public List<UserHeartSelectResponse> findAllUserHearts(
+  public CursorPage<UserHeartSelectResponse> findAllUserHearts(
       long userId,
       UserHeartSelectRequest request
   ) {
     Assert.notNull(request, "Request must be provided");
 
-    return heartRepository.findAllUserHeart(userId, request)
-                            .stream()
-                            .map(Heart::getProduct)
-                            .map(UserHeartSelectResponse::from)
-                            .collect(Collectors.toList());
+    Cursor cursor = SortCursor.decode(request.getCursor(), request.getSort());
+    List<Long> productIds = heartRepository.findAllActivedProductIds(
+        userId, request.getSort(), cursor, request.getLimit() + 1);
+    return productListingRepository.findAllHeartedProductListing(productIds, request);
   }
 
   @Override
@@ -201,19 +220,15 @@ public class DefaultUserService implements UserService {
         .orElseGet(() -> UserHeartCheckResponse.from(false));
   }
 
-  private Heart findHeart(
-      User user,
-      Product product
-  ) {
-    return heartRepository
-        .findByUserAndProduct(user, product)
-        .orElseGet(() -> heartRepository.save(Heart.of(user, product)));
-  }
-
   private void finishUserProducts(long userId) {
-    productRepository
+    List<Long> productIds = productRepository
         .findAllByWriterIdAndProgressed(userId, true)
-        .forEach(product -> biddingRepository.deleteAllBatchByProductId(product.getId()));
+        .stream()
+        .map(Product::getId)
+        .collect(Collectors.toList());
+    productIds.forEach(biddingRepository::deleteAllBatchByProductId);
     productRepository.finishByUserId(userId);
+    publisher.publishEvent(new BiddingsDeletedEvent(productIds));
+    publisher.publishEvent(new WriterProductsClosedEvent(userId));
   }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
 import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectResponse;
 import com.saiko.bidmarket.user.controller.dto.UserHeartCheckResponse;
@@ -27,8 +28,8 @@ public interface UserService {
   List<UserProductSelectResponse> findAllUserProducts(long userId,
                                                       UserProductSelectRequest request);
 
-  List<UserBiddingSelectResponse> findAllUserBiddings(long userId,
-                                                      UserBiddingSelectRequest request);
+  CursorPage<UserBiddingSelectResponse> findAllUserBiddings(long userId,
+                                                            UserBiddingSelectRequest request);
 
   void deleteUser(long userId);
 
@@ -37,7 +38,7 @@ public interface UserService {
       long productId
   );
 
-  List<UserHeartSelectResponse> findAllUserHearts(
+  CursorPage<UserHeartSelectResponse> findAllUserHearts(
       long userId,
       UserHeartSelectRequest request
   );
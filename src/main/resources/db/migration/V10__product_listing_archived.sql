@@ -0,0 +1,3 @@
+-- 보관된 상품의 목록 행은 지우지 않고 표시만 해서 사용자 기록에 남긴다
+ALTER TABLE `product_listing`
+    ADD COLUMN archived tinyint(1) not null default false;
@@ -0,0 +1,31 @@
+-- 찜 목록을 사용자 샤드 안에서 keyset 으로 넘기도록 상품 정렬 키를 heart 에 복사한다
+ALTER TABLE `heart`
+    ADD COLUMN product_minimum_price int AFTER product_id,
+    ADD COLUMN product_expire_at timestamp NULL AFTER product_minimum_price,
+    ADD COLUMN product_created_at timestamp NULL AFTER product_expire_at;
+
+UPDATE `heart` h
+    JOIN `product_listing` pl ON pl.product_id = h.product_id
+SET h.product_minimum_price = pl.minimum_price,
+    h.product_expire_at     = pl.expire_at,
+    h.product_created_at    = pl.created_at;
+
+UPDATE `heart` h
+    JOIN `product_archive` pa ON pa.id = h.product_id
+SET h.product_minimum_price = pa.minimum_price,
+    h.product_expire_at     = pa.expire_at,
+    h.product_created_at    = pa.created_at
+WHERE h.product_minimum_price IS NULL;
+
+-- 상품이 어디에도 없는 찜은 목록에 나올 수 없으므로 지운다
+DELETE
+FROM `heart`
+WHERE product_minimum_price IS NULL;
+
+ALTER TABLE `heart`
+    MODIFY product_minimum_price int NOT NULL,
+    MODIFY product_expire_at timestamp NOT NULL,
+    MODIFY product_created_at timestamp NOT NULL,
+    ADD INDEX idx_user_id_actived_minimum_price (user_id, actived, product_minimum_price, product_id),
+    ADD INDEX idx_user_id_actived_expire_at (user_id, actived, product_expire_at, product_id),
+    ADD INDEX idx_user_id_actived_created_at (user_id, actived, product_created_at, product_id);
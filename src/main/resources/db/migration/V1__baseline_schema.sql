@@ -0,0 +1,303 @@
+-- 버전 관리 이전에 sql.init 으로 만들던 스키마 그대로. 이미 적용된 DB 가 있으므로 고치지 않는다.
+
+create table `chat_message`
+(
+    id           bigint        not null,
+    sender_id    bigint        not null,
+    chat_room_id bigint        not null,
+    message      varchar(2000) not null,
+    created_at   timestamp,
+    updated_at   timestamp
+);
+
+create table `chat_room`
+(
+    id         bigint not null,
+    seller_id  bigint not null,
+    winner_id  bigint not null,
+    product_id bigint not null,
+    created_at timestamp,
+    updated_at timestamp
+);
+
+CREATE TABLE `bidding`
+(
+    id            bigint     not null,
+    bidding_price bigint     not null,
+    won           tinyint(1) not null,
+    created_at    timestamp  not null,
+    updated_at    timestamp,
+    bidder_id     bigint     not null,
+    product_id    bigint     not null
+);
+
+CREATE TABLE `comment`
+(
+    id         bigint       not null,
+    content    varchar(500) not null,
+    product_id bigint       not null,
+    user_id    bigint       not null,
+    created_at timestamp    not null,
+    updated_at timestamp
+);
+
+CREATE TABLE `notification`
+(
+    id         bigint       not null,
+    type       varchar(100) not null,
+    product_id bigint       not null,
+    user_id    bigint       not null,
+    checked    tinyint(1)   not null,
+    created_at timestamp    not null,
+    updated_at timestamp
+);
+
+CREATE TABLE `heart`
+(
+    id         bigint       not null,
+    user_id    bigint       not null,
+    product_id bigint       not null,
+    actived    tinyint(1)   not null,
+    created_at timestamp    not null,
+    updated_at timestamp
+);
+
+CREATE TABLE `product`
+(
+    id              bigint       not null,
+    title           varchar(32)  not null,
+    description     varchar(500) not null,
+    minimum_price   int          not null,
+    category        varchar(100) not null,
+    thumbnail_image varchar(512) not null,
+    location        varchar(20),
+    progressed      tinyint(1)   not null,
+    winning_price   bigint,
+    expire_at       timestamp    not null,
+    created_at      timestamp    not null,
+    updated_at      timestamp,
+    user_id         bigint
+);
+
+CREATE TABLE `image`
+(
+    id         bigint       not null,
+    product_id bigint,
+    url        varchar(512) not null,
+    `order`    int          not null,
+    created_at timestamp    not null,
+    updated_at timestamp
+);
+
+CREATE TABLE `report`
+(
+    id              bigint       not null,
+    reporter_id     bigint       not null,
+    `type`          varchar(16)  not null,
+    type_id         bigint       not null,
+    reason          text         not null,
+    created_at      timestamp    not null,
+    updated_at      timestamp
+);
+
+CREATE TABLE `permission`
+(
+    id   bigint      NOT NULL,
+    name varchar(20) NOT NULL
+);
+
+CREATE TABLE `group`
+(
+    id   bigint      NOT NULL,
+    name varchar(20) NOT NULL
+);
+
+CREATE TABLE `group_permission`
+(
+    id            bigint NOT NULL,
+    group_id      bigint NOT NULL,
+    permission_id bigint NOT NULL
+);
+
+CREATE TABLE `user`
+(
+    id            bigint      NOT NULL,
+    username      varchar(20) NOT NULL,
+    provider      varchar(20) DEFAULT NULL,
+    provider_id   varchar(80) DEFAULT NULL,
+    profile_image varchar(512) DEFAULT NULL,
+    group_id      bigint      NOT NULL,
+    created_at    timestamp   NOT NULL,
+    updated_at    timestamp
+);
+
+CREATE TABLE oauth2_authorized_client (
+  client_registration_id varchar(100) NOT NULL,
+  principal_name varchar(200) NOT NULL,
+  access_token_type varchar(100) NOT NULL,
+  access_token_value blob NOT NULL,
+  access_token_issued_at timestamp NOT NULL,
+  access_token_expires_at timestamp NOT NULL,
+  access_token_scopes varchar(1000) DEFAULT NULL,
+  refresh_token_value blob DEFAULT NULL,
+  refresh_token_issued_at timestamp DEFAULT NULL,
+  created_at timestamp DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  PRIMARY KEY (client_registration_id, principal_name)
+);
+
+-- PK
+
+ALTER TABLE `bidding`
+    ADD CONSTRAINT `PK_BIDDING` PRIMARY KEY (`id`);
+
+ALTER TABLE `product`
+    ADD CONSTRAINT `PK_PRODUCT` PRIMARY KEY (`id`);
+
+ALTER TABLE `image`
+    ADD CONSTRAINT `PK_IMAGE` PRIMARY KEY (`id`);
+
+ALTER TABLE `permission`
+    ADD CONSTRAINT `PK_PERMISSION` PRIMARY KEY (`id`);
+
+ALTER TABLE `group`
+    ADD CONSTRAINT `PK_GROUP` PRIMARY KEY (`id`);
+
+ALTER TABLE `group_permission`
+    ADD CONSTRAINT `PK_GROUP_PERMISSION` PRIMARY KEY (`id`);
+
+ALTER TABLE `chat_message`
+    ADD CONSTRAINT `PK_CHAT_MESSAGE` PRIMARY KEY (`id`);
+
+ALTER TABLE `chat_room`
+    ADD CONSTRAINT `PK_CHAT_ROOM` PRIMARY KEY (`id`);
+
+ALTER TABLE `report`
+    ADD CONSTRAINT `PK_REPORT` PRIMARY KEY (`id`);
+
+ALTER TABLE `notification`
+    ADD CONSTRAINT `PK_REPORT` PRIMARY KEY (`id`);
+
+ALTER TABLE `user`
+    ADD CONSTRAINT `PK_USER` PRIMARY KEY (`id`);
+
+ALTER TABLE `comment`
+    ADD CONSTRAINT `PK_COMMENT` PRIMARY KEY (`id`);
+
+ALTER TABLE `heart`
+    ADD CONSTRAINT `PK_COMMENT` PRIMARY KEY (`id`);
+
+-- AUTO INCREMENT
+
+ALTER TABLE `bidding`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `report`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `notification`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `comment`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `product`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `image`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `chat_message`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `chat_room`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `user`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+ALTER TABLE `heart`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT FIRST;
+
+-- FK
+
+ALTER TABLE `bidding`
+    ADD CONSTRAINT `FK_PRODUCT_ID_FOR_BIDDING`
+        FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `bidding`
+    ADD CONSTRAINT `FK_USER_ID_FOR_BIDDING`
+        FOREIGN KEY (`bidder_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+AlTER TABLE `notification`
+    ADD CONSTRAINT `FK_USER_ID_FOR_NOTIFICATION`
+        FOREIGN KEY (`user_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+AlTER TABLE `notification`
+    ADD CONSTRAINT `FK_PRODUCT_ID_FOR_NOTIFICATION`
+        FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+AlTER TABLE `comment`
+    ADD CONSTRAINT `FK_PRODUCT_ID_FOR_COMMENT`
+        FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+AlTER TABLE `comment`
+    ADD CONSTRAINT `FK_USER_ID_FOR_COMMENT`
+        FOREIGN KEY (`user_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `product`
+    ADD CONSTRAINT `FK_USER_ID_FOR_PRODUCT`
+        FOREIGN KEY (`user_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `image`
+    ADD CONSTRAINT `FK_PRODUCT_ID_FOR_IMAGE`
+        FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `group_permission`
+    ADD CONSTRAINT `FK_GROUP_ID_FOR_GROUP_PERMISSION`
+        FOREIGN KEY (`group_id`) REFERENCES `group` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `group_permission`
+    ADD CONSTRAINT `FK_PERMISSION_ID_FOR_GROUP_PERMISSION`
+        FOREIGN KEY (`permission_id`) REFERENCES `permission` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `chat_message`
+    ADD CONSTRAINT `FK_CHAT_ROOM_ID_FOR_CHAT_MESSAGE`
+        FOREIGN KEY (`chat_room_id`) REFERENCES `chat_room` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `chat_message`
+    ADD CONSTRAINT `FK_SENDER_ID_FOR_CHAT_MESSAGE`
+        FOREIGN KEY (`sender_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `chat_room`
+    ADD CONSTRAINT `FK_SELLER_ID_FOR_CHAT_ROOM`
+        FOREIGN KEY (`seller_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `chat_room`
+    ADD CONSTRAINT `FK_WINNER_ID_FOR_CHAT_ROOM`
+        FOREIGN KEY (`winner_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `chat_room`
+    ADD CONSTRAINT `FK_PRODUCT_ID_FOR_CHAT_ROOM`
+        FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `user`
+    ADD CONSTRAINT `FK_GROUP_ID_FOR_USER`
+        FOREIGN KEY (`group_id`) REFERENCES `group` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+ALTER TABLE `report`
+    ADD CONSTRAINT `FK_FROM_USER_ID_FOR_REPORT`
+        FOREIGN KEY (`reporter_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+AlTER TABLE `heart`
+    ADD CONSTRAINT `FK_USER_ID_FOR_HEART`
+        FOREIGN KEY (`user_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+AlTER TABLE `heart`
+    ADD CONSTRAINT `FK_PRODUCT_ID_FOR_HEART`
+        FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+
+-- Unique
+
+ALTER TABLE `group_permission`
+    ADD UNIQUE unq_group_id_permission_id (group_id, permission_id);
+
+ALTER TABLE `user`
+    ADD UNIQUE unq_provider_and_id (provider, provider_id);
+
+ALTER TABLE `report`
+    ADD UNIQUE unq_from_user_id_to_user_id (reporter_id, type, type_id);
+
+-- Index
+ALTER TABLE `report`
+    ADD INDEX idx_type_id_type (type_id, `type`);
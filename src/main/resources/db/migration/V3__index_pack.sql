@@ -0,0 +1,27 @@
+-- 저장소 쿼리마다 쓰는 인덱스. FK 컬럼은 InnoDB 가 만든 인덱스가 있으므로
+-- 그 인덱스로 충분한 쿼리(comment, image, chat_room 의 사용자 조회)는 따로 두지 않는다.
+-- 앞 컬럼이 FK 컬럼인 인덱스를 추가하면 InnoDB 가 만든 FK 인덱스는 자동으로 대체된다.
+
+-- 낙찰자 선정과 최고가 갱신은 상품별 입찰을 금액순으로 읽는다
+-- 사용자의 입찰 목록, 같은 상품 재입찰 확인, 탈퇴 시 정리는 입찰자로 찾는다
+ALTER TABLE `bidding`
+    ADD INDEX idx_product_id_bidding_price (product_id, bidding_price),
+    ADD INDEX idx_bidder_id_product_id (bidder_id, product_id);
+
+-- 채팅방의 메시지 목록과 마지막 메시지는 최신순으로 읽는다
+ALTER TABLE `chat_message`
+    ADD INDEX idx_chat_room_id_created_at (chat_room_id, created_at);
+
+-- 낙찰 뒤 채팅방을 만들기 전에 상품과 판매자로 이미 있는지 확인한다
+ALTER TABLE `chat_room`
+    ADD INDEX idx_product_id_seller_id (product_id, seller_id);
+
+-- 마감 스케줄러는 진행 중이면서 마감 시각이 지난 상품만 읽는다
+-- 탈퇴 시 진행 중인 상품 정리와 사용자의 상품 목록은 작성자로 찾는다
+ALTER TABLE `product`
+    ADD INDEX idx_progressed_expire_at (progressed, expire_at),
+    ADD INDEX idx_user_id_progressed (user_id, progressed);
+
+-- 로그인한 사용자를 이름으로 찾는다
+ALTER TABLE `user`
+    ADD INDEX idx_username (username);
@@ -0,0 +1,63 @@
+-- 마감 후 보관 기간이 지난 상품과 그 입찰, 이미지, 댓글을 옮겨 두는 테이블.
+-- 원본 테이블과 컬럼이 같고 옮긴 시각(archived_at)만 더 있다. 원본으로 되돌릴 일이 없으므로 FK 는 두지 않는다.
+
+CREATE TABLE `product_archive`
+(
+    id              bigint       not null,
+    title           varchar(32)  not null,
+    description     varchar(500) not null,
+    minimum_price   int          not null,
+    category        varchar(100) not null,
+    thumbnail_image varchar(512) not null,
+    location        varchar(20),
+    progressed      tinyint(1)   not null,
+    winning_price   bigint,
+    expire_at       timestamp    not null,
+    created_at      timestamp    not null,
+    updated_at      timestamp,
+    user_id         bigint,
+    archived_at     timestamp    not null,
+    CONSTRAINT `PK_PRODUCT_ARCHIVE` PRIMARY KEY (`id`),
+    INDEX idx_product_archive_user_id (user_id)
+);
+
+CREATE TABLE `image_archive`
+(
+    id          bigint       not null,
+    product_id  bigint,
+    url         varchar(512) not null,
+    `order`     int          not null,
+    created_at  timestamp    not null,
+    updated_at  timestamp,
+    archived_at timestamp    not null,
+    CONSTRAINT `PK_IMAGE_ARCHIVE` PRIMARY KEY (`id`),
+    INDEX idx_image_archive_product_id (product_id)
+);
+
+CREATE TABLE `comment_archive`
+(
+    id          bigint       not null,
+    content     varchar(500) not null,
+    product_id  bigint       not null,
+    user_id     bigint       not null,
+    created_at  timestamp    not null,
+    updated_at  timestamp,
+    archived_at timestamp    not null,
+    CONSTRAINT `PK_COMMENT_ARCHIVE` PRIMARY KEY (`id`),
+    INDEX idx_comment_archive_product_id (product_id)
+);
+
+CREATE TABLE `bidding_archive`
+(
+    id            bigint     not null,
+    bidding_price bigint     not null,
+    won           tinyint(1) not null,
+    created_at    timestamp  not null,
+    updated_at    timestamp,
+    bidder_id     bigint     not null,
+    product_id    bigint     not null,
+    archived_at   timestamp  not null,
+    CONSTRAINT `PK_BIDDING_ARCHIVE` PRIMARY KEY (`id`),
+    INDEX idx_bidding_archive_bidder_id_product_id (bidder_id, product_id),
+    INDEX idx_bidding_archive_product_id (product_id)
+);
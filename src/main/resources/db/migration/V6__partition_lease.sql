@@ -0,0 +1,10 @@
+-- 경매 종료 파티션과 노드 멤버십 lease
+CREATE TABLE `lease`
+(
+    name      varchar(64) not null,
+    owner     varchar(64),
+    expire_at datetime(3) not null
+);
+
+ALTER TABLE `lease`
+    ADD CONSTRAINT `PK_LEASE` PRIMARY KEY (`name`);
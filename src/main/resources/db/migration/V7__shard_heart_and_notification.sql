@@ -0,0 +1,23 @@
+-- heart, notification 은 user_id 기준으로 샤딩되어 다른 DB 에 있을 수 있으므로 FK 를 뗀다
+ALTER TABLE `heart`
+    DROP FOREIGN KEY `FK_USER_ID_FOR_HEART`,
+    DROP FOREIGN KEY `FK_PRODUCT_ID_FOR_HEART`;
+
+ALTER TABLE `notification`
+    DROP FOREIGN KEY `FK_USER_ID_FOR_NOTIFICATION`,
+    DROP FOREIGN KEY `FK_PRODUCT_ID_FOR_NOTIFICATION`;
+
+-- 찜 upsert 는 (user_id, product_id) 유니크 키에 기대므로 동시 요청으로 생긴 중복은 최근 행만 남긴다
+DELETE older
+FROM `heart` older
+         JOIN `heart` newer
+              ON newer.user_id = older.user_id
+                  AND newer.product_id = older.product_id
+                  AND newer.id > older.id;
+
+ALTER TABLE `heart`
+    ADD UNIQUE unq_user_id_product_id (user_id, product_id),
+    ADD INDEX idx_product_id_actived (product_id, actived);
+
+ALTER TABLE `notification`
+    ADD INDEX idx_user_id (user_id);
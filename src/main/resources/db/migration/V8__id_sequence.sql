@@ -0,0 +1,27 @@
+CREATE TABLE `id_sequence`
+(
+    sequence_name varchar(64) not null,
+    next_val      bigint      not null
+);
+
+ALTER TABLE `id_sequence`
+    ADD CONSTRAINT `PK_ID_SEQUENCE` PRIMARY KEY (`sequence_name`);
+
+-- PooledTableIdGenerator 가 사용하는 테이블별 다음 id. 시드 데이터 이후의 값부터 나눠준다.
+INSERT INTO `id_sequence`(sequence_name, next_val)
+SELECT 'user', COALESCE(MAX(id), 0) + 1 FROM `user`
+UNION ALL
+SELECT 'product', COALESCE(MAX(id), 0) + 1 FROM `product`
+UNION ALL
+SELECT 'image', COALESCE(MAX(id), 0) + 1 FROM `image`
+UNION ALL
+SELECT 'bidding', COALESCE(MAX(id), 0) + 1 FROM `bidding`
+UNION ALL
+SELECT 'chat_room', COALESCE(MAX(id), 0) + 1 FROM `chat_room`
+UNION ALL
+SELECT 'chat_message', COALESCE(MAX(id), 0) + 1 FROM `chat_message`
+UNION ALL
+SELECT 'comment', COALESCE(MAX(id), 0) + 1 FROM `comment`
+UNION ALL
+SELECT 'report', COALESCE(MAX(id), 0) + 1 FROM `report`
+;
@@ -0,0 +1,47 @@
+-- 목록 조회용 읽기 모델. 이후로는 도메인 이벤트로 갱신하고 여기서는 기존 상품으로 한 번 채운다
+CREATE TABLE `product_listing`
+(
+    product_id      bigint       not null,
+    writer_id       bigint       not null,
+    title           varchar(32)  not null,
+    thumbnail_image varchar(512),
+    minimum_price   int          not null,
+    top_bid_price   bigint,
+    heart_count     bigint       not null,
+    category        varchar(100) not null,
+    progressed      tinyint(1)   not null,
+    expire_at       timestamp    not null,
+    created_at      timestamp    not null,
+    updated_at      timestamp
+);
+
+ALTER TABLE `product_listing`
+    ADD CONSTRAINT `PK_PRODUCT_LISTING` PRIMARY KEY (`product_id`);
+
+-- product_listing 은 Sort 의 정렬 기준마다 단독, 카테고리 필터와 함께 쓰는 인덱스를 둔다
+ALTER TABLE `product_listing`
+    ADD INDEX idx_expire_at (expire_at),
+    ADD INDEX idx_minimum_price (minimum_price),
+    ADD INDEX idx_created_at (created_at),
+    ADD INDEX idx_category_expire_at (category, expire_at),
+    ADD INDEX idx_category_minimum_price (category, minimum_price),
+    ADD INDEX idx_category_created_at (category, created_at),
+    ADD INDEX idx_writer_id (writer_id);
+
+INSERT INTO `product_listing`(product_id, writer_id, title, thumbnail_image, minimum_price,
+                              top_bid_price, heart_count, category, progressed, expire_at,
+                              created_at, updated_at)
+SELECT p.id,
+       p.user_id,
+       p.title,
+       p.thumbnail_image,
+       p.minimum_price,
+       (SELECT MAX(b.bidding_price) FROM `bidding` b WHERE b.product_id = p.id),
+       (SELECT COUNT(1) FROM `heart` h WHERE h.product_id = p.id AND h.actived = true),
+       p.category,
+       p.progressed,
+       p.expire_at,
+       p.created_at,
+       p.updated_at
+FROM `product` p
+;
@@ -0,0 +1,17 @@
+-- hot_retention 이 지난 채팅 메시지를 방별로 묶어 압축한 세그먼트. 한 번 쓰면 바뀌지 않는다.
+-- end_position 은 방의 보관된 메시지를 오래된 순으로 셌을 때 이 세그먼트 마지막 메시지의 순번(1부터)이다.
+DROP TABLE IF EXISTS `chat_message_segment` CASCADE;
+
+CREATE TABLE `chat_message_segment`
+(
+    chat_room_id     bigint     not null,
+    end_position     bigint     not null,
+    message_count    int        not null,
+    first_message_id bigint     not null,
+    last_message_id  bigint     not null,
+    first_created_at timestamp  not null,
+    last_created_at  timestamp  not null,
+    payload          mediumblob not null,
+    created_at       timestamp  not null,
+    CONSTRAINT `PK_CHAT_MESSAGE_SEGMENT` PRIMARY KEY (`chat_room_id`, `end_position`)
+);
@@ -39,6 +39,15 @@ ALTER TABLE `comment`
 ALTER TABLE `heart`
     ADD CONSTRAINT `PK_COMMENT` PRIMARY KEY (`id`);
 
+ALTER TABLE `lease`
+    ADD CONSTRAINT `PK_LEASE` PRIMARY KEY (`name`);
+
+ALTER TABLE `id_sequence`
+    ADD CONSTRAINT `PK_ID_SEQUENCE` PRIMARY KEY (`sequence_name`);
+
+ALTER TABLE `product_listing`
+    ADD CONSTRAINT `PK_PRODUCT_LISTING` PRIMARY KEY (`product_id`);
+
 -- AUTO INCREMENT
 
 ALTER TABLE `bidding`
@@ -72,14 +81,6 @@ ALTER TABLE `bidding`
     ADD CONSTRAINT `FK_USER_ID_FOR_BIDDING`
         FOREIGN KEY (`bidder_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
 
-AlTER TABLE `notification`
-    ADD CONSTRAINT `FK_USER_ID_FOR_NOTIFICATION`
-        FOREIGN KEY (`user_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
-
-AlTER TABLE `notification`
-    ADD CONSTRAINT `FK_PRODUCT_ID_FOR_NOTIFICATION`
-        FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
-
 AlTER TABLE `comment`
     ADD CONSTRAINT `FK_PRODUCT_ID_FOR_COMMENT`
         FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
@@ -132,13 +133,7 @@ ALTER TABLE `report`
     ADD CONSTRAINT `FK_FROM_USER_ID_FOR_REPORT`
         FOREIGN KEY (`reporter_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
 
-AlTER TABLE `heart`
-    ADD CONSTRAINT `FK_USER_ID_FOR_HEART`
-        FOREIGN KEY (`user_id`) REFERENCES `user` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
-
-AlTER TABLE `heart`
-    ADD CONSTRAINT `FK_PRODUCT_ID_FOR_HEART`
-        FOREIGN KEY (`product_id`) REFERENCES `product` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT;
+-- heart, notification 은 user_id 기준으로 샤딩되어 다른 DB 에 있을 수 있으므로 FK 를 두지 않는다
 
 -- Unique
 
@@ -151,6 +146,31 @@ ALTER TABLE `user`
 ALTER TABLE `report`
     ADD UNIQUE unq_from_user_id_to_user_id (reporter_id, type, type_id);
 
+ALTER TABLE `heart`
+    ADD UNIQUE unq_user_id_product_id (user_id, product_id);
+
 -- Index
 ALTER TABLE `report`
     ADD INDEX idx_type_id_type (type_id, `type`);
+
+ALTER TABLE `heart`
+    ADD INDEX idx_product_id_actived (product_id, actived);
+
+-- 찜 목록은 heart 에 복사한 상품 정렬 키로 샤드 안에서 keyset 으로 넘긴다
+ALTER TABLE `heart`
+    ADD INDEX idx_user_id_actived_minimum_price (user_id, actived, product_minimum_price, product_id),
+    ADD INDEX idx_user_id_actived_expire_at (user_id, actived, product_expire_at, product_id),
+    ADD INDEX idx_user_id_actived_created_at (user_id, actived, product_created_at, product_id);
+
+ALTER TABLE `notification`
+    ADD INDEX idx_user_id (user_id);
+
+-- product_listing 은 Sort 의 정렬 기준마다 단독, 카테고리 필터와 함께 쓰는 인덱스를 둔다
+ALTER TABLE `product_listing`
+    ADD INDEX idx_expire_at (expire_at),
+    ADD INDEX idx_minimum_price (minimum_price),
+    ADD INDEX idx_created_at (created_at),
+    ADD INDEX idx_category_expire_at (category, expire_at),
+    ADD INDEX idx_category_minimum_price (category, minimum_price),
+    ADD INDEX idx_category_created_at (category, created_at),
+    ADD INDEX idx_writer_id (writer_id);
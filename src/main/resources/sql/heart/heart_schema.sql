@@ -2,10 +2,13 @@ DROP TABLE IF EXISTS `heart` CASCADE;
 
 CREATE TABLE `heart`
 (
-    id         bigint       not null,
-    user_id    bigint       not null,
-    product_id bigint       not null,
-    actived    tinyint(1)   not null,
-    created_at timestamp    not null,
-    updated_at timestamp
+    id                    bigint       not null,
+    user_id               bigint       not null,
+    product_id            bigint       not null,
+    product_minimum_price int          not null,
+    product_expire_at     timestamp    not null,
+    product_created_at    timestamp    not null,
+    actived               tinyint(1)   not null,
+    created_at            timestamp    not null,
+    updated_at            timestamp
 );
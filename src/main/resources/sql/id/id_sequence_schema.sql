@@ -0,0 +1,7 @@
+DROP TABLE IF EXISTS `id_sequence` CASCADE;
+
+CREATE TABLE `id_sequence`
+(
+    sequence_name varchar(64) not null,
+    next_val      bigint      not null
+);
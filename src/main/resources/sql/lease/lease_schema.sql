@@ -0,0 +1,8 @@
+DROP TABLE IF EXISTS `lease` CASCADE;
+
+CREATE TABLE `lease`
+(
+    name      varchar(64) not null,
+    owner     varchar(64),
+    expire_at datetime(3) not null
+);
@@ -0,0 +1,14 @@
+-- 주 트랜잭션과 함께 커밋된 알림을 사용자 샤드로 옮기기 전까지 둔다. attempts 는 옮기다 실패한 횟수다.
+DROP TABLE IF EXISTS `notification_outbox` CASCADE;
+
+CREATE TABLE `notification_outbox`
+(
+    id         bigint       not null AUTO_INCREMENT,
+    type       varchar(100) not null,
+    product_id bigint       not null,
+    user_id    bigint       not null,
+    attempts   int          not null,
+    created_at timestamp    not null,
+    CONSTRAINT `PK_NOTIFICATION_OUTBOX` PRIMARY KEY (`id`),
+    INDEX idx_attempts_id (attempts, id)
+);
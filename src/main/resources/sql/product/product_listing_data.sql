@@ -0,0 +1,17 @@
+INSERT INTO `product_listing`(product_id, writer_id, title, thumbnail_image, minimum_price,
+                              top_bid_price, heart_count, category, progressed, expire_at,
+                              created_at, updated_at)
+SELECT p.id,
+       p.user_id,
+       p.title,
+       p.thumbnail_image,
+       p.minimum_price,
+       (SELECT MAX(b.bidding_price) FROM `bidding` b WHERE b.product_id = p.id),
+       0,
+       p.category,
+       p.progressed,
+       p.expire_at,
+       p.created_at,
+       p.updated_at
+FROM `product` p
+;
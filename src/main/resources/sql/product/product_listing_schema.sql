@@ -0,0 +1,18 @@
+DROP TABLE IF EXISTS `product_listing` CASCADE;
+
+CREATE TABLE `product_listing`
+(
+    product_id      bigint       not null,
+    writer_id       bigint       not null,
+    title           varchar(32)  not null,
+    thumbnail_image varchar(512),
+    minimum_price   int          not null,
+    top_bid_price   bigint,
+    heart_count     bigint       not null,
+    category        varchar(100) not null,
+    progressed      tinyint(1)   not null,
+    archived        tinyint(1)   not null default false,
+    expire_at       timestamp    not null,
+    created_at      timestamp    not null,
+    updated_at      timestamp
+);
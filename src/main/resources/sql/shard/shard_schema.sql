@@ -0,0 +1,31 @@
+CREATE TABLE IF NOT EXISTS `heart`
+(
+    id                    bigint       not null AUTO_INCREMENT,
+    user_id               bigint       not null,
+    product_id            bigint       not null,
+    product_minimum_price int          not null,
+    product_expire_at     timestamp    not null,
+    product_created_at    timestamp    not null,
+    actived               tinyint(1)   not null,
+    created_at            timestamp    not null,
+    updated_at            timestamp,
+    CONSTRAINT `PK_HEART` PRIMARY KEY (`id`),
+    UNIQUE unq_user_id_product_id (user_id, product_id),
+    INDEX idx_product_id_actived (product_id, actived),
+    INDEX idx_user_id_actived_minimum_price (user_id, actived, product_minimum_price, product_id),
+    INDEX idx_user_id_actived_expire_at (user_id, actived, product_expire_at, product_id),
+    INDEX idx_user_id_actived_created_at (user_id, actived, product_created_at, product_id)
+);
+
+CREATE TABLE IF NOT EXISTS `notification`
+(
+    id         bigint       not null AUTO_INCREMENT,
+    type       varchar(100) not null,
+    product_id bigint       not null,
+    user_id    bigint       not null,
+    checked    tinyint(1)   not null,
+    created_at timestamp    not null,
+    updated_at timestamp,
+    CONSTRAINT `PK_NOTIFICATION` PRIMARY KEY (`id`),
+    INDEX idx_user_id (user_id)
+);
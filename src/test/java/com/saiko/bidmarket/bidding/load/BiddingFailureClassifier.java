@@ -0,0 +1,88 @@
+package com.saiko.bidmarket.bidding.load;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 입찰 트랜잭션 바깥에서 예외를 받아 DB 실패 원인별로 센다.
+ * 응답은 모두 500 이라 클라이언트 쪽에서는 데드락과 제약 조건 위반을 구분할 수 없기 때문이다.
+ * 커밋 시점에 나는 예외까지 보려고 트랜잭션 advisor 보다 먼저 실행된다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BiddingFailureClassifier {
+
+  private static final int MYSQL_DEADLOCK = 1213;
+
+  private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+
+  private static final String INTEGRITY_CONSTRAINT_SQL_STATE_CLASS = "23";
+
+  private final Map<Failure, LongAdder> counts = new EnumMap<>(Failure.class);
+
+  public BiddingFailureClassifier() {
+    for (Failure failure : Failure.values()) {
+      counts.put(failure, new LongAdder());
+    }
+  }
+
+  @Around("execution(* com.saiko.bidmarket.bidding.service.BiddingService.create(..))")
+  public Object classify(ProceedingJoinPoint joinPoint) throws Throwable {
+    try {
+      return joinPoint.proceed();
+    } catch (RuntimeException e) {
+      Failure
+          .of(e)
+          .ifPresent(failure -> counts.get(failure).increment());
+      throw e;
+    }
+  }
+
+  public long count(Failure failure) {
+    return counts.get(failure).sum();
+  }
+
+  public void reset() {
+    counts.values().forEach(LongAdder::reset);
+  }
+
+  public enum Failure {
+    DEADLOCK,
+    LOCK_WAIT_TIMEOUT,
+    CONSTRAINT_VIOLATION,
+    OTHER_SQL;
+
+    /**
+     * 원인에 SQLException 이 없는 예외는 입찰 검증 실패 같은 비즈니스 거절이라 세지 않는다.
+     */
+    static Optional<Failure> of(Throwable throwable) {
+      for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+        if (!(cause instanceof SQLException)) {
+          continue;
+        }
+        SQLException sqlException = (SQLException)cause;
+        if (sqlException.getErrorCode() == MYSQL_DEADLOCK) {
+          return Optional.of(DEADLOCK);
+        }
+        if (sqlException.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT) {
+          return Optional.of(LOCK_WAIT_TIMEOUT);
+        }
+        String sqlState = sqlException.getSQLState();
+        if (sqlState != null && sqlState.startsWith(INTEGRITY_CONSTRAINT_SQL_STATE_CLASS)) {
+          return Optional.of(CONSTRAINT_VIOLATION);
+        }
+        return Optional.of(OTHER_SQL);
+      }
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.saiko.bidmarket.bidding.load;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+import lombok.Getter;
+
+/**
+ * 시나리오 시작 시점으로부터 offset 만큼 지나서 보낼 입찰 요청 하나.
+ */
+@Getter
+public class BiddingLoadCall {
+
+  private final long productId;
+
+  private final long bidderId;
+
+  private final long biddingPrice;
+
+  private final Duration offset;
+
+  public BiddingLoadCall(long productId, long bidderId, long biddingPrice, Duration offset) {
+    Assert.notNull(offset, "Offset must be provided");
+    Assert.isTrue(!offset.isNegative(), "Offset must not be negative");
+
+    this.productId = productId;
+    this.bidderId = bidderId;
+    this.biddingPrice = biddingPrice;
+    this.offset = offset;
+  }
+}
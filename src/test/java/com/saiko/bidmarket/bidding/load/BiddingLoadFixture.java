@@ -0,0 +1,110 @@
+package com.saiko.bidmarket.bidding.load;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.repository.ProductRepository;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.repository.GroupRepository;
+import com.saiko.bidmarket.user.repository.UserRepository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시나리오가 요구하는 판매자, 입찰자, 상품을 실제 DB 에 만든다.
+ * 반복 실행해도 겹치지 않도록 providerId 에 실행마다 다른 접두어를 붙인다.
+ */
+@RequiredArgsConstructor
+public class BiddingLoadFixture {
+
+  public static final int MINIMUM_PRICE = 1_000;
+
+  private static final long PRICE_UNIT = 100L;
+
+  private static final long USER_GROUP_ID = 1L;
+
+  private final GroupRepository groupRepository;
+
+  private final UserRepository userRepository;
+
+  private final ProductRepository productRepository;
+
+  @Getter
+  private List<Long> productIds = List.of();
+
+  @Getter
+  private List<Long> bidderIds = List.of();
+
+  /**
+   * n 번째로 같은 상품에 들어가는 입찰 금액. 뒤에 온 입찰일수록 비싸다.
+   */
+  public static long price(int n) {
+    return MINIMUM_PRICE + PRICE_UNIT * (n + 1);
+  }
+
+  public void prepare(BiddingLoadScenario scenario) {
+    Group group = groupRepository
+        .findById(USER_GROUP_ID)
+        .orElseThrow();
+    String prefix = scenario.name() + "-" + System.currentTimeMillis() + "-";
+
+    User writer = userRepository.save(user(prefix + "writer", group));
+    bidderIds = userRepository
+        .saveAll(IntStream
+                     .range(0, scenario.bidderCount())
+                     .mapToObj(i -> user(prefix + i, group))
+                     .collect(Collectors.toList()))
+        .stream()
+        .map(User::getId)
+        .collect(Collectors.toList());
+
+    LocalDateTime expireAt = scenario
+        .expireAfter()
+        .map(LocalDateTime.now()::plus)
+        .orElse(null);
+    productIds = productRepository
+        .saveAll(IntStream
+                     .range(0, scenario.productCount())
+                     .mapToObj(i -> product(scenario.name() + " " + i, writer, expireAt))
+                     .collect(Collectors.toList()))
+        .stream()
+        .map(Product::getId)
+        .collect(Collectors.toList());
+  }
+
+  private static User user(String providerId, Group group) {
+    return User
+        .builder()
+        .username("load")
+        .profileImage("image")
+        .provider("google")
+        .providerId(providerId)
+        .group(group)
+        .build();
+  }
+
+  private static Product product(String title, User writer, LocalDateTime expireAt) {
+    Product product = Product
+        .builder()
+        .title(title)
+        .description("부하 테스트 상품")
+        .category(Category.DIGITAL_DEVICE)
+        .minimumPrice(MINIMUM_PRICE)
+        .images(List.of("image"))
+        .location(null)
+        .writer(writer)
+        .build();
+    if (expireAt != null) {
+      ReflectionTestUtils.setField(product, "expireAt", expireAt);
+    }
+    return product;
+  }
+}
@@ -0,0 +1,62 @@
+package com.saiko.bidmarket.bidding.load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시나리오 한 번의 결과. build/reports/load 에 JSON 으로 남겨 실행끼리 비교한다.
+ * 지연은 요청이 실제로 나간 시각이 아니라 나가야 했던 시각부터 재므로 서버가 밀리면 대기 시간까지 포함된다.
+ */
+@Getter
+@Builder
+public class BiddingLoadReport {
+
+  private final String scenario;
+
+  private final int requests;
+
+  private final int concurrency;
+
+  private final long created;
+
+  private final long rejected;
+
+  private final long serverErrors;
+
+  private final long transportErrors;
+
+  private final long deadlocks;
+
+  private final long lockWaitTimeouts;
+
+  private final long constraintViolations;
+
+  private final long otherSqlFailures;
+
+  private final long elapsedMillis;
+
+  private final double throughputPerSecond;
+
+  private final double p50Millis;
+
+  private final double p90Millis;
+
+  private final double p99Millis;
+
+  private final double p999Millis;
+
+  private final double maxMillis;
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: %d requests (concurrency %d) in %.1fs, %.1f created/s, "
+            + "created=%d rejected=%d 5xx=%d transport=%d, "
+            + "deadlocks=%d lockWaitTimeouts=%d constraintViolations=%d otherSql=%d, "
+            + "p50=%.1fms p90=%.1fms p99=%.1fms p999=%.1fms max=%.1fms",
+        scenario, requests, concurrency, elapsedMillis / 1000.0, throughputPerSecond,
+        created, rejected, serverErrors, transportErrors,
+        deadlocks, lockWaitTimeouts, constraintViolations, otherSqlFailures,
+        p50Millis, p90Millis, p99Millis, p999Millis, maxMillis);
+  }
+}
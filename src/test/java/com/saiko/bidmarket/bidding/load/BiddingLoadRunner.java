@@ -0,0 +1,173 @@
+package com.saiko.bidmarket.bidding.load;
+
+import static java.util.concurrent.TimeUnit.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiko.bidmarket.bidding.controller.dto.BiddingCreateRequest;
+import com.saiko.bidmarket.bidding.load.BiddingFailureClassifier.Failure;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 시나리오의 입찰 요청을 정해진 offset 에 맞춰 실제 HTTP 로 보낸다.
+ * 동시에 떠 있는 요청 수는 시나리오의 concurrency 를 넘지 않는다.
+ */
+public class BiddingLoadRunner {
+
+  private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final URI endpoint;
+
+  private final String tokenHeader;
+
+  private final LongFunction<String> tokenOf;
+
+  private final ObjectMapper objectMapper;
+
+  private final BiddingFailureClassifier failureClassifier;
+
+  public BiddingLoadRunner(
+      URI endpoint,
+      String tokenHeader,
+      LongFunction<String> tokenOf,
+      ObjectMapper objectMapper,
+      BiddingFailureClassifier failureClassifier
+  ) {
+    Assert.notNull(endpoint, "Endpoint must be provided");
+    Assert.hasText(tokenHeader, "TokenHeader must be provided");
+    Assert.notNull(tokenOf, "TokenOf must be provided");
+    Assert.notNull(objectMapper, "ObjectMapper must be provided");
+    Assert.notNull(failureClassifier, "FailureClassifier must be provided");
+
+    this.endpoint = endpoint;
+    this.tokenHeader = tokenHeader;
+    this.tokenOf = tokenOf;
+    this.objectMapper = objectMapper;
+    this.failureClassifier = failureClassifier;
+  }
+
+  public BiddingLoadReport run(BiddingLoadScenario scenario, List<BiddingLoadCall> calls)
+      throws InterruptedException {
+    Assert.notNull(scenario, "Scenario must be provided");
+    Assert.notEmpty(calls, "Calls must be provided");
+
+    failureClassifier.reset();
+    Timer latency = Timer
+        .builder("bidding.load.latency")
+        .publishPercentiles(PERCENTILES)
+        .percentilePrecision(2)
+        .distributionStatisticExpiry(Duration.ofHours(1))
+        .distributionStatisticBufferLength(1)
+        .register(new SimpleMeterRegistry());
+    LongAdder created = new LongAdder();
+    LongAdder rejected = new LongAdder();
+    LongAdder serverErrors = new LongAdder();
+    LongAdder transportErrors = new LongAdder();
+
+    ExecutorService executor = Executors.newFixedThreadPool(scenario.concurrency());
+    HttpClient client = HttpClient
+        .newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(executor)
+        .build();
+    Semaphore inFlight = new Semaphore(scenario.concurrency());
+    List<CompletableFuture<?>> responses = new ArrayList<>(calls.size());
+
+    long startNanos = System.nanoTime();
+    try {
+      for (BiddingLoadCall call : calls) {
+        long scheduledNanos = startNanos + call.getOffset().toNanos();
+        LockSupport.parkNanos(scheduledNanos - System.nanoTime());
+        inFlight.acquire();
+        responses.add(client
+                          .sendAsync(request(call), HttpResponse.BodyHandlers.discarding())
+                          .handle((response, error) -> {
+                            inFlight.release();
+                            latency.record(System.nanoTime() - scheduledNanos, NANOSECONDS);
+                            if (error != null) {
+                              transportErrors.increment();
+                            } else if (response.statusCode() == HttpStatus.CREATED.value()) {
+                              created.increment();
+                            } else if (response.statusCode() >= 500) {
+                              serverErrors.increment();
+                            } else {
+                              rejected.increment();
+                            }
+                            return null;
+                          }));
+      }
+      CompletableFuture
+          .allOf(responses.toArray(CompletableFuture[]::new))
+          .join();
+    } finally {
+      executor.shutdownNow();
+    }
+    long elapsedNanos = System.nanoTime() - startNanos;
+
+    HistogramSnapshot snapshot = latency.takeSnapshot();
+    ValueAtPercentile[] percentiles = snapshot.percentileValues();
+    return BiddingLoadReport
+        .builder()
+        .scenario(scenario.name())
+        .requests(calls.size())
+        .concurrency(scenario.concurrency())
+        .created(created.sum())
+        .rejected(rejected.sum())
+        .serverErrors(serverErrors.sum())
+        .transportErrors(transportErrors.sum())
+        .deadlocks(failureClassifier.count(Failure.DEADLOCK))
+        .lockWaitTimeouts(failureClassifier.count(Failure.LOCK_WAIT_TIMEOUT))
+        .constraintViolations(failureClassifier.count(Failure.CONSTRAINT_VIOLATION))
+        .otherSqlFailures(failureClassifier.count(Failure.OTHER_SQL))
+        .elapsedMillis(NANOSECONDS.toMillis(elapsedNanos))
+        .throughputPerSecond(created.sum() / (elapsedNanos / 1e9))
+        .p50Millis(percentiles[0].value(MILLISECONDS))
+        .p90Millis(percentiles[1].value(MILLISECONDS))
+        .p99Millis(percentiles[2].value(MILLISECONDS))
+        .p999Millis(percentiles[3].value(MILLISECONDS))
+        .maxMillis(snapshot.max(MILLISECONDS))
+        .build();
+  }
+
+  private HttpRequest request(BiddingLoadCall call) {
+    try {
+      String body = objectMapper.writeValueAsString(
+          new BiddingCreateRequest(call.getProductId(), call.getBiddingPrice()));
+      return HttpRequest
+          .newBuilder(endpoint)
+          .timeout(REQUEST_TIMEOUT)
+          .header(tokenHeader, tokenOf.apply(call.getBidderId()))
+          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+          .POST(HttpRequest.BodyPublishers.ofString(body))
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
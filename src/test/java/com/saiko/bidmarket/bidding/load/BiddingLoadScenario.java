@@ -0,0 +1,29 @@
+package com.saiko.bidmarket.bidding.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 입찰 부하 시나리오. 준비할 상품과 입찰자 수, 동시 요청 수를 정하고
+ * 준비된 id 로 보낼 입찰 요청 목록을 만든다.
+ */
+public interface BiddingLoadScenario {
+
+  String name();
+
+  int productCount();
+
+  int bidderCount();
+
+  int concurrency();
+
+  /**
+   * 준비된 상품이 마감되기까지 남은 시간. 비어 있으면 상품 기본 진행 기간을 그대로 쓴다.
+   */
+  default Optional<Duration> expireAfter() {
+    return Optional.empty();
+  }
+
+  List<BiddingLoadCall> plan(List<Long> productIds, List<Long> bidderIds);
+}
@@ -0,0 +1,141 @@
+package com.saiko.bidmarket.bidding.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiko.bidmarket.common.config.JwtConfig;
+import com.saiko.bidmarket.common.jwt.Jwt;
+import com.saiko.bidmarket.product.repository.ProductRepository;
+import com.saiko.bidmarket.user.repository.GroupRepository;
+import com.saiko.bidmarket.user.repository.UserRepository;
+
+/**
+ * MySQL 컨테이너 위에 앱을 띄우고 입찰 API 에 부하를 건다. 일반 test 에서는 빠지고 loadTest 태스크로만 돈다.
+ * -Pload.scenarios=hot-products,cold-products 처럼 이름을 주면 그 시나리오만 실행한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class BiddingLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(BiddingLoadTest.class);
+
+  private static final String BEARER = "Bearer ";
+
+  private static final String[] ROLES = {"ROLE_USER"};
+
+  private static final Path REPORT_DIR = Path.of("build", "reports", "load");
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Jwt jwt;
+
+  @Autowired
+  private JwtConfig jwtConfig;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private BiddingFailureClassifier failureClassifier;
+
+  @Autowired
+  private GroupRepository groupRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  private BiddingLoadRunner runner;
+
+  static Stream<Named<BiddingLoadScenario>> scenarios() {
+    Stream<BiddingLoadScenario> scenarios = Stream.of(
+        new HotProductsScenario(3, 3_000, 100, Duration.ofSeconds(15)),
+        new LastMinuteRushScenario(5, 4_000, 200, Duration.ofSeconds(20), Duration.ofSeconds(5)),
+        new ColdProductsScenario(2_000, 3_000, 100, Duration.ofSeconds(15)));
+
+    String selected = System.getProperty("load.scenarios");
+    if (selected != null && !selected.isBlank()) {
+      Set<String> names = Arrays
+          .stream(selected.split(","))
+          .map(String::trim)
+          .collect(Collectors.toSet());
+      scenarios = scenarios.filter(scenario -> names.contains(scenario.name()));
+    }
+    return scenarios.map(scenario -> Named.of(scenario.name(), scenario));
+  }
+
+  @BeforeEach
+  void setUp() {
+    runner = new BiddingLoadRunner(
+        URI.create("http://localhost:" + port + "/api/v1/biddings"),
+        jwtConfig.getHeader(),
+        bidderId -> BEARER + jwt.sign(Jwt.Claims.from(bidderId, ROLES)),
+        objectMapper,
+        failureClassifier);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("scenarios")
+  @DisplayName("시나리오대로 입찰을 보내고 처리량, 꼬리 지연, 데드락과 제약 조건 위반 수를 남긴다")
+  void ItReportsBiddingLoad(BiddingLoadScenario scenario) throws Exception {
+    // given
+    BiddingLoadFixture fixture =
+        new BiddingLoadFixture(groupRepository, userRepository, productRepository);
+    fixture.prepare(scenario);
+    List<BiddingLoadCall> calls = scenario.plan(fixture.getProductIds(), fixture.getBidderIds());
+
+    // when
+    BiddingLoadReport report = runner.run(scenario, calls);
+
+    // then
+    log.info("{}", report);
+    Files.createDirectories(REPORT_DIR);
+    objectMapper
+        .writerWithDefaultPrettyPrinter()
+        .writeValue(REPORT_DIR.resolve(scenario.name() + ".json").toFile(), report);
+
+    assertThat(report.getTransportErrors()).isZero();
+    assertThat(report.getCreated()
+                   + report.getRejected()
+                   + report.getServerErrors()).isEqualTo(calls.size());
+  }
+
+  @TestConfiguration
+  static class LoadTestConfig {
+
+    @Bean
+    BiddingFailureClassifier biddingFailureClassifier() {
+      return new BiddingFailureClassifier();
+    }
+  }
+}
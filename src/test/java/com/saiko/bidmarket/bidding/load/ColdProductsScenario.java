@@ -0,0 +1,57 @@
+package com.saiko.bidmarket.bidding.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입찰이 많은 상품에 흩어져 거의 겹치지 않는다. 경합이 없을 때의 기준 처리량과 지연을 잰다.
+ */
+@RequiredArgsConstructor
+public class ColdProductsScenario implements BiddingLoadScenario {
+
+  private final int productCount;
+
+  private final int requestCount;
+
+  private final int concurrency;
+
+  private final Duration duration;
+
+  @Override
+  public String name() {
+    return "cold-products";
+  }
+
+  @Override
+  public int productCount() {
+    return productCount;
+  }
+
+  @Override
+  public int bidderCount() {
+    return Math.max(1, requestCount / 10);
+  }
+
+  @Override
+  public int concurrency() {
+    return concurrency;
+  }
+
+  @Override
+  public List<BiddingLoadCall> plan(List<Long> productIds, List<Long> bidderIds) {
+    List<BiddingLoadCall> calls = new ArrayList<>(requestCount);
+    long intervalNanos = duration.toNanos() / requestCount;
+    // 소수 stride 로 건너뛰어 연달아 보내는 요청이 같은 상품에 떨어지지 않게 한다
+    int stride = 7919;
+    for (int i = 0; i < requestCount; i++) {
+      calls.add(new BiddingLoadCall(productIds.get((int)((long)i * stride % productIds.size())),
+                                    bidderIds.get(i % bidderIds.size()),
+                                    BiddingLoadFixture.price(i / productIds.size()),
+                                    Duration.ofNanos(intervalNanos * i)));
+    }
+    return calls;
+  }
+}
@@ -0,0 +1,55 @@
+package com.saiko.bidmarket.bidding.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소수의 인기 상품에 입찰이 고르게 몰린다. 같은 상품 행을 두고 트랜잭션이 얼마나 겹치는지 본다.
+ */
+@RequiredArgsConstructor
+public class HotProductsScenario implements BiddingLoadScenario {
+
+  private final int productCount;
+
+  private final int requestCount;
+
+  private final int concurrency;
+
+  private final Duration duration;
+
+  @Override
+  public String name() {
+    return "hot-products";
+  }
+
+  @Override
+  public int productCount() {
+    return productCount;
+  }
+
+  @Override
+  public int bidderCount() {
+    return Math.max(1, requestCount / 10);
+  }
+
+  @Override
+  public int concurrency() {
+    return concurrency;
+  }
+
+  @Override
+  public List<BiddingLoadCall> plan(List<Long> productIds, List<Long> bidderIds) {
+    List<BiddingLoadCall> calls = new ArrayList<>(requestCount);
+    long intervalNanos = duration.toNanos() / requestCount;
+    for (int i = 0; i < requestCount; i++) {
+      calls.add(new BiddingLoadCall(productIds.get(i % productIds.size()),
+                                    bidderIds.get(i % bidderIds.size()),
+                                    BiddingLoadFixture.price(i / productIds.size()),
+                                    Duration.ofNanos(intervalNanos * i)));
+    }
+    return calls;
+  }
+}
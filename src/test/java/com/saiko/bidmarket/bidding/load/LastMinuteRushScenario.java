@@ -0,0 +1,71 @@
+package com.saiko.bidmarket.bidding.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 곧 마감될 상품에 마지막 순간 입찰이 한꺼번에 몰린다.
+ * 요청의 대부분을 마감 직전 rush 구간에 보내며, 마감 시각을 rush 구간 끝에 맞춰 마감 스케줄러와 겹치는 구간도 본다.
+ */
+@RequiredArgsConstructor
+public class LastMinuteRushScenario implements BiddingLoadScenario {
+
+  private static final double RUSH_RATIO = 0.8;
+
+  private final int productCount;
+
+  private final int requestCount;
+
+  private final int concurrency;
+
+  private final Duration warmUp;
+
+  private final Duration rush;
+
+  @Override
+  public String name() {
+    return "last-minute-rush";
+  }
+
+  @Override
+  public int productCount() {
+    return productCount;
+  }
+
+  @Override
+  public int bidderCount() {
+    return Math.max(1, requestCount / 5);
+  }
+
+  @Override
+  public int concurrency() {
+    return concurrency;
+  }
+
+  @Override
+  public Optional<Duration> expireAfter() {
+    return Optional.of(warmUp.plus(rush));
+  }
+
+  @Override
+  public List<BiddingLoadCall> plan(List<Long> productIds, List<Long> bidderIds) {
+    int rushCount = (int)(requestCount * RUSH_RATIO);
+    int warmUpCount = requestCount - rushCount;
+    List<BiddingLoadCall> calls = new ArrayList<>(requestCount);
+
+    for (int i = 0; i < requestCount; i++) {
+      Duration offset = i < warmUpCount
+          ? warmUp.multipliedBy(i).dividedBy(warmUpCount)
+          : warmUp.plus(rush.multipliedBy(i - warmUpCount).dividedBy(rushCount));
+      calls.add(new BiddingLoadCall(productIds.get(i % productIds.size()),
+                                    bidderIds.get(i % bidderIds.size()),
+                                    BiddingLoadFixture.price(i / productIds.size()),
+                                    offset));
+    }
+    return calls;
+  }
+}
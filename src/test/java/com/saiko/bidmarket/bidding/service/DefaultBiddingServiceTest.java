@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.saiko.bidmarket.bidding.controller.dto.BiddingCreateRequest;
@@ -42,6 +43,9 @@ class DefaultBiddingServiceTest {
   @Mock
   private ProductRepository productRepository;
 
+  @Mock
+  private ApplicationEventPublisher publisher;
+
   private static User bidder = new User(
       "test",
       "imageURl",
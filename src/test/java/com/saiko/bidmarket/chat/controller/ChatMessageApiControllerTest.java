@@ -29,6 +29,8 @@ import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectResponse;
 import com.saiko.bidmarket.chat.entity.ChatMessage;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.chat.service.ChatMessageService;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.user.entity.Group;
@@ -66,13 +68,13 @@ class ChatMessageApiControllerTest extends ControllerSetUp {
         String requestUri = "/api/v1/chatRooms/{chatRoomId}/messages";
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(requestUri, chatRoomId)
-            .queryParam("offset", "0")
+            .queryParam("cursor", Cursor.of(Cursor.key(LocalDateTime.now()), 2L).encode())
             .queryParam("limit", "10");
 
         ChatMessageSelectResponse response = ChatMessageSelectResponse.from(chatMessage);
 
         given(chatMessageService.findAll(anyLong(), anyLong(), any(ChatMessageSelectRequest.class)))
-            .willReturn(List.of(response));
+            .willReturn(CursorPage.of(List.of(response), true, item -> Cursor.of(1L, 1L)));
 
         //when
         ResultActions perform = mockMvc.perform(request);
@@ -88,25 +90,34 @@ class ChatMessageApiControllerTest extends ControllerSetUp {
                     parameterWithName("chatRoomId").description("채팅방 번호")
                 ),
                 requestParameters(
-                    parameterWithName("offset").description("메시지 조회 시작 번호"),
+                    parameterWithName("cursor")
+                        .description("이전 페이지 응답의 nextCursor. 첫 페이지는 보내지 않는다")
+                        .optional(),
                     parameterWithName("limit").description("메시지 조회 개수")
                 ),
                 responseFields(
-                    fieldWithPath("[].userInfo.userId")
+                    fieldWithPath("items[].userInfo.userId")
                         .type(JsonFieldType.NUMBER)
                         .description("유저 번호"),
-                    fieldWithPath("[].userInfo.username")
+                    fieldWithPath("items[].userInfo.username")
                         .type(JsonFieldType.STRING)
                         .description("유저 닉네임"),
-                    fieldWithPath("[].userInfo.profileImage")
+                    fieldWithPath("items[].userInfo.profileImage")
                         .type(JsonFieldType.STRING)
                         .description("유저 프로필 이미지"),
-                    fieldWithPath("[].content")
+                    fieldWithPath("items[].content")
                         .type(JsonFieldType.STRING)
                         .description("채팅 내용"),
-                    fieldWithPath("[].createdAt")
+                    fieldWithPath("items[].createdAt")
                         .type(JsonFieldType.STRING)
-                        .description("채팅 보낸 시간")
+                        .description("채팅 보낸 시간"),
+                    fieldWithPath("nextCursor")
+                        .type(JsonFieldType.STRING)
+                        .description("다음 페이지 요청에 보낼 cursor. 마지막 페이지면 null")
+                        .optional(),
+                    fieldWithPath("hasNext")
+                        .type(JsonFieldType.BOOLEAN)
+                        .description("다음 페이지 존재 여부")
                 )
             ));
       }
@@ -114,8 +125,8 @@ class ChatMessageApiControllerTest extends ControllerSetUp {
 
     @WithMockCustomLoginUser
     @Nested
-    @DisplayName("메시지 조회 시작번호 가 숫자가 아닌경우")
-    class ContextWithNonNumberOffset {
+    @DisplayName("cursor 가 올바르지 않은 경우")
+    class ContextWithInvalidCursor {
 
       @Test
       @DisplayName("BadRequest 를 응답한다")
@@ -124,31 +135,11 @@ class ChatMessageApiControllerTest extends ControllerSetUp {
         String requestUri = "/api/v1/chatRooms/{chatRoomId}/messages";
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(requestUri, 1)
-            .queryParam("offset", "Test")
+            .queryParam("cursor", "Test")
             .queryParam("limit", "10");
 
-        //when
-        ResultActions perform = mockMvc.perform(request);
-
-        //then
-        perform.andExpect(status().isBadRequest());
-      }
-    }
-
-    @WithMockCustomLoginUser
-    @Nested
-    @DisplayName("메시지 조회 시작번호가 음수인 경우")
-    class ContextWithNegativeNumberOffset {
-
-      @ParameterizedTest
-      @ValueSource(longs = {-1, Long.MIN_VALUE})
-      @DisplayName("BadRequest 를 응답한다")
-      void ItResponseBadRequest(long offset) throws Exception {
-        String requestUri = "/api/v1/chatRooms/{chatRoomId}/messages";
-        MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
-            .get(requestUri, 1)
-            .queryParam("offset", String.valueOf(offset))
-            .queryParam("limit", "10");
+        given(chatMessageService.findAll(anyLong(), anyLong(), any(ChatMessageSelectRequest.class)))
+            .willThrow(new IllegalArgumentException("Invalid cursor"));
 
         //when
         ResultActions perform = mockMvc.perform(request);
@@ -169,7 +160,6 @@ class ChatMessageApiControllerTest extends ControllerSetUp {
         String requestUri = "/api/v1/chatRooms/{chatRoomId}/messages";
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(requestUri, 1)
-            .queryParam("offset", "0")
             .queryParam("limit", "Test");
 
         //when
@@ -192,7 +182,6 @@ class ChatMessageApiControllerTest extends ControllerSetUp {
         String requestUri = "/api/v1/chatRooms/{chatRoomId}/messages";
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(requestUri, 1)
-            .queryParam("offset", "0")
             .queryParam("limit", String.valueOf(limit));
 
         //when
@@ -213,7 +202,6 @@ class ChatMessageApiControllerTest extends ControllerSetUp {
         String requestUri = "/api/v1/chatRooms/{chatRoomId}/messages";
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(requestUri, 1)
-            .queryParam("offset", "0")
             .queryParam("limit", "10");
 
         //when
@@ -31,6 +31,8 @@ import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectResponse;
 import com.saiko.bidmarket.chat.entity.ChatMessage;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.chat.service.ChatRoomService;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.user.entity.Group;
@@ -82,12 +84,13 @@ class ChatRoomApiControllerTest extends ControllerSetUp {
         );
 
         given(chatRoomService.findAll(anyLong(), any(ChatRoomSelectRequest.class)))
-            .willReturn(List.of(chatRoomSelectResponse));
+            .willReturn(CursorPage.of(List.of(chatRoomSelectResponse), true,
+                                      item -> Cursor.of(item.getChatRoomId())));
 
         //when
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(REQUEST_URI)
-            .queryParam("offset", "1")
+            .queryParam("cursor", Cursor.of(2L).encode())
             .queryParam("limit", "1");
 
         ResultActions response = mockMvc.perform(request);
@@ -100,69 +103,62 @@ class ChatRoomApiControllerTest extends ControllerSetUp {
                 preprocessRequest(prettyPrint()),
                 preprocessResponse(prettyPrint()),
                 requestParameters(
-                    parameterWithName("offset").description("채팅방 조회 시작 번호"),
+                    parameterWithName("cursor")
+                        .description("이전 페이지 응답의 nextCursor. 첫 페이지는 보내지 않는다")
+                        .optional(),
                     parameterWithName("limit").description("채팅방 조회 개수")
                 ),
                 responseFields(
-                    fieldWithPath("[].chatRoomId")
+                    fieldWithPath("items[].chatRoomId")
                         .type(JsonFieldType.NUMBER)
                         .description("채팅방 번호"),
-                    fieldWithPath("[].productInfo.productId")
+                    fieldWithPath("items[].productInfo.productId")
                         .type(JsonFieldType.NUMBER)
                         .description("상품 번호"),
-                    fieldWithPath("[].productInfo.thumbnailImage")
+                    fieldWithPath("items[].productInfo.thumbnailImage")
                         .type(JsonFieldType.STRING)
                         .description("상품 이미지"),
-                    fieldWithPath("[].opponentUserInfo.username")
+                    fieldWithPath("items[].opponentUserInfo.username")
                         .type(JsonFieldType.STRING)
                         .description("상대방 유저명"),
-                    fieldWithPath("[].opponentUserInfo.profileImage")
+                    fieldWithPath("items[].opponentUserInfo.profileImage")
                         .type(JsonFieldType.STRING)
                         .description("상대방 유저 프로필"),
-                    fieldWithPath("[].lastMessage")
+                    fieldWithPath("items[].lastMessage")
                         .type(JsonFieldType.STRING)
                         .description("채팅 메시지")
                         .optional(),
-                    fieldWithPath("[].lastMessageDate")
+                    fieldWithPath("items[].lastMessageDate")
                         .type(JsonFieldType.STRING)
                         .description("채팅 보낸 시간")
-                        .optional()
+                        .optional(),
+                    fieldWithPath("nextCursor")
+                        .type(JsonFieldType.STRING)
+                        .description("다음 페이지 요청에 보낼 cursor. 마지막 페이지면 null")
+                        .optional(),
+                    fieldWithPath("hasNext")
+                        .type(JsonFieldType.BOOLEAN)
+                        .description("다음 페이지 존재 여부")
                 )
             ));
       }
     }
 
     @Nested
-    @DisplayName("offset 이 음수일 경우")
-    class ContextWithNegativeOffset {
-
-      @ParameterizedTest
-      @ValueSource(longs = {-1, Long.MIN_VALUE})
-      @DisplayName("404를 응답한다")
-      void ItResponse404(long offset) throws Exception {
-        //when
-        MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
-            .get(REQUEST_URI)
-            .queryParam("offset", String.valueOf(offset))
-            .queryParam("limit", "1");
-
-        ResultActions response = mockMvc.perform(request);
-
-        //then
-        response.andExpect(status().isBadRequest());
-      }
-    }
-
-    @Nested
-    @DisplayName("offset 이 숫자가 아닐 경우")
-    class ContextWithNonNumberOffset {
+    @DisplayName("cursor 가 올바르지 않을 경우")
+    class ContextWithInvalidCursor {
 
       @Test
-      @DisplayName("404를 응답한다")
-      void ItResponse404() throws Exception {
+      @DisplayName("400을 응답한다")
+      void ItResponse400() throws Exception {
+        //given
+        given(chatRoomService.findAll(anyLong(), any(ChatRoomSelectRequest.class)))
+            .willThrow(new IllegalArgumentException("Invalid cursor"));
+
+        //when
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(REQUEST_URI)
-            .queryParam("offset", "test")
+            .queryParam("cursor", "test")
             .queryParam("limit", "1");
 
         ResultActions response = mockMvc.perform(request);
@@ -183,7 +179,6 @@ class ChatRoomApiControllerTest extends ControllerSetUp {
         //when
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(REQUEST_URI)
-            .queryParam("offset", "1")
             .queryParam("limit", String.valueOf(limit));
 
         ResultActions response = mockMvc.perform(request);
@@ -202,7 +197,6 @@ class ChatRoomApiControllerTest extends ControllerSetUp {
       void ItResponse404() throws Exception {
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(REQUEST_URI)
-            .queryParam("offset", "1")
             .queryParam("limit", "test");
 
         ResultActions response = mockMvc.perform(request);
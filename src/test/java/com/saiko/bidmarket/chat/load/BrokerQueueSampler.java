@@ -0,0 +1,71 @@
+package com.saiko.bidmarket.chat.load;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * 채널 executor 의 대기열 길이를 주기적으로 읽어 최대값과 평균을 남긴다.
+ * simple broker 는 따로 대기열이 없으므로 inbound, outbound, broker 채널의 대기열이 곧 브로커의 밀림이다.
+ */
+class BrokerQueueSampler implements AutoCloseable {
+
+  private static final long INTERVAL_MILLIS = 100;
+
+  private final Map<String, ThreadPoolTaskExecutor> executors;
+
+  private final Map<String, AtomicLong> maxDepths;
+
+  private final Map<String, LongAdder> depthSums;
+
+  private final LongAdder samples = new LongAdder();
+
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor();
+
+  BrokerQueueSampler(Map<String, ThreadPoolTaskExecutor> executors) {
+    Assert.notEmpty(executors, "Executors must be provided");
+
+    this.executors = Map.copyOf(executors);
+    this.maxDepths = executors
+        .keySet()
+        .stream()
+        .collect(Collectors.toUnmodifiableMap(Function.identity(), channel -> new AtomicLong()));
+    this.depthSums = executors
+        .keySet()
+        .stream()
+        .collect(Collectors.toUnmodifiableMap(Function.identity(), channel -> new LongAdder()));
+    scheduler.scheduleAtFixedRate(this::sample, 0, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  long maxDepth(String channel) {
+    return maxDepths.get(channel).get();
+  }
+
+  double meanDepth(String channel) {
+    long count = samples.sum();
+    return count == 0 ? 0 : (double)depthSums.get(channel).sum() / count;
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private void sample() {
+    executors.forEach((channel, executor) -> {
+      int depth = executor.getThreadPoolExecutor().getQueue().size();
+      maxDepths.get(channel).accumulateAndGet(depth, Math::max);
+      depthSums.get(channel).add(depth);
+    });
+    samples.increment();
+  }
+}
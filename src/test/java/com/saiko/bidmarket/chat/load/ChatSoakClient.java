@@ -0,0 +1,127 @@
+package com.saiko.bidmarket.chat.load;
+
+import static java.util.concurrent.TimeUnit.*;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import com.saiko.bidmarket.chat.controller.dto.ChatPublishMessage;
+import com.saiko.bidmarket.chat.controller.dto.ChatSendMessage;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 방 하나를 구독한 STOMP 클라이언트. 메시지 본문 앞에 보내야 했던 시각(nanoTime)을 실어 보내고
+ * 받는 쪽에서 그 시각부터 받은 시각까지를 전달 지연으로 잰다.
+ */
+class ChatSoakClient extends StompSessionHandlerAdapter {
+
+  static final String SUBSCRIBE_PREFIX = "/chat/room/";
+
+  private static final String SEND_PREFIX = "/message/room/";
+
+  private static final String SEPARATOR = " ";
+
+  private static final String FILLER = "경매 끝났는데 언제 거래 가능하실까요? 주말 오후면 좋겠습니다.";
+
+  private final long userId;
+
+  private final long roomId;
+
+  private final Timer latency;
+
+  private final LongAdder delivered;
+
+  private final LongAdder errorFrames;
+
+  private final LongAdder lostSessions;
+
+  private volatile StompSession session;
+
+  private volatile boolean closing;
+
+  ChatSoakClient(
+      long userId,
+      long roomId,
+      Timer latency,
+      LongAdder delivered,
+      LongAdder errorFrames,
+      LongAdder lostSessions
+  ) {
+    this.userId = userId;
+    this.roomId = roomId;
+    this.latency = latency;
+    this.delivered = delivered;
+    this.errorFrames = errorFrames;
+    this.lostSessions = lostSessions;
+  }
+
+  long roomId() {
+    return roomId;
+  }
+
+  void subscribe(StompSession session) {
+    this.session = session;
+    session.subscribe(SUBSCRIBE_PREFIX + roomId, this);
+  }
+
+  /**
+   * 한 세션에 여러 스레드가 동시에 쓰면 Tomcat 이 예외를 던지므로 세션마다 순서대로 보낸다.
+   */
+  synchronized void send(long scheduledNanos) {
+    session.send(SEND_PREFIX + roomId,
+                 new ChatSendMessage(userId, scheduledNanos + SEPARATOR + FILLER));
+  }
+
+  /**
+   * 끊을 때 서버가 보내는 "Session closed." ERROR 프레임은 유실이 아니므로 이후로는 세지 않는다.
+   */
+  void disconnect() {
+    closing = true;
+    if (session != null && session.isConnected()) {
+      session.disconnect();
+    }
+  }
+
+  @Override
+  public Type getPayloadType(StompHeaders headers) {
+    return ChatPublishMessage.class;
+  }
+
+  @Override
+  public void handleFrame(StompHeaders headers, Object payload) {
+    if (payload instanceof ChatPublishMessage) {
+      String content = ((ChatPublishMessage)payload).getContent();
+      long scheduledNanos = Long.parseLong(content.substring(0, content.indexOf(SEPARATOR)));
+      latency.record(System.nanoTime() - scheduledNanos, NANOSECONDS);
+      delivered.increment();
+    } else if (!closing) {
+      errorFrames.increment();
+    }
+  }
+
+  @Override
+  public void handleException(
+      StompSession session,
+      StompCommand command,
+      StompHeaders headers,
+      byte[] payload,
+      Throwable exception
+  ) {
+    if (!closing) {
+      errorFrames.increment();
+    }
+  }
+
+  @Override
+  public void handleTransportError(StompSession session, Throwable exception) {
+    if (!closing) {
+      lostSessions.increment();
+    }
+  }
+}
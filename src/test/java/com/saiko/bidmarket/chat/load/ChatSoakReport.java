@@ -0,0 +1,74 @@
+package com.saiko.bidmarket.chat.load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 채팅 부하 한 번의 결과. build/reports/load 에 JSON 으로 남겨 실행끼리 비교한다.
+ * 세션당 힙은 같은 JVM 의 클라이언트 객체까지 포함한 값이라 서버만의 비용보다 크다.
+ */
+@Getter
+@Builder
+public class ChatSoakReport {
+
+  private final String scenario;
+
+  private final int clients;
+
+  private final int rooms;
+
+  private final int messagesPerSecond;
+
+  private final long connectMillis;
+
+  private final long heapPerSessionBytes;
+
+  private final long sent;
+
+  private final long sendFailures;
+
+  private final long expectedDeliveries;
+
+  private final long delivered;
+
+  private final long dropped;
+
+  private final long errorFrames;
+
+  private final long lostSessions;
+
+  private final long elapsedMillis;
+
+  private final double deliveredPerSecond;
+
+  private final double p50Millis;
+
+  private final double p90Millis;
+
+  private final double p99Millis;
+
+  private final double p999Millis;
+
+  private final double maxMillis;
+
+  private final long maxInboundQueue;
+
+  private final long maxOutboundQueue;
+
+  private final long maxBrokerQueue;
+
+  private final double meanOutboundQueue;
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: %d clients in %d rooms at %d msg/s, connected in %.1fs, %d bytes/session, "
+            + "sent=%d sendFailures=%d delivered=%d/%d dropped=%d errors=%d lost=%d, "
+            + "%.1f delivered/s, p50=%.1fms p90=%.1fms p99=%.1fms p999=%.1fms max=%.1fms, "
+            + "queue max inbound=%d outbound=%d broker=%d mean outbound=%.1f",
+        scenario, clients, rooms, messagesPerSecond, connectMillis / 1000.0, heapPerSessionBytes,
+        sent, sendFailures, delivered, expectedDeliveries, dropped, errorFrames, lostSessions,
+        deliveredPerSecond, p50Millis, p90Millis, p99Millis, p999Millis, maxMillis,
+        maxInboundQueue, maxOutboundQueue, maxBrokerQueue, meanOutboundQueue);
+  }
+}
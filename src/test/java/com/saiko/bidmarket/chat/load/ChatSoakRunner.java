@@ -0,0 +1,227 @@
+package com.saiko.bidmarket.chat.load;
+
+import static java.util.concurrent.TimeUnit.*;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 시나리오 수만큼 STOMP 클라이언트를 붙여 방을 구독시키고, 정해진 속도로 메시지를 보낸 뒤 전달 결과를 모은다.
+ * 보낸 메시지는 그 방의 구독자 수만큼 전달되어야 하며, 기다린 뒤에도 오지 않은 만큼을 유실로 센다.
+ */
+public class ChatSoakRunner {
+
+  public static final String INBOUND = "clientInboundChannelExecutor";
+
+  public static final String OUTBOUND = "clientOutboundChannelExecutor";
+
+  public static final String BROKER = "brokerChannelExecutor";
+
+  private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+  private static final int CONNECTS_IN_FLIGHT = 64;
+
+  private static final int SENDER_THREADS = 8;
+
+  private static final Duration CONNECT_TIMEOUT = Duration.ofMinutes(2);
+
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+  private final URI endpoint;
+
+  private final WebSocketStompClient stompClient;
+
+  private final SimpleBrokerMessageHandler broker;
+
+  private final Map<String, ThreadPoolTaskExecutor> channelExecutors;
+
+  public ChatSoakRunner(
+      URI endpoint,
+      WebSocketStompClient stompClient,
+      SimpleBrokerMessageHandler broker,
+      Map<String, ThreadPoolTaskExecutor> channelExecutors
+  ) {
+    Assert.notNull(endpoint, "Endpoint must be provided");
+    Assert.notNull(stompClient, "StompClient must be provided");
+    Assert.notNull(broker, "Broker must be provided");
+    Assert.notEmpty(channelExecutors, "ChannelExecutors must be provided");
+
+    this.endpoint = endpoint;
+    this.stompClient = stompClient;
+    this.broker = broker;
+    this.channelExecutors = channelExecutors;
+  }
+
+  public ChatSoakReport run(ChatSoakScenario scenario) throws InterruptedException {
+    Assert.notNull(scenario, "Scenario must be provided");
+
+    Timer latency = Timer
+        .builder("chat.soak.latency")
+        .publishPercentiles(PERCENTILES)
+        .percentilePrecision(2)
+        .distributionStatisticExpiry(Duration.ofHours(1))
+        .distributionStatisticBufferLength(1)
+        .register(new SimpleMeterRegistry());
+    LongAdder delivered = new LongAdder();
+    LongAdder errorFrames = new LongAdder();
+    LongAdder lostSessions = new LongAdder();
+    LongAdder sent = new LongAdder();
+    LongAdder sendFailures = new LongAdder();
+    LongAdder expected = new LongAdder();
+
+    long heapBefore = usedHeap();
+    long connectStartNanos = System.nanoTime();
+    List<ChatSoakClient> clients = new ArrayList<>(scenario.clients());
+    for (int i = 0; i < scenario.clients(); i++) {
+      clients.add(new ChatSoakClient(i + 1L, scenario.roomOf(i), latency, delivered, errorFrames,
+                                     lostSessions));
+    }
+    connect(scenario, clients);
+    long connectMillis = NANOSECONDS.toMillis(System.nanoTime() - connectStartNanos);
+    long heapPerSession = Math.max(0, usedHeap() - heapBefore) / scenario.clients();
+
+    long startNanos;
+    long elapsedNanos;
+    BrokerQueueSampler sampler = new BrokerQueueSampler(channelExecutors);
+    try {
+      ExecutorService senders = Executors.newFixedThreadPool(SENDER_THREADS);
+      startNanos = System.nanoTime();
+      long intervalNanos = SECONDS.toNanos(1) / scenario.messagesPerSecond();
+      for (long n = 0; n < scenario.messages(); n++) {
+        long scheduledNanos = startNanos + n * intervalNanos;
+        ChatSoakClient client = clients.get((int)(n % clients.size()));
+        LockSupport.parkNanos(scheduledNanos - System.nanoTime());
+        senders.execute(() -> {
+          try {
+            client.send(scheduledNanos);
+            sent.increment();
+            expected.add(scenario.subscribersOf(client.roomId()));
+          } catch (RuntimeException e) {
+            sendFailures.increment();
+          }
+        });
+      }
+      senders.shutdown();
+      senders.awaitTermination(DRAIN_TIMEOUT.toMillis(), MILLISECONDS);
+
+      long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+      while (delivered.sum() < expected.sum() && System.nanoTime() < drainDeadline) {
+        MILLISECONDS.sleep(50);
+      }
+      elapsedNanos = System.nanoTime() - startNanos;
+    } finally {
+      sampler.close();
+      clients.forEach(ChatSoakClient::disconnect);
+    }
+
+    HistogramSnapshot snapshot = latency.takeSnapshot();
+    ValueAtPercentile[] percentiles = snapshot.percentileValues();
+    return ChatSoakReport
+        .builder()
+        .scenario(scenario.name())
+        .clients(scenario.clients())
+        .rooms(scenario.rooms())
+        .messagesPerSecond(scenario.messagesPerSecond())
+        .connectMillis(connectMillis)
+        .heapPerSessionBytes(heapPerSession)
+        .sent(sent.sum())
+        .sendFailures(sendFailures.sum())
+        .expectedDeliveries(expected.sum())
+        .delivered(delivered.sum())
+        .dropped(Math.max(0, expected.sum() - delivered.sum()))
+        .errorFrames(errorFrames.sum())
+        .lostSessions(lostSessions.sum())
+        .elapsedMillis(NANOSECONDS.toMillis(elapsedNanos))
+        .deliveredPerSecond(delivered.sum() / (elapsedNanos / 1e9))
+        .p50Millis(percentiles[0].value(MILLISECONDS))
+        .p90Millis(percentiles[1].value(MILLISECONDS))
+        .p99Millis(percentiles[2].value(MILLISECONDS))
+        .p999Millis(percentiles[3].value(MILLISECONDS))
+        .maxMillis(snapshot.max(MILLISECONDS))
+        .maxInboundQueue(sampler.maxDepth(INBOUND))
+        .maxOutboundQueue(sampler.maxDepth(OUTBOUND))
+        .maxBrokerQueue(sampler.maxDepth(BROKER))
+        .meanOutboundQueue(sampler.meanDepth(OUTBOUND))
+        .build();
+  }
+
+  /**
+   * 동시에 CONNECTS_IN_FLIGHT 개까지 연결하고 구독시킨다. simple broker 는 SUBSCRIBE 에 receipt 를 주지 않으므로
+   * 브로커의 구독 목록에 모든 방의 구독자가 다 보일 때까지 기다린다.
+   */
+  private void connect(ChatSoakScenario scenario, List<ChatSoakClient> clients)
+      throws InterruptedException {
+    Semaphore inFlight = new Semaphore(CONNECTS_IN_FLIGHT);
+    LongAdder connectFailures = new LongAdder();
+    for (ChatSoakClient client : clients) {
+      inFlight.acquire();
+      stompClient
+          .connect(endpoint.toString(), new WebSocketHttpHeaders(), new StompHeaders(), client)
+          .completable()
+          .whenComplete((session, error) -> {
+            if (error != null) {
+              connectFailures.increment();
+            } else {
+              client.subscribe(session);
+            }
+            inFlight.release();
+          });
+    }
+    inFlight.acquire(CONNECTS_IN_FLIGHT);
+    Assert.state(connectFailures.sum() == 0,
+                 () -> connectFailures.sum() + " clients failed to connect");
+
+    long deadline = System.nanoTime() + CONNECT_TIMEOUT.toNanos();
+    for (long roomId = 1; roomId <= scenario.rooms(); roomId++) {
+      while (subscribed(roomId) < scenario.subscribersOf(roomId)) {
+        Assert.state(System.nanoTime() < deadline, "Clients failed to subscribe in time");
+        MILLISECONDS.sleep(10);
+      }
+    }
+  }
+
+  private int subscribed(long roomId) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(ChatSoakClient.SUBSCRIBE_PREFIX + roomId);
+    return broker
+        .getSubscriptionRegistry()
+        .findSubscriptions(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()))
+        .values()
+        .stream()
+        .mapToInt(List::size)
+        .sum();
+  }
+
+  private static long usedHeap() {
+    System.gc();
+    System.gc();
+    return ManagementFactory
+        .getMemoryMXBean()
+        .getHeapMemoryUsage()
+        .getUsed();
+  }
+}
@@ -0,0 +1,74 @@
+package com.saiko.bidmarket.chat.load;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * 클라이언트 수, 방 수, 초당 전송 수로 정한 채팅 부하. i 번째 클라이언트는 i % rooms 번째 방을 구독한다.
+ */
+public class ChatSoakScenario {
+
+  private final String name;
+
+  private final int clients;
+
+  private final int rooms;
+
+  private final int messagesPerSecond;
+
+  private final Duration duration;
+
+  public ChatSoakScenario(
+      String name,
+      int clients,
+      int rooms,
+      int messagesPerSecond,
+      Duration duration
+  ) {
+    Assert.hasText(name, "Name must be provided");
+    Assert.isTrue(rooms > 0, "Rooms must be positive");
+    Assert.isTrue(clients >= rooms, "Clients must not be less than rooms");
+    Assert.isTrue(messagesPerSecond > 0, "MessagesPerSecond must be positive");
+    Assert.notNull(duration, "Duration must be provided");
+
+    this.name = name;
+    this.clients = clients;
+    this.rooms = rooms;
+    this.messagesPerSecond = messagesPerSecond;
+    this.duration = duration;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public int clients() {
+    return clients;
+  }
+
+  public int rooms() {
+    return rooms;
+  }
+
+  public int messagesPerSecond() {
+    return messagesPerSecond;
+  }
+
+  public Duration duration() {
+    return duration;
+  }
+
+  public long roomOf(int client) {
+    return client % rooms + 1;
+  }
+
+  public int subscribersOf(long roomId) {
+    int room = (int)(roomId - 1);
+    return clients / rooms + (room < clients % rooms ? 1 : 0);
+  }
+
+  public long messages() {
+    return messagesPerSecond * duration.toSeconds();
+  }
+}
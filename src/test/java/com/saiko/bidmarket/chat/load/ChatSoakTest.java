@@ -0,0 +1,151 @@
+package com.saiko.bidmarket.chat.load;
+
+import static com.saiko.bidmarket.chat.load.ChatSoakRunner.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiko.bidmarket.chat.service.ChatMessageService;
+
+/**
+ * 같은 JVM 안에 STOMP 클라이언트 수천 개를 붙여 simple broker 와 ChatWebSocketController 를 오래 두드린다.
+ * 저장은 EchoChatMessageService 로 바꿔 DB 비용을 빼고, 일반 test 에서는 빠지며 loadTest 태스크로만 돈다.
+ * -Pload.scenarios=pair-rooms 처럼 이름을 주면 그 시나리오만 실행한다.
+ */
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "management.server.port=0")
+@ActiveProfiles("ws_test")
+public class ChatSoakTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ChatSoakTest.class);
+
+  private static final Path REPORT_DIR = Path.of("build", "reports", "load");
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private SimpleBrokerMessageHandler broker;
+
+  @Autowired
+  @Qualifier(INBOUND)
+  private ThreadPoolTaskExecutor inboundExecutor;
+
+  @Autowired
+  @Qualifier(OUTBOUND)
+  private ThreadPoolTaskExecutor outboundExecutor;
+
+  @Autowired
+  @Qualifier(BROKER)
+  private ThreadPoolTaskExecutor brokerExecutor;
+
+  private WebSocketStompClient stompClient;
+
+  private ChatSoakRunner runner;
+
+  static Stream<Named<ChatSoakScenario>> scenarios() {
+    Stream<ChatSoakScenario> scenarios = Stream.of(
+        new ChatSoakScenario("pair-rooms", 2_000, 1_000, 500, Duration.ofSeconds(30)),
+        new ChatSoakScenario("crowded-rooms", 1_000, 10, 50, Duration.ofSeconds(30)));
+
+    String selected = System.getProperty("load.scenarios");
+    if (selected != null && !selected.isBlank()) {
+      Set<String> names = Arrays
+          .stream(selected.split(","))
+          .map(String::trim)
+          .collect(Collectors.toSet());
+      scenarios = scenarios.filter(scenario -> names.contains(scenario.name()));
+    }
+    return scenarios.map(scenario -> Named.of(scenario.name(), scenario));
+  }
+
+  @BeforeEach
+  void setUp() {
+    MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+    converter.setObjectMapper(objectMapper);
+    stompClient = new WebSocketStompClient(
+        new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+    stompClient.setMessageConverter(converter);
+
+    runner = new ChatSoakRunner(
+        URI.create("ws://localhost:" + port + "/ws-stomp"),
+        stompClient,
+        broker,
+        Map.of(INBOUND, inboundExecutor, OUTBOUND, outboundExecutor, BROKER, brokerExecutor));
+  }
+
+  @AfterEach
+  void tearDown() {
+    stompClient.stop();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("scenarios")
+  @DisplayName("시나리오대로 채팅을 보내고 전달 지연, 브로커 대기열, 세션당 힙, 유실 수를 남긴다")
+  void ItReportsChatSoak(ChatSoakScenario scenario) throws Exception {
+    // when
+    ChatSoakReport report = runner.run(scenario);
+
+    // then
+    log.info("{}", report);
+    Files.createDirectories(REPORT_DIR);
+    objectMapper
+        .writerWithDefaultPrettyPrinter()
+        .writeValue(REPORT_DIR.resolve(scenario.name() + ".json").toFile(), report);
+
+    assertThat(report.getSendFailures()).isZero();
+    assertThat(report.getErrorFrames()).isZero();
+    assertThat(report.getLostSessions()).isZero();
+    assertThat(report.getDropped()).isZero();
+  }
+
+  @TestConfiguration
+  static class SoakTestConfig {
+
+    @Bean
+    @Primary
+    ChatMessageService echoChatMessageService() {
+      return new EchoChatMessageService();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.saiko.bidmarket.chat.load;
+
+import java.time.LocalDateTime;
+
+import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectRequest;
+import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectResponse;
+import com.saiko.bidmarket.chat.controller.dto.ChatPublishMessage;
+import com.saiko.bidmarket.chat.controller.dto.ChatUserInfo;
+import com.saiko.bidmarket.chat.service.ChatMessageService;
+import com.saiko.bidmarket.chat.service.dto.ChatMessageCreateParam;
+import com.saiko.bidmarket.common.page.CursorPage;
+
+/**
+ * 저장 없이 받은 메시지를 그대로 돌려준다. 브로커와 컨트롤러 경로만 재기 위해 쓴다.
+ * Mockito mock 은 호출을 모두 기억해 힙 측정을 흐리므로 쓰지 않는다.
+ */
+class EchoChatMessageService implements ChatMessageService {
+
+  @Override
+  public ChatPublishMessage create(ChatMessageCreateParam createParam) {
+    return ChatPublishMessage
+        .builder()
+        .userInfo(ChatUserInfo
+                      .builder()
+                      .userId(createParam.getUserId())
+                      .username("user" + createParam.getUserId())
+                      .build())
+        .content(createParam.getContent())
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  @Override
+  public CursorPage<ChatMessageSelectResponse> findAll(
+      long userId,
+      long chatRoomId,
+      ChatMessageSelectRequest request
+  ) {
+    return CursorPage.empty();
+  }
+}
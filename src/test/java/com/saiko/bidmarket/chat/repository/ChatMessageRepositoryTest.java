@@ -3,8 +3,11 @@ package com.saiko.bidmarket.chat.repository;
 import static java.lang.Thread.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Comparator;
 import java.util.List;
 
+import javax.persistence.EntityManager;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,10 +18,10 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
-import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectRequest;
 import com.saiko.bidmarket.chat.entity.ChatMessage;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.common.config.QueryDslConfig;
+import com.saiko.bidmarket.common.page.Cursor;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.product.repository.ProductRepository;
@@ -33,6 +36,9 @@ import com.saiko.bidmarket.user.repository.UserRepository;
 @Import(value = QueryDslConfig.class)
 public class ChatMessageRepositoryTest {
 
+  @Autowired
+  private EntityManager entityManager;
+
   @Autowired
   private ChatRoomRepository chatRoomRepository;
 
@@ -112,18 +118,56 @@ public class ChatMessageRepositoryTest {
 
         generateAndSaveTestMessage(chatRoom, seller, winner);
 
-        ChatMessageSelectRequest request = new ChatMessageSelectRequest(0, 10);
-
         //when
         List<ChatMessage> chatMessages = chatMessageRepository.findAllChatMessage(
             chatRoom.getId(),
-            request
+            null,
+            10
         );
 
         //then
         assertThat(chatMessages.size()).isEqualTo(10);
       }
     }
+
+    @Nested
+    @DisplayName("cursor 가 주어지면")
+    class ContextWithCursor {
+
+      @Test
+      @DisplayName("cursor 보다 오래된 메시지만 최신순으로 반환한다")
+      void ItResponseOlderChatMessages() throws InterruptedException {
+        User seller = userRepository.save(getUser("1", getUserGroup()));
+        User winner = userRepository.save(getUser("2", getUserGroup()));
+
+        Product product = productRepository.save(getProduct(seller));
+        ChatRoom chatRoom = chatRoomRepository.save(getChatRoom(seller, winner, product));
+
+        generateAndSaveTestMessage(chatRoom, seller, winner);
+        // cursor 는 DB 에 저장된 정밀도의 created_at 으로 만들어야 한다
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ChatMessage> firstPage = chatMessageRepository.findAllChatMessage(
+            chatRoom.getId(), null, 3);
+        ChatMessage last = firstPage.get(firstPage.size() - 1);
+        Cursor cursor = Cursor.of(Cursor.key(last.getCreatedAt()), last.getId());
+
+        //when
+        List<ChatMessage> chatMessages = chatMessageRepository.findAllChatMessage(
+            chatRoom.getId(),
+            cursor,
+            3
+        );
+
+        //then
+        assertThat(chatMessages).hasSize(3);
+        assertThat(chatMessages).doesNotContainAnyElementsOf(firstPage);
+        assertThat(chatMessages)
+            .allMatch(message -> !message.getCreatedAt().isAfter(last.getCreatedAt()))
+            .isSortedAccordingTo(Comparator.comparing(ChatMessage::getCreatedAt).reversed());
+      }
+    }
   }
 
   @SuppressWarnings("all")
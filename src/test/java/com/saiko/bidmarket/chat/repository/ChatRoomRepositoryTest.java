@@ -17,6 +17,7 @@ import org.springframework.test.context.ActiveProfiles;
 import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectRequest;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.common.config.QueryDslConfig;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.product.repository.ProductRepository;
@@ -107,13 +108,46 @@ public class ChatRoomRepositoryTest {
       chatRoomRepository.save(getChatRoom(user2, user3, product2));
       chatRoomRepository.save(getChatRoom(user1, user3, product3));
 
-      ChatRoomSelectRequest request = new ChatRoomSelectRequest(0, 10);
+      ChatRoomSelectRequest request = new ChatRoomSelectRequest(null, 10);
 
       //when
-      List<ChatRoom> chatRooms = chatRoomRepository.findAllByUserId(user2.getId(), request);
+      CursorPage<ChatRoom> chatRooms = chatRoomRepository.findAllByUserId(user2.getId(), request);
 
       //then
-      assertThat(chatRooms.size()).isEqualTo(2);
+      assertThat(chatRooms.getItems().size()).isEqualTo(2);
+      assertThat(chatRooms.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("nextCursor 로 다음 채팅방을 겹치지 않게 이어서 반환한다")
+    void ItReturnNextPageWithCursor() {
+      //given
+      @SuppressWarnings("all")
+      Group group = groupRepository
+          .findById(1L)
+          .get();
+
+      User user1 = userRepository.save(getUser("1", group));
+      User user2 = userRepository.save(getUser("2", group));
+      User user3 = userRepository.save(getUser("3", group));
+
+      ChatRoom first = chatRoomRepository.save(
+          getChatRoom(user1, user2, productRepository.save(getProduct(user1))));
+      ChatRoom second = chatRoomRepository.save(
+          getChatRoom(user2, user3, productRepository.save(getProduct(user2))));
+
+      CursorPage<ChatRoom> firstPage = chatRoomRepository.findAllByUserId(
+          user2.getId(), new ChatRoomSelectRequest(null, 1));
+
+      //when
+      CursorPage<ChatRoom> secondPage = chatRoomRepository.findAllByUserId(
+          user2.getId(), new ChatRoomSelectRequest(firstPage.getNextCursor(), 1));
+
+      //then
+      assertThat(firstPage.getItems()).containsExactly(second);
+      assertThat(firstPage.isHasNext()).isTrue();
+      assertThat(secondPage.getItems()).containsExactly(first);
+      assertThat(secondPage.isHasNext()).isFalse();
     }
   }
 
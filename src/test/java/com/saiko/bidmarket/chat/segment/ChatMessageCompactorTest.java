@@ -0,0 +1,205 @@
+package com.saiko.bidmarket.chat.segment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+
+class ChatMessageCompactorTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2022, 12, 1, 5, 0);
+
+  private static final Duration HOT_RETENTION = Duration.ofDays(30);
+
+  private static final LocalDateTime OLD = NOW.minusDays(40);
+
+  private static final PartitionAssignment ALL = PartitionAssignment.of(1, List.of(0));
+
+  private final PartitionLeaseManager partitionLeaseManager = mock(PartitionLeaseManager.class);
+
+  private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+      "jdbc:h2:mem:chat_segment;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+  ChatMessageCompactorTest() {
+    new ResourceDatabasePopulator(
+        new ClassPathResource("sql/chat/chat_schema.sql"),
+        new ClassPathResource("sql/chat/chat_segment_schema.sql")
+    ).execute(dataSource);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+  }
+
+  private ChatMessageCompactor compactor(int segmentSize) {
+    return new ChatMessageCompactor(new NamedParameterJdbcTemplate(dataSource),
+                                    new TransactionTemplate(
+                                        new DataSourceTransactionManager(dataSource)),
+                                    HOT_RETENTION, segmentSize, Clock.systemDefaultZone(),
+                                    partitionLeaseManager);
+  }
+
+  private void message(long id, long chatRoomId, LocalDateTime createdAt) {
+    jdbcTemplate.update(
+        "INSERT INTO chat_message (id, sender_id, chat_room_id, message, created_at) "
+            + "VALUES (?, ?, ?, ?, ?)", id, id % 2 + 1, chatRoomId, "message" + id, createdAt);
+  }
+
+  private int count(String sql) {
+    return jdbcTemplate.queryForObject(sql, Integer.class);
+  }
+
+  private List<ColdChatMessage> segment(long chatRoomId, long endPosition) {
+    return ChatSegmentCodec.decode(jdbcTemplate.queryForObject(
+        "SELECT payload FROM chat_message_segment WHERE chat_room_id = ? AND end_position = ?",
+        byte[].class, chatRoomId, endPosition));
+  }
+
+  @Nested
+  @DisplayName("compact 메서드는")
+  class DescribeCompact {
+
+    @Nested
+    @DisplayName("hotRetention 이 지난 메시지가 있으면")
+    class ContextWithAgedMessages {
+
+      @Test
+      @DisplayName("오래된 순으로 segmentSize 개씩 세그먼트로 옮기고 원본을 지운다")
+      void ItMovesAgedMessages() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+          message(id, 1, OLD.plusMinutes(id));
+        }
+        message(6, 1, NOW.minusDays(1));
+
+        // when
+        int compacted = compactor(2).compact(NOW, ALL);
+
+        // then
+        assertThat(compacted).isEqualTo(5);
+        assertThat(count("SELECT count(*) FROM chat_message")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT end_position FROM chat_message_segment ORDER BY end_position", Long.class))
+            .containsExactly(2L, 4L, 5L);
+        assertThat(segment(1, 4))
+            .extracting(ColdChatMessage::getId)
+            .containsExactly(3L, 4L);
+      }
+    }
+
+    @Nested
+    @DisplayName("방의 모든 메시지가 오래됐으면")
+    class ContextWithOnlyAgedMessages {
+
+      @Test
+      @DisplayName("마지막 메시지는 남긴다")
+      void ItKeepsLastMessage() {
+        // given
+        message(1, 1, OLD);
+        message(2, 1, OLD.plusMinutes(1));
+        message(3, 2, OLD);
+
+        // when
+        int compacted = compactor(10).compact(NOW, ALL);
+
+        // then
+        assertThat(compacted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_message ORDER BY id",
+                                             Long.class)).containsExactly(2L, 3L);
+      }
+    }
+
+    @Nested
+    @DisplayName("이미 세그먼트가 있는 방이면")
+    class ContextWithExistingSegment {
+
+      @Test
+      @DisplayName("이어지는 순번으로 새 세그먼트를 쓴다")
+      void ItAppendsSegment() {
+        // given
+        message(1, 1, OLD);
+        message(2, 1, OLD.plusMinutes(1));
+        compactor(10).compact(NOW, ALL);
+        message(3, 1, OLD.plusMinutes(2));
+        message(4, 1, NOW);
+
+        // when
+        int compacted = compactor(10).compact(NOW, ALL);
+
+        // then
+        assertThat(compacted).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT end_position FROM chat_message_segment ORDER BY end_position", Long.class))
+            .containsExactly(1L, 3L);
+        assertThat(segment(1, 3))
+            .extracting(ColdChatMessage::getId)
+            .containsExactly(2L, 3L);
+      }
+    }
+
+    @Nested
+    @DisplayName("일부 파티션만 가지고 있으면")
+    class ContextWithPartialAssignment {
+
+      @Test
+      @DisplayName("가진 파티션의 방만 압축한다")
+      void ItCompactsOnlyOwnedRooms() {
+        // given
+        message(1, 1, OLD);
+        message(2, 1, NOW);
+        message(3, 2, OLD);
+        message(4, 2, NOW);
+
+        // when
+        int compacted = compactor(10).compact(NOW, PartitionAssignment.of(2, List.of(0)));
+
+        // then
+        assertThat(compacted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_message ORDER BY id",
+                                             Long.class)).containsExactly(1L, 2L, 4L);
+      }
+    }
+
+    @Nested
+    @DisplayName("스케줄로 실행될 때 가진 파티션이 없으면")
+    class ContextWithoutLease {
+
+      @Test
+      @DisplayName("아무것도 압축하지 않는다")
+      void ItCompactsNothing() {
+        // given
+        message(1, 1, OLD);
+        message(2, 1, NOW);
+        given(partitionLeaseManager.ownedPartitions()).willReturn(PartitionAssignment.empty(1));
+
+        // when
+        compactor(10).compact();
+
+        // then
+        assertThat(count("SELECT count(*) FROM chat_message")).isEqualTo(2);
+        assertThat(count("SELECT count(*) FROM chat_message_segment")).isZero();
+      }
+    }
+  }
+}
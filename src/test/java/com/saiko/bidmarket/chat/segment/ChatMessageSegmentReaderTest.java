@@ -0,0 +1,183 @@
+package com.saiko.bidmarket.chat.segment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.saiko.bidmarket.chat.entity.ChatMessageSegment;
+import com.saiko.bidmarket.chat.repository.ChatMessageSegmentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageSegmentReaderTest {
+
+  private static final long CHAT_ROOM_ID = 1L;
+
+  @Mock
+  ChatMessageSegmentRepository chatMessageSegmentRepository;
+
+  ChatMessageSegmentReader reader;
+
+  @BeforeEach
+  void setUp() {
+    reader = new ChatMessageSegmentReader(chatMessageSegmentRepository, DataSize.ofMegabytes(1));
+  }
+
+  // 순번 1~5, 6~10 인 세그먼트 두 개. 메시지 id 는 순번과 같다
+  private void givenTwoSegments() {
+    given(chatMessageSegmentRepository.findLastPosition(CHAT_ROOM_ID))
+        .willReturn(Optional.of(10L));
+    givenSegmentPayloads();
+  }
+
+  private void givenSegmentPayloads() {
+    given(chatMessageSegmentRepository.findById(any()))
+        .willAnswer(invocation -> {
+          ChatMessageSegment.Key key = invocation.getArgument(0);
+          return Optional.of(segment(key.getEndPosition() - 4, key.getEndPosition()));
+        });
+  }
+
+  private ChatMessageSegment segment(long from, long to) {
+    List<ColdChatMessage> messages = LongStream
+        .rangeClosed(from, to)
+        .mapToObj(id -> new ColdChatMessage(id, 1L, "message" + id,
+                                            LocalDateTime.of(2022, 1, 1, 0, 0).plusMinutes(id)))
+        .collect(Collectors.toList());
+    ChatMessageSegment segment = mock(ChatMessageSegment.class);
+    given(segment.getPayload()).willReturn(ChatSegmentCodec.encode(messages));
+    return segment;
+  }
+
+  @Nested
+  @DisplayName("findAll 메서드는")
+  class DescribeFindAll {
+
+    @Nested
+    @DisplayName("범위가 두 세그먼트에 걸치면")
+    class ContextWithRangeAcrossSegments {
+
+      @Test
+      @DisplayName("두 세그먼트를 이어 최신 순으로 반환한다")
+      void ItReturnsMessagesAcrossSegments() {
+        // given
+        givenTwoSegments();
+        given(chatMessageSegmentRepository.findAllEndPositions(CHAT_ROOM_ID, 4L, 7L))
+            .willReturn(List.of(10L, 5L));
+
+        // when
+        List<ColdChatMessage> messages = reader.findAll(CHAT_ROOM_ID, 3, 4);
+
+        // then
+        assertThat(messages)
+            .extracting(ColdChatMessage::getId)
+            .containsExactly(7L, 6L, 5L, 4L);
+      }
+    }
+
+    @Nested
+    @DisplayName("같은 세그먼트를 다시 읽으면")
+    class ContextWithCachedSegment {
+
+      @Test
+      @DisplayName("저장소에서 다시 읽지 않는다")
+      void ItUsesCache() {
+        // given
+        givenTwoSegments();
+        given(chatMessageSegmentRepository.findAllEndPositions(CHAT_ROOM_ID, 9L, 10L))
+            .willReturn(List.of(10L));
+
+        // when
+        reader.findAll(CHAT_ROOM_ID, 0, 2);
+        reader.findAll(CHAT_ROOM_ID, 0, 2);
+
+        // then
+        verify(chatMessageSegmentRepository, times(1)).findById(any());
+      }
+    }
+
+    @Nested
+    @DisplayName("offset 이 보관된 메시지 수 이상이면")
+    class ContextWithOffsetBeyondSegments {
+
+      @Test
+      @DisplayName("세그먼트를 읽지 않고 빈 리스트를 반환한다")
+      void ItReturnsEmptyList() {
+        // given
+        given(chatMessageSegmentRepository.findLastPosition(CHAT_ROOM_ID))
+            .willReturn(Optional.of(10L));
+
+        // when
+        List<ColdChatMessage> messages = reader.findAll(CHAT_ROOM_ID, 10, 5);
+
+        // then
+        assertThat(messages).isEmpty();
+        verify(chatMessageSegmentRepository, never()).findAllEndPositions(anyLong(), anyLong(),
+                                                                         anyLong());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("findAllBefore 메서드는")
+  class DescribeFindAllBefore {
+
+    @Nested
+    @DisplayName("cursor 메시지가 보관돼 있으면")
+    class ContextWithArchivedCursor {
+
+      @Test
+      @DisplayName("cursor 보다 오래된 메시지부터 세그먼트를 이어 최신 순으로 반환한다")
+      void ItReturnsMessagesBeforeCursor() {
+        // given
+        givenSegmentPayloads();
+        LocalDateTime createdAt = LocalDateTime.of(2022, 1, 1, 0, 0).plusMinutes(8);
+        given(chatMessageSegmentRepository.findLastPositionBefore(CHAT_ROOM_ID, createdAt, 8L))
+            .willReturn(Optional.of(10L));
+        given(chatMessageSegmentRepository.findAllEndPositions(CHAT_ROOM_ID, 4L, 7L))
+            .willReturn(List.of(10L, 5L));
+
+        // when
+        List<ColdChatMessage> messages = reader.findAllBefore(CHAT_ROOM_ID, createdAt, 8L, 4);
+
+        // then
+        assertThat(messages)
+            .extracting(ColdChatMessage::getId)
+            .containsExactly(7L, 6L, 5L, 4L);
+      }
+    }
+
+    @Nested
+    @DisplayName("cursor 보다 오래된 세그먼트가 없으면")
+    class ContextWithNoOlderSegment {
+
+      @Test
+      @DisplayName("빈 리스트를 반환한다")
+      void ItReturnsEmptyList() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+        given(chatMessageSegmentRepository.findLastPositionBefore(CHAT_ROOM_ID, createdAt, 1L))
+            .willReturn(Optional.empty());
+
+        // when
+        List<ColdChatMessage> messages = reader.findAllBefore(CHAT_ROOM_ID, createdAt, 1L, 5);
+
+        // then
+        assertThat(messages).isEmpty();
+      }
+    }
+  }
+}
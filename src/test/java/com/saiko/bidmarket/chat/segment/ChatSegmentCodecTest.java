@@ -0,0 +1,59 @@
+package com.saiko.bidmarket.chat.segment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ChatSegmentCodecTest {
+
+  @Nested
+  @DisplayName("encode 메서드는")
+  class DescribeEncode {
+
+    @Nested
+    @DisplayName("메시지 목록이 주어지면")
+    class ContextWithMessages {
+
+      @Test
+      @DisplayName("decode 로 같은 메시지를 같은 순서로 되돌릴 수 있게 압축한다")
+      void ItEncodesReversibly() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2022, 8, 1, 12, 30, 15, 123_456_000);
+        List<ColdChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+          messages.add(new ColdChatMessage(i, i % 2 + 1, "안녕하세요 거래 가능할까요? " + i,
+                                           createdAt.plusSeconds(i)));
+        }
+
+        // when
+        byte[] payload = ChatSegmentCodec.encode(messages);
+        List<ColdChatMessage> decoded = ChatSegmentCodec.decode(payload);
+
+        // then
+        assertThat(payload.length).isLessThan(messages.size() * 40);
+        assertThat(decoded)
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(messages);
+      }
+    }
+
+    @Nested
+    @DisplayName("빈 목록이 주어지면")
+    class ContextWithEmptyMessages {
+
+      @Test
+      @DisplayName("IllegalArgumentException 에러를 발생시킨다")
+      void ItThrowsException() {
+        // when, then
+        assertThatThrownBy(() -> ChatSegmentCodec.encode(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+}
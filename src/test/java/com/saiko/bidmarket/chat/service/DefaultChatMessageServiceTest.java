@@ -3,6 +3,7 @@ package com.saiko.bidmarket.chat.service;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -14,10 +15,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonProcessingException;
 
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectRequest;
 import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectResponse;
 import com.saiko.bidmarket.chat.controller.dto.ChatPublishMessage;
@@ -26,8 +29,13 @@ import com.saiko.bidmarket.chat.entity.ChatMessage;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.chat.repository.ChatMessageRepository;
 import com.saiko.bidmarket.chat.repository.ChatRoomRepository;
+import com.saiko.bidmarket.chat.segment.ChatMessageSegmentReader;
+import com.saiko.bidmarket.chat.segment.ColdChatMessage;
 import com.saiko.bidmarket.chat.service.dto.ChatMessageCreateParam;
+import com.saiko.bidmarket.common.config.CacheConfig;
 import com.saiko.bidmarket.common.exception.NotFoundException;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.user.entity.Group;
@@ -46,6 +54,13 @@ class DefaultChatMessageServiceTest {
   @Mock
   UserRepository userRepository;
 
+  @Mock
+  ChatMessageSegmentReader chatMessageSegmentReader;
+
+  @Spy
+  RecentChatMessageCache recentChatMessageCache = new RecentChatMessageCache(
+      new CacheConfig.ChatRecent(10000, 50, false), Ticker.systemTicker());
+
   @InjectMocks
   DefaultChatMessageService defaultChatMessageService;
 
@@ -93,7 +108,11 @@ class DefaultChatMessageServiceTest {
             .willReturn(Optional.of(seller));
 
         given(chatMessageRepository.save(any(ChatMessage.class)))
-            .willAnswer(methodInvocationMock -> methodInvocationMock.getArguments()[0]);
+            .willAnswer(methodInvocationMock -> {
+              ChatMessage saved = (ChatMessage)methodInvocationMock.getArguments()[0];
+              ReflectionTestUtils.setField(saved, "id", 1L);
+              return saved;
+            });
 
         //when
         ChatPublishMessage chatPublishMessage = defaultChatMessageService.create(createParam);
@@ -130,7 +149,7 @@ class DefaultChatMessageServiceTest {
       @DisplayName("NotFoundException 에러를 던진다")
       void ItThrowNotFoundException() {
         //given
-        ChatMessageSelectRequest request = new ChatMessageSelectRequest(0, 10);
+        ChatMessageSelectRequest request = new ChatMessageSelectRequest(null, 10);
         given(chatRoomRepository.findById(anyLong())).willReturn(Optional.empty());
 
         //when, then
@@ -152,7 +171,7 @@ class DefaultChatMessageServiceTest {
         User winner = getUser(2);
         Product product = getProduct(1, 1);
         ChatRoom chatRoom = getChatRoom(1, seller, winner, product);
-        ChatMessageSelectRequest request = new ChatMessageSelectRequest(0, 10);
+        ChatMessageSelectRequest request = new ChatMessageSelectRequest(null, 10);
 
         given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
 
@@ -175,23 +194,153 @@ class DefaultChatMessageServiceTest {
         User winner = getUser(2);
         Product product = getProduct(1, 1);
         ChatRoom chatRoom = getChatRoom(1, seller, winner, product);
-        ChatMessageSelectRequest request = new ChatMessageSelectRequest(0, 10);
+        ChatMessageSelectRequest request = new ChatMessageSelectRequest(null, 10);
 
         given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
         given(chatMessageRepository.findAllChatMessage(
             anyLong(),
-            any(ChatMessageSelectRequest.class)
+            any(),
+            anyInt()
         )).willReturn(getChatMessages(chatRoom, seller, messageNum));
 
         //when
-        List<ChatMessageSelectResponse> responses =
+        CursorPage<ChatMessageSelectResponse> responses =
             defaultChatMessageService.findAll(seller.getId(), 1L, request);
 
         //then
-        assertThat(responses.size()).isEqualTo(messageNum);
+        assertThat(responses.getItems().size()).isEqualTo(messageNum);
+        assertThat(responses.isHasNext()).isFalse();
+        assertThat(responses.getNextCursor()).isNull();
+      }
+    }
+
+    @Nested
+    @DisplayName("첫 페이지를 다시 조회하면")
+    class ContextWithCachedFirstPage {
+
+      @Test
+      @DisplayName("저장소를 거치지 않고 보낸 메시지까지 최신 순으로 반환한다")
+      void ItReturnsCachedMessages() {
+        //given
+        User seller = getUser(1);
+        User winner = getUser(2);
+        Product product = getProduct(1, 1);
+        ChatRoom chatRoom = getChatRoom(1, seller, winner, product);
+        ChatMessageSelectRequest request = new ChatMessageSelectRequest(null, 10);
+
+        given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
+        given(chatMessageRepository.findAllChatMessage(
+            anyLong(),
+            any(),
+            anyInt()
+        )).willReturn(getChatMessages(chatRoom, seller, 10));
+        defaultChatMessageService.findAll(seller.getId(), 1L, request);
+
+        ChatMessage sent = getChatMessage(chatRoom, winner);
+        ReflectionTestUtils.setField(sent, "id", 100L);
+        recentChatMessageCache.append(1L, 100L, ChatMessageSelectResponse.from(sent));
+
+        //when
+        CursorPage<ChatMessageSelectResponse> responses =
+            defaultChatMessageService.findAll(winner.getId(), 1L, request);
+
+        //then
+        assertThat(responses.getItems().size()).isEqualTo(10);
+        assertThat(responses.getItems().get(0).getUserInfo().getUserId())
+            .isEqualTo(winner.getId());
+        assertThat(responses.isHasNext()).isTrue();
+        verify(chatRoomRepository, times(1)).findById(anyLong());
+        verify(chatMessageRepository, times(1)).findAllChatMessage(anyLong(), any(), anyInt());
       }
     }
 
+    @Nested
+    @DisplayName("cursor 이후의 최근 메시지가 limit 보다 적으면")
+    class ContextWithColdMessages {
+
+      @Test
+      @DisplayName("나머지를 가장 최신 세그먼트부터 이어 읽어 반환한다")
+      void ItReturnsColdMessagesAfterHotMessages() {
+        //given
+        User seller = getUser(1);
+        User winner = getUser(2);
+        Product product = getProduct(1, 1);
+        ChatRoom chatRoom = getChatRoom(1, seller, winner, product);
+        Cursor cursor = Cursor.of(Cursor.key(LocalDateTime.of(2022, 1, 2, 0, 0)), 4L);
+        ChatMessageSelectRequest request = new ChatMessageSelectRequest(cursor.encode(), 10);
+        ColdChatMessage coldMessage = new ColdChatMessage(
+            1L, winner.getId(), "cold", LocalDateTime.of(2022, 1, 1, 0, 0));
+
+        given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
+        given(chatMessageRepository.findAllChatMessage(1L, cursor, 11))
+            .willReturn(getChatMessages(chatRoom, seller, 3));
+        given(chatMessageSegmentReader.findAll(1L, 0L, 8)).willReturn(List.of(coldMessage));
+
+        //when
+        CursorPage<ChatMessageSelectResponse> responses =
+            defaultChatMessageService.findAll(seller.getId(), 1L, request);
+
+        //then
+        assertThat(responses.getItems().size()).isEqualTo(4);
+        assertThat(responses.getItems().get(3).getContent()).isEqualTo("cold");
+        assertThat(responses.getItems().get(3).getUserInfo().getUserId())
+            .isEqualTo(winner.getId());
+        assertThat(responses.isHasNext()).isFalse();
+      }
+    }
+
+    @Nested
+    @DisplayName("cursor 이후의 최근 메시지가 없으면")
+    class ContextWithCursorInColdMessages {
+
+      @Test
+      @DisplayName("세그먼트에서 cursor 보다 오래된 메시지를 읽어 반환한다")
+      void ItReturnsColdMessagesBeforeCursor() {
+        //given
+        User seller = getUser(1);
+        User winner = getUser(2);
+        Product product = getProduct(1, 1);
+        ChatRoom chatRoom = getChatRoom(1, seller, winner, product);
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2022, 1, 2, 0, 0);
+        Cursor cursor = Cursor.of(Cursor.key(cursorCreatedAt), 4L);
+        ChatMessageSelectRequest request = new ChatMessageSelectRequest(cursor.encode(), 1);
+        List<ColdChatMessage> coldMessages = List.of(
+            new ColdChatMessage(3L, winner.getId(), "cold", LocalDateTime.of(2022, 1, 1, 0, 0)),
+            new ColdChatMessage(2L, seller.getId(), "older", LocalDateTime.of(2021, 1, 1, 0, 0)));
+
+        given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
+        given(chatMessageRepository.findAllChatMessage(1L, cursor, 2)).willReturn(List.of());
+        given(chatMessageSegmentReader.findAllBefore(1L, cursorCreatedAt, 4L, 2))
+            .willReturn(coldMessages);
+
+        //when
+        CursorPage<ChatMessageSelectResponse> responses =
+            defaultChatMessageService.findAll(seller.getId(), 1L, request);
+
+        //then
+        assertThat(responses.getItems().size()).isEqualTo(1);
+        assertThat(responses.getItems().get(0).getContent()).isEqualTo("cold");
+        assertThat(responses.isHasNext()).isTrue();
+        assertThat(Cursor.decode(responses.getNextCursor(), 2))
+            .isEqualTo(Cursor.of(Cursor.key(LocalDateTime.of(2022, 1, 1, 0, 0)), 3L));
+      }
+    }
+
+    @Nested
+    @DisplayName("cursor 가 올바르지 않으면")
+    class ContextWithInvalidCursor {
+
+      @Test
+      @DisplayName("IllegalArgumentException 에러를 던진다")
+      void ItThrowsIllegalArgumentException() {
+        //given
+        ChatMessageSelectRequest request = new ChatMessageSelectRequest("invalid", 10);
+
+        //when, then
+        assertThatThrownBy(() -> defaultChatMessageService.findAll(1L, 1L, request))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
   }
 
   private List<ChatMessage> getChatMessages(
@@ -201,7 +350,11 @@ class DefaultChatMessageServiceTest {
   ) {
     List<ChatMessage> chatMessages = new ArrayList<>();
     for (int i = 0; i < count; i++) {
-      chatMessages.add(getChatMessage(chatRoom, sender));
+      ChatMessage chatMessage = getChatMessage(chatRoom, sender);
+      ReflectionTestUtils.setField(chatMessage, "id", (long)count - i);
+      ReflectionTestUtils.setField(chatMessage, "createdAt",
+                                   LocalDateTime.of(2022, 1, 1, 0, 0).plusSeconds(count - i));
+      chatMessages.add(chatMessage);
     }
     return chatMessages;
   }
@@ -210,12 +363,14 @@ class DefaultChatMessageServiceTest {
       ChatRoom chatRoom,
       User sender
   ) {
-    return ChatMessage
+    ChatMessage chatMessage = ChatMessage
         .builder()
         .chatRoom(chatRoom)
         .sender(sender)
         .message("test")
         .build();
+    ReflectionTestUtils.setField(chatMessage, "createdAt", LocalDateTime.now());
+    return chatMessage;
   }
 
   private ChatRoom getChatRoom(
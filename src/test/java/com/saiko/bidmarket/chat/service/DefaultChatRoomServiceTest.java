@@ -24,6 +24,8 @@ import com.saiko.bidmarket.chat.entity.ChatMessage;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.chat.repository.ChatMessageRepository;
 import com.saiko.bidmarket.chat.repository.ChatRoomRepository;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.user.entity.Group;
@@ -107,7 +109,7 @@ class DefaultChatRoomServiceTest {
       @DisplayName("IllegalArgumentException 에러를 발생시킨다")
       void ItThrowsIllegalArgumentException(long userId) {
         //when, then
-        ChatRoomSelectRequest request = new ChatRoomSelectRequest(1, 10);
+        ChatRoomSelectRequest request = new ChatRoomSelectRequest(null, 10);
         assertThatThrownBy(() -> chatRoomService.findAll(userId, request));
       }
     }
@@ -142,19 +144,20 @@ class DefaultChatRoomServiceTest {
         Product product = getProduct(productId, sellerId);
         ChatRoom chatRoom = getChatRoom(chatRoomId, seller, winner, product);
 
-        ChatRoomSelectRequest request = new ChatRoomSelectRequest(0, 10);
+        ChatRoomSelectRequest request = new ChatRoomSelectRequest(null, 10);
 
         given(chatRoomRepository.findAllByUserId(anyLong(), any(ChatRoomSelectRequest.class)))
-            .willReturn(List.of(chatRoom));
+            .willReturn(CursorPage.of(List.of(chatRoom), false, room -> Cursor.of(room.getId())));
 
         given(chatMessageRepository.findLastChatMessageOfChatRoom(anyLong()))
             .willReturn(Optional.of(ChatMessage.getEmptyMessage()));
 
         //when
-        List<ChatRoomSelectResponse> responses = chatRoomService.findAll(sellerId, request);
+        CursorPage<ChatRoomSelectResponse> responses = chatRoomService.findAll(sellerId, request);
 
         //then
-        assertThat(responses.size()).isEqualTo(1);
+        assertThat(responses.getItems().size()).isEqualTo(1);
+        assertThat(responses.isHasNext()).isFalse();
       }
     }
   }
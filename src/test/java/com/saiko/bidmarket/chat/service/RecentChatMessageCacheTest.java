@@ -0,0 +1,286 @@
+package com.saiko.bidmarket.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.saiko.bidmarket.chat.controller.dto.ChatMessageSelectResponse;
+import com.saiko.bidmarket.chat.controller.dto.ChatUserInfo;
+import com.saiko.bidmarket.common.config.CacheConfig;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
+import com.saiko.bidmarket.user.event.UserUpdatedEvent;
+
+class RecentChatMessageCacheTest {
+
+  private static final long SELLER_ID = 1L;
+
+  private static final long WINNER_ID = 2L;
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  private RecentChatMessageCache cache(boolean offHeap) {
+    return new RecentChatMessageCache(new CacheConfig.ChatRecent(10, 3, offHeap), () -> 0L);
+  }
+
+  private LongFunction<RecentChatMessageCache.Snapshot> loader(long... messageIds) {
+    return chatRoomId -> {
+      loadCount.incrementAndGet();
+      List<RecentChatMessageCache.Message> messages = new ArrayList<>();
+      for (long messageId : messageIds) {
+        messages.add(new RecentChatMessageCache.Message(messageId, response(messageId)));
+      }
+      return new RecentChatMessageCache.Snapshot(SELLER_ID, WINNER_ID, messages);
+    };
+  }
+
+  private ChatMessageSelectResponse response(long messageId) {
+    ChatUserInfo userInfo = ChatUserInfo
+        .builder()
+        .userId(SELLER_ID)
+        .username("레이")
+        .profileImage(null)
+        .build();
+    return ChatMessageSelectResponse.of(userInfo, "message" + messageId,
+                                        LocalDateTime.of(2022, 1, 1, 0, 0).plusNanos(messageId));
+  }
+
+  private List<String> contents(CursorPage<RecentChatMessageCache.Message> page) {
+    return page
+        .getItems()
+        .stream()
+        .map(message -> message.getResponse().getContent())
+        .collect(Collectors.toList());
+  }
+
+  @Nested
+  @DisplayName("findLatest 메서드는")
+  class DescribeFindLatest {
+
+    @Nested
+    @DisplayName("같은 방을 다시 조회하면")
+    class ContextWithCachedRoom {
+
+      @Test
+      @DisplayName("다시 읽지 않고 최신 순으로 limit 개를 반환한다")
+      void ItReturnsWithoutLoading() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+        cache.findLatest(1L, SELLER_ID, 3, loader(2L, 1L));
+
+        // when
+        CursorPage<RecentChatMessageCache.Message> page =
+            cache.findLatest(1L, WINNER_ID, 1, loader(2L, 1L));
+
+        // then
+        assertThat(contents(page)).containsExactly("message2");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(loadCount.get()).isEqualTo(1);
+      }
+    }
+
+    @Nested
+    @DisplayName("방의 메시지가 모두 캐시에 담겨 있으면")
+    class ContextWithCompleteRoom {
+
+      @Test
+      @DisplayName("다음 페이지가 없다고 알린다")
+      void ItReturnsLastPage() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+
+        // when
+        CursorPage<RecentChatMessageCache.Message> page =
+            cache.findLatest(1L, SELLER_ID, 3, loader(2L, 1L));
+
+        // then
+        assertThat(contents(page)).containsExactly("message2", "message1");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+      }
+    }
+
+    @Nested
+    @DisplayName("방에 담을 수 있는 것보다 많은 메시지를 읽어오면")
+    class ContextWithMoreMessagesThanCapacity {
+
+      @Test
+      @DisplayName("마지막 메시지의 cursor 로 다음 페이지를 이어 읽게 한다")
+      void ItReturnsNextCursor() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+
+        // when
+        CursorPage<RecentChatMessageCache.Message> page =
+            cache.findLatest(1L, SELLER_ID, 3, loader(4L, 3L, 2L, 1L));
+
+        // then
+        assertThat(contents(page)).containsExactly("message4", "message3", "message2");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(Cursor.decode(page.getNextCursor(), 2))
+            .isEqualTo(Cursor.of(Cursor.key(response(2L).getCreatedAt()), 2L));
+      }
+    }
+
+    @Nested
+    @DisplayName("참여자가 아닌 사용자가 조회하면")
+    class ContextWithNotParticipant {
+
+      @Test
+      @DisplayName("IllegalArgumentException 에러를 발생시킨다")
+      void ItThrowsException() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+
+        // when, then
+        assertThatThrownBy(() -> cache.findLatest(1L, 3L, 3, loader(1L)))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+
+    @Nested
+    @DisplayName("limit 이 방마다 두는 메시지 수보다 크면")
+    class ContextWithLargeLimit {
+
+      @Test
+      @DisplayName("IllegalArgumentException 에러를 발생시킨다")
+      void ItThrowsException() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+
+        // when, then
+        assertThat(cache.covers(null, 4)).isFalse();
+        assertThat(cache.covers(Cursor.of(1L, 1L), 3)).isFalse();
+        assertThatThrownBy(() -> cache.findLatest(1L, SELLER_ID, 4, loader(1L)))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("append 메서드는")
+  class DescribeAppend {
+
+    @Nested
+    @DisplayName("방이 가득 차면")
+    class ContextWithFullRoom {
+
+      @Test
+      @DisplayName("가장 오래된 메시지를 덮어쓴다")
+      void ItOverwritesOldest() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+        cache.findLatest(1L, SELLER_ID, 3, loader(3L, 2L, 1L));
+
+        // when
+        cache.append(1L, 4L, response(4L));
+        cache.append(1L, 5L, response(5L));
+
+        // then
+        CursorPage<RecentChatMessageCache.Message> page =
+            cache.findLatest(1L, SELLER_ID, 3, loader());
+        assertThat(contents(page)).containsExactly("message5", "message4", "message3");
+        assertThat(page.isHasNext()).isTrue();
+      }
+    }
+
+    @Nested
+    @DisplayName("이미 담긴 메시지가 주어지면")
+    class ContextWithDuplicateMessage {
+
+      @Test
+      @DisplayName("다시 담지 않는다")
+      void ItIgnoresDuplicate() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+        cache.findLatest(1L, SELLER_ID, 3, loader(2L, 1L));
+
+        // when
+        cache.append(1L, 2L, response(2L));
+
+        // then
+        assertThat(contents(cache.findLatest(1L, SELLER_ID, 3, loader())))
+            .containsExactly("message2", "message1");
+      }
+    }
+
+    @Nested
+    @DisplayName("캐시에 없는 방이면")
+    class ContextWithAbsentRoom {
+
+      @Test
+      @DisplayName("담지 않고 다음 조회에서 읽어온다")
+      void ItIgnoresMessage() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+
+        // when
+        cache.append(1L, 2L, response(2L));
+
+        // then
+        assertThat(cache.estimatedSize()).isZero();
+        assertThat(contents(cache.findLatest(1L, SELLER_ID, 3, loader(1L))))
+            .containsExactly("message1");
+      }
+    }
+
+    @Nested
+    @DisplayName("offHeap 이 켜져 있으면")
+    class ContextWithOffHeap {
+
+      @Test
+      @DisplayName("힙 밖 버퍼에서 같은 응답을 복원한다")
+      void ItRestoresResponse() {
+        // given
+        RecentChatMessageCache cache = cache(true);
+        cache.findLatest(1L, SELLER_ID, 3, loader(1L));
+
+        // when
+        cache.append(1L, 2L, response(2L));
+
+        // then
+        List<ChatMessageSelectResponse> responses = cache
+            .findLatest(1L, SELLER_ID, 3, loader())
+            .map(RecentChatMessageCache.Message::getResponse)
+            .getItems();
+        assertThat(responses)
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactly(response(2L), response(1L));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("on 메서드는")
+  class DescribeOn {
+
+    @Nested
+    @DisplayName("참여자의 UserUpdatedEvent 가 주어지면")
+    class ContextWithUserUpdated {
+
+      @Test
+      @DisplayName("그 사용자가 참여한 방을 비운다")
+      void ItInvalidatesRooms() {
+        // given
+        RecentChatMessageCache cache = cache(false);
+        cache.findLatest(1L, SELLER_ID, 3, loader(1L));
+
+        // when
+        cache.on(new UserUpdatedEvent(WINNER_ID));
+
+        // then
+        cache.findLatest(1L, SELLER_ID, 3, loader(1L));
+        assertThat(loadCount.get()).isEqualTo(2);
+      }
+    }
+  }
+}
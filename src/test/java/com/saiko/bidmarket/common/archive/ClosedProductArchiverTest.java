@@ -0,0 +1,265 @@
+package com.saiko.bidmarket.common.archive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+
+class ClosedProductArchiverTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2022, 12, 1, 4, 30);
+
+  private static final Duration RETENTION = Duration.ofDays(90);
+
+  private static final LocalDateTime OLD = NOW.minusDays(100);
+
+  private static final PartitionAssignment ALL = PartitionAssignment.of(1, List.of(0));
+
+  private final PartitionLeaseManager partitionLeaseManager = mock(PartitionLeaseManager.class);
+
+  private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+      "jdbc:h2:mem:archive;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+  ClosedProductArchiverTest() {
+    new ResourceDatabasePopulator(
+        new ClassPathResource("sql/product/product_schema.sql"),
+        new ClassPathResource("sql/product/product_listing_schema.sql"),
+        new ClassPathResource("sql/bidding/bidding_schema.sql"),
+        new ClassPathResource("sql/comment/comment_schema.sql"),
+        new ClassPathResource("sql/chat/chat_schema.sql"),
+        new ClassPathResource("sql/archive/archive_schema.sql")
+    ).execute(dataSource);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+  }
+
+  private ClosedProductArchiver archiver(int batchSize) {
+    return new ClosedProductArchiver(new NamedParameterJdbcTemplate(dataSource),
+                                     new TransactionTemplate(
+                                         new DataSourceTransactionManager(dataSource)),
+                                     RETENTION, batchSize, Clock.systemDefaultZone(),
+                                     partitionLeaseManager);
+  }
+
+  private void product(long id, boolean progressed, LocalDateTime expireAt) {
+    jdbcTemplate.update(
+        "INSERT INTO product (id, title, description, minimum_price, category, thumbnail_image, "
+            + "progressed, expire_at, created_at, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        id, "title" + id, "description", 1000, "ETC", "image", progressed, expireAt,
+        expireAt.minusDays(3), 1L);
+    jdbcTemplate.update(
+        "INSERT INTO image (id, product_id, url, `order`, created_at) VALUES (?, ?, ?, ?, ?)",
+        id, id, "image", 1, expireAt.minusDays(3));
+    jdbcTemplate.update(
+        "INSERT INTO product_listing (product_id, writer_id, title, thumbnail_image, "
+            + "minimum_price, heart_count, category, progressed, expire_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        id, 1L, "title" + id, "image", 1000, 0L, "ETC", progressed, expireAt,
+        expireAt.minusDays(3));
+    jdbcTemplate.update(
+        "INSERT INTO comment (id, content, product_id, user_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?)", id, "comment", id, 2L, expireAt.minusDays(2));
+  }
+
+  private void bidding(long id, long productId, boolean won) {
+    jdbcTemplate.update(
+        "INSERT INTO bidding (id, bidding_price, won, created_at, bidder_id, product_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?)", id, 1000L, won, OLD, 2L, productId);
+  }
+
+  private void chatRoom(long id, long productId) {
+    jdbcTemplate.update(
+        "INSERT INTO chat_room (id, seller_id, winner_id, product_id) VALUES (?, ?, ?, ?)",
+        id, 1L, 2L, productId);
+  }
+
+  private int count(String table) {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+  }
+
+  private int archivedListings() {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM product_listing WHERE archived = true", Integer.class);
+  }
+
+  @Nested
+  @DisplayName("archive 메서드는")
+  class DescribeArchive {
+
+    @Nested
+    @DisplayName("낙찰 없이 마감된 지 retention 이 지난 상품이 있으면")
+    class ContextWithUnsoldProduct {
+
+      @Test
+      @DisplayName("상품, 이미지, 댓글, 입찰을 모두 보관 테이블로 옮기고 목록 행은 보관으로 표시한다")
+      void ItMovesAllRows() {
+        // given
+        product(1, false, OLD);
+        bidding(1, 1, false);
+
+        // when
+        int archived = archiver(10).archive(NOW, ALL);
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        assertThat(count("product")).isZero();
+        assertThat(count("image")).isZero();
+        assertThat(count("comment")).isZero();
+        assertThat(count("bidding")).isZero();
+        assertThat(count("product_archive")).isEqualTo(1);
+        assertThat(count("image_archive")).isEqualTo(1);
+        assertThat(count("comment_archive")).isEqualTo(1);
+        assertThat(count("bidding_archive")).isEqualTo(1);
+        assertThat(count("product_listing")).isEqualTo(1);
+        assertThat(archivedListings()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT archived_at FROM product_archive", LocalDateTime.class)).isEqualTo(NOW);
+      }
+    }
+
+    @Nested
+    @DisplayName("채팅방이 있는 낙찰된 상품이면")
+    class ContextWithSoldProduct {
+
+      @Test
+      @DisplayName("입찰만 옮기고 상품은 남긴다")
+      void ItMovesOnlyBiddings() {
+        // given
+        product(1, false, OLD);
+        bidding(1, 1, true);
+        bidding(2, 1, false);
+        chatRoom(1, 1);
+
+        // when
+        int archived = archiver(10).archive(NOW, ALL);
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        assertThat(count("bidding")).isZero();
+        assertThat(count("bidding_archive")).isEqualTo(2);
+        assertThat(count("product")).isEqualTo(1);
+        assertThat(count("product_archive")).isZero();
+        assertThat(count("product_listing")).isEqualTo(1);
+        assertThat(archivedListings()).isZero();
+        assertThat(archiver(10).archive(NOW, ALL)).isZero();
+      }
+    }
+
+    @Nested
+    @DisplayName("진행 중이거나 retention 이 지나지 않은 상품이면")
+    class ContextWithRecentProduct {
+
+      @Test
+      @DisplayName("옮기지 않는다")
+      void ItKeepsRows() {
+        // given
+        product(1, true, OLD);
+        product(2, false, NOW.minusDays(10));
+        bidding(1, 1, false);
+        bidding(2, 2, false);
+
+        // when
+        int archived = archiver(10).archive(NOW, ALL);
+
+        // then
+        assertThat(archived).isZero();
+        assertThat(count("product")).isEqualTo(2);
+        assertThat(count("bidding")).isEqualTo(2);
+      }
+    }
+
+    @Nested
+    @DisplayName("옮길 상품이 batchSize 보다 많으면")
+    class ContextWithManyProducts {
+
+      @Test
+      @DisplayName("여러 배치로 나눠 모두 옮긴다")
+      void ItMovesInBatches() {
+        // given
+        for (long id = 1; id <= 7; id++) {
+          product(id, false, OLD.minusHours(id % 3));
+          bidding(id, id, true);
+          if (id % 2 == 0) {
+            chatRoom(id, id);
+          }
+        }
+
+        // when
+        int archived = archiver(2).archive(NOW, ALL);
+
+        // then
+        assertThat(archived).isEqualTo(7);
+        assertThat(count("bidding")).isZero();
+        assertThat(count("product")).isEqualTo(3);
+        assertThat(count("product_archive")).isEqualTo(4);
+        assertThat(count("product_listing")).isEqualTo(7);
+        assertThat(archivedListings()).isEqualTo(4);
+      }
+    }
+
+    @Nested
+    @DisplayName("일부 파티션만 가지고 있으면")
+    class ContextWithPartialAssignment {
+
+      @Test
+      @DisplayName("가진 파티션의 상품만 옮긴다")
+      void ItMovesOnlyOwnedPartitions() {
+        // given
+        for (long id = 1; id <= 4; id++) {
+          product(id, false, OLD);
+        }
+
+        // when
+        int archived = archiver(10).archive(NOW, PartitionAssignment.of(2, List.of(0)));
+
+        // then
+        assertThat(archived).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM product ORDER BY id", Long.class))
+            .containsExactly(1L, 3L);
+      }
+    }
+
+    @Nested
+    @DisplayName("스케줄로 실행될 때 가진 파티션이 없으면")
+    class ContextWithoutLease {
+
+      @Test
+      @DisplayName("아무것도 옮기지 않는다")
+      void ItMovesNothing() {
+        // given
+        product(1, false, OLD);
+        given(partitionLeaseManager.ownedPartitions()).willReturn(PartitionAssignment.empty(1));
+
+        // when
+        archiver(10).archive();
+
+        // then
+        assertThat(count("product")).isEqualTo(1);
+        assertThat(count("product_archive")).isZero();
+      }
+    }
+  }
+}
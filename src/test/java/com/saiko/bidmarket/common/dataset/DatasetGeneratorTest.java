@@ -0,0 +1,127 @@
+package com.saiko.bidmarket.common.dataset;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.saiko.bidmarket.common.config.DatasetConfig;
+
+class DatasetGeneratorTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2022, 8, 1, 12, 0);
+
+  private static final int USERS = 10_000;
+
+  private static final int PRODUCTS = 2_000;
+
+  private static final long BIDDINGS = 20_000;
+
+  private final DatasetGenerator generator = new DatasetGenerator(config(42), NOW);
+
+  private static DatasetConfig config(long seed) {
+    return new DatasetConfig(true, seed, USERS, PRODUCTS, BIDDINGS, 5_000, 5_000, 10, 1.1, 60,
+                             1000);
+  }
+
+  @Nested
+  @DisplayName("product 메서드는")
+  class DescribeProduct {
+
+    @Nested
+    @DisplayName("같은 seed 와 시각이 주어지면")
+    class ContextWithSameSeed {
+
+      @Test
+      @DisplayName("같은 상품을 만든다")
+      void ItGeneratesSameProduct() {
+        // given
+        DatasetGenerator other = new DatasetGenerator(config(42), NOW);
+
+        // when, then
+        IntStream
+            .range(0, PRODUCTS)
+            .forEach(index -> assertThat(other.product(index))
+                .usingRecursiveComparison()
+                .isEqualTo(generator.product(index)));
+      }
+    }
+
+    @Nested
+    @DisplayName("skew 가 주어지면")
+    class ContextWithSkew {
+
+      @Test
+      @DisplayName("입찰이 일부 상품에 몰리고 전체 입찰 수는 설정에 가깝다")
+      void ItConcentratesBiddings() {
+        // when
+        int[] counts = IntStream
+            .range(0, PRODUCTS)
+            .map(index -> generator.product(index).getBiddingCount())
+            .toArray();
+
+        // then
+        long total = IntStream.of(counts).asLongStream().sum();
+        int max = IntStream.of(counts).max().orElseThrow();
+        assertThat(total).isBetween(BIDDINGS * 9 / 10, BIDDINGS * 11 / 10);
+        assertThat(max).isGreaterThan((int)(BIDDINGS / PRODUCTS * 10));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("bidderIndex 메서드는")
+  class DescribeBidderIndex {
+
+    @Test
+    @DisplayName("한 상품 안에서 작성자를 빼고 겹치지 않는 입찰자를 고른다")
+    void ItPicksDistinctBiddersExceptWriter() {
+      IntStream.range(0, PRODUCTS).mapToObj(generator::product).forEach(product -> {
+        // when
+        Set<Integer> bidders = new HashSet<>();
+        IntStream
+            .range(0, product.getBiddingCount())
+            .forEach(order -> bidders.add(generator.bidderIndex(product, order)));
+
+        // then
+        assertThat(bidders)
+            .hasSize(product.getBiddingCount())
+            .doesNotContain(product.getWriterIndex())
+            .allMatch(bidder -> bidder >= 0 && bidder < USERS);
+      });
+    }
+  }
+
+  @Nested
+  @DisplayName("winnerIndex 메서드는")
+  class DescribeWinnerIndex {
+
+    @Test
+    @DisplayName("마감된 상품의 마지막 입찰자를 최고가 입찰자로 돌려준다")
+    void ItReturnsLastBidder() {
+      IntStream
+          .range(0, PRODUCTS)
+          .mapToObj(generator::product)
+          .filter(ProductSpec::hasWinner)
+          .forEach(product -> {
+            // when
+            int winner = generator.winnerIndex(product);
+
+            // then
+            int last = product.getBiddingCount() - 1;
+            assertThat(winner).isEqualTo(generator.bidderIndex(product, last));
+            assertThat(product.topBiddingPrice()).isEqualTo(product.biddingPrice(last));
+            IntStream
+                .range(0, last)
+                .forEach(order -> assertThat(product.biddingPrice(order))
+                    .isLessThan(product.topBiddingPrice()));
+          });
+    }
+  }
+}
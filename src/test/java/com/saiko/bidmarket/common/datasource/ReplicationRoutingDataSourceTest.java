@@ -0,0 +1,176 @@
+package com.saiko.bidmarket.common.datasource;
+
+import static com.saiko.bidmarket.common.datasource.ReplicationRoutingDataSource.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.saiko.bidmarket.common.jwt.JwtAuthentication;
+import com.saiko.bidmarket.common.jwt.JwtAuthenticationToken;
+
+class ReplicationRoutingDataSourceTest {
+
+  private static final long USER_ID = 1L;
+
+  ReplicaSelector replicaSelector;
+
+  ReadAfterWriteTracker readAfterWriteTracker;
+
+  ReplicationRoutingDataSource routingDataSource;
+
+  @BeforeEach
+  void setUp() {
+    replicaSelector = new ReplicaSelector(List.of("replica-0", "replica-1"));
+    readAfterWriteTracker = new ReadAfterWriteTracker(
+        Duration.ofSeconds(5), Clock.fixed(Instant.now(), ZoneOffset.UTC));
+    routingDataSource = new ReplicationRoutingDataSource(replicaSelector, readAfterWriteTracker);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    SecurityContextHolder.clearContext();
+  }
+
+  private void login() {
+    JwtAuthenticationToken authentication = new JwtAuthenticationToken(
+        new JwtAuthentication("token", USER_ID), null, AuthorityUtils.createAuthorityList("USER"));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+  }
+
+  @Nested
+  @DisplayName("determineCurrentLookupKey 메서드는")
+  class DescribeDetermineCurrentLookupKey {
+
+    @Nested
+    @DisplayName("readOnly 트랜잭션이 아니라면")
+    class ContextWithWriteTransaction {
+
+      @Test
+      @DisplayName("primary 를 반환한다")
+      void ItReturnsPrimary() {
+        // when
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(PRIMARY);
+      }
+    }
+
+    @Nested
+    @DisplayName("readOnly 트랜잭션이라면")
+    class ContextWithReadOnlyTransaction {
+
+      @Test
+      @DisplayName("복제본을 번갈아 반환한다")
+      void ItReturnsReplicasInRoundRobin() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object first = routingDataSource.determineCurrentLookupKey();
+        Object second = routingDataSource.determineCurrentLookupKey();
+        Object third = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(List.of(first, second, third))
+            .containsExactly("replica-0", "replica-1", "replica-0");
+      }
+    }
+
+    @Nested
+    @DisplayName("지연으로 격리된 복제본이 있다면")
+    class ContextWithFencedReplica {
+
+      @Test
+      @DisplayName("격리되지 않은 복제본만 반환한다")
+      void ItSkipsFencedReplica() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        replicaSelector.fence("replica-0");
+
+        // when
+        Object first = routingDataSource.determineCurrentLookupKey();
+        Object second = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(List.of(first, second)).containsOnly("replica-1");
+      }
+    }
+
+    @Nested
+    @DisplayName("모든 복제본이 격리되었다면")
+    class ContextWithAllReplicasFenced {
+
+      @Test
+      @DisplayName("primary 를 반환한다")
+      void ItReturnsPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        replicaSelector.fence("replica-0");
+        replicaSelector.fence("replica-1");
+
+        // when
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(PRIMARY);
+      }
+    }
+
+    @Nested
+    @DisplayName("사용자가 방금 쓰기 트랜잭션을 커밋했다면")
+    class ContextAfterOwnWrite {
+
+      @Test
+      @DisplayName("그 사용자의 읽기는 primary 를 반환한다")
+      void ItReturnsPrimaryForSameUser() {
+        // given
+        login();
+        TransactionSynchronizationManager.initSynchronization();
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(PRIMARY);
+      }
+
+      @Test
+      @DisplayName("다른 사용자의 읽기는 복제본을 반환한다")
+      void ItReturnsReplicaForOtherUser() {
+        // given
+        readAfterWriteTracker.recordWrite(USER_ID + 1);
+        login();
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isNotEqualTo(PRIMARY);
+      }
+    }
+  }
+}
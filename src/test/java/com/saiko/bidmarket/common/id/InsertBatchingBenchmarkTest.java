@@ -0,0 +1,167 @@
+package com.saiko.bidmarket.common.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.saiko.bidmarket.bidding.entity.Bidding;
+import com.saiko.bidmarket.bidding.repository.BiddingRepository;
+import com.saiko.bidmarket.common.config.QueryDslConfig;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.repository.ProductRepository;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.repository.GroupRepository;
+import com.saiko.bidmarket.user.repository.UserRepository;
+
+/**
+ * flush 한 번에 MySQL 서버로 간 요청 수(세션의 Questions 증가량)를 잰다.
+ * IDENTITY 였을 때는 엔티티 한 건마다 insert 한 번이 나갔다.
+ * id 블록 확보는 TableGenerator 가 별도 커넥션에서 하므로 세션 값에 잡히지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(value = QueryDslConfig.class)
+public class InsertBatchingBenchmarkTest {
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private GroupRepository groupRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private BiddingRepository biddingRepository;
+
+  private Group group;
+
+  @BeforeEach
+  void setUp() {
+    group = groupRepository
+        .findById(1L)
+        .get();
+  }
+
+  @Nested
+  @DisplayName("이미지가 여러 장인 상품을 저장하면")
+  class ContextWithProductHavingImages {
+
+    @Test
+    @DisplayName("상품과 이미지 insert 가 테이블별로 한 번씩만 나간다")
+    void ItSendsOneInsertPerTable() {
+      // given
+      User writer = userRepository.saveAndFlush(user("writer"));
+      Product product = Product
+          .builder()
+          .title("노트북 팝니다")
+          .description("싸요")
+          .category(Category.DIGITAL_DEVICE)
+          .minimumPrice(10000)
+          .images(List.of("image1", "image2", "image3", "image4", "image5"))
+          .location(null)
+          .writer(writer)
+          .build();
+
+      // when
+      long roundTrips = measureRoundTrips(() -> productRepository.saveAndFlush(product));
+
+      // then
+      assertThat(roundTrips)
+          .as("IDENTITY 였다면 상품 1번과 이미지 5번, 6번 오간다")
+          .isLessThanOrEqualTo(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("입찰을 여러 건 저장하면")
+  class ContextWithManyBiddings {
+
+    @Test
+    @DisplayName("batch_size 만큼 묶어서 insert 한다")
+    void ItBatchesInserts() {
+      // given
+      User writer = userRepository.saveAndFlush(user("writer"));
+      Product product = productRepository.saveAndFlush(Product
+                                                           .builder()
+                                                           .title("노트북 팝니다")
+                                                           .description("싸요")
+                                                           .category(Category.DIGITAL_DEVICE)
+                                                           .minimumPrice(10000)
+                                                           .images(List.of("image"))
+                                                           .location(null)
+                                                           .writer(writer)
+                                                           .build());
+      List<User> bidders = userRepository.saveAllAndFlush(IntStream
+                                                              .range(0, 100)
+                                                              .mapToObj(i -> user("bidder" + i))
+                                                              .collect(Collectors.toList()));
+      List<Bidding> biddings = bidders
+          .stream()
+          .map(bidder -> Bidding
+              .builder()
+              .bidder(bidder)
+              .product(product)
+              .biddingPrice(10000)
+              .build())
+          .collect(Collectors.toList());
+
+      // when
+      long roundTrips = measureRoundTrips(() -> biddingRepository.saveAllAndFlush(biddings));
+
+      // then
+      assertThat(roundTrips)
+          .as("IDENTITY 였다면 입찰마다 한 번, 100번 오간다")
+          .isLessThanOrEqualTo(2);
+    }
+  }
+
+  private User user(String providerId) {
+    return User
+        .builder()
+        .username("레이")
+        .profileImage("image")
+        .provider("google")
+        .providerId(providerId)
+        .group(group)
+        .build();
+  }
+
+  private long measureRoundTrips(Runnable work) {
+    entityManager.flush();
+    long before = questions();
+    work.run();
+    // SHOW SESSION STATUS 자체도 Questions 에 하나 더해진다
+    return questions() - before - 1;
+  }
+
+  private long questions() {
+    return jdbcTemplate.queryForObject(
+        "SHOW SESSION STATUS LIKE 'Questions'",
+        (rs, rowNum) -> rs.getLong("Value"));
+  }
+}
@@ -0,0 +1,165 @@
+package com.saiko.bidmarket.common.jfr;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.saiko.bidmarket.common.config.JfrConfig;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrRecorderTest {
+
+  private JfrRecorder recorder;
+
+  @BeforeEach
+  void setUp() {
+    recorder = new JfrRecorder(
+        new JfrConfig("default", Duration.ofMinutes(1), DataSize.ofMegabytes(16)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    recorder.stop();
+  }
+
+  @Nested
+  @DisplayName("start 메서드는")
+  class DescribeStart {
+
+    @Nested
+    @DisplayName("이미 녹화 중이면")
+    class ContextRunning {
+
+      @Test
+      @DisplayName("새로 시작하지 않고 지금 녹화의 상태를 반환한다")
+      void ItReturnsCurrentStatus() throws Exception {
+        // given
+        JfrRecordingStatus first = recorder.start();
+
+        // when
+        JfrRecordingStatus second = recorder.start();
+
+        // then
+        assertThat(second.isRunning()).isTrue();
+        assertThat(second.getStartTime()).isEqualTo(first.getStartTime());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("dump 메서드는")
+  class DescribeDump {
+
+    @Nested
+    @DisplayName("녹화 중이 아니면")
+    class ContextNotRunning {
+
+      @Test
+      @DisplayName("IllegalStateException 에러를 발생시킨다")
+      void ItThrowsIllegalStateException() {
+        assertThatThrownBy(() -> recorder.dump())
+            .isInstanceOf(IllegalStateException.class);
+      }
+    }
+
+    @Nested
+    @DisplayName("녹화 중에 비즈니스 이벤트가 commit 되었으면")
+    class ContextCommitted {
+
+      @Test
+      @DisplayName("필드와 함께 덤프 파일에 남긴다")
+      void ItDumpsBusinessEvents() throws Exception {
+        // given
+        recorder.start();
+        BiddingCreateJfrEvent biddingEvent = BiddingCreateJfrEvent.start(7L, 3L, 15000L);
+        biddingEvent.succeeded();
+        biddingEvent.commit();
+        ChatSendJfrEvent chatEvent = ChatSendJfrEvent.start(11L, 3L);
+        chatEvent.commit();
+
+        // when
+        Path file = recorder.dump();
+
+        // then
+        try {
+          List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+          assertThat(events)
+              .filteredOn(event -> event.getEventType().getName()
+                                        .equals("com.saiko.bidmarket.BiddingCreate"))
+              .singleElement()
+              .satisfies(event -> {
+                assertThat(event.getLong("productId")).isEqualTo(7L);
+                assertThat(event.getLong("biddingPrice")).isEqualTo(15000L);
+                assertThat(event.getBoolean("succeeded")).isTrue();
+              });
+          assertThat(events)
+              .filteredOn(event -> event.getEventType().getName()
+                                        .equals("com.saiko.bidmarket.ChatSend"))
+              .singleElement()
+              .satisfies(event -> {
+                assertThat(event.getLong("roomId")).isEqualTo(11L);
+                assertThat(event.getBoolean("succeeded")).isFalse();
+              });
+        } finally {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("dump 메서드로 만든 파일에는")
+  class DescribeDumpedSettings {
+
+    @Test
+    @DisplayName("환경 변수와 시스템 프로퍼티 이벤트가 남지 않는다")
+    void ItExcludesSensitiveEvents() throws Exception {
+      // given
+      recorder.start();
+
+      // when
+      Path file = recorder.dump();
+
+      // then
+      try {
+        assertThat(RecordingFile.readAllEvents(file))
+            .isNotEmpty()
+            .extracting(event -> event.getEventType().getName())
+            .doesNotContainAnyElementsOf(JfrRecorder.SENSITIVE_EVENT_NAMES);
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("stop 메서드는")
+  class DescribeStop {
+
+    @Test
+    @DisplayName("녹화를 끝내고 녹화 중이 아닌 상태를 반환한다")
+    void ItStopsRecording() throws Exception {
+      // given
+      recorder.start();
+
+      // when
+      JfrRecordingStatus status = recorder.stop();
+
+      // then
+      assertThat(status.isRunning()).isFalse();
+      assertThat(recorder.isRunning()).isFalse();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.saiko.bidmarket.common.lease;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.saiko.bidmarket.common.config.LeaseConfig;
+import com.saiko.bidmarket.common.lease.entity.Lease;
+import com.saiko.bidmarket.common.lease.repository.LeaseRepository;
+
+/**
+ * 노드마다 애플리케이션 컨텍스트를 따로 띄워 같은 DB 의 lease 를 두고 heartbeat 하게 한다.
+ */
+class PartitionLeaseFailoverTest {
+
+  private static final String DATABASE_URL = "jdbc:tc:mysql:8:///partition_lease?TC_DAEMON=true";
+
+  private static final int PARTITION_COUNT = 4;
+
+  private static final Duration TTL = Duration.ofSeconds(3);
+
+  private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(DATABASE_URL);
+    dataSource.setDriverClassName("org.testcontainers.jdbc.ContainerDatabaseDriver");
+    DatabasePopulatorUtils.execute(
+        new ResourceDatabasePopulator(new ClassPathResource("sql/lease/lease_schema.sql")),
+        dataSource);
+    // constraint.sql 은 모든 테이블을 전제하므로 lease 의 기본 키만 따로 건다
+    new JdbcTemplate(dataSource).execute(
+        "ALTER TABLE `lease` ADD CONSTRAINT `PK_LEASE` PRIMARY KEY (`name`)");
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodes.forEach(ConfigurableApplicationContext::close);
+  }
+
+  /**
+   * 한 JVM 안의 노드들은 JCache CacheManager 를 함께 쓰므로, 한 노드를 닫아도 다른 노드가 영향받지 않게 2차 캐시는 끈다.
+   */
+  private ConfigurableApplicationContext startNode(String nodeId) {
+    ConfigurableApplicationContext node = new SpringApplicationBuilder(NodeConfig.class)
+        .web(WebApplicationType.NONE)
+        .profiles("test")
+        .run("--spring.datasource.url=" + DATABASE_URL,
+             "--spring.sql.init.mode=never",
+             "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+             "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+             "--scheduler.lease.node-id=" + nodeId,
+             "--scheduler.lease.partition-count=" + PARTITION_COUNT,
+             "--scheduler.lease.ttl=" + TTL.toMillis() + "ms",
+             "--scheduler.lease.safety-margin=500ms");
+    nodes.add(node);
+    return node;
+  }
+
+  private static Set<Integer> heartbeat(ConfigurableApplicationContext node) {
+    PartitionLeaseManager partitionLeaseManager = node.getBean(PartitionLeaseManager.class);
+    partitionLeaseManager.heartbeat();
+    return partitionLeaseManager.ownedPartitions().getPartitions();
+  }
+
+  @Nested
+  @DisplayName("두 노드가 번갈아 heartbeat 하면")
+  class ContextWithTwoNodes {
+
+    @Test
+    @DisplayName("파티션을 겹치지 않게 나눠 가진다")
+    void ItSplitsPartitionsWithoutOverlap() {
+      // given
+      ConfigurableApplicationContext first = startNode("node-a");
+      ConfigurableApplicationContext second = startNode("node-b");
+
+      // when
+      heartbeat(first);
+      heartbeat(second);
+      Set<Integer> firstPartitions = heartbeat(first);
+      Set<Integer> secondPartitions = heartbeat(second);
+
+      // then
+      Set<Integer> all = new HashSet<>(firstPartitions);
+      all.addAll(secondPartitions);
+
+      assertThat(firstPartitions).hasSize(PARTITION_COUNT / 2);
+      assertThat(secondPartitions).hasSize(PARTITION_COUNT / 2);
+      assertThat(all).hasSize(PARTITION_COUNT);
+    }
+  }
+
+  @Nested
+  @DisplayName("한 노드가 heartbeat 없이 죽으면")
+  class ContextWithDeadNode {
+
+    @Test
+    @DisplayName("ttl 이 지나기 전에는 기다리고, 지난 뒤에 살아있는 노드가 그 파티션을 인수한다")
+    void ItTakesOverExpiredPartitions() {
+      // given
+      ConfigurableApplicationContext dead = startNode("node-a");
+      ConfigurableApplicationContext live = startNode("node-b");
+      heartbeat(dead);
+      heartbeat(live);
+      Set<Integer> deadPartitions = heartbeat(dead);
+      Set<Integer> livePartitions = heartbeat(live);
+
+      // when
+      dead.close();
+      Set<Integer> beforeExpiry = heartbeat(live);
+
+      // then
+      assertThat(deadPartitions)
+          .hasSize(PARTITION_COUNT / 2)
+          .doesNotContainAnyElementsOf(livePartitions);
+      assertThat(beforeExpiry).isEqualTo(livePartitions);
+      await()
+          .atMost(TTL.multipliedBy(3))
+          .untilAsserted(() -> assertThat(heartbeat(live))
+              .containsExactlyInAnyOrder(0, 1, 2, 3));
+    }
+  }
+
+  @TestConfiguration(proxyBeanMethods = false)
+  @ImportAutoConfiguration({
+      DataSourceAutoConfiguration.class,
+      HibernateJpaAutoConfiguration.class,
+      TransactionAutoConfiguration.class
+  })
+  @EntityScan(basePackageClasses = Lease.class)
+  @EnableJpaRepositories(basePackageClasses = LeaseRepository.class)
+  @EnableConfigurationProperties(LeaseConfig.class)
+  @Import(PartitionLeaseManager.class)
+  static class NodeConfig {
+  }
+}
@@ -0,0 +1,206 @@
+package com.saiko.bidmarket.common.lease;
+
+import static com.saiko.bidmarket.common.lease.PartitionLeaseManager.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.saiko.bidmarket.common.config.LeaseConfig;
+import com.saiko.bidmarket.common.lease.entity.Lease;
+import com.saiko.bidmarket.common.lease.repository.LeaseRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionLeaseManagerTest {
+
+  private static final String NODE_ID = "node-a";
+
+  private static final String OTHER_NODE_ID = "node-b";
+
+  private static final int PARTITION_COUNT = 4;
+
+  @Mock
+  LeaseRepository leaseRepository;
+
+  PartitionLeaseManager partitionLeaseManager;
+
+  LocalDateTime now;
+
+  @BeforeEach
+  void setUp() {
+    LeaseConfig leaseConfig = new LeaseConfig(NODE_ID, PARTITION_COUNT, Duration.ofSeconds(15),
+                                              Duration.ofSeconds(3));
+    partitionLeaseManager = new PartitionLeaseManager(leaseRepository, leaseConfig);
+    now = LocalDateTime.now();
+  }
+
+  private Lease lease(
+      String name,
+      String owner,
+      LocalDateTime expireAt
+  ) {
+    Lease lease = BeanUtils.instantiateClass(Lease.class);
+    ReflectionTestUtils.setField(lease, "name", name);
+    ReflectionTestUtils.setField(lease, "owner", owner);
+    ReflectionTestUtils.setField(lease, "expireAt", expireAt);
+    return lease;
+  }
+
+  private List<Lease> partitions(String... owners) {
+    return IntStream
+        .range(0, owners.length)
+        .mapToObj(partition -> owners[partition] == null ?
+            lease(PARTITION_PREFIX + partition, null, now.minusSeconds(30)) :
+            lease(PARTITION_PREFIX + partition, owners[partition], now.plusSeconds(10)))
+        .collect(Collectors.toList());
+  }
+
+  private List<Lease> members(String... nodeIds) {
+    return List.of(nodeIds)
+               .stream()
+               .map(nodeId -> lease(MEMBER_PREFIX + nodeId, nodeId, now.plusSeconds(10)))
+               .collect(Collectors.toList());
+  }
+
+  @Nested
+  @DisplayName("ownedPartitions 메서드는")
+  class DescribeOwnedPartitions {
+
+    @Nested
+    @DisplayName("heartbeat 가 한 번도 성공하지 않았다면")
+    class ContextWithoutHeartbeat {
+
+      @Test
+      @DisplayName("빈 파티션을 반환한다")
+      void ItReturnsEmptyAssignment() {
+        // when
+        PartitionAssignment assignment = partitionLeaseManager.ownedPartitions();
+
+        // then
+        assertThat(assignment.isEmpty()).isTrue();
+        assertThat(assignment.getPartitionCount()).isEqualTo(PARTITION_COUNT);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("heartbeat 메서드는")
+  class DescribeHeartbeat {
+
+    @Nested
+    @DisplayName("살아있는 노드가 자신뿐이라면")
+    class ContextWithSingleNode {
+
+      @Test
+      @DisplayName("모든 파티션을 가져온다")
+      void ItAcquiresAllPartitions() {
+        // given
+        given(leaseRepository.currentTime()).willReturn(now);
+        given(leaseRepository.findAllByNameStartingWith(PARTITION_PREFIX))
+            .willReturn(partitions(null, null, null, null));
+        given(leaseRepository.findAllByNameStartingWith(MEMBER_PREFIX))
+            .willReturn(members(NODE_ID));
+        given(leaseRepository.acquire(anyString(), eq(NODE_ID), anyLong())).willReturn(1);
+
+        // when
+        partitionLeaseManager.heartbeat();
+
+        // then
+        assertThat(partitionLeaseManager.ownedPartitions().getPartitions())
+            .containsExactly(0, 1, 2, 3);
+      }
+    }
+
+    @Nested
+    @DisplayName("다른 노드가 파티션 절반을 가지고 있다면")
+    class ContextWithOtherNodeHoldingHalf {
+
+      @Test
+      @DisplayName("남은 절반만 가져온다")
+      void ItAcquiresOnlyFreePartitions() {
+        // given
+        given(leaseRepository.currentTime()).willReturn(now);
+        given(leaseRepository.findAllByNameStartingWith(PARTITION_PREFIX))
+            .willReturn(partitions(OTHER_NODE_ID, OTHER_NODE_ID, null, null));
+        given(leaseRepository.findAllByNameStartingWith(MEMBER_PREFIX))
+            .willReturn(members(NODE_ID, OTHER_NODE_ID));
+        given(leaseRepository.acquire(anyString(), eq(NODE_ID), anyLong())).willReturn(1);
+
+        // when
+        partitionLeaseManager.heartbeat();
+
+        // then
+        assertThat(partitionLeaseManager.ownedPartitions().getPartitions())
+            .containsExactly(2, 3);
+        verify(leaseRepository, never()).acquire(eq(PARTITION_PREFIX + 0), anyString(),
+                                                 anyLong());
+      }
+    }
+
+    @Nested
+    @DisplayName("공정 분배량보다 많은 파티션을 가지고 있다면")
+    class ContextWithSurplusPartitions {
+
+      @Test
+      @DisplayName("초과분을 반납해 새 노드가 가져갈 수 있게 한다")
+      void ItReleasesSurplusPartitions() {
+        // given
+        given(leaseRepository.currentTime()).willReturn(now);
+        given(leaseRepository.findAllByNameStartingWith(PARTITION_PREFIX))
+            .willReturn(partitions(NODE_ID, NODE_ID, NODE_ID, NODE_ID));
+        given(leaseRepository.findAllByNameStartingWith(MEMBER_PREFIX))
+            .willReturn(members(NODE_ID, OTHER_NODE_ID));
+        given(leaseRepository.acquire(anyString(), eq(NODE_ID), anyLong())).willReturn(1);
+
+        // when
+        partitionLeaseManager.heartbeat();
+
+        // then
+        assertThat(partitionLeaseManager.ownedPartitions().getPartitions())
+            .containsExactly(0, 1);
+        verify(leaseRepository).release(PARTITION_PREFIX + 2, NODE_ID);
+        verify(leaseRepository).release(PARTITION_PREFIX + 3, NODE_ID);
+      }
+    }
+
+    @Nested
+    @DisplayName("갱신 중 다른 노드에게 lease 를 빼앗겼다면")
+    class ContextWithLostLease {
+
+      @Test
+      @DisplayName("빼앗긴 파티션은 소유 목록에서 제외한다")
+      void ItDropsLostPartitions() {
+        // given
+        given(leaseRepository.currentTime()).willReturn(now);
+        given(leaseRepository.findAllByNameStartingWith(PARTITION_PREFIX))
+            .willReturn(partitions(NODE_ID, NODE_ID, OTHER_NODE_ID, OTHER_NODE_ID));
+        given(leaseRepository.findAllByNameStartingWith(MEMBER_PREFIX))
+            .willReturn(members(NODE_ID, OTHER_NODE_ID));
+        given(leaseRepository.acquire(anyString(), eq(NODE_ID), anyLong())).willReturn(1);
+        given(leaseRepository.acquire(eq(PARTITION_PREFIX + 1), eq(NODE_ID), anyLong()))
+            .willReturn(0);
+
+        // when
+        partitionLeaseManager.heartbeat();
+
+        // then
+        assertThat(partitionLeaseManager.ownedPartitions().getPartitions())
+            .containsExactly(0);
+      }
+    }
+  }
+}
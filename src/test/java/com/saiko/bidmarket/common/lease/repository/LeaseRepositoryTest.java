@@ -0,0 +1,133 @@
+package com.saiko.bidmarket.common.lease.repository;
+
+import static com.saiko.bidmarket.common.lease.PartitionLeaseManager.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.saiko.bidmarket.common.config.QueryDslConfig;
+
+@DataJpaTest()
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(value = QueryDslConfig.class)
+public class LeaseRepositoryTest {
+
+  private static final String NAME = PARTITION_PREFIX + 0;
+
+  private static final long TTL_MICROS = Duration.ofSeconds(15).toMillis() * 1000;
+
+  @Autowired
+  private LeaseRepository leaseRepository;
+
+  @BeforeEach
+  void setUp() {
+    leaseRepository.createIfAbsent(NAME, TTL_MICROS);
+  }
+
+  @Nested
+  @DisplayName("createIfAbsent 메서드는")
+  class DescribeCreateIfAbsent {
+
+    @Nested
+    @DisplayName("lease 가 없다면")
+    class ContextWithoutLease {
+
+      @Test
+      @DisplayName("DB 시각 기준으로 이미 만료된 lease 를 만든다")
+      void ItCreatesExpiredLease() {
+        // when
+        LocalDateTime now = leaseRepository.currentTime();
+
+        // then
+        assertThat(leaseRepository.findById(NAME))
+            .hasValueSatisfying(lease -> {
+              assertThat(lease.getOwner()).isNull();
+              assertThat(lease.isExpired(now)).isTrue();
+            });
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("acquire 메서드는")
+  class DescribeAcquire {
+
+    @Nested
+    @DisplayName("다른 노드의 lease 가 DB 시각 기준으로 살아있다면")
+    class ContextWithLiveLeaseOfOtherNode {
+
+      @Test
+      @DisplayName("가져오지 못한다")
+      void ItDoesNotAcquire() {
+        // given
+        leaseRepository.acquire(NAME, "node-a", TTL_MICROS);
+
+        // when
+        int acquired = leaseRepository.acquire(NAME, "node-b", TTL_MICROS);
+
+        // then
+        assertThat(acquired).isZero();
+        assertThat(leaseRepository.findById(NAME))
+            .hasValueSatisfying(lease -> assertThat(lease.getOwner()).isEqualTo("node-a"));
+      }
+    }
+
+    @Nested
+    @DisplayName("자신의 lease 라면")
+    class ContextWithOwnLease {
+
+      @Test
+      @DisplayName("DB 시각에 ttl 을 더해 만료 시각을 늘린다")
+      void ItRenewsLease() {
+        // given
+        leaseRepository.acquire(NAME, "node-a", TTL_MICROS);
+
+        // when
+        int acquired = leaseRepository.acquire(NAME, "node-a", TTL_MICROS);
+        LocalDateTime now = leaseRepository.currentTime();
+
+        // then
+        assertThat(acquired).isEqualTo(1);
+        assertThat(leaseRepository.findById(NAME))
+            .hasValueSatisfying(lease -> assertThat(lease.getExpireAt())
+                .isAfter(now.plusSeconds(14))
+                .isBefore(now.plusSeconds(16)));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("release 메서드는")
+  class DescribeRelease {
+
+    @Nested
+    @DisplayName("자신의 lease 를 반납하면")
+    class ContextWithOwnLease {
+
+      @Test
+      @DisplayName("다른 노드가 곧바로 가져갈 수 있다")
+      void ItLetsOtherNodeAcquire() {
+        // given
+        leaseRepository.acquire(NAME, "node-a", TTL_MICROS);
+
+        // when
+        leaseRepository.release(NAME, "node-a");
+
+        // then
+        assertThat(leaseRepository.acquire(NAME, "node-b", TTL_MICROS)).isEqualTo(1);
+      }
+    }
+  }
+}
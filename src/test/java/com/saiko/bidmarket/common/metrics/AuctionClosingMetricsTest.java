@@ -0,0 +1,145 @@
+package com.saiko.bidmarket.common.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.transaction.support.TransactionSynchronization.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuctionClosingMetricsTest {
+
+  private static final ZoneId ZONE = ZoneOffset.UTC;
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2022, 8, 1, 12, 0);
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private AuctionClosingMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    Instant now = NOW.atZone(ZONE).toInstant();
+    metrics = new AuctionClosingMetrics(meterRegistry, Clock.fixed(now, ZONE));
+  }
+
+  @Nested
+  @DisplayName("Run 의 overdue 메서드는")
+  class DescribeOverdue {
+
+    @Test
+    @DisplayName("가장 오래된 expireAt 의 경과 시간을 게이지에 남긴다")
+    void ItRecordsOldestOverdueAge() {
+      // given
+      AuctionClosingMetrics.Run run = metrics.startRun();
+
+      // when
+      run.overdue(List.of(NOW.minusSeconds(30), NOW.minusMinutes(3), NOW.minusMinutes(1)));
+
+      // then
+      assertThat(meterRegistry
+                     .get(AuctionClosingMetrics.OLDEST_OVERDUE)
+                     .timeGauge()
+                     .value(TimeUnit.SECONDS)).isEqualTo(180);
+    }
+
+    @Test
+    @DisplayName("밀린 경매가 없으면 0 을 남긴다")
+    void ItRecordsZeroWithoutOverdue() {
+      // given
+      AuctionClosingMetrics.Run run = metrics.startRun();
+      run.overdue(List.of(NOW.minusMinutes(3)));
+
+      // when
+      metrics.startRun().overdue(List.of());
+
+      // then
+      assertThat(meterRegistry
+                     .get(AuctionClosingMetrics.OLDEST_OVERDUE)
+                     .timeGauge()
+                     .value(TimeUnit.SECONDS)).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("Run 의 afterCompletion 메서드는")
+  class DescribeAfterCompletion {
+
+    @Nested
+    @DisplayName("트랜잭션이 커밋되었으면")
+    class ContextCommitted {
+
+      @Test
+      @DisplayName("마감 지연과 마감 건수, 알림 건수를 남긴다")
+      void ItRecordsClosing() {
+        // given
+        AuctionClosingMetrics.Run run = metrics.startRun();
+        run.closed(NOW.minusSeconds(40), 3);
+        run.closed(NOW.minusSeconds(20), 1);
+
+        // when
+        run.afterCompletion(STATUS_COMMITTED);
+
+        // then
+        assertThat(meterRegistry.get(AuctionClosingMetrics.LAG).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(AuctionClosingMetrics.LAG).timer().max(TimeUnit.SECONDS))
+            .isEqualTo(40);
+        assertThat(meterRegistry.get(AuctionClosingMetrics.PRODUCTS).summary().totalAmount())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(AuctionClosingMetrics.NOTIFICATIONS).summary().totalAmount())
+            .isEqualTo(4);
+        assertThat(meterRegistry
+                       .get(AuctionClosingMetrics.TRANSACTION)
+                       .tag("outcome", "committed")
+                       .timer()
+                       .count()).isEqualTo(1);
+        assertThat(meterRegistry
+                       .get(AuctionClosingMetrics.LAST_SUCCESS)
+                       .timeGauge()
+                       .value(TimeUnit.MILLISECONDS))
+            .isEqualTo(NOW.atZone(ZONE).toInstant().toEpochMilli());
+      }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션이 롤백되었으면")
+    class ContextRolledBack {
+
+      @Test
+      @DisplayName("트랜잭션 시간만 남기고 마감으로 치지 않는다")
+      void ItRecordsOnlyTransaction() {
+        // given
+        AuctionClosingMetrics.Run run = metrics.startRun();
+        run.closed(NOW.minusSeconds(40), 3);
+
+        // when
+        run.afterCompletion(STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(meterRegistry.get(AuctionClosingMetrics.LAG).timer().count()).isZero();
+        assertThat(meterRegistry.get(AuctionClosingMetrics.PRODUCTS).summary().count()).isZero();
+        assertThat(meterRegistry
+                       .get(AuctionClosingMetrics.TRANSACTION)
+                       .tag("outcome", "rolled_back")
+                       .timer()
+                       .count()).isEqualTo(1);
+        assertThat(meterRegistry
+                       .get(AuctionClosingMetrics.LAST_SUCCESS)
+                       .timeGauge()
+                       .value(TimeUnit.MILLISECONDS)).isZero();
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.saiko.bidmarket.common.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.saiko.bidmarket.comment.repository.CommentCustomRepository;
+import com.saiko.bidmarket.comment.repository.CommentCustomRepositoryImpl;
+import com.saiko.bidmarket.product.repository.ProductListingCustomRepository;
+import com.saiko.bidmarket.product.repository.ProductListingCustomRepositoryImpl;
+import com.saiko.bidmarket.user.controller.dto.UserHeartSelectRequest;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RepositoryQueryTimingAspectTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private RepositoryQueryTimingAspect aspect;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    aspect = new RepositoryQueryTimingAspect(meterRegistry);
+  }
+
+  private <T> T proxy(Object target) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.addAspect(aspect);
+    return factory.getProxy();
+  }
+
+  @Nested
+  @DisplayName("생성자는")
+  class DescribeConstructor {
+
+    @Nested
+    @DisplayName("MeterRegistry 가 null 이면")
+    class ContextNullRegistry {
+
+      @Test
+      @DisplayName("IllegalArgumentException 에러를 발생시킨다")
+      void ItThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new RepositoryQueryTimingAspect(null))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("CustomRepositoryImpl 의 메서드가 호출되면")
+  class DescribeTime {
+
+    @Nested
+    @DisplayName("쿼리가 정상적으로 끝난 경우")
+    class ContextSucceeded {
+
+      @Test
+      @DisplayName("리포지토리와 메서드 이름을 태그로 실행 시간을 기록한다")
+      void ItRecordsLatency() {
+        // given
+        ProductListingCustomRepository repository =
+            proxy(new ProductListingCustomRepositoryImpl(mock(JPAQueryFactory.class)));
+        UserHeartSelectRequest request = new UserHeartSelectRequest(null, 10, null);
+
+        // when
+        repository.findAllHeartedProductListing(List.of(), request);
+        repository.findAllHeartedProductListing(List.of(), request);
+
+        // then
+        Timer timer = meterRegistry
+            .get(RepositoryQueryTimingAspect.METRIC_NAME)
+            .tag("repository", "ProductListingCustomRepositoryImpl")
+            .tag("method", "findAllHeartedProductListing")
+            .tag("exception", "none")
+            .timer();
+        assertThat(timer.count()).isEqualTo(2);
+      }
+    }
+
+    @Nested
+    @DisplayName("쿼리가 예외를 던진 경우")
+    class ContextFailed {
+
+      @Test
+      @DisplayName("예외 이름을 태그로 기록하고 예외는 그대로 던진다")
+      void ItRecordsExceptionTag() {
+        // given
+        CommentCustomRepository repository =
+            proxy(new CommentCustomRepositoryImpl(mock(JPAQueryFactory.class)));
+
+        // when, then
+        assertThatThrownBy(() -> repository.findAllByProduct(null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(meterRegistry
+                       .get(RepositoryQueryTimingAspect.METRIC_NAME)
+                       .tag("repository", "CommentCustomRepositoryImpl")
+                       .tag("exception", "IllegalArgumentException")
+                       .timer()
+                       .count()).isEqualTo(1);
+      }
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.saiko.bidmarket.common.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.saiko.bidmarket.common.config.MigrationConfig;
+import com.saiko.bidmarket.common.config.SchemaMigrationConfig;
+
+/**
+ * application.yaml 에 적힌 실제 마이그레이션을 MySQL 에 적용해 본다.
+ * 테스트마다 이름이 다른 DB 를 써서 빈 DB 에서 시작한다.
+ */
+class MigrationScriptsTest {
+
+  private static final MigrationConfig CONFIG = loadConfig();
+
+  private static MigrationConfig loadConfig() {
+    try {
+      StandardEnvironment environment = new StandardEnvironment();
+      new YamlPropertySourceLoader()
+          .load("application", new ClassPathResource("application.yaml"))
+          .forEach(environment.getPropertySources()::addLast);
+      return Binder.get(environment).bind("migration", MigrationConfig.class).get();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static DataSource dataSource(String database) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:tc:mysql:8:///" + database + "?TC_DAEMON=true");
+    dataSource.setDriverClassName("org.testcontainers.jdbc.ContainerDatabaseDriver");
+    return dataSource;
+  }
+
+  private static SchemaMigrator migrator(DataSource dataSource) {
+    return new SchemaMigrationConfig().schemaMigrator(dataSource, CONFIG,
+                                                      new DefaultResourceLoader(),
+                                                      Clock.systemDefaultZone());
+  }
+
+  private static int count(JdbcTemplate jdbcTemplate, String table) {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM `" + table + "`", Integer.class);
+  }
+
+  @Nested
+  @DisplayName("application.yaml 의 마이그레이션은")
+  class DescribeMigrations {
+
+    @Nested
+    @DisplayName("빈 DB 에 적용하면")
+    class ContextWithEmptyDatabase {
+
+      @Test
+      @DisplayName("모든 버전을 실행하고 시드 데이터로 시퀀스와 목록 행을 채운다")
+      void ItCreatesWholeSchema() {
+        // given
+        DataSource dataSource = dataSource("migration_empty");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // when
+        int executed = migrator(dataSource).migrate();
+
+        // then
+        assertThat(executed).isEqualTo(CONFIG.getVersions().size());
+        assertThat(count(jdbcTemplate, "product_listing"))
+            .isEqualTo(count(jdbcTemplate, "product"))
+            .isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT next_val FROM id_sequence WHERE sequence_name = 'product'", Long.class))
+            .isEqualTo(jdbcTemplate.queryForObject("SELECT max(id) + 1 FROM product",
+                                                   Long.class));
+        assertThat(count(jdbcTemplate, "lease")).isZero();
+      }
+    }
+
+    @Nested
+    @DisplayName("예전 sql.init 으로 만든 DB 에 적용하면")
+    class ContextWithSqlInitDatabase {
+
+      @Test
+      @DisplayName("baseline 까지는 기록만 하고 이후 버전의 테이블과 제약을 만든다")
+      void ItAppliesVersionsAfterBaseline() {
+        // given
+        DataSource dataSource = dataSource("migration_baseline");
+        ResourceDatabasePopulator sqlInit = new ResourceDatabasePopulator(
+            new ClassPathResource("db/migration/V1__baseline_schema.sql"),
+            new ClassPathResource("db/migration/V2__seed_data.sql"));
+        sqlInit.setSqlScriptEncoding(StandardCharsets.UTF_8.name());
+        DatabasePopulatorUtils.execute(sqlInit, dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO heart (user_id, product_id, actived, created_at) "
+                                + "VALUES (1, 1, false, now()), (1, 1, true, now())");
+
+        // when
+        int executed = migrator(dataSource).migrate();
+
+        // then
+        assertThat(executed).isEqualTo(CONFIG.getVersions().size()
+                                           - CONFIG.getBaselineVersion());
+        assertThat(count(jdbcTemplate, "lease")).isZero();
+        assertThat(count(jdbcTemplate, "id_sequence")).isPositive();
+        assertThat(count(jdbcTemplate, "product_listing")).isEqualTo(
+            count(jdbcTemplate, "product"));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT heart_count FROM product_listing WHERE product_id = 1", Long.class))
+            .isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT h.product_minimum_price = p.minimum_price FROM heart h "
+                + "JOIN product p ON p.id = h.product_id WHERE h.user_id = 1", Boolean.class))
+            .isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM information_schema.table_constraints "
+                + "WHERE table_schema = database() AND table_name = 'heart' "
+                + "AND constraint_type = 'FOREIGN KEY'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM information_schema.statistics "
+                + "WHERE table_schema = database() AND table_name = 'heart' "
+                + "AND index_name = 'unq_user_id_product_id'", Integer.class)).isEqualTo(2);
+      }
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.saiko.bidmarket.common.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OnlineDdlTest {
+
+  @Nested
+  @DisplayName("rewrite 메서드는")
+  class DescribeRewrite {
+
+    @Nested
+    @DisplayName("ALTER TABLE 이 주어지면")
+    class ContextWithAlterTable {
+
+      @Test
+      @DisplayName("INPLACE, LOCK=NONE 절을 덧붙인다")
+      void ItAppendsOnlineClause() {
+        // when
+        String rewritten = OnlineDdl.rewrite(
+            "ALTER TABLE `bidding`\n    ADD INDEX idx_product_id (product_id)\n");
+
+        // then
+        assertThat(rewritten).isEqualTo(
+            "ALTER TABLE `bidding`\n    ADD INDEX idx_product_id (product_id)"
+                + ", ALGORITHM=INPLACE, LOCK=NONE");
+      }
+    }
+
+    @Nested
+    @DisplayName("CREATE INDEX 가 주어지면")
+    class ContextWithCreateIndex {
+
+      @Test
+      @DisplayName("쉼표 없이 INPLACE, LOCK=NONE 옵션을 덧붙인다")
+      void ItAppendsOnlineOption() {
+        // when
+        String rewritten = OnlineDdl.rewrite("create unique index unq_a on t (a)");
+
+        // then
+        assertThat(rewritten).isEqualTo(
+            "create unique index unq_a on t (a) ALGORITHM=INPLACE LOCK=NONE");
+      }
+    }
+
+    @Nested
+    @DisplayName("ALGORITHM 이나 LOCK 을 이미 적었거나 DDL 이 아니면")
+    class ContextWithOtherStatement {
+
+      @Test
+      @DisplayName("그대로 둔다")
+      void ItKeepsStatement() {
+        // given
+        String explicit = "ALTER TABLE t ADD COLUMN c int, ALGORITHM=INSTANT";
+        String insert = "INSERT INTO t (a) VALUES (1)";
+
+        // when, then
+        assertThat(OnlineDdl.rewrite(explicit)).isEqualTo(explicit);
+        assertThat(OnlineDdl.rewrite(insert)).isEqualTo(insert);
+      }
+    }
+  }
+}
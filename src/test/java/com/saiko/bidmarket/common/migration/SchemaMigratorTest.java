@@ -0,0 +1,183 @@
+package com.saiko.bidmarket.common.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class SchemaMigratorTest {
+
+  private static final Migration CREATE = migration(
+      1, "create table", "CREATE TABLE item (id bigint not null, name varchar(20));");
+
+  private static final Migration SEED = migration(
+      2, "seed data", "INSERT INTO item (id, name) VALUES (1, 'first');\n"
+          + "INSERT INTO item (id, name) VALUES (2, 'second');");
+
+  private static final Migration INDEX = new Migration(
+      3, "add index",
+      List.of(script("CREATE INDEX idx_name ON item (name);")), true);
+
+  private final EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder()
+      .setType(EmbeddedDatabaseType.H2)
+      .generateUniqueName(true)
+      .build();
+
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+  @AfterEach
+  void tearDown() {
+    dataSource.shutdown();
+  }
+
+  private static Migration migration(int version, String description, String sql) {
+    return new Migration(version, description, List.of(script(sql)), false);
+  }
+
+  private static ByteArrayResource script(String sql) {
+    return new ByteArrayResource(sql.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private SchemaMigrator migrator(int baselineVersion, Migration... migrations) {
+    return new SchemaMigrator(dataSource, List.of(migrations), baselineVersion,
+                              Duration.ofSeconds(1), Duration.ofSeconds(1),
+                              Clock.systemDefaultZone());
+  }
+
+  private int count(String sql) {
+    return jdbcTemplate.queryForObject(sql, Integer.class);
+  }
+
+  @Nested
+  @DisplayName("migrate 메서드는")
+  class DescribeMigrate {
+
+    @Nested
+    @DisplayName("빈 DB 가 주어지면")
+    class ContextWithEmptyDatabase {
+
+      @Test
+      @DisplayName("모든 버전을 순서대로 실행하고 기록한다")
+      void ItAppliesAllVersions() {
+        // when
+        int executed = migrator(0, INDEX, SEED, CREATE).migrate();
+
+        // then
+        assertThat(executed).isEqualTo(3);
+        assertThat(count("SELECT count(*) FROM item")).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT version FROM schema_version WHERE success = true ORDER BY version",
+            Integer.class)).containsExactly(1, 2, 3);
+      }
+    }
+
+    @Nested
+    @DisplayName("이미 적용된 버전이 있으면")
+    class ContextWithAppliedVersions {
+
+      @Test
+      @DisplayName("새 버전만 실행한다")
+      void ItAppliesOnlyNewVersions() {
+        // given
+        migrator(0, CREATE, SEED).migrate();
+
+        // when
+        int executed = migrator(0, CREATE, SEED, INDEX).migrate();
+
+        // then
+        assertThat(executed).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM item")).isEqualTo(2);
+        assertThat(count("SELECT count(*) FROM schema_version")).isEqualTo(3);
+      }
+    }
+
+    @Nested
+    @DisplayName("적용된 스크립트가 바뀌었으면")
+    class ContextWithChangedScript {
+
+      @Test
+      @DisplayName("IllegalStateException 에러를 발생시킨다")
+      void ItThrowsException() {
+        // given
+        migrator(0, CREATE, SEED).migrate();
+        Migration changed = migration(
+            2, "seed data", "INSERT INTO item (id, name) VALUES (1, 'changed');");
+
+        // when, then
+        assertThatThrownBy(() -> migrator(0, CREATE, changed).migrate())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("V2");
+      }
+    }
+
+    @Nested
+    @DisplayName("적용된 버전보다 낮은 새 버전이 있으면")
+    class ContextWithOutOfOrderVersion {
+
+      @Test
+      @DisplayName("IllegalStateException 에러를 발생시킨다")
+      void ItThrowsException() {
+        // given
+        migrator(0, CREATE, INDEX).migrate();
+
+        // when, then
+        assertThatThrownBy(() -> migrator(0, CREATE, SEED, INDEX).migrate())
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(count("SELECT count(*) FROM item")).isZero();
+      }
+    }
+
+    @Nested
+    @DisplayName("실패한 버전이 있으면")
+    class ContextWithFailedVersion {
+
+      @Test
+      @DisplayName("실패를 기록하고 다음 기동에서도 진행하지 않는다")
+      void ItRecordsFailure() {
+        // given
+        Migration broken = migration(2, "broken", "INSERT INTO missing (id) VALUES (1);");
+        assertThatThrownBy(() -> migrator(0, CREATE, broken).migrate())
+            .isInstanceOf(IllegalStateException.class);
+
+        // when, then
+        assertThat(count("SELECT count(*) FROM schema_version WHERE success = false"))
+            .isEqualTo(1);
+        assertThatThrownBy(() -> migrator(0, CREATE, broken, INDEX).migrate())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Repair");
+      }
+    }
+
+    @Nested
+    @DisplayName("기록 없이 테이블이 있는 DB 가 주어지면")
+    class ContextWithExistingDatabase {
+
+      @Test
+      @DisplayName("baseline 버전까지는 실행하지 않고 기록만 한다")
+      void ItBaselines() {
+        // given
+        jdbcTemplate.execute("CREATE TABLE item (id bigint not null, name varchar(20))");
+
+        // when
+        int executed = migrator(2, CREATE, SEED, INDEX).migrate();
+
+        // then
+        assertThat(executed).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM item")).isZero();
+        assertThat(count("SELECT count(*) FROM schema_version")).isEqualTo(3);
+      }
+    }
+  }
+}
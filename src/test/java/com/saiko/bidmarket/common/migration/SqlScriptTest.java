@@ -0,0 +1,60 @@
+package com.saiko.bidmarket.common.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SqlScriptTest {
+
+  @Nested
+  @DisplayName("split 메서드는")
+  class DescribeSplit {
+
+    @Nested
+    @DisplayName("주석과 여러 문장이 섞인 스크립트가 주어지면")
+    class ContextWithComments {
+
+      @Test
+      @DisplayName("주석을 버리고 세미콜론마다 나눈다")
+      void ItSplitsStatements() {
+        // given
+        String script = "-- 테이블\nCREATE TABLE t\n(\n    a int -- 값\n);\n\n"
+            + "/* 시드 */ INSERT INTO t (a) VALUES (1)\n;\n";
+
+        // when, then
+        assertThat(SqlScript.split(script)).containsExactly(
+            "CREATE TABLE t\n(\n    a int \n)", "INSERT INTO t (a) VALUES (1)");
+      }
+    }
+
+    @Nested
+    @DisplayName("따옴표 안에 세미콜론이나 주석 기호가 있으면")
+    class ContextWithQuotedSeparator {
+
+      @Test
+      @DisplayName("문장 끝이나 주석으로 보지 않는다")
+      void ItKeepsQuotedText() {
+        // given
+        String script = "INSERT INTO `a;b` (c) VALUES ('x; -- y', 'it\\'s');";
+
+        // when, then
+        assertThat(SqlScript.split(script)).containsExactly(
+            "INSERT INTO `a;b` (c) VALUES ('x; -- y', 'it\\'s')");
+      }
+    }
+
+    @Nested
+    @DisplayName("따옴표가 닫히지 않으면")
+    class ContextWithUnterminatedQuote {
+
+      @Test
+      @DisplayName("IllegalArgumentException 에러를 발생시킨다")
+      void ItThrowsException() {
+        assertThatThrownBy(() -> SqlScript.split("INSERT INTO t VALUES ('x);"))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.saiko.bidmarket.common.page;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CursorPageTest {
+
+  @Nested
+  @DisplayName("of 메서드는")
+  class DescribeOf {
+
+    @Nested
+    @DisplayName("limit 보다 하나 더 읽은 결과가 주어지면")
+    class ContextWithExtraItem {
+
+      @Test
+      @DisplayName("limit 개만 담고 마지막 항목의 cursor 를 다음 cursor 로 둔다")
+      void ItReturnsNextCursor() {
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(5L, 4L, 3L), 2, Cursor::of);
+
+        // then
+        assertThat(page.getItems()).containsExactly(5L, 4L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(Cursor.decode(page.getNextCursor(), 1)).isEqualTo(Cursor.of(4L));
+      }
+    }
+
+    @Nested
+    @DisplayName("limit 개 이하를 읽은 결과가 주어지면")
+    class ContextWithLastPage {
+
+      @Test
+      @DisplayName("다음 cursor 없이 모두 담는다")
+      void ItReturnsLastPage() {
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(5L, 4L), 2, Cursor::of);
+
+        // then
+        assertThat(page.getItems()).containsExactly(5L, 4L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("map 메서드는")
+  class DescribeMap {
+
+    @Test
+    @DisplayName("항목만 바꾸고 다음 cursor 는 그대로 둔다")
+    void ItKeepsNextCursor() {
+      // given
+      CursorPage<Long> page = CursorPage.of(List.of(5L, 4L, 3L), 2, Cursor::of);
+
+      // when
+      CursorPage<String> mapped = page.map(String::valueOf);
+
+      // then
+      assertThat(mapped.getItems()).containsExactly("5", "4");
+      assertThat(mapped.getNextCursor()).isEqualTo(page.getNextCursor());
+      assertThat(mapped.isHasNext()).isTrue();
+    }
+  }
+}
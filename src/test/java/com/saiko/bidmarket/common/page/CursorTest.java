@@ -0,0 +1,88 @@
+package com.saiko.bidmarket.common.page;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CursorTest {
+
+  @Nested
+  @DisplayName("decode 메서드는")
+  class DescribeDecode {
+
+    @Nested
+    @DisplayName("encode 한 cursor 가 주어지면")
+    class ContextWithEncodedCursor {
+
+      @Test
+      @DisplayName("같은 키를 복원한다")
+      void ItRestoresKeys() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2022, 8, 1, 12, 30, 15, 123_456_789);
+        Cursor cursor = Cursor.of(Cursor.key(createdAt), 42L);
+
+        // when
+        Cursor decoded = Cursor.decode(cursor.encode(), 2);
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.getDateTime(0)).isEqualTo(createdAt);
+        assertThat(decoded.getLong(1)).isEqualTo(42L);
+      }
+    }
+
+    @Nested
+    @DisplayName("token 이 비어 있으면")
+    class ContextWithEmptyToken {
+
+      @Test
+      @DisplayName("첫 페이지 요청으로 보고 null 을 반환한다")
+      void ItReturnsNull() {
+        // when, then
+        assertThat(Cursor.decode(null, 2)).isNull();
+        assertThat(Cursor.decode("", 2)).isNull();
+      }
+    }
+
+    @Nested
+    @DisplayName("서버가 만든 cursor 가 아니거나 키 개수가 다르면")
+    class ContextWithInvalidToken {
+
+      @ParameterizedTest
+      @ValueSource(strings = {"invalid", "@@@", "AQAAAAAAAAAB"})
+      @DisplayName("IllegalArgumentException 에러를 발생시킨다")
+      void ItThrowsException(String token) {
+        // when, then
+        assertThatThrownBy(() -> Cursor.decode(token, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("getInt 메서드는")
+  class DescribeGetInt {
+
+    @Nested
+    @DisplayName("키가 int 범위를 넘으면")
+    class ContextWithOverflow {
+
+      @Test
+      @DisplayName("IllegalArgumentException 에러를 발생시킨다")
+      void ItThrowsException() {
+        // given
+        Cursor cursor = Cursor.of(Integer.MAX_VALUE + 1L);
+
+        // when, then
+        assertThatThrownBy(() -> cursor.getInt(0))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+}
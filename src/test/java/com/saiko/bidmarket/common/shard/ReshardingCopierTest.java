@@ -0,0 +1,69 @@
+package com.saiko.bidmarket.common.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.saiko.bidmarket.heart.entity.Heart;
+import com.saiko.bidmarket.heart.entity.HeartedProduct;
+import com.saiko.bidmarket.heart.repository.HeartRepository;
+import com.saiko.bidmarket.heart.repository.ShardedHeartRepository;
+
+class ReshardingCopierTest {
+
+  @Nested
+  @DisplayName("copy 메서드는")
+  class DescribeCopy {
+
+    @Nested
+    @DisplayName("샤드를 하나에서 둘로 늘렸다면")
+    class ContextWithAppendedShard {
+
+      @Test
+      @DisplayName("새 샤드에 속하는 사용자의 행만 옮긴다")
+      void ItMovesRowsOfUsersInNewShard() {
+        // given
+        List<NamedParameterJdbcTemplate> shards = TestShards.create("resharding", 2);
+        TestShards.truncate(shards);
+
+        try (UserShardRouter before = new UserShardRouter(shards.subList(0, 1), 1);
+             UserShardRouter after = new UserShardRouter(shards, 2)) {
+          ShardedHeartRepository oldLayout = new ShardedHeartRepository(before);
+          HeartedProduct product = HeartedProduct
+              .builder()
+              .id(1L)
+              .minimumPrice(1000)
+              .expireAt(LocalDateTime.now().plusDays(1))
+              .createdAt(LocalDateTime.now())
+              .build();
+          LongStream
+              .rangeClosed(1, 20)
+              .forEach(userId -> oldLayout.save(Heart.of(userId, product)));
+
+          // when
+          long moved = new ReshardingCopier(after).copy(oldLayout.getShardedTable(), 1, 3);
+
+          // then
+          HeartRepository newLayout = new ShardedHeartRepository(after);
+          long expectedMoved = LongStream
+              .rangeClosed(1, 20)
+              .filter(userId -> UserShardRouter.shardOf(userId, 2) == 1)
+              .count();
+
+          assertThat(moved).isEqualTo(expectedMoved);
+          LongStream
+              .rangeClosed(1, 20)
+              .forEach(userId -> assertThat(newLayout.findByUserIdAndProductId(userId, 1L))
+                  .isPresent());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.saiko.bidmarket.common.shard;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * 샤드마다 별도의 MySQL 컨테이너를 띄워 샤드 테이블을 만든다.
+ */
+public final class TestShards {
+
+  private static final String SHARD_SCHEMA = "sql/shard/shard_schema.sql";
+
+  private TestShards() {
+  }
+
+  public static List<NamedParameterJdbcTemplate> create(String name, int shardCount) {
+    return IntStream
+        .range(0, shardCount)
+        .mapToObj(index -> new NamedParameterJdbcTemplate(dataSource(name + "_" + index)))
+        .collect(Collectors.toList());
+  }
+
+  public static long userIdInShard(int shard, int shardCount) {
+    return LongStream
+        .iterate(1, id -> id + 1)
+        .filter(id -> UserShardRouter.shardOf(id, shardCount) == shard)
+        .findFirst()
+        .getAsLong();
+  }
+
+  public static void truncate(List<NamedParameterJdbcTemplate> shards) {
+    shards.forEach(shard -> {
+      shard.getJdbcTemplate().execute("truncate table heart");
+      shard.getJdbcTemplate().execute("truncate table notification");
+    });
+  }
+
+  private static DataSource dataSource(String database) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:tc:mysql:8:///" + database + "?TC_DAEMON=true");
+    dataSource.setDriverClassName("org.testcontainers.jdbc.ContainerDatabaseDriver");
+    DatabasePopulatorUtils.execute(
+        new ResourceDatabasePopulator(new ClassPathResource(SHARD_SCHEMA)), dataSource);
+    return dataSource;
+  }
+}
@@ -0,0 +1,66 @@
+package com.saiko.bidmarket.common.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class UserShardRouterTest {
+
+  private static final long USERS = 100_000;
+
+  @Nested
+  @DisplayName("shardOf 메서드는")
+  class DescribeShardOf {
+
+    @Nested
+    @DisplayName("샤드 수가 주어지면")
+    class ContextWithShardCount {
+
+      @Test
+      @DisplayName("사용자를 샤드들에 고르게 나눈다")
+      void ItDistributesUsersEvenly() {
+        // given
+        int shardCount = 4;
+        long[] counts = new long[shardCount];
+
+        // when
+        LongStream
+            .rangeClosed(1, USERS)
+            .forEach(userId -> counts[UserShardRouter.shardOf(userId, shardCount)]++);
+
+        // then
+        for (long count : counts) {
+          assertThat(count).isBetween(USERS / shardCount * 9 / 10, USERS / shardCount * 11 / 10);
+        }
+      }
+    }
+
+    @Nested
+    @DisplayName("샤드를 하나 추가하면")
+    class ContextWithAppendedShard {
+
+      @Test
+      @DisplayName("옮겨지는 사용자는 모두 새 샤드로만 간다")
+      void ItMovesUsersOnlyToNewShard() {
+        // given
+        int before = 3;
+        int after = 4;
+
+        // when
+        long moved = LongStream
+            .rangeClosed(1, USERS)
+            .filter(userId -> UserShardRouter.shardOf(userId, before)
+                != UserShardRouter.shardOf(userId, after))
+            .peek(userId -> assertThat(UserShardRouter.shardOf(userId, after)).isEqualTo(3))
+            .count();
+
+        // then
+        assertThat(moved).isBetween(USERS / after * 9 / 10, USERS / after * 11 / 10);
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.saiko.bidmarket.common.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * capture 안에서 실행된 PreparedStatement 의 SQL 과 바인딩 값을 모은다.
+ * 저장소가 만든 쿼리를 같은 값으로 다시 EXPLAIN 하려고 쓴다.
+ */
+public class CapturingDataSource extends DelegatingDataSource {
+
+  private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+  public CapturingDataSource(DataSource target) {
+    super(target);
+  }
+
+  public List<CapturedStatement> capture(Runnable action) {
+    List<CapturedStatement> captured = new ArrayList<>();
+    CAPTURED.set(captured);
+    try {
+      action.run();
+    } finally {
+      CAPTURED.remove();
+    }
+    return captured;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  private Connection wrap(Connection connection) {
+    return (Connection)Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          Object result = invoke(connection, method, args);
+          if ("prepareStatement".equals(method.getName())) {
+            return wrap((PreparedStatement)result, (String)args[0]);
+          }
+          return result;
+        });
+  }
+
+  private PreparedStatement wrap(PreparedStatement statement, String sql) {
+    Map<Integer, Object> parameters = new TreeMap<>();
+    return (PreparedStatement)Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class},
+        (proxy, method, args) -> {
+          String name = method.getName();
+          if (name.startsWith("set") && args != null && args.length >= 2
+              && args[0] instanceof Integer) {
+            parameters.put((Integer)args[0], "setNull".equals(name) ? null : args[1]);
+          } else if (name.startsWith("execute") && CAPTURED.get() != null) {
+            CAPTURED.get().add(new CapturedStatement(sql, new ArrayList<>(parameters.values())));
+          }
+          return invoke(statement, method, args);
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  public static class CapturedStatement {
+
+    private final String sql;
+
+    private final List<Object> parameters;
+
+    private CapturedStatement(String sql, List<Object> parameters) {
+      this.sql = sql;
+      this.parameters = parameters;
+    }
+
+    public String getSql() {
+      return sql;
+    }
+
+    public List<Object> getParameters() {
+      return parameters;
+    }
+
+    @Override
+    public String toString() {
+      return sql + " " + parameters;
+    }
+  }
+}
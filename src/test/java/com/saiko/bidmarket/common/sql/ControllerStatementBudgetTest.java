@@ -0,0 +1,119 @@
+package com.saiko.bidmarket.common.sql;
+
+import static com.saiko.bidmarket.util.SqlStatementAssertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.repository.ProductRepository;
+import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.repository.UserRepository;
+
+/**
+ * 컨트롤러별 SQL 예산. 예산을 넘기면 실행된 statement 목록과 함께 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class ControllerStatementBudgetTest {
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  private User writer;
+
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    writer = userRepository
+        .findByProviderAndProviderId("google", "113052825681484000000")
+        .get();
+    product = productRepository.saveAndFlush(Product
+                                                 .builder()
+                                                 .title("노트북 팝니다")
+                                                 .description("싸요")
+                                                 .category(Category.DIGITAL_DEVICE)
+                                                 .minimumPrice(10000)
+                                                 .images(List.of("image1", "image2", "image3"))
+                                                 .location(null)
+                                                 .writer(writer)
+                                                 .build());
+  }
+
+  @Nested
+  @DisplayName("상품 목록 조회는")
+  class DescribeProductList {
+
+    @Test
+    @DisplayName("statement 를 한 번만 실행하고 Server-Timing 헤더를 붙인다")
+    void ItStaysInBudget() throws Exception {
+      assertMaxStatements(1, () -> mockMvc.perform(get("/api/v1/products")
+                                                       .param("offset", "0")
+                                                       .param("limit", "10")))
+          .andExpect(status().isOk())
+          .andExpect(header().string(SqlStatementBudgetFilter.SERVER_TIMING,
+                                     Matchers.startsWith("sql;")));
+    }
+  }
+
+  @Nested
+  @DisplayName("상품 상세 조회는")
+  class DescribeProductDetail {
+
+    @Test
+    @DisplayName("statement 를 두 번 넘게 실행하지 않는다")
+    void ItStaysInBudget() throws Exception {
+      assertMaxStatements(2, () -> mockMvc.perform(get("/api/v1/products/{id}", product.getId())))
+          .andExpect(status().isOk());
+    }
+  }
+
+  @Nested
+  @DisplayName("사용자 조회는")
+  class DescribeUser {
+
+    @Test
+    @DisplayName("statement 를 한 번 넘게 실행하지 않는다")
+    void ItStaysInBudget() throws Exception {
+      assertMaxStatements(1, () -> mockMvc.perform(get("/api/v1/users/{id}", writer.getId())))
+          .andExpect(status().isOk());
+    }
+  }
+
+  @Nested
+  @DisplayName("사용자의 상품 목록 조회는")
+  class DescribeUserProducts {
+
+    @Test
+    @DisplayName("statement 를 한 번만 실행한다")
+    void ItStaysInBudget() throws Exception {
+      assertMaxStatements(1, () -> mockMvc.perform(
+          get("/api/v1/users/{id}/products", writer.getId())
+              .param("offset", "0")
+              .param("limit", "10")))
+          .andExpect(status().isOk());
+    }
+  }
+}
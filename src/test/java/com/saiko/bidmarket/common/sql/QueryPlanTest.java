@@ -0,0 +1,442 @@
+package com.saiko.bidmarket.common.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.Application;
+import com.saiko.bidmarket.bidding.repository.BiddingRepository;
+import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectRequest;
+import com.saiko.bidmarket.chat.repository.ChatMessageRepository;
+import com.saiko.bidmarket.chat.repository.ChatRoomRepository;
+import com.saiko.bidmarket.comment.controller.dto.CommentSelectRequest;
+import com.saiko.bidmarket.comment.repository.CommentRepository;
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.config.DatasetConfig;
+import com.saiko.bidmarket.common.dataset.DatasetLoader;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.shard.UserShardRouter;
+import com.saiko.bidmarket.heart.repository.HeartRepository;
+import com.saiko.bidmarket.notification.controller.dto.NotificationSelectRequest;
+import com.saiko.bidmarket.notification.repository.NotificationRepository;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.repository.ProductListingRepository;
+import com.saiko.bidmarket.product.repository.ProductRepository;
+import com.saiko.bidmarket.product.repository.dto.UserProductSelectQueryParameter;
+import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserHeartSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserProductSelectRequest;
+import com.saiko.bidmarket.user.repository.UserRepository;
+
+/**
+ * 저장소 쿼리를 실제로 실행해 SQL 과 바인딩 값을 잡고 같은 값으로 EXPLAIN 한다.
+ * 합성 데이터를 적재하고 통계를 갱신한 뒤 보므로 인덱스가 빠지거나 쿼리가 인덱스를 못 타게 바뀌면
+ * 그 테이블이 full scan(type ALL) 으로 바뀌어 실패한다.
+ * @Nested 클래스가 다른 컨텍스트를 띄우면 sql.init 이 적재한 데이터를 지우므로 설정 클래스는 classes 로 준다.
+ */
+@SpringBootTest(
+    classes = {Application.class, QueryPlanTest.CapturingConfig.class},
+    properties = "spring.datasource.url=jdbc:tc:mysql:8:///query_plan")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional
+public class QueryPlanTest {
+
+  private static final int PAGE_SIZE = 20;
+
+  private static final int PARTITION_COUNT = 16;
+
+  // 권한 테이블처럼 몇 행뿐인 테이블은 옵티마이저가 인덱스 대신 읽는 것이 맞다
+  private static final long SMALL_TABLE_ROWS = 10;
+
+  // Hibernate 는 엔티티 이름 앞 10자에 번호를 붙여 별칭을 만든다(productlis0_)
+  private static final String PRODUCT_LISTING_ALIAS = "productlis";
+
+  private static final List<String> ANALYZED_TABLES = List.of(
+      "`user`", "product", "image", "bidding", "heart", "product_listing", "comment",
+      "chat_room", "chat_message", "notification");
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private UserShardRouter userShardRouter;
+
+  @Autowired
+  private BiddingRepository biddingRepository;
+
+  @Autowired
+  private ChatMessageRepository chatMessageRepository;
+
+  @Autowired
+  private ChatRoomRepository chatRoomRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private HeartRepository heartRepository;
+
+  @Autowired
+  private NotificationRepository notificationRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private ProductListingRepository productListingRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  void setUpDataset() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    DatasetConfig config = new DatasetConfig(true, 42, 2_000, 5_000, 50_000, 20_000, 10_000, 5,
+                                             1.1, 60, 1000);
+    new DatasetLoader(jdbcTemplate, userShardRouter, new TransactionTemplate(transactionManager),
+                      config).load(LocalDateTime.now());
+    jdbcTemplate.execute("ANALYZE TABLE " + String.join(", ", ANALYZED_TABLES));
+  }
+
+  private void assertNoFullScan(Runnable query) {
+    List<CapturingDataSource.CapturedStatement> statements =
+        ((CapturingDataSource)dataSource).capture(query);
+
+    assertThat(statements).isNotEmpty();
+    statements.forEach(statement -> {
+      List<Map<String, Object>> plan = explain(statement);
+      assertThat(plan)
+          .as("%s%n%s", statement, plan)
+          .noneMatch(row -> "ALL".equals(row.get("type"))
+              && ((Number)row.get("rows")).longValue() > SMALL_TABLE_ROWS);
+    });
+  }
+
+  private void assertUsesIndex(
+      Runnable query,
+      String tableAlias,
+      String... indexes
+  ) {
+    List<CapturingDataSource.CapturedStatement> statements =
+        ((CapturingDataSource)dataSource).capture(query);
+
+    assertThat(statements).isNotEmpty();
+    statements.forEach(statement -> {
+      List<Map<String, Object>> plan = explain(statement);
+      assertThat(plan)
+          .as("%s%n%s", statement, plan)
+          .filteredOn(row -> String
+              .valueOf(row.get("table"))
+              .startsWith(tableAlias))
+          .isNotEmpty()
+          .allMatch(row -> List
+              .of(indexes)
+              .contains(row.get("key")));
+    });
+  }
+
+  private List<Map<String, Object>> explain(CapturingDataSource.CapturedStatement statement) {
+    return jdbcTemplate.queryForList(
+        "EXPLAIN " + statement.getSql(), statement.getParameters().toArray());
+  }
+
+  private long longOf(String sql) {
+    return jdbcTemplate.queryForObject(sql, Long.class);
+  }
+
+  private Map<String, Object> rowOf(String sql) {
+    return jdbcTemplate.queryForMap(sql);
+  }
+
+  private List<Integer> allPartitions() {
+    return IntStream
+        .range(0, PARTITION_COUNT)
+        .boxed()
+        .collect(Collectors.toList());
+  }
+
+  @Nested
+  @DisplayName("BiddingRepository 의 쿼리는")
+  class DescribeBiddingRepository {
+
+    @Test
+    @DisplayName("상품의 입찰을 금액순으로 읽을 때 인덱스를 탄다")
+    void ItUsesIndexForBiddingsOfProduct() {
+      // given
+      Product product = productRepository
+          .findById(longOf("select product_id from bidding limit 1"))
+          .orElseThrow();
+
+      // when, then
+      assertNoFullScan(() -> biddingRepository.findAllByProductOrderByBiddingPriceDesc(product));
+    }
+
+    @Test
+    @DisplayName("입찰자와 상품으로 찾을 때 인덱스를 탄다")
+    void ItUsesIndexForBidderAndProduct() {
+      // given
+      Map<String, Object> bidding = rowOf("select bidder_id, product_id from bidding limit 1");
+
+      // when, then
+      assertNoFullScan(() -> biddingRepository.findByBidderIdAndProductId(
+          (Long)bidding.get("bidder_id"), (Long)bidding.get("product_id")));
+    }
+
+    @Test
+    @DisplayName("사용자가 입찰한 상품 id 를 읽을 때 인덱스를 탄다")
+    void ItUsesIndexForUserBiddings() {
+      // given
+      long bidderId = longOf("select bidder_id from bidding limit 1");
+
+      // when, then
+      assertNoFullScan(() -> biddingRepository.findAllProductIdsByBidderId(bidderId));
+    }
+  }
+
+  @Nested
+  @DisplayName("ChatMessageRepository 의 쿼리는")
+  class DescribeChatMessageRepository {
+
+    @Test
+    @DisplayName("채팅방의 메시지를 최신순으로 읽을 때 인덱스를 탄다")
+    void ItUsesIndexForMessagesOfRoom() {
+      // given
+      long chatRoomId = longOf("select chat_room_id from chat_message limit 1");
+
+      // when, then
+      assertNoFullScan(() -> chatMessageRepository.findAllChatMessage(
+          chatRoomId, null, PAGE_SIZE));
+      assertNoFullScan(() -> chatMessageRepository.findAllChatMessage(
+          chatRoomId, Cursor.of(Cursor.key(LocalDateTime.now()), Long.MAX_VALUE), PAGE_SIZE));
+      assertNoFullScan(() -> chatMessageRepository.findLastChatMessageOfChatRoom(chatRoomId));
+    }
+  }
+
+  @Nested
+  @DisplayName("ChatRoomRepository 의 쿼리는")
+  class DescribeChatRoomRepository {
+
+    @Test
+    @DisplayName("사용자의 채팅방과 상품, 판매자의 채팅방을 찾을 때 인덱스를 탄다")
+    void ItUsesIndexForChatRooms() {
+      // given
+      Map<String, Object> chatRoom = rowOf("select product_id, seller_id from chat_room limit 1");
+      long sellerId = (Long)chatRoom.get("seller_id");
+
+      // when, then
+      assertNoFullScan(() -> chatRoomRepository.findAllByUserId(
+          sellerId, new ChatRoomSelectRequest(null, PAGE_SIZE)));
+      assertNoFullScan(() -> chatRoomRepository.findByProduct_IdAndSeller_Id(
+          (Long)chatRoom.get("product_id"), sellerId));
+    }
+  }
+
+  @Nested
+  @DisplayName("CommentRepository 의 쿼리는")
+  class DescribeCommentRepository {
+
+    @Test
+    @DisplayName("상품의 댓글을 읽을 때 인덱스를 탄다")
+    void ItUsesIndexForCommentsOfProduct() {
+      // given
+      long productId = longOf("select product_id from comment limit 1");
+
+      // when, then
+      assertNoFullScan(() -> commentRepository.findAllByProduct(
+          new CommentSelectRequest(productId, null)));
+    }
+  }
+
+  @Nested
+  @DisplayName("HeartRepository 의 쿼리는")
+  class DescribeHeartRepository {
+
+    @Test
+    @DisplayName("사용자와 상품의 heart 를 찾고 상품별로 셀 때 인덱스를 탄다")
+    void ItUsesIndexForHearts() {
+      // given
+      Map<String, Object> heart = rowOf("select user_id, product_id from heart limit 1");
+      long userId = (Long)heart.get("user_id");
+      long productId = (Long)heart.get("product_id");
+
+      // when, then
+      assertNoFullScan(() -> heartRepository.findByUserIdAndProductId(userId, productId));
+      assertNoFullScan(() -> heartRepository.countAllActivedByProductIds(List.of(productId)));
+    }
+
+    @Test
+    @DisplayName("찜 목록은 복사한 정렬 키의 인덱스로 사용자 샤드 안에서 넘긴다")
+    void ItUsesSortKeyIndexForHeartedProducts() {
+      // given
+      long userId = longOf("select user_id from heart limit 1");
+
+      // when, then
+      assertUsesIndex(() -> heartRepository.findAllActivedProductIds(
+                          userId, Sort.MINIMUM_PRICE_DESC, null, PAGE_SIZE + 1),
+                      "heart", "idx_user_id_actived_minimum_price");
+      assertUsesIndex(() -> heartRepository.findAllActivedProductIds(
+                          userId, Sort.END_DATE_ASC, null, PAGE_SIZE + 1),
+                      "heart", "idx_user_id_actived_expire_at");
+    }
+  }
+
+  @Nested
+  @DisplayName("NotificationRepository 의 쿼리는")
+  class DescribeNotificationRepository {
+
+    @Test
+    @DisplayName("사용자의 알림을 최신순으로 읽을 때 인덱스를 탄다")
+    void ItUsesIndexForNotificationsOfUser() {
+      // given
+      long userId = longOf("select user_id from notification limit 1");
+
+      // when, then
+      assertNoFullScan(() -> notificationRepository.findAllNotification(
+          userId, new NotificationSelectRequest(0, PAGE_SIZE)));
+    }
+  }
+
+  @Nested
+  @DisplayName("ProductRepository 의 쿼리는")
+  class DescribeProductRepository {
+
+    @Test
+    @DisplayName("마감할 상품을 찾을 때 인덱스를 탄다")
+    void ItUsesIndexForProductsToClose() {
+      // given
+      LocalDateTime now = LocalDateTime.now();
+
+      // when, then
+      assertNoFullScan(
+          () -> productRepository.findAllByProgressedAndExpireAtLessThan(true, now));
+      assertNoFullScan(() -> productRepository.findAllThatNeedToCloseInPartitions(
+          now, PARTITION_COUNT, allPartitions()));
+    }
+
+    @Test
+    @DisplayName("작성자의 진행 중인 상품을 읽을 때 인덱스를 탄다")
+    void ItUsesIndexForProductsOfWriter() {
+      // given
+      long writerId = longOf("select user_id from product limit 1");
+
+      // when, then
+      assertNoFullScan(() -> productRepository.findAllByWriterIdAndProgressed(writerId, true));
+    }
+  }
+
+  @Nested
+  @DisplayName("ProductListingRepository 의 쿼리는")
+  class DescribeProductListingRepository {
+
+    @Test
+    @DisplayName("상품 목록을 정렬 순서대로 읽을 때 정렬 기준 인덱스를 탄다")
+    void ItUsesSortIndexForListing() {
+      // when, then
+      assertUsesIndex(() -> productListingRepository.findAllProductListing(
+                          new ProductSelectRequest(null, "true", null, 0, PAGE_SIZE,
+                                                   Sort.END_DATE_ASC)),
+                      PRODUCT_LISTING_ALIAS, "idx_expire_at");
+      assertUsesIndex(() -> productListingRepository.findAllProductListing(
+                          new ProductSelectRequest(null, "true", Category.FOOD, 0, PAGE_SIZE,
+                                                   Sort.MINIMUM_PRICE_ASC)),
+                      PRODUCT_LISTING_ALIAS, "idx_category_minimum_price", "idx_minimum_price");
+    }
+
+    @Test
+    @DisplayName("작성자의 상품 목록을 읽을 때 작성자 인덱스를 탄다")
+    void ItUsesWriterIndexForUserListing() {
+      // given
+      long writerId = longOf("select writer_id from product_listing limit 1");
+
+      // when, then
+      assertUsesIndex(() -> productListingRepository.findAllUserProductListing(
+                          UserProductSelectQueryParameter.of(
+                              writerId, new UserProductSelectRequest(0, PAGE_SIZE, null))),
+                      PRODUCT_LISTING_ALIAS, "idx_writer_id");
+    }
+
+    @Test
+    @DisplayName("입찰하거나 찜한 상품 목록을 읽을 때 기본 키로 목록 행을 찾는다")
+    void ItUsesPrimaryKeyForBiddingAndHeartedListing() {
+      // given
+      long bidderId = longOf("select bidder_id from bidding limit 1");
+      List<Long> productIds = jdbcTemplate.queryForList(
+          "select product_id from heart limit " + PAGE_SIZE, Long.class);
+
+      // when, then
+      assertUsesIndex(() -> productListingRepository.findAllUserBiddingListing(
+                          bidderId, new UserBiddingSelectRequest(null, PAGE_SIZE, null)),
+                      PRODUCT_LISTING_ALIAS, "PRIMARY");
+      assertUsesIndex(() -> productListingRepository.findAllHeartedProductListing(
+                          productIds, new UserHeartSelectRequest(null, PAGE_SIZE, null)),
+                      PRODUCT_LISTING_ALIAS, "PRIMARY");
+    }
+  }
+
+  @Nested
+  @DisplayName("UserRepository 의 쿼리는")
+  class DescribeUserRepository {
+
+    @Test
+    @DisplayName("이름, 제공자 id, 낙찰 상품으로 사용자를 찾을 때 인덱스를 탄다")
+    void ItUsesIndexForUserLookups() {
+      // given
+      Map<String, Object> user = rowOf(
+          "select username, provider, provider_id from `user` order by id desc limit 1");
+      long wonProductId = longOf("select product_id from bidding where won = true limit 1");
+
+      // when, then
+      assertNoFullScan(() -> userRepository.findByUsername((String)user.get("username")));
+      assertNoFullScan(() -> userRepository.findByProviderAndProviderId(
+          (String)user.get("provider"), (String)user.get("provider_id")));
+      assertNoFullScan(() -> userRepository.findWinnerOfBiddingByProductId(wonProductId));
+    }
+  }
+
+  @TestConfiguration
+  static class CapturingConfig {
+
+    @Bean
+    static BeanPostProcessor capturingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if ("dataSource".equals(beanName) && bean instanceof DataSource) {
+            return new CapturingDataSource((DataSource)bean);
+          }
+          return bean;
+        }
+      };
+    }
+  }
+}
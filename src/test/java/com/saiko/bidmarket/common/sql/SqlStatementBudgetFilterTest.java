@@ -0,0 +1,68 @@
+package com.saiko.bidmarket.common.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.saiko.bidmarket.common.config.SqlBudgetConfig;
+
+class SqlStatementBudgetFilterTest {
+
+  private final SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(
+      new SqlStatementBudget(new SqlBudgetConfig(true, 20, 3, true)));
+
+  private final MockHttpServletRequest request = new MockHttpServletRequest("GET",
+                                                                           "/api/v1/products");
+
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @Nested
+  @DisplayName("doFilter 메서드는")
+  class DescribeDoFilter {
+
+    @Nested
+    @DisplayName("응답 본문을 쓰는 요청이라면")
+    class ContextWithBody {
+
+      @Test
+      @DisplayName("본문이 나가기 전에 SQL 수를 Server-Timing 헤더로 붙인다")
+      void ItAddsServerTimingBeforeCommit() throws Exception {
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+          for (int i = 0; i < 3; i++) {
+            SqlStatementRecorder.recordStatement("select * from image where product_id = ?");
+          }
+          res.getWriter().write("[]");
+          res.flushBuffer();
+          SqlStatementRecorder.recordStatement("select 1");
+        });
+
+        // then
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getHeader(SqlStatementBudgetFilter.SERVER_TIMING))
+            .startsWith("sql;desc=\"3 statements, 1 repeated\";dur=");
+      }
+    }
+
+    @Nested
+    @DisplayName("본문 없이 끝나는 요청이라면")
+    class ContextWithoutBody {
+
+      @Test
+      @DisplayName("필터가 끝날 때 Server-Timing 헤더를 붙인다")
+      void ItAddsServerTimingAtEnd() throws Exception {
+        // when
+        filter.doFilter(request, response,
+                        (req, res) -> SqlStatementRecorder.recordStatement("delete from heart"));
+
+        // then
+        assertThat(response.getHeader(SqlStatementBudgetFilter.SERVER_TIMING))
+            .startsWith("sql;desc=\"1 statements, 0 repeated\";dur=");
+      }
+    }
+  }
+}
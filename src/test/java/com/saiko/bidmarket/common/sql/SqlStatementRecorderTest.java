@@ -0,0 +1,78 @@
+package com.saiko.bidmarket.common.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementRecorderTest {
+
+  @Nested
+  @DisplayName("recordStatement 메서드는")
+  class DescribeRecordStatement {
+
+    @Nested
+    @DisplayName("진행 중인 기록이 없으면")
+    class ContextWithoutRecording {
+
+      @Test
+      @DisplayName("아무 것도 하지 않는다")
+      void ItDoesNothing() {
+        assertThatCode(() -> SqlStatementRecorder.recordStatement("select 1"))
+            .doesNotThrowAnyException();
+      }
+    }
+
+    @Nested
+    @DisplayName("기록이 중첩되어 있으면")
+    class ContextWithNestedRecordings {
+
+      @Test
+      @DisplayName("진행 중인 모든 기록에 더한다")
+      void ItRecordsToAll() {
+        // given
+        SqlStatementRecording outer = SqlStatementRecorder.start();
+        SqlStatementRecording inner = SqlStatementRecorder.start();
+
+        // when
+        SqlStatementRecorder.recordStatement("select 1");
+        SqlStatementRecorder.stop(inner);
+        SqlStatementRecorder.recordStatement("select 2");
+        SqlStatementRecorder.stop(outer);
+        SqlStatementRecorder.recordStatement("select 3");
+
+        // then
+        assertThat(inner.getStatementCount()).isEqualTo(1);
+        assertThat(outer.getStatementCount()).isEqualTo(2);
+      }
+    }
+
+    @Nested
+    @DisplayName("in 절 파라미터 개수만 다른 statement 가 반복되면")
+    class ContextWithRepeatedShape {
+
+      @Test
+      @DisplayName("같은 모양으로 묶어서 센다")
+      void ItGroupsByShape() {
+        // given
+        SqlStatementRecording recording = SqlStatementRecorder.start();
+
+        // when
+        SqlStatementRecorder.recordStatement("select * from heart where product_id in (?, ?)");
+        SqlStatementRecorder.recordStatement(
+            "select *\n  from heart\n where product_id in (?,?,?)");
+        SqlStatementRecorder.recordStatement("select * from heart where product_id in (?)");
+        SqlStatementRecorder.recordStatement("select * from product where id = ?");
+        SqlStatementRecorder.stop(recording);
+
+        // then
+        assertThat(recording.getStatementCount()).isEqualTo(4);
+        assertThat(recording.getRepeatedStatements(3)).containsExactly(
+            Map.entry("select * from heart where product_id in (?)", 3));
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.saiko.bidmarket.heart.event;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.saiko.bidmarket.heart.entity.HeartedProduct;
+import com.saiko.bidmarket.heart.repository.HeartRepository;
+
+@ExtendWith(MockitoExtension.class)
+class HeartToggleHandlerTest {
+
+  @Mock
+  HeartRepository heartRepository;
+
+  @Mock
+  ApplicationEventPublisher publisher;
+
+  @InjectMocks
+  HeartToggleHandler handler;
+
+  private final HeartedProduct product = HeartedProduct
+      .builder()
+      .id(2L)
+      .minimumPrice(1000)
+      .expireAt(LocalDateTime.now().plusDays(1))
+      .createdAt(LocalDateTime.now())
+      .build();
+
+  @Nested
+  @DisplayName("toggle 메소드는")
+  class DescribeToggle {
+
+    @Nested
+    @DisplayName("찜 상태가 요청한 상태로 바뀌었다면")
+    class ContextWithChangedHeart {
+
+      @Test
+      @DisplayName("찜 개수 변경을 발행한다")
+      void ItPublishesHeartToggled() {
+        // given
+        given(heartRepository.changeActived(1L, product, true)).willReturn(true);
+
+        // when
+        handler.toggle(new HeartToggleRequestedEvent(1L, product, true));
+
+        // then
+        verify(publisher).publishEvent(argThat(
+            (Object event) -> event instanceof HeartToggledEvent
+                && ((HeartToggledEvent)event).getProductId() == 2L
+                && ((HeartToggledEvent)event).isActived()));
+      }
+    }
+
+    @Nested
+    @DisplayName("다른 요청이 먼저 같은 상태로 바꿨다면")
+    class ContextWithUnchangedHeart {
+
+      @Test
+      @DisplayName("찜 개수 변경을 발행하지 않는다")
+      void ItDoesNotPublish() {
+        // given
+        given(heartRepository.changeActived(1L, product, true)).willReturn(false);
+
+        // when
+        handler.toggle(new HeartToggleRequestedEvent(1L, product, true));
+
+        // then
+        verifyNoInteractions(publisher);
+      }
+    }
+  }
+}
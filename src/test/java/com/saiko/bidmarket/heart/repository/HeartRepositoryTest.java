@@ -1,123 +1,305 @@
 package com.saiko.bidmarket.heart.repository;
 
-import static com.saiko.bidmarket.common.Sort.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
-import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.context.annotation.Import;
-import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.test.context.ActiveProfiles;
-
-import com.saiko.bidmarket.bidding.entity.Bidding;
-import com.saiko.bidmarket.bidding.repository.BiddingRepository;
-import com.saiko.bidmarket.common.config.QueryDslConfig;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.SortCursor;
+import com.saiko.bidmarket.common.shard.TestShards;
+import com.saiko.bidmarket.common.shard.UserShardRouter;
 import com.saiko.bidmarket.heart.entity.Heart;
-import com.saiko.bidmarket.product.Category;
-import com.saiko.bidmarket.product.entity.Product;
-import com.saiko.bidmarket.product.repository.ProductRepository;
-import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
-import com.saiko.bidmarket.user.controller.dto.UserHeartSelectRequest;
-import com.saiko.bidmarket.user.entity.Group;
-import com.saiko.bidmarket.user.entity.User;
-import com.saiko.bidmarket.user.repository.GroupRepository;
-import com.saiko.bidmarket.user.repository.UserRepository;
-
-@DataJpaTest()
-@ActiveProfiles("test")
-@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import(value = QueryDslConfig.class)
+import com.saiko.bidmarket.heart.entity.HeartedProduct;
+
 public class HeartRepositoryTest {
-  @Autowired
-  private GroupRepository groupRepository;
 
-  @Autowired
-  private UserRepository userRepository;
+  private static final int SHARD_COUNT = 2;
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2022, 8, 1, 12, 0);
+
+  private static List<NamedParameterJdbcTemplate> shards;
 
-  @Autowired
-  private ProductRepository productRepository;
+  private static UserShardRouter router;
 
-  @Autowired
   private HeartRepository heartRepository;
 
-  private User getUser(
-      String name,
-      Group group,
-      String providerId
-  ) {
-    return User
-        .builder()
-        .username(name)
-        .provider("test")
-        .providerId(providerId)
-        .profileImage("test")
-        .group(group)
-        .build();
+  @BeforeAll
+  static void setUpShards() {
+    shards = TestShards.create("heart", SHARD_COUNT);
+    router = new UserShardRouter(shards, SHARD_COUNT);
+  }
+
+  @AfterAll
+  static void tearDownShards() {
+    router.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    TestShards.truncate(shards);
+    heartRepository = new ShardedHeartRepository(router);
   }
 
-  private Product getProduct(
-      String title,
-      User writer
-  ) {
-    return Product
+  private static HeartedProduct product(long productId) {
+    return product(productId, 1000);
+  }
+
+  private static HeartedProduct product(long productId, int minimumPrice) {
+    return HeartedProduct
         .builder()
-        .title(title)
-        .description("test")
-        .images(List.of("image"))
-        .writer(writer)
-        .category(Category.BEAUTY)
+        .id(productId)
+        .minimumPrice(minimumPrice)
+        .expireAt(NOW.plusDays(productId))
+        .createdAt(NOW.minusDays(productId))
         .build();
   }
 
+  private Heart activeHeart(long userId, HeartedProduct product) {
+    Heart heart = Heart.of(userId, product);
+    heart.toggle();
+    return heartRepository.save(heart);
+  }
+
+  private Heart activeHeart(long userId, long productId) {
+    return activeHeart(userId, product(productId));
+  }
+
+  private long countIn(int shard, long userId) {
+    return shards
+        .get(shard)
+        .queryForObject("select count(1) from heart where user_id = :userId",
+                        new MapSqlParameterSource("userId", userId), Long.class);
+  }
+
   @Nested
-  @DisplayName("findAllUserHeart 메소드는")
-  class DescribeFindAllUserHeart {
+  @DisplayName("save 메소드는")
+  class DescribeSave {
+
+    @Nested
+    @DisplayName("새 heart 가 넘어온다면")
+    class ContextWithNewHeart {
+
+      @Test
+      @DisplayName("사용자의 샤드에만 저장한다")
+      void ItSavesToUserShard() {
+        // given
+        long userId = TestShards.userIdInShard(1, SHARD_COUNT);
+
+        // when
+        Heart saved = activeHeart(userId, 1L);
+
+        // then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(countIn(1, userId)).isEqualTo(1);
+        assertThat(countIn(0, userId)).isZero();
+      }
+    }
 
     @Nested
-    @DisplayName("UserHeartSelectRequest 가 null 이라면")
-    class ContextWithUserUserHeartSelectRequestNull {
+    @DisplayName("같은 사용자와 상품의 새 heart 가 이미 저장되어 있다면")
+    class ContextWithDuplicatedNewHeart {
 
       @Test
-      @DisplayName("InvalidDataAccessApiUsageException 에러를 발생시킨다")
-      void ItThrowsInvalidDataAccessApiUsageException() {
-        //when, then
-        assertThatThrownBy(() -> heartRepository.findAllUserHeart(1, null))
-            .isInstanceOf(InvalidDataAccessApiUsageException.class);
+      @DisplayName("중복 키 오류 없이 기존 행을 갱신한다")
+      void ItUpsertsExistingRow() {
+        // given
+        long userId = TestShards.userIdInShard(1, SHARD_COUNT);
+        Heart first = activeHeart(userId, 1L);
+
+        // when
+        Heart second = heartRepository.save(Heart.of(userId, product(1L)));
+
+        // then
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(second.isActived()).isFalse();
+        assertThat(countIn(1, userId)).isEqualTo(1);
       }
     }
 
+    @Nested
+    @DisplayName("저장된 heart 가 토글되었다면")
+    class ContextWithToggledHeart {
+
+      @Test
+      @DisplayName("활성 상태를 갱신한다")
+      void ItUpdatesActived() {
+        // given
+        long userId = TestShards.userIdInShard(1, SHARD_COUNT);
+        Heart saved = activeHeart(userId, 1L);
+
+        // when
+        saved.toggle();
+        heartRepository.save(saved);
+
+        // then
+        Optional<Heart> result = heartRepository.findByUserIdAndProductId(userId, 1L);
+        assertThat(result).isPresent();
+        assertThat(result.get().isActived()).isFalse();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("changeActived 메소드는")
+  class DescribeChangeActived {
+
+    @Nested
+    @DisplayName("heart 가 없는데 활성화를 요청한다면")
+    class ContextWithoutHeart {
+
+      @Test
+      @DisplayName("활성화된 heart 를 만들고 true 를 반환한다")
+      void ItCreatesActivedHeart() {
+        // given
+        long userId = TestShards.userIdInShard(1, SHARD_COUNT);
+
+        // when
+        boolean changed = heartRepository.changeActived(userId, product(1L), true);
+
+        // then
+        assertThat(changed).isTrue();
+        assertThat(heartRepository.findByUserIdAndProductId(userId, 1L))
+            .hasValueSatisfying(heart -> assertThat(heart.isActived()).isTrue());
+      }
+    }
+
+    @Nested
+    @DisplayName("이미 요청한 상태라면")
+    class ContextWithSameState {
+
+      @Test
+      @DisplayName("바꾸지 않고 false 를 반환한다")
+      void ItReturnsFalse() {
+        // given
+        long userId = TestShards.userIdInShard(0, SHARD_COUNT);
+        heartRepository.changeActived(userId, product(1L), true);
+
+        // when
+        boolean activedAgain = heartRepository.changeActived(userId, product(1L), true);
+        boolean deactivedMissing = heartRepository.changeActived(userId, product(2L), false);
+
+        // then
+        assertThat(activedAgain).isFalse();
+        assertThat(deactivedMissing).isFalse();
+        assertThat(heartRepository.findByUserIdAndProductId(userId, 2L)).isEmpty();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("findAllActivedProductIds 메소드는")
+  class DescribeFindAllActivedProductIds {
+
     @Nested
     @DisplayName("올바른 정보가 넘어온다면")
     class ContextWithValidData {
 
       @Test
-      @DisplayName("페이징 처리된 입찰 상품 목록을 반환한다")
-      void itReturnHeartProductList() {
+      @DisplayName("활성화된 heart 의 상품 id 만 반환한다")
+      void ItReturnsActivedProductIds() {
         // given
-        Group userGroup = groupRepository
-            .findByName("USER_GROUP")
-            .get();
+        long userId = TestShards.userIdInShard(0, SHARD_COUNT);
+        activeHeart(userId, 1L);
+        heartRepository.save(Heart.of(userId, product(2L)));
 
-        User user = userRepository.save(getUser("test1", userGroup, "test1"));
-        Product product = productRepository.save(getProduct("test", user));
-        Heart heart = Heart.of(user, product);
-        heart.toggle();
-        Heart savedHeart = heartRepository.save(heart);
+        // when
+        List<Long> result = heartRepository.findAllActivedProductIds(
+            userId, Sort.END_DATE_ASC, null, 10);
 
-        UserHeartSelectRequest request = new UserHeartSelectRequest(0, 1, END_DATE_ASC);
+        // then
+        assertThat(result).containsExactly(1L);
+      }
+    }
+
+    @Nested
+    @DisplayName("정렬과 이전 페이지의 cursor 가 주어진다면")
+    class ContextWithSortAndCursor {
+
+      @Test
+      @DisplayName("heart 에 복사한 정렬 키로 cursor 다음부터 limit 개만 순서대로 반환한다")
+      void ItReturnsNextPage() {
+        // given
+        long userId = TestShards.userIdInShard(1, SHARD_COUNT);
+        activeHeart(userId, product(1L, 3000));
+        activeHeart(userId, product(2L, 1000));
+        activeHeart(userId, product(3L, 2000));
+        activeHeart(userId, product(4L, 2000));
+        activeHeart(userId, product(5L, 5000));
+        Sort sort = Sort.MINIMUM_PRICE_DESC;
+
+        // when
+        List<Long> first = heartRepository.findAllActivedProductIds(userId, sort, null, 2);
+        Cursor cursor = SortCursor.of(sort, product(1L, 3000), 1L);
+        List<Long> next = heartRepository.findAllActivedProductIds(userId, sort, cursor, 2);
+        cursor = SortCursor.of(sort, product(3L, 2000), 3L);
+        List<Long> last = heartRepository.findAllActivedProductIds(userId, sort, cursor, 2);
+
+        // then
+        assertThat(first).containsExactly(5L, 1L);
+        assertThat(next).containsExactly(4L, 3L);
+        assertThat(last).containsExactly(2L);
+      }
+    }
+
+    @Nested
+    @DisplayName("시각 정렬의 cursor 가 주어진다면")
+    class ContextWithDateTimeCursor {
+
+      @Test
+      @DisplayName("cursor 의 시각 다음 heart 만 반환한다")
+      void ItReturnsAfterDateTime() {
+        // given
+        long userId = TestShards.userIdInShard(0, SHARD_COUNT);
+        for (long productId = 1; productId <= 3; productId++) {
+          activeHeart(userId, productId);
+        }
+        Cursor cursor = SortCursor.of(Sort.END_DATE_ASC, product(1L), 1L);
+
+        // when
+        List<Long> result = heartRepository.findAllActivedProductIds(
+            userId, Sort.END_DATE_ASC, cursor, 10);
+
+        // then
+        assertThat(result).containsExactly(2L, 3L);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("countAllActivedByProductIds 메소드는")
+  class DescribeCountAllActivedByProductIds {
+
+    @Nested
+    @DisplayName("여러 샤드의 사용자가 같은 상품에 heart 를 눌렀다면")
+    class ContextWithHeartsInManyShards {
+
+      @Test
+      @DisplayName("모든 샤드의 수를 합쳐 반환한다")
+      void ItReturnsSumOfAllShards() {
+        // given
+        activeHeart(TestShards.userIdInShard(0, SHARD_COUNT), 1L);
+        activeHeart(TestShards.userIdInShard(1, SHARD_COUNT), 1L);
+        activeHeart(TestShards.userIdInShard(1, SHARD_COUNT), 2L);
 
         // when
-        List<Heart> result = heartRepository.findAllUserHeart(user.getId(), request);
+        Map<Long, Long> result = heartRepository.countAllActivedByProductIds(
+            List.of(1L, 2L, 3L));
 
         // then
-        assertThat(result.size()).isEqualTo(1);
-        assertThat(result.get(0)).isEqualTo(savedHeart);
+        assertThat(result).containsOnly(Map.entry(1L, 2L), Map.entry(2L, 1L));
       }
     }
   }
@@ -31,7 +31,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.saiko.bidmarket.notification.controller.dto.NotificationSelectRequest;
 import com.saiko.bidmarket.notification.controller.dto.NotificationSelectResponse;
 import com.saiko.bidmarket.notification.entity.Notification;
-import com.saiko.bidmarket.notification.repository.dto.NotificationRepoDto;
 import com.saiko.bidmarket.notification.service.NotificationService;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
@@ -79,10 +78,12 @@ public class NotificationApiControllerTest extends ControllerSetUp {
   private Notification notification(User user, Product product) {
     return Notification
         .builder()
-        .user(user)
-        .product(product)
+        .id(1L)
+        .userId(user.getId())
+        .productId(product.getId())
         .type(
             END_PRODUCT_FOR_WRITER_WITH_WINNER)
+        .createdAt(LocalDateTime.now())
         .build();
   }
 
@@ -109,20 +110,9 @@ public class NotificationApiControllerTest extends ControllerSetUp {
         ReflectionTestUtils.setField(product, "id", 1L);
 
         Notification notification = notification(user, product);
-        ReflectionTestUtils.setField(notification, "createdAt", LocalDateTime.now());
-
-        NotificationRepoDto notificationRepoDto = new NotificationRepoDto(
-            1L,
-            product.getId(),
-            product.getTitle(),
-            product.getThumbnailImage(),
-            notification.getType(),
-            notification.isChecked(),
-            notification.getCreatedAt(),
-            notification.getUpdatedAt());
 
         NotificationSelectResponse notificationSelectResponse = NotificationSelectResponse.from(
-            notificationRepoDto);
+            notification, product);
 
         given(notificationService.findAllNotifications(
             anyLong(),
@@ -0,0 +1,102 @@
+package com.saiko.bidmarket.notification.event;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.saiko.bidmarket.notification.NotificationType;
+import com.saiko.bidmarket.notification.outbox.NotificationOutbox;
+import com.saiko.bidmarket.notification.repository.NotificationRepository;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.user.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCreateHandlerTest {
+
+  @Mock
+  NotificationRepository notificationRepository;
+
+  @Mock
+  NotificationOutbox notificationOutbox;
+
+  @InjectMocks
+  NotificationCreateHandler handler;
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TransactionSynchronizationManager.unbindResourceIfPossible(handler);
+  }
+
+  private NotificationCreateEvent event(long userId) {
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+    Product product = mock(Product.class);
+    given(product.getId()).willReturn(1L);
+    return NotificationCreateEvent
+        .builder()
+        .user(user)
+        .product(product)
+        .notificationType(NotificationType.END_PRODUCT_FOR_WINNER)
+        .build();
+  }
+
+  @Nested
+  @DisplayName("create 메서드는")
+  class DescribeCreate {
+
+    @Nested
+    @DisplayName("트랜잭션 안에서 호출되면")
+    class ContextInTransaction {
+
+      @Test
+      @DisplayName("outbox 에 남기고 커밋된 뒤 한 번에 옮긴다")
+      void ItDeliversOutboxAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(notificationOutbox.append(any())).willReturn(10L, 11L);
+
+        // when
+        handler.create(event(1L));
+        handler.create(event(2L));
+        verify(notificationOutbox, never()).deliver(any());
+        TransactionSynchronizationManager
+            .getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        verify(notificationOutbox).deliver(List.of(10L, 11L));
+        verifyNoInteractions(notificationRepository);
+      }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 밖에서 호출되면")
+    class ContextWithoutTransaction {
+
+      @Test
+      @DisplayName("outbox 를 거치지 않고 바로 저장한다")
+      void ItSavesImmediately() {
+        // when
+        handler.create(event(1L));
+
+        // then
+        verify(notificationRepository).save(any());
+        verifyNoInteractions(notificationOutbox);
+      }
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package com.saiko.bidmarket.notification.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.common.shard.TestShards;
+import com.saiko.bidmarket.notification.NotificationType;
+import com.saiko.bidmarket.notification.entity.Notification;
+import com.saiko.bidmarket.notification.repository.NotificationRepository;
+
+class NotificationOutboxTest {
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  private static DataSource dataSource;
+
+  private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+
+  private JdbcTemplate jdbcTemplate;
+
+  private TransactionTemplate transactionTemplate;
+
+  private NotificationOutbox notificationOutbox;
+
+  @BeforeAll
+  static void setUpDatabase() {
+    dataSource = TestShards
+        .create("notification_outbox", 1)
+        .get(0)
+        .getJdbcTemplate()
+        .getDataSource();
+    DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(
+        new ClassPathResource("sql/notification/notification_outbox_schema.sql")), dataSource);
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("TRUNCATE TABLE notification_outbox");
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    TransactionTemplate requiresNew = new TransactionTemplate(
+        transactionTemplate.getTransactionManager());
+    requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    notificationOutbox = new NotificationOutbox(new NamedParameterJdbcTemplate(dataSource),
+                                                requiresNew, notificationRepository, 10,
+                                                MAX_ATTEMPTS, Clock.systemDefaultZone());
+  }
+
+  private static Notification notification(long userId) {
+    return Notification
+        .builder()
+        .type(NotificationType.END_PRODUCT_FOR_WINNER)
+        .productId(1L)
+        .userId(userId)
+        .build();
+  }
+
+  private List<Long> appendCommitted(long... userIds) {
+    return transactionTemplate.execute(status -> {
+      List<Long> ids = new ArrayList<>();
+      for (long userId : userIds) {
+        ids.add(notificationOutbox.append(notification(userId)));
+      }
+      return ids;
+    });
+  }
+
+  private int countOutbox() {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM notification_outbox", Integer.class);
+  }
+
+  @Nested
+  @DisplayName("append 메서드는")
+  class DescribeAppend {
+
+    @Nested
+    @DisplayName("주 트랜잭션이 롤백되면")
+    class ContextWithRollback {
+
+      @Test
+      @DisplayName("outbox 에 남기지 않는다")
+      void ItRollsBackWithTransaction() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+          notificationOutbox.append(notification(1L));
+          status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(countOutbox()).isZero();
+      }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 밖에서 호출하면")
+    class ContextWithoutTransaction {
+
+      @Test
+      @DisplayName("IllegalStateException 에러를 발생시킨다")
+      void ItThrowsException() {
+        assertThatThrownBy(() -> notificationOutbox.append(notification(1L)))
+            .isInstanceOf(IllegalStateException.class);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("deliver 메서드는")
+  class DescribeDeliver {
+
+    @Nested
+    @DisplayName("커밋된 outbox 행의 id 가 주어지면")
+    class ContextWithCommittedRows {
+
+      @Test
+      @DisplayName("사용자 샤드에 한 번에 저장하고 outbox 에서 지운다")
+      void ItSavesAndDeletes() {
+        // given
+        List<Long> ids = appendCommitted(1L, 2L);
+
+        // when
+        int delivered = notificationOutbox.deliver(ids);
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        verify(notificationRepository).saveAll(argThat(
+            notifications -> notifications.size() == 2));
+        assertThat(countOutbox()).isZero();
+      }
+    }
+
+    @Nested
+    @DisplayName("샤드 저장이 실패하면")
+    class ContextWithShardFailure {
+
+      @Test
+      @DisplayName("실패 횟수를 올려 outbox 에 남기고 relay 가 다시 옮긴다")
+      void ItLeavesRowsForRelay() {
+        // given
+        List<Long> ids = appendCommitted(1L);
+        willThrow(new DataAccessResourceFailureException("shard down"))
+            .willDoNothing()
+            .given(notificationRepository)
+            .saveAll(anyList());
+
+        // when
+        int delivered = notificationOutbox.deliver(ids);
+        int attempts = jdbcTemplate.queryForObject(
+            "SELECT attempts FROM notification_outbox", Integer.class);
+        int relayed = notificationOutbox.relay();
+
+        // then
+        assertThat(delivered).isZero();
+        assertThat(attempts).isEqualTo(1);
+        assertThat(relayed).isEqualTo(1);
+        assertThat(countOutbox()).isZero();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("relay 메서드는")
+  class DescribeRelay {
+
+    @Nested
+    @DisplayName("maxAttempts 번 실패한 행이 있으면")
+    class ContextWithExhaustedRows {
+
+      @Test
+      @DisplayName("그 행은 옮기지 않고 남겨 둔다")
+      void ItSkipsExhaustedRows() {
+        // given
+        appendCommitted(1L, 2L);
+        jdbcTemplate.update("UPDATE notification_outbox SET attempts = ? WHERE user_id = 1",
+                            MAX_ATTEMPTS);
+
+        // when
+        int relayed = notificationOutbox.relay();
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM notification_outbox",
+                                             Long.class)).containsExactly(1L);
+      }
+    }
+  }
+}
@@ -4,85 +4,54 @@ import static com.saiko.bidmarket.notification.NotificationType.*;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
-import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.context.annotation.Import;
-import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.test.context.ActiveProfiles;
-
-import com.saiko.bidmarket.common.config.QueryDslConfig;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.saiko.bidmarket.common.shard.TestShards;
+import com.saiko.bidmarket.common.shard.UserShardRouter;
 import com.saiko.bidmarket.notification.controller.dto.NotificationSelectRequest;
 import com.saiko.bidmarket.notification.entity.Notification;
-import com.saiko.bidmarket.notification.repository.dto.NotificationRepoDto;
-import com.saiko.bidmarket.product.Category;
-import com.saiko.bidmarket.product.entity.Product;
-import com.saiko.bidmarket.product.repository.ProductRepository;
-import com.saiko.bidmarket.user.entity.Group;
-import com.saiko.bidmarket.user.entity.User;
-import com.saiko.bidmarket.user.repository.GroupRepository;
-import com.saiko.bidmarket.user.repository.UserRepository;
-
-@DataJpaTest
-@ActiveProfiles("test")
-@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import(value = QueryDslConfig.class)
+
 public class NotificationRepositoryTest {
-  @Autowired
-  private GroupRepository groupRepository;
 
-  @Autowired
-  private UserRepository userRepository;
+  private static final int SHARD_COUNT = 2;
+
+  private static List<NamedParameterJdbcTemplate> shards;
 
-  @Autowired
-  private ProductRepository productRepository;
+  private static UserShardRouter router;
 
-  @Autowired
   private NotificationRepository notificationRepository;
 
-  private User user(
-      String name,
-      Group group,
-      String providerId
-  ) {
-    return User
-        .builder()
-        .username(name)
-        .provider("test")
-        .providerId(providerId)
-        .profileImage("test")
-        .group(group)
-        .build();
+  @BeforeAll
+  static void setUpShards() {
+    shards = TestShards.create("notification", SHARD_COUNT);
+    router = new UserShardRouter(shards, SHARD_COUNT);
   }
 
-  private Product product(
-      String title,
-      User writer
-  ) {
-    return Product
-        .builder()
-        .title(title)
-        .description("test")
-        .images(List.of("image"))
-        .writer(writer)
-        .category(Category.BEAUTY)
-        .build();
+  @AfterAll
+  static void tearDownShards() {
+    router.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    TestShards.truncate(shards);
+    notificationRepository = new ShardedNotificationRepository(router);
   }
 
-  private Notification notification(
-      User user,
-      Product product
-  ) {
+  private Notification notification(long userId, long productId) {
     return Notification
         .builder()
-        .user(user)
-        .product(product)
-        .type(
-            END_PRODUCT_FOR_WRITER_WITH_WINNER)
+        .userId(userId)
+        .productId(productId)
+        .type(END_PRODUCT_FOR_WRITER_WITH_WINNER)
         .build();
   }
 
@@ -95,12 +64,12 @@ public class NotificationRepositoryTest {
     class ContextWithNotificationSelectRequestNull {
 
       @Test
-      @DisplayName("InvalidDataAccessApiUsageException 에러를 발생시킨다")
-      void ItThrowsInvalidDataAccessApiUsageException() {
+      @DisplayName("IllegalArgumentException 에러를 발생시킨다")
+      void ItThrowsIllegalArgumentException() {
         //when, then
         assertThatThrownBy(
             () -> notificationRepository.findAllNotification(1L, null))
-            .isInstanceOf(InvalidDataAccessApiUsageException.class);
+            .isInstanceOf(IllegalArgumentException.class);
       }
     }
 
@@ -109,34 +78,54 @@ public class NotificationRepositoryTest {
     class ContextWithValidData {
 
       @Test
-      @DisplayName("페이징 처리된 알림 전체 목록을 반환한다")
+      @DisplayName("사용자 샤드에서 최신순으로 페이징 처리된 알림 목록을 반환한다")
       void ItReturnNotificationList() {
         //given
-        Group userGroup = groupRepository
-            .findByName("USER_GROUP")
-            .get();
-
-        User user = userRepository.save(user("test1", userGroup, "test1"));
-        Product product = productRepository.save(product("test", user));
-        Notification notification = notificationRepository.save(notification(user, product));
+        long userId = TestShards.userIdInShard(1, SHARD_COUNT);
+        notificationRepository.save(notification(userId, 1L));
+        Notification latest = notificationRepository.save(notification(userId, 2L));
+        notificationRepository.save(notification(TestShards.userIdInShard(0, SHARD_COUNT), 3L));
 
         NotificationSelectRequest request = new NotificationSelectRequest(0, 1);
 
         //when
-        List<NotificationRepoDto> result = notificationRepository.findAllNotification(
-            user.getId(),
-            request
-        );
+        List<Notification> result = notificationRepository.findAllNotification(userId, request);
 
         //then
         assertThat(result.size()).isEqualTo(1);
-        assertThat(result.get(0).getId()).isEqualTo(notification.getId());
-        assertThat(result.get(0).getProductId()).isEqualTo(product.getId());
-        assertThat(result.get(0).getTitle()).isEqualTo(product.getTitle());
-        assertThat(result.get(0).getThumbnailImage()).isEqualTo(product.getThumbnailImage());
-        assertThat(result.get(0).getType()).isEqualTo(notification.getType());
+        assertThat(result.get(0).getId()).isEqualTo(latest.getId());
+        assertThat(result.get(0).getProductId()).isEqualTo(2L);
+        assertThat(result.get(0).getType()).isEqualTo(END_PRODUCT_FOR_WRITER_WITH_WINNER);
         assertThat(result.get(0).isChecked()).isFalse();
       }
     }
   }
+
+  @Nested
+  @DisplayName("check 메소드는")
+  class DescribeCheck {
+
+    @Nested
+    @DisplayName("확인한 알림이 넘어온다면")
+    class ContextWithCheckedNotification {
+
+      @Test
+      @DisplayName("확인 여부를 저장한다")
+      void ItSavesChecked() {
+        //given
+        long userId = TestShards.userIdInShard(1, SHARD_COUNT);
+        Notification saved = notificationRepository.save(notification(userId, 1L));
+
+        //when
+        saved.check();
+        notificationRepository.check(saved);
+
+        //then
+        Optional<Notification> result = notificationRepository.findByIdInShardOf(userId,
+                                                                                 saved.getId());
+        assertThat(result).isPresent();
+        assertThat(result.get().isChecked()).isTrue();
+      }
+    }
+  }
 }
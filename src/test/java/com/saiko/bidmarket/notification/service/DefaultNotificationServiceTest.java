@@ -23,9 +23,9 @@ import com.saiko.bidmarket.notification.controller.dto.NotificationSelectRequest
 import com.saiko.bidmarket.notification.controller.dto.NotificationSelectResponse;
 import com.saiko.bidmarket.notification.entity.Notification;
 import com.saiko.bidmarket.notification.repository.NotificationRepository;
-import com.saiko.bidmarket.notification.repository.dto.NotificationRepoDto;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.repository.ProductRepository;
 import com.saiko.bidmarket.user.entity.Group;
 import com.saiko.bidmarket.user.entity.User;
 
@@ -34,6 +34,9 @@ public class DefaultNotificationServiceTest {
   @Mock
   NotificationRepository notificationRepository;
 
+  @Mock
+  ProductRepository productRepository;
+
   @InjectMocks
   DefaultNotificationService notificationService;
 
@@ -65,8 +68,9 @@ public class DefaultNotificationServiceTest {
   private Notification notification(User user, Product product) {
     return Notification
         .builder()
-        .user(user)
-        .product(product)
+        .id(1L)
+        .userId(user.getId())
+        .productId(product.getId())
         .type(
             END_PRODUCT_FOR_WRITER_WITH_WINNER)
         .build();
@@ -104,27 +108,17 @@ public class DefaultNotificationServiceTest {
         ReflectionTestUtils.setField(product, "id", 1L);
 
         Notification notification = notification(user, product);
-        ReflectionTestUtils.setField(notification, "id", 1L);
-
-        NotificationRepoDto notificationRepoDto = new NotificationRepoDto(
-            notification.getId(),
-            product.getId(),
-            product.getTitle(),
-            product.getThumbnailImage(),
-            notification.getType(),
-            notification.isChecked(),
-            notification.getCreatedAt(),
-            notification.getUpdatedAt()
-        );
+
         NotificationSelectResponse notificationSelectResponse = NotificationSelectResponse.from(
-            notificationRepoDto);
+            notification, product);
 
         NotificationSelectRequest request = new NotificationSelectRequest(0, 1);
 
         given(notificationRepository.findAllNotification(
             anyLong(),
             any(NotificationSelectRequest.class)
-        )).willReturn(List.of(notificationRepoDto));
+        )).willReturn(List.of(notification));
+        given(productRepository.findAllById(anySet())).willReturn(List.of(product));
 
         //when
         List<NotificationSelectResponse> responses = notificationService.findAllNotifications(
@@ -168,12 +162,13 @@ public class DefaultNotificationServiceTest {
         long userId = Long.MAX_VALUE;
         long notificationId = Long.MAX_VALUE;
 
-        given(notificationRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(notificationRepository.findByIdInShardOf(anyLong(), anyLong()))
+            .willReturn(Optional.empty());
 
         // when, then
         assertThatThrownBy(() -> notificationService.checkNotification(userId, notificationId))
             .isInstanceOf(NotFoundException.class);
-        verify(notificationRepository, atLeastOnce()).findById(anyLong());
+        verify(notificationRepository, atLeastOnce()).findByIdInShardOf(anyLong(), anyLong());
       }
     }
 
@@ -195,15 +190,15 @@ public class DefaultNotificationServiceTest {
         ReflectionTestUtils.setField(product, "id", 1L);
 
         Notification notification = notification(user, product);
-        ReflectionTestUtils.setField(notification, "id", notificationId);
 
-        given(notificationRepository.findById(anyLong())).willReturn(Optional.of(notification));
+        given(notificationRepository.findByIdInShardOf(anyLong(), anyLong()))
+            .willReturn(Optional.of(notification));
 
         // when
         // then
         assertThatThrownBy(() -> notificationService.checkNotification(2L, notificationId))
             .isInstanceOf(AuthorizationServiceException.class);
-        verify(notificationRepository, atLeastOnce()).findById(anyLong());
+        verify(notificationRepository, atLeastOnce()).findByIdInShardOf(anyLong(), anyLong());
       }
     }
 
@@ -225,15 +220,16 @@ public class DefaultNotificationServiceTest {
         ReflectionTestUtils.setField(product, "id", 1L);
 
         Notification notification = notification(user, product);
-        ReflectionTestUtils.setField(notification, "id", notificationId);
 
-        given(notificationRepository.findById(anyLong())).willReturn(Optional.of(notification));
+        given(notificationRepository.findByIdInShardOf(anyLong(), anyLong()))
+            .willReturn(Optional.of(notification));
 
         // when
         notificationService.checkNotification(userId, notificationId);
 
         // then
-        verify(notificationRepository).findById(anyLong());
+        verify(notificationRepository).findByIdInShardOf(userId, notificationId);
+        verify(notificationRepository).check(notification);
         assertThat(notification.isChecked()).isTrue();
       }
     }
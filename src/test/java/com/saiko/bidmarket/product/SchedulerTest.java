@@ -5,6 +5,7 @@ import static org.awaitility.Awaitility.*;
 import static org.mockito.BDDMockito.atLeast;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,21 +15,43 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.saiko.bidmarket.chat.service.ChatRoomService;
 import com.saiko.bidmarket.common.config.ScheduledConfig;
 import com.saiko.bidmarket.common.config.ScheduledConfig.Scheduler;
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+import com.saiko.bidmarket.common.metrics.AuctionClosingMetrics;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.product.service.ProductService;
 import com.saiko.bidmarket.user.entity.Group;
 import com.saiko.bidmarket.user.entity.User;
 
-@SpringJUnitConfig(ScheduledConfig.class)
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringJUnitConfig({ScheduledConfig.class, SchedulerTest.MetricsTestConfig.class})
 public class SchedulerTest {
+
+  @TestConfiguration
+  static class MetricsTestConfig {
+
+    @Bean
+    Clock clock() {
+      return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    AuctionClosingMetrics auctionClosingMetrics(Clock clock) {
+      return new AuctionClosingMetrics(new SimpleMeterRegistry(), clock);
+    }
+  }
+
   @SpyBean
   private Scheduler scheduler;
 
@@ -38,6 +61,11 @@ public class SchedulerTest {
   @MockBean
   private ChatRoomService chatRoomService;
 
+  @MockBean
+  private PartitionLeaseManager partitionLeaseManager;
+
+  private static final PartitionAssignment allPartitions = PartitionAssignment.of(2, List.of(0, 1));
+
   @Nested
   @DisplayName("1분마다 동작하는 closeProduct 메소드는")
   class DescribeCloseProduct {
@@ -64,14 +92,16 @@ public class SchedulerTest {
                                  .build();
         ReflectionTestUtils.setField(product, "id", 1L);
 
-        BDDMockito.given(productService.findAllThatNeedToClose(any())).willReturn(List.of(product));
+        BDDMockito.given(partitionLeaseManager.ownedPartitions()).willReturn(allPartitions);
+        BDDMockito.given(productService.findAllThatNeedToClose(any(), any()))
+                  .willReturn(List.of(product));
 
         // when, then
         await()
             .atMost(Duration.ofSeconds(119))
             .untilAsserted(() -> {
               verify(scheduler, atLeast(1)).closeProduct();
-              verify(productService).findAllThatNeedToClose(any());
+              verify(productService).findAllThatNeedToClose(any(), any());
               verify(productService).executeClosingProduct(any());
               verify(chatRoomService).create(any(Product.class));
             });
@@ -86,7 +116,8 @@ public class SchedulerTest {
       @DisplayName("경매 종료 로직을 실행하지 않는다.")
       void ItDoesNotExecuteClosingProduct() {
         // given
-        BDDMockito.given(productService.findAllThatNeedToClose(any())).willReturn(
+        BDDMockito.given(partitionLeaseManager.ownedPartitions()).willReturn(allPartitions);
+        BDDMockito.given(productService.findAllThatNeedToClose(any(), any())).willReturn(
             Collections.emptyList());
 
         // when, then
@@ -94,11 +125,33 @@ public class SchedulerTest {
             .atMost(Duration.ofSeconds(119))
             .untilAsserted(() -> {
               verify(scheduler, atLeast(1)).closeProduct();
-              verify(productService).findAllThatNeedToClose(any());
+              verify(productService).findAllThatNeedToClose(any(), any());
               verify(productService, times(0)).executeClosingProduct(any());
               verify(chatRoomService, times(0)).create(any(Product.class));
             });
       }
     }
+
+    @Nested
+    @DisplayName("이 노드가 소유한 파티션이 없다면")
+    class ContextWithoutOwnedPartitions {
+
+      @Test
+      @DisplayName("종료할 경매를 조회하지 않는다.")
+      void ItDoesNotFindProductsToClose() {
+        // given
+        BDDMockito.given(partitionLeaseManager.ownedPartitions())
+                  .willReturn(PartitionAssignment.empty(2));
+
+        // when, then
+        await()
+            .atMost(Duration.ofSeconds(119))
+            .untilAsserted(() -> {
+              verify(scheduler, atLeast(1)).closeProduct();
+              verify(productService, times(0)).findAllThatNeedToClose(any(), any());
+              verify(chatRoomService, times(0)).create(any(Product.class));
+            });
+      }
+    }
   }
 }
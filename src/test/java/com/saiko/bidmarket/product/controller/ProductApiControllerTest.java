@@ -47,6 +47,7 @@ import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
 import com.saiko.bidmarket.product.controller.dto.ProductSelectResponse;
 import com.saiko.bidmarket.product.entity.Image;
 import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.entity.ProductListing;
 import com.saiko.bidmarket.product.service.ProductService;
 import com.saiko.bidmarket.user.entity.Group;
 import com.saiko.bidmarket.user.entity.User;
@@ -639,7 +640,8 @@ class ProductApiControllerTest extends ControllerSetUp {
       @DisplayName("상품을 조회하고 결과를 반환한다")
       void ItReturnProductList() throws Exception {
         //given
-        List<ProductSelectResponse> responses = List.of(ProductSelectResponse.from(product));
+        List<ProductSelectResponse> responses = List.of(
+            ProductSelectResponse.from(ProductListing.from(product)));
         given(productService.findAll(any(ProductSelectRequest.class))).willReturn(responses);
 
         //when
@@ -2,6 +2,7 @@ package com.saiko.bidmarket.product.entity;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.saiko.bidmarket.bidding.entity.Bidding;
 import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.controller.dto.ProductCreateRequest;
 import com.saiko.bidmarket.user.entity.Group;
 import com.saiko.bidmarket.user.entity.User;
 
@@ -117,6 +119,57 @@ public class ProductTest {
             .isEqualTo(bidderTwo);
       }
     }
+
+    @Nested
+    @DisplayName("입찰이 금액순으로 놓여 있지 않다면")
+    class ContextUnorderedBiddings {
+
+      @Test
+      @DisplayName("가장 높은 입찰을 낙찰로 고르고 나머지를 낙찰되지 않은 입찰자로 돌려준다")
+      void ItSelectsHighestBidding() {
+        //given
+        User writer = user("writer");
+        Product product = product(writer, 10000);
+        User bidderOne = user("bidderOne");
+        User bidderTwo = user("bidderTwo");
+        User bidderThree = user("bidderThree");
+        Bidding biddingOne = bidding(10000L, bidderOne, product);
+        Bidding biddingTwo = bidding(30000L, bidderTwo, product);
+        Bidding biddingThree = bidding(20000L, bidderThree, product);
+
+        //when
+        User winner = product.finish();
+
+        //then
+        assertThat(winner).isSameAs(bidderTwo);
+        assertThat(product.getWinningPrice()).isEqualTo(21000L);
+        assertThat(biddingTwo.isWon()).isTrue();
+        assertThat(biddingOne.isWon()).isFalse();
+        assertThat(biddingThree.isWon()).isFalse();
+        assertThat(product.getBiddersExceptWinner()).containsExactly(bidderThree, bidderOne);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("of 메소드는")
+  class DescribeOf {
+
+    @Test
+    @DisplayName("시작 시각으로부터 입찰 기간이 지난 시각을 만료 시각으로 정한다")
+    void ItSetsExpireAtFromStartAt() {
+      //given
+      LocalDateTime startAt = LocalDateTime.of(2022, 8, 1, 12, 30);
+      ProductCreateRequest request = new ProductCreateRequest(
+          "title", "description", List.of("image"), Category.ETC, 10000, null);
+
+      //when
+      Product product = Product.of(request, user("writer"), startAt);
+
+      //then
+      assertThat(product.getExpireAt())
+          .isEqualTo(startAt.plusDays(Product.PROGRESSION_PERIOD_OF_BIDDING));
+    }
   }
 
   private User user(String name) {
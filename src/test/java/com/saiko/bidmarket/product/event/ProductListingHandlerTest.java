@@ -0,0 +1,184 @@
+package com.saiko.bidmarket.product.event;
+
+import static com.saiko.bidmarket.product.Category.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.saiko.bidmarket.bidding.event.BiddingCreatedEvent;
+import com.saiko.bidmarket.bidding.event.BiddingsDeletedEvent;
+import com.saiko.bidmarket.heart.event.HeartToggledEvent;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.entity.ProductListing;
+import com.saiko.bidmarket.product.repository.ProductListingRepository;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+class ProductListingHandlerTest {
+
+  @Mock
+  ProductListingRepository productListingRepository;
+
+  @InjectMocks
+  ProductListingHandler handler;
+
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    User writer = User
+        .builder()
+        .username("레이")
+        .profileImage("image")
+        .provider("google")
+        .providerId("123")
+        .group(new Group())
+        .build();
+    ReflectionTestUtils.setField(writer, "id", 1L);
+
+    product = Product
+        .builder()
+        .title("책 팔아요")
+        .writer(writer)
+        .description("깨끗해요")
+        .images(List.of("thumbnail", "image"))
+        .category(CHILDREN_BOOK)
+        .minimumPrice(10000)
+        .location("직거래 안해요")
+        .build();
+    ReflectionTestUtils.setField(product, "id", 1L);
+    ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
+  }
+
+  @Nested
+  @DisplayName("ProductSavedEvent 를 받으면")
+  class DescribeProductSavedEvent {
+
+    @Nested
+    @DisplayName("목록 행이 없는 상품이라면")
+    class ContextWithNewProduct {
+
+      @Test
+      @DisplayName("상품 정보로 목록 행을 만든다")
+      void ItSavesListing() {
+        // given
+        given(productListingRepository.findById(product.getId())).willReturn(Optional.empty());
+
+        // when
+        handler.apply(new ProductSavedEvent(product));
+
+        // then
+        verify(productListingRepository).save(argThat(listing ->
+            listing.getProductId().equals(product.getId())
+                && listing.getWriterId() == 1L
+                && listing.getThumbnailImage().equals("thumbnail")
+                && listing.getHeartCount() == 0
+                && listing.isProgressed()));
+      }
+    }
+
+    @Nested
+    @DisplayName("이미 목록 행이 있는 상품이라면")
+    class ContextWithExistingListing {
+
+      @Test
+      @DisplayName("진행 여부와 제목을 갱신한다")
+      void ItUpdatesListing() {
+        // given
+        ProductListing listing = ProductListing.from(product);
+        given(productListingRepository.findById(product.getId())).willReturn(Optional.of(listing));
+        product.reportPenalty();
+
+        // when
+        handler.apply(new ProductSavedEvent(product));
+
+        // then
+        verify(productListingRepository, never()).save(any());
+        assertThat(listing.isProgressed()).isFalse();
+        assertThat(listing.getTitle()).isEqualTo(Product.DELETED_TITLE);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("HeartToggledEvent 를 받으면")
+  class DescribeHeartToggledEvent {
+
+    @Test
+    @DisplayName("찜 상태에 따라 찜 개수를 하나 늘리거나 줄인다")
+    void ItAddsHeartCount() {
+      // when
+      handler.apply(new HeartToggledEvent(product.getId(), true));
+      handler.apply(new HeartToggledEvent(product.getId(), false));
+
+      // then
+      verify(productListingRepository).addHeartCount(product.getId(), 1);
+      verify(productListingRepository).addHeartCount(product.getId(), -1);
+    }
+  }
+
+  @Nested
+  @DisplayName("BiddingCreatedEvent 를 받으면")
+  class DescribeBiddingCreatedEvent {
+
+    @Test
+    @DisplayName("최고 입찰가를 올린다")
+    void ItRaisesTopBidPrice() {
+      // when
+      handler.apply(new BiddingCreatedEvent(product.getId(), 15000L));
+
+      // then
+      verify(productListingRepository).raiseTopBidPrice(product.getId(), 15000L);
+    }
+  }
+
+  @Nested
+  @DisplayName("BiddingsDeletedEvent 를 받으면")
+  class DescribeBiddingsDeletedEvent {
+
+    @Nested
+    @DisplayName("상품 id 가 없다면")
+    class ContextWithEmptyProductIds {
+
+      @Test
+      @DisplayName("아무것도 하지 않는다")
+      void ItDoesNothing() {
+        // when
+        handler.apply(new BiddingsDeletedEvent(List.of()));
+
+        // then
+        verifyNoInteractions(productListingRepository);
+      }
+    }
+
+    @Nested
+    @DisplayName("상품 id 가 있다면")
+    class ContextWithProductIds {
+
+      @Test
+      @DisplayName("최고 입찰가를 다시 계산한다")
+      void ItRefreshesTopBidPrice() {
+        // when
+        handler.apply(new BiddingsDeletedEvent(List.of(1L, 2L)));
+
+        // then
+        verify(productListingRepository).refreshTopBidPrice(List.of(1L, 2L));
+      }
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package com.saiko.bidmarket.product.repository;
+
+import static com.saiko.bidmarket.product.entity.QProduct.*;
+import static com.saiko.bidmarket.user.entity.QUser.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.config.QueryDslConfig;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.entity.ProductListing;
+import com.saiko.bidmarket.product.repository.dto.UserProductSelectQueryParameter;
+import com.saiko.bidmarket.user.controller.dto.UserProductSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserProductSelectResponse;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.repository.GroupRepository;
+import com.saiko.bidmarket.user.repository.UserRepository;
+
+/**
+ * 한 페이지를 엔티티로 읽어 응답으로 바꿀 때와 응답 타입으로 바로 projection 할 때의
+ * 서버가 보낸 바이트 수(세션의 Bytes_sent 증가량)와 현재 스레드의 할당량을 비교한다.
+ * 엔티티 경로는 예전처럼 찜 개수를 따로 세는 쿼리가 한 번 더 나가지만 여기서는 빼고 잰다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(value = QueryDslConfig.class)
+public class ListingProjectionBenchmarkTest {
+  private static final int PAGE_SIZE = 20;
+
+  private static final int ROUNDS = 5;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JPAQueryFactory jpaQueryFactory;
+
+  @Autowired
+  private GroupRepository groupRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private ProductListingRepository productListingRepository;
+
+  private UserProductSelectQueryParameter parameter;
+
+  @BeforeEach
+  void setUp() {
+    Group group = groupRepository
+        .findById(1L)
+        .get();
+    User writer = userRepository.save(User
+                                          .builder()
+                                          .username("제로")
+                                          .profileImage("image")
+                                          .provider("google")
+                                          .providerId("123")
+                                          .group(group)
+                                          .build());
+    List<Product> products = productRepository.saveAll(IntStream
+                                                           .range(0, PAGE_SIZE)
+                                                           .mapToObj(i -> product(writer, i))
+                                                           .collect(Collectors.toList()));
+    products.forEach(product -> productListingRepository.save(ProductListing.from(product)));
+    entityManager.flush();
+    entityManager.clear();
+
+    parameter = UserProductSelectQueryParameter.of(
+        writer.getId(), new UserProductSelectRequest(0, PAGE_SIZE, Sort.END_DATE_ASC));
+  }
+
+  @Nested
+  @DisplayName("작성자의 상품 한 페이지를 읽으면")
+  class ContextWithUserProductPage {
+
+    @Test
+    @DisplayName("projection 경로가 엔티티 경로보다 적게 받고 적게 할당한다")
+    void ItTransfersAndAllocatesLess() {
+      // when
+      Measurement entity = measure(ListingProjectionBenchmarkTest.this::findAllUserProductAsEntities);
+      Measurement projection = measure(
+          () -> productListingRepository.findAllUserProductListing(parameter));
+
+      // then
+      assertThat(projection.bytesSent)
+          .as("entity: %s, projection: %s", entity, projection)
+          .isLessThan(entity.bytesSent / 2);
+      assertThat(projection.allocatedBytes)
+          .as("entity: %s, projection: %s", entity, projection)
+          .isLessThan(entity.allocatedBytes);
+    }
+  }
+
+  /**
+   * projection 으로 바꾸기 전의 작성자 상품 조회. 비교 기준으로만 남겨 둔다.
+   */
+  private List<UserProductSelectResponse> findAllUserProductAsEntities() {
+    return jpaQueryFactory
+        .selectFrom(product)
+        .join(product.writer, user)
+        .where(user.id.eq(parameter.getUserId()))
+        .offset(parameter.getOffset())
+        .limit(parameter.getLimit())
+        .orderBy(product.expireAt.asc())
+        .fetch()
+        .stream()
+        .map(found -> UserProductSelectResponse.from(found, 0))
+        .collect(Collectors.toList());
+  }
+
+  private Product product(User writer, int index) {
+    return Product
+        .builder()
+        .title("노트북 팝니다" + index)
+        .description("싸요 ".repeat(100))
+        .category(Category.DIGITAL_DEVICE)
+        .minimumPrice(10000)
+        .images(List.of("image"))
+        .location("서울시 강남구")
+        .writer(writer)
+        .build();
+  }
+
+  /**
+   * 첫 실행의 쿼리 계획 캐시와 클래스 로딩을 빼기 위해 여러 번 돌리고 가장 작은 값을 쓴다.
+   */
+  private Measurement measure(Supplier<List<?>> page) {
+    long bytesSent = Long.MAX_VALUE;
+    long allocatedBytes = Long.MAX_VALUE;
+    for (int i = 0; i < ROUNDS; i++) {
+      entityManager.clear();
+      long bytesBefore = bytesSent();
+      long allocatedBefore = allocatedBytes();
+      assertThat(page.get()).hasSize(PAGE_SIZE);
+      allocatedBytes = Math.min(allocatedBytes, allocatedBytes() - allocatedBefore);
+      bytesSent = Math.min(bytesSent, bytesSent() - bytesBefore);
+    }
+    return new Measurement(bytesSent, allocatedBytes);
+  }
+
+  private long bytesSent() {
+    return jdbcTemplate.queryForObject(
+        "SHOW SESSION STATUS LIKE 'Bytes_sent'",
+        (rs, rowNum) -> rs.getLong("Value"));
+  }
+
+  private long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean())
+        .getThreadAllocatedBytes(Thread
+                                     .currentThread()
+                                     .getId());
+  }
+
+  private static class Measurement {
+    private final long bytesSent;
+
+    private final long allocatedBytes;
+
+    private Measurement(long bytesSent, long allocatedBytes) {
+      this.bytesSent = bytesSent;
+      this.allocatedBytes = allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d bytes sent, %d bytes allocated", bytesSent, allocatedBytes);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.saiko.bidmarket.product.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.saiko.bidmarket.common.config.QueryDslConfig;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.controller.dto.ImagBasicResponse;
+import com.saiko.bidmarket.product.controller.dto.ProductDetailResponse;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.repository.GroupRepository;
+import com.saiko.bidmarket.user.repository.UserRepository;
+
+/**
+ * 상품 상세 응답을 만드는 동안 나가는 statement 수를 Hibernate 통계로 센다.
+ * 작성자나 이미지를 lazy 로딩하게 되면 이 테스트가 깨진다.
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(value = QueryDslConfig.class)
+public class ProductDetailStatementCountTest {
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private GroupRepository groupRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  private Statistics statistics;
+
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    Group group = groupRepository
+        .findById(1L)
+        .get();
+    User writer = userRepository.save(User
+                                          .builder()
+                                          .username("제로")
+                                          .profileImage("image")
+                                          .provider("google")
+                                          .providerId("123")
+                                          .group(group)
+                                          .build());
+    product = productRepository.save(Product
+                                         .builder()
+                                         .title("노트북 팝니다")
+                                         .description("싸요")
+                                         .category(Category.DIGITAL_DEVICE)
+                                         .minimumPrice(10000)
+                                         .images(List.of("image1", "image2", "image3"))
+                                         .location(null)
+                                         .writer(writer)
+                                         .build());
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManagerFactory
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+  }
+
+  @Nested
+  @DisplayName("findDetailById 로 읽은 상품으로 상세 응답을 만들면")
+  class ContextWithDetailResponse {
+
+    @Test
+    @DisplayName("statement 를 두 번 넘게 실행하지 않고 이미지는 순서대로 담긴다")
+    void ItLoadsInAtMostTwoStatements() {
+      // when
+      ProductDetailResponse response = ProductDetailResponse.from(productRepository
+                                                                      .findDetailById(
+                                                                          product.getId())
+                                                                      .get());
+
+      // then
+      assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+      assertThat(response
+                     .getWriter()
+                     .getUsername()).isEqualTo("제로");
+      assertThat(response.getImages())
+          .extracting(ImagBasicResponse::getUrl)
+          .containsExactly("image1", "image2", "image3");
+    }
+  }
+}
@@ -0,0 +1,458 @@
+package com.saiko.bidmarket.product.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saiko.bidmarket.bidding.entity.Bidding;
+import com.saiko.bidmarket.bidding.repository.BiddingRepository;
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.archive.ClosedProductArchiver;
+import com.saiko.bidmarket.common.config.QueryDslConfig;
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+import com.saiko.bidmarket.common.page.CursorPage;
+import com.saiko.bidmarket.common.page.SortCursor;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectResponse;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.entity.ProductListing;
+import com.saiko.bidmarket.product.repository.dto.UserProductSelectQueryParameter;
+import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectResponse;
+import com.saiko.bidmarket.user.controller.dto.UserHeartSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserHeartSelectResponse;
+import com.saiko.bidmarket.user.controller.dto.UserProductSelectRequest;
+import com.saiko.bidmarket.user.controller.dto.UserProductSelectResponse;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.repository.GroupRepository;
+import com.saiko.bidmarket.user.repository.UserRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(value = QueryDslConfig.class)
+public class ProductListingRepositoryTest {
+  @Autowired
+  private ProductListingRepository productListingRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private BiddingRepository biddingRepository;
+
+  @Autowired
+  private GroupRepository groupRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private User writer;
+
+  @BeforeEach
+  void setUp() {
+    Group group = groupRepository
+        .findById(1L)
+        .get();
+    writer = userRepository.save(User
+                                     .builder()
+                                     .username("제로")
+                                     .profileImage("image")
+                                     .provider("google")
+                                     .providerId("123")
+                                     .group(group)
+                                     .build());
+  }
+
+  private ProductListing saveListing(
+      String title,
+      int minimumPrice,
+      Category category
+  ) {
+    Product product = productRepository.save(Product
+                                                  .builder()
+                                                  .title(title)
+                                                  .description("싸요")
+                                                  .category(category)
+                                                  .minimumPrice(minimumPrice)
+                                                  .images(List.of("image"))
+                                                  .location(null)
+                                                  .writer(writer)
+                                                  .build());
+    return productListingRepository.save(ProductListing.from(product));
+  }
+
+  @Nested
+  @DisplayName("findAllProductListing 메소드는")
+  class DescribeFindAllProductListing {
+
+    @Nested
+    @DisplayName("ProductSelectRequest 가 null 이라면")
+    class ContextWithProductSelectRequestNull {
+
+      @Test
+      @DisplayName("InvalidDataAccessApiUsageException 에러를 발생시킨다")
+      void ItThrowsInvalidDataAccessApiUsageException() {
+        assertThatThrownBy(() -> productListingRepository.findAllProductListing(null))
+            .isInstanceOf(InvalidDataAccessApiUsageException.class);
+      }
+    }
+
+    @Nested
+    @DisplayName("카테고리와 정렬 기준이 주어지면")
+    class ContextWithCategoryAndSort {
+
+      @Test
+      @DisplayName("해당 카테고리의 상품을 정렬 기준에 맞게 반환한다")
+      void ItReturnsFilteredAndSortedListings() {
+        // given
+        ProductListing cheap = saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+        ProductListing expensive = saveListing("맥북 팝니다", 30000, Category.DIGITAL_DEVICE);
+        saveListing("귤 팝니다", 20000, Category.FOOD);
+
+        ProductSelectRequest request = new ProductSelectRequest(
+            null, null, Category.DIGITAL_DEVICE, 0, 10, Sort.MINIMUM_PRICE_DESC);
+
+        // when
+        List<ProductSelectResponse> result = productListingRepository.findAllProductListing(
+            request);
+
+        // then
+        assertThat(result)
+            .extracting(ProductSelectResponse::getId)
+            .containsExactly(expensive.getProductId(), cheap.getProductId());
+      }
+    }
+
+    @Nested
+    @DisplayName("진행 여부와 검색 제목이 주어지면")
+    class ContextWithProgressedAndTitle {
+
+      @Test
+      @DisplayName("진행 중이고 제목에 검색어가 들어간 상품만 반환한다")
+      void ItReturnsProgressedListingsContainingTitle() {
+        // given
+        saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+        productListingRepository.closeAllByWriterId(writer.getId());
+        ProductListing progressed = saveListing("노트북 급처", 20000, Category.DIGITAL_DEVICE);
+        saveListing("맥북 팝니다", 30000, Category.DIGITAL_DEVICE);
+
+        ProductSelectRequest request = new ProductSelectRequest(
+            "노트북", "true", null, 0, 10, Sort.END_DATE_ASC);
+
+        // when
+        List<ProductSelectResponse> result = productListingRepository.findAllProductListing(
+            request);
+
+        // then
+        assertThat(result)
+            .extracting(ProductSelectResponse::getId)
+            .containsExactly(progressed.getProductId());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("findAllUserProductListing 메소드는")
+  class DescribeFindAllUserProductListing {
+
+    @Test
+    @DisplayName("작성자의 상품만 찜 개수와 함께 반환한다")
+    void ItReturnsWritersListings() {
+      // given
+      ProductListing listing = saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+      entityManager.flush();
+      productListingRepository.addHeartCount(listing.getProductId(), 2);
+      UserProductSelectQueryParameter parameter = UserProductSelectQueryParameter.of(
+          writer.getId(), new UserProductSelectRequest(0, 10, Sort.END_DATE_ASC));
+
+      // when
+      List<UserProductSelectResponse> result = productListingRepository.findAllUserProductListing(
+          parameter);
+
+      // then
+      assertThat(result).hasSize(1);
+      assertThat(result
+                     .get(0)
+                     .getId()).isEqualTo(listing.getProductId());
+      assertThat(result
+                     .get(0)
+                     .getHeartCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관 테이블로 옮겨진 상품도 작성자와 입찰자의 목록에 남기고 전체 목록에서만 뺀다")
+    void ItKeepsArchivedListingsInUserHistory() {
+      // given
+      ProductListing listing = saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+      User bidder = userRepository.save(User
+                                            .builder()
+                                            .username("레이")
+                                            .profileImage("image")
+                                            .provider("google")
+                                            .providerId("456")
+                                            .group(writer.getGroup())
+                                            .build());
+      biddingRepository.save(Bidding
+                                 .builder()
+                                 .bidder(bidder)
+                                 .product(productRepository
+                                              .findById(listing.getProductId())
+                                              .get())
+                                 .biddingPrice(10000)
+                                 .build());
+      entityManager.flush();
+      jdbcTemplate.update("UPDATE product SET progressed = false, expire_at = ? WHERE id = ?",
+                          LocalDateTime.now().minusDays(100), listing.getProductId());
+      ClosedProductArchiver archiver = new ClosedProductArchiver(
+          new NamedParameterJdbcTemplate(jdbcTemplate), new TransactionTemplate(transactionManager),
+          Duration.ofDays(90), 10, Clock.systemDefaultZone(), mock(PartitionLeaseManager.class));
+
+      // when
+      int archived = archiver.archive(LocalDateTime.now(), PartitionAssignment.of(1, List.of(0)));
+      entityManager.clear();
+
+      // then
+      assertThat(archived).isEqualTo(1);
+      assertThat(productRepository.findById(listing.getProductId())).isEmpty();
+      assertThat(productListingRepository.findAllUserProductListing(
+          UserProductSelectQueryParameter.of(
+              writer.getId(), new UserProductSelectRequest(0, 10, Sort.END_DATE_ASC))))
+          .extracting(UserProductSelectResponse::getId)
+          .containsExactly(listing.getProductId());
+      assertThat(productListingRepository
+                     .findAllUserBiddingListing(
+                         bidder.getId(),
+                         new UserBiddingSelectRequest(null, 10, Sort.END_DATE_ASC))
+                     .getItems())
+          .extracting(UserBiddingSelectResponse::getId)
+          .containsExactly(listing.getProductId());
+      assertThat(productListingRepository.findAllProductListing(
+          new ProductSelectRequest(null, null, Category.ALL, 0, 10, Sort.END_DATE_ASC)))
+          .extracting(ProductSelectResponse::getId)
+          .doesNotContain(listing.getProductId());
+    }
+  }
+
+  @Nested
+  @DisplayName("findAllUserBiddingListing 메소드는")
+  class DescribeFindAllUserBiddingListing {
+
+    @Test
+    @DisplayName("사용자가 입찰한 상품만 반환한다")
+    void ItReturnsBiddenListings() {
+      // given
+      ProductListing bidden = saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+      saveListing("맥북 팝니다", 30000, Category.DIGITAL_DEVICE);
+      User bidder = userRepository.save(User
+                                            .builder()
+                                            .username("레이")
+                                            .profileImage("image")
+                                            .provider("google")
+                                            .providerId("456")
+                                            .group(writer.getGroup())
+                                            .build());
+      biddingRepository.save(Bidding
+                                 .builder()
+                                 .bidder(bidder)
+                                 .product(productRepository
+                                              .findById(bidden.getProductId())
+                                              .get())
+                                 .biddingPrice(20000)
+                                 .build());
+      entityManager.flush();
+
+      // when
+      CursorPage<UserBiddingSelectResponse> result = productListingRepository
+          .findAllUserBiddingListing(
+              bidder.getId(), new UserBiddingSelectRequest(null, 10, Sort.END_DATE_ASC));
+
+      // then
+      assertThat(result.getItems())
+          .extracting(UserBiddingSelectResponse::getId)
+          .containsExactly(bidden.getProductId());
+    }
+
+    @Test
+    @DisplayName("보관 테이블로 옮겨진 입찰도 정렬 순서에 맞게 함께 반환한다")
+    void ItReturnsArchivedBiddingListings() {
+      // given
+      ProductListing archived = saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+      ProductListing hot = saveListing("맥북 팝니다", 30000, Category.DIGITAL_DEVICE);
+      User bidder = userRepository.save(User
+                                            .builder()
+                                            .username("레이")
+                                            .profileImage("image")
+                                            .provider("google")
+                                            .providerId("456")
+                                            .group(writer.getGroup())
+                                            .build());
+      biddingRepository.save(Bidding
+                                 .builder()
+                                 .bidder(bidder)
+                                 .product(productRepository
+                                              .findById(hot.getProductId())
+                                              .get())
+                                 .biddingPrice(30000)
+                                 .build());
+      entityManager
+          .createNativeQuery("INSERT INTO bidding_archive (id, bidding_price, won, created_at, "
+                                 + "bidder_id, product_id, archived_at) "
+                                 + "VALUES (1, 20000, false, now(), ?, ?, now())")
+          .setParameter(1, bidder.getId())
+          .setParameter(2, archived.getProductId())
+          .executeUpdate();
+      entityManager.flush();
+
+      // when
+      CursorPage<UserBiddingSelectResponse> all = productListingRepository
+          .findAllUserBiddingListing(
+              bidder.getId(), new UserBiddingSelectRequest(null, 10, Sort.MINIMUM_PRICE_ASC));
+      CursorPage<UserBiddingSelectResponse> first = productListingRepository
+          .findAllUserBiddingListing(
+              bidder.getId(), new UserBiddingSelectRequest(null, 1, Sort.MINIMUM_PRICE_ASC));
+      CursorPage<UserBiddingSelectResponse> second = productListingRepository
+          .findAllUserBiddingListing(
+              bidder.getId(),
+              new UserBiddingSelectRequest(first.getNextCursor(), 1, Sort.MINIMUM_PRICE_ASC));
+
+      // then
+      assertThat(all.getItems())
+          .extracting(UserBiddingSelectResponse::getId)
+          .containsExactly(archived.getProductId(), hot.getProductId());
+      assertThat(first.getItems())
+          .extracting(UserBiddingSelectResponse::getId)
+          .containsExactly(archived.getProductId());
+      assertThat(first.isHasNext()).isTrue();
+      assertThat(second.getItems())
+          .extracting(UserBiddingSelectResponse::getId)
+          .containsExactly(hot.getProductId());
+      assertThat(second.isHasNext()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("findAllHeartedProductListing 메소드는")
+  class DescribeFindAllHeartedProductListing {
+
+    @Test
+    @DisplayName("상품 id 가 비어 있으면 조회하지 않고 빈 리스트를 반환한다")
+    void ItReturnsEmptyList() {
+      // when
+      CursorPage<UserHeartSelectResponse> result = productListingRepository
+          .findAllHeartedProductListing(
+              List.of(), new UserHeartSelectRequest(null, 10, Sort.END_DATE_ASC));
+
+      // then
+      assertThat(result.getItems()).isEmpty();
+      assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 페이지의 상품 id 를 정렬 순서대로 limit 개만 담고 다음 cursor 를 만든다")
+    void ItReturnsPageInSortOrder() {
+      // given
+      ProductListing cheap = saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+      ProductListing expensive = saveListing("맥북 팝니다", 30000, Category.DIGITAL_DEVICE);
+      ProductListing middle = saveListing("아이패드 팝니다", 20000, Category.DIGITAL_DEVICE);
+      entityManager.flush();
+      List<Long> pageIds = List.of(cheap.getProductId(), expensive.getProductId(),
+                                   middle.getProductId());
+
+      // when
+      CursorPage<UserHeartSelectResponse> result = productListingRepository
+          .findAllHeartedProductListing(
+              pageIds, new UserHeartSelectRequest(null, 2, Sort.MINIMUM_PRICE_DESC));
+
+      // then
+      assertThat(result.getItems())
+          .extracting(UserHeartSelectResponse::getId)
+          .containsExactly(expensive.getProductId(), middle.getProductId());
+      assertThat(result.isHasNext()).isTrue();
+      assertThat(SortCursor.decode(result.getNextCursor(), Sort.MINIMUM_PRICE_DESC))
+          .isEqualTo(SortCursor.of(Sort.MINIMUM_PRICE_DESC, middle, middle.getProductId()));
+    }
+  }
+
+  @Nested
+  @DisplayName("addHeartCount 메소드는")
+  class DescribeAddHeartCount {
+
+    @Test
+    @DisplayName("찜 개수를 delta 만큼 바꾼다")
+    void ItAddsDelta() {
+      // given
+      ProductListing listing = saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+      entityManager.flush();
+
+      // when
+      productListingRepository.addHeartCount(listing.getProductId(), 1);
+      productListingRepository.addHeartCount(listing.getProductId(), 1);
+      productListingRepository.addHeartCount(listing.getProductId(), -1);
+      entityManager.clear();
+
+      // then
+      assertThat(productListingRepository
+                     .findById(listing.getProductId())
+                     .get()
+                     .getHeartCount()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("raiseTopBidPrice 메소드는")
+  class DescribeRaiseTopBidPrice {
+
+    @Test
+    @DisplayName("기존 최고 입찰가보다 높을 때만 바꾼다")
+    void ItKeepsHighestPrice() {
+      // given
+      ProductListing listing = saveListing("노트북 팝니다", 10000, Category.DIGITAL_DEVICE);
+      entityManager.flush();
+
+      // when
+      productListingRepository.raiseTopBidPrice(listing.getProductId(), 20000);
+      productListingRepository.raiseTopBidPrice(listing.getProductId(), 15000);
+      entityManager.clear();
+
+      // then
+      assertThat(productListingRepository
+                     .findById(listing.getProductId())
+                     .get()
+                     .getTopBidPrice()).isEqualTo(20000);
+    }
+  }
+}
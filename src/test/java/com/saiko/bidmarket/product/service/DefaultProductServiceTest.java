@@ -4,7 +4,11 @@ import static com.saiko.bidmarket.product.Category.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,17 +21,25 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.saiko.bidmarket.bidding.entity.ArchivedBidding;
 import com.saiko.bidmarket.bidding.entity.Bidding;
+import com.saiko.bidmarket.bidding.repository.ArchivedBiddingRepository;
 import com.saiko.bidmarket.bidding.repository.BiddingRepository;
 import com.saiko.bidmarket.chat.entity.ChatRoom;
 import com.saiko.bidmarket.chat.repository.ChatRoomRepository;
+import com.saiko.bidmarket.common.config.CacheConfig;
 import com.saiko.bidmarket.common.exception.NotFoundException;
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.Role;
+import com.saiko.bidmarket.notification.event.NotificationCreateEvent;
 import com.saiko.bidmarket.product.controller.dto.BiddingResultResponse;
 import com.saiko.bidmarket.product.controller.dto.ProductCreateRequest;
 import com.saiko.bidmarket.product.controller.dto.ProductCreateResponse;
@@ -35,6 +47,9 @@ import com.saiko.bidmarket.product.controller.dto.ProductDetailResponse;
 import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
 import com.saiko.bidmarket.product.controller.dto.ProductSelectResponse;
 import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.entity.ProductListing;
+import com.saiko.bidmarket.product.event.ProductSavedEvent;
+import com.saiko.bidmarket.product.repository.ProductListingRepository;
 import com.saiko.bidmarket.product.repository.ProductRepository;
 import com.saiko.bidmarket.user.entity.Group;
 import com.saiko.bidmarket.user.entity.User;
@@ -55,9 +70,27 @@ class DefaultProductServiceTest {
   @Mock
   BiddingRepository biddingRepository;
 
+  @Mock
+  ArchivedBiddingRepository archivedBiddingRepository;
+
+  @Mock
+  ProductListingRepository productListingRepository;
+
   @Mock
   ApplicationEventPublisher publisher;
 
+  @Mock
+  Clock clock;
+
+  @Spy
+  ProductDetailCache productDetailCache = new ProductDetailCache(
+      new CacheConfig.ProductDetail(DataSize.ofMegabytes(64), Duration.ofMinutes(1),
+                                    Duration.ofHours(1)), Ticker.systemTicker());
+
+  @Spy
+  ProductListingCache productListingCache = new ProductListingCache(
+      new CacheConfig.ProductListing(1000, Duration.ofSeconds(5), 2), Ticker.systemTicker());
+
   @InjectMocks
   DefaultProductService productService;
 
@@ -169,6 +202,8 @@ class DefaultProductServiceTest {
       @DisplayName("저장한 객체에 대한 정보를 담은 응답을 반환한다")
       void ItResponseProduct() {
         //given
+        given(clock.instant()).willReturn(Instant.parse("2022-08-01T03:00:00Z"));
+        given(clock.getZone()).willReturn(ZoneOffset.UTC);
         given(userRepository.findById(writerId)).willReturn(Optional.of(writer));
         given(productRepository.save(any())).willReturn(product);
 
@@ -177,6 +212,10 @@ class DefaultProductServiceTest {
 
         //then
         verify(productRepository).save(any(Product.class));
+        verify(productRepository).save(argThat(saved -> saved
+            .getExpireAt()
+            .equals(LocalDateTime.of(2022, 8, 8, 3, 0))));
+        verify(publisher).publishEvent(any(ProductSavedEvent.class));
         assertThat(response.getId()).isEqualTo(product.getId());
       }
     }
@@ -207,18 +246,23 @@ class DefaultProductServiceTest {
       @DisplayName("요청에 해당하는 상품 리스트를 반환한다")
       void ItResponseProductList() {
         //given
-        given(productRepository.findAllProduct(any(ProductSelectRequest.class)))
-            .willReturn(List.of(product));
+        ProductListing listing = ProductListing.from(product);
+        ReflectionTestUtils.setField(listing, "heartCount", 3L);
+        given(productListingRepository.findAllProductListing(any(ProductSelectRequest.class)))
+            .willReturn(List.of(ProductSelectResponse.from(listing)));
 
         //when
         List<ProductSelectResponse> result = productService.findAll(productSelectRequest);
 
         //then
-        verify(productRepository).findAllProduct(any(ProductSelectRequest.class));
+        verify(productListingRepository).findAllProductListing(any(ProductSelectRequest.class));
         assertThat(result.size()).isEqualTo(1);
         assertThat(result
                        .get(0)
                        .getId()).isEqualTo(product.getId());
+        assertThat(result
+                       .get(0)
+                       .getHeartCount()).isEqualTo(3L);
       }
     }
   }
@@ -237,13 +281,13 @@ class DefaultProductServiceTest {
         // given
         long inputId = Long.MAX_VALUE;
 
-        given(productRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(productRepository.findDetailById(anyLong())).willReturn(Optional.empty());
 
         // when
         // then
         assertThatThrownBy(() -> productService.findById(inputId))
             .isInstanceOf(NotFoundException.class);
-        verify(productRepository, atLeastOnce()).findById(anyLong());
+        verify(productRepository, atLeastOnce()).findDetailById(anyLong());
       }
     }
 
@@ -282,7 +326,7 @@ class DefaultProductServiceTest {
             .build();
         ReflectionTestUtils.setField(writer, "id", 1L);
         ReflectionTestUtils.setField(product, "id", 1L);
-        given(productRepository.findById(anyLong())).willReturn(Optional.of(product));
+        given(productRepository.findDetailById(anyLong())).willReturn(Optional.of(product));
 
         //when
         ProductDetailResponse response = productService.findById(1L);
@@ -291,6 +335,26 @@ class DefaultProductServiceTest {
         assertThat(response.getId()).isEqualTo(product.getId());
       }
     }
+
+    @Nested
+    @DisplayName("같은 id 로 다시 조회하면")
+    class ContextWithCachedId {
+
+      @Test
+      @DisplayName("저장소를 다시 조회하지 않고 캐시된 응답을 반환한다")
+      void ItReturnsCachedResponse() {
+        //given
+        given(productRepository.findDetailById(productId)).willReturn(Optional.of(product));
+        ProductDetailResponse first = productService.findById(productId);
+
+        //when
+        ProductDetailResponse second = productService.findById(productId);
+
+        //then
+        verify(productRepository, times(1)).findDetailById(productId);
+        assertThat(second).isSameAs(first);
+      }
+    }
   }
 
   @Nested
@@ -305,11 +369,29 @@ class DefaultProductServiceTest {
       @DisplayName("IllegalArgumentException 예외를 던진다")
       void ItThrowsIllegalArgumentException() {
         //when, then
-        assertThatThrownBy(() -> productService.findAllThatNeedToClose(null))
+        assertThatThrownBy(() -> productService.findAllThatNeedToClose(
+            null, PartitionAssignment.of(1, List.of(0))))
             .isInstanceOf(IllegalArgumentException.class);
       }
     }
 
+    @Nested
+    @DisplayName("소유한 파티션이 없으면")
+    class ContextWithEmptyAssignment {
+
+      @Test
+      @DisplayName("조회 없이 빈 리스트를 반환한다")
+      void ItReturnsEmptyList() {
+        //when
+        List<Product> result = productService.findAllThatNeedToClose(
+            LocalDateTime.now(), PartitionAssignment.empty(4));
+
+        //then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(productRepository);
+      }
+    }
+
     @Nested
     @DisplayName("유효한 값이 전달되면")
     class ContextWithValidArgument {
@@ -330,14 +412,17 @@ class DefaultProductServiceTest {
             .images(null)
             .build();
         ReflectionTestUtils.setField(product, "id", 1L);
-        given(productRepository.findAllByProgressedAndExpireAtLessThan(
-            anyBoolean(), any(LocalDateTime.class))).willReturn(List.of(product));
+        PartitionAssignment assignment = PartitionAssignment.of(4, List.of(1, 3));
+        given(productRepository.findAllThatNeedToCloseInPartitions(
+            any(LocalDateTime.class), anyInt(), anyCollection())).willReturn(List.of(product));
 
         //when
-        List<Product> result = productService.findAllThatNeedToClose(LocalDateTime.now());
+        List<Product> result = productService.findAllThatNeedToClose(LocalDateTime.now(),
+                                                                     assignment);
 
         //then
-        verify(productRepository).findAllByProgressedAndExpireAtLessThan(anyBoolean(), any());
+        verify(productRepository).findAllThatNeedToCloseInPartitions(
+            any(), eq(4), eq(assignment.getPartitions()));
         assertThat(result.size()).isEqualTo(1);
         assertThat(result
                        .get(0)
@@ -411,10 +496,12 @@ class DefaultProductServiceTest {
         ReflectionTestUtils.setField(product, "biddings", List.of(biddingTwo, biddingOne));
 
         //when
-        productService.executeClosingProduct(product);
+        int notificationCount = productService.executeClosingProduct(product);
 
         //then
-        verify(publisher, times(3)).publishEvent(any(Object.class));
+        assertThat(notificationCount).isEqualTo(3);
+        verify(publisher, times(3)).publishEvent(any(NotificationCreateEvent.class));
+        verify(publisher).publishEvent(any(ProductSavedEvent.class));
       }
     }
   }
@@ -602,6 +689,38 @@ class DefaultProductServiceTest {
       }
     }
 
+    @Nested
+    @DisplayName("입찰자이고 입찰이 보관 테이블로 옮겨졌다면")
+    class ContextArchivedBidding {
+
+      @Test
+      @DisplayName("보관된 입찰로 비딩 결과를 반환한다")
+      void ItReturnBiddingResult() {
+        // given
+        ArchivedBidding archivedBidding = mock(ArchivedBidding.class);
+        given(archivedBidding.isWon()).willReturn(true);
+        given(productRepository.findByIdJoinWithUser(anyLong()))
+            .willReturn(Optional.of(product));
+        given(chatRoomRepository.findByProduct_IdAndSeller_Id(anyLong(), anyLong()))
+            .willReturn(Optional.of(chatRoom));
+        given(biddingRepository.findByBidderIdAndProductId(anyLong(), anyLong()))
+            .willReturn(Optional.empty());
+        given(archivedBiddingRepository.findByBidderIdAndProductId(anyLong(), anyLong()))
+            .willReturn(Optional.of(archivedBidding));
+
+        // when
+        BiddingResultResponse biddingResult = productService.getBiddingResult(
+            product.getId(),
+            successfulBidder.getId()
+        );
+
+        // then
+        assertThat(biddingResult.isBiddingSucceed()).isEqualTo(true);
+        assertThat(biddingResult.getChatRoomId()).isEqualTo(chatRoom.getId());
+        assertThat(biddingResult.getRole()).isEqualTo(Role.BIDDER);
+      }
+    }
+
     @Nested
     @DisplayName("입찰 한 적 없는 사용자라면")
     class ContextNotBidder {
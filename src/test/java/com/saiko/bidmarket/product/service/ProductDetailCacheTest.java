@@ -0,0 +1,209 @@
+package com.saiko.bidmarket.product.service;
+
+import static com.saiko.bidmarket.product.Category.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.saiko.bidmarket.common.config.CacheConfig;
+import com.saiko.bidmarket.product.controller.dto.ProductDetailResponse;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.event.ProductSavedEvent;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.event.UserUpdatedEvent;
+
+class ProductDetailCacheTest {
+
+  private static final Duration PROGRESSED_TTL = Duration.ofMinutes(1);
+
+  private static final Duration CLOSED_TTL = Duration.ofHours(1);
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  private ProductDetailCache cache;
+
+  private User writer;
+
+  private Product product;
+
+  private final LongFunction<Product> loader = id -> {
+    loadCount.incrementAndGet();
+    return product;
+  };
+
+  @BeforeEach
+  void setUp() {
+    cache = new ProductDetailCache(
+        new CacheConfig.ProductDetail(DataSize.ofMegabytes(1), PROGRESSED_TTL, CLOSED_TTL),
+        nanos::get);
+
+    writer = User
+        .builder()
+        .username("레이")
+        .profileImage("image")
+        .provider("google")
+        .providerId("123")
+        .group(new Group())
+        .build();
+    ReflectionTestUtils.setField(writer, "id", 1L);
+
+    product = Product
+        .builder()
+        .title("책 팔아요")
+        .writer(writer)
+        .description("깨끗해요")
+        .images(List.of("image"))
+        .category(CHILDREN_BOOK)
+        .minimumPrice(10000)
+        .location("직거래 안해요")
+        .build();
+    ReflectionTestUtils.setField(product, "id", 1L);
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  @Nested
+  @DisplayName("get 메서드는")
+  class DescribeGet {
+
+    @Nested
+    @DisplayName("진행 중인 상품이라면")
+    class ContextWithProgressedProduct {
+
+      @Test
+      @DisplayName("progressedTtl 이 지나면 다시 로드한다")
+      void ItExpiresAfterProgressedTtl() {
+        // given
+        cache.get(1L, loader);
+
+        // when
+        advance(PROGRESSED_TTL.minusSeconds(1));
+        cache.get(1L, loader);
+        advance(Duration.ofSeconds(2));
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+      }
+    }
+
+    @Nested
+    @DisplayName("종료된 상품이라면")
+    class ContextWithClosedProduct {
+
+      @Test
+      @DisplayName("closedTtl 동안 캐시에 남는다")
+      void ItKeepsUntilClosedTtl() {
+        // given
+        product.finish();
+        cache.get(1L, loader);
+
+        // when
+        advance(PROGRESSED_TTL.multipliedBy(10));
+        cache.get(1L, loader);
+        advance(CLOSED_TTL);
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+      }
+    }
+
+    @Nested
+    @DisplayName("같은 id 를 동시에 조회하면")
+    class ContextWithConcurrentMisses {
+
+      @Test
+      @DisplayName("로더를 한 번만 호출한다")
+      void ItLoadsOnce() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch loading = new CountDownLatch(1);
+        LongFunction<Product> slowLoader = id -> {
+          loadCount.incrementAndGet();
+          loading.countDown();
+          try {
+            TimeUnit.MILLISECONDS.sleep(200);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return product;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<ProductDetailResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          futures.add(executor.submit(() -> {
+            start.await();
+            return cache.get(1L, slowLoader);
+          }));
+        }
+        start.countDown();
+        loading.await();
+        for (Future<ProductDetailResponse> future : futures) {
+          future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("이벤트를 받으면")
+  class DescribeInvalidation {
+
+    @Test
+    @DisplayName("ProductSavedEvent 는 해당 상품을 무효화한다")
+    void ItInvalidatesProduct() {
+      // given
+      cache.get(1L, loader);
+
+      // when
+      cache.on(new ProductSavedEvent(product));
+      cache.get(1L, loader);
+
+      // then
+      assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("UserUpdatedEvent 는 작성자의 상품을 모두 무효화한다")
+    void ItInvalidatesProductsOfWriter() {
+      // given
+      cache.get(1L, loader);
+
+      // when
+      cache.on(new UserUpdatedEvent(writer.getId()));
+
+      // then
+      assertThat(cache.estimatedSize()).isZero();
+    }
+  }
+}
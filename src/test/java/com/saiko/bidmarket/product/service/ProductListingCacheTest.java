@@ -0,0 +1,164 @@
+package com.saiko.bidmarket.product.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.config.CacheConfig;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectRequest;
+import com.saiko.bidmarket.product.controller.dto.ProductSelectResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductListingCacheTest {
+
+  private static final Duration TTL = Duration.ofSeconds(5);
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  private final Function<ProductSelectRequest, List<ProductSelectResponse>> loader = request -> {
+    loadCount.incrementAndGet();
+    return List.of();
+  };
+
+  private ProductListingCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new ProductListingCache(new CacheConfig.ProductListing(100, TTL, 2), nanos::get);
+  }
+
+  private ProductSelectRequest request(
+      String title,
+      Category category,
+      long offset
+  ) {
+    return new ProductSelectRequest(title, "true", category, offset, 10, Sort.END_DATE_ASC);
+  }
+
+  @Nested
+  @DisplayName("get 메서드는")
+  class DescribeGet {
+
+    @Nested
+    @DisplayName("앞쪽 페이지를 다시 조회하면")
+    class ContextWithFirstPages {
+
+      @Test
+      @DisplayName("ttl 동안 캐시된 결과를 반환하고 적중 수를 센다")
+      void ItReturnsCachedPage() {
+        // when
+        cache.get(request(null, Category.FOOD, 0), loader);
+        cache.get(request(null, Category.FOOD, 0), loader);
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+        cache.get(request(null, Category.FOOD, 0), loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+      }
+    }
+
+    @Nested
+    @DisplayName("카테고리가 없으면")
+    class ContextWithoutCategory {
+
+      @Test
+      @DisplayName("ALL 과 같은 키로 캐시한다")
+      void ItNormalizesCategory() {
+        // when
+        cache.get(request(null, null, 0), loader);
+        cache.get(request(null, Category.ALL, 0), loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+      }
+    }
+
+    @Nested
+    @DisplayName("제목 검색이거나 cacheablePages 뒤의 페이지라면")
+    class ContextWithUncacheableRequest {
+
+      @Test
+      @DisplayName("캐시하지 않는다")
+      void ItBypassesCache() {
+        // when
+        cache.get(request("노트북", null, 0), loader);
+        cache.get(request("노트북", null, 0), loader);
+        cache.get(request(null, null, 20), loader);
+        cache.get(request(null, null, 20), loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+        assertThat(cache.estimatedSize()).isZero();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("bump 메서드는")
+  class DescribeBump {
+
+    @Test
+    @DisplayName("해당 카테고리와 전체 목록의 버전만 올린다")
+    void ItBumpsCategoryAndAll() {
+      // given
+      cache.get(request(null, Category.FOOD, 0), loader);
+      cache.get(request(null, Category.ALL, 0), loader);
+      cache.get(request(null, Category.BEAUTY, 0), loader);
+
+      // when
+      cache.bump(Category.FOOD);
+      cache.get(request(null, Category.FOOD, 0), loader);
+      cache.get(request(null, Category.ALL, 0), loader);
+      cache.get(request(null, Category.BEAUTY, 0), loader);
+
+      // then
+      assertThat(loadCount.get()).isEqualTo(5);
+    }
+  }
+
+  @Nested
+  @DisplayName("bindTo 메서드는")
+  class DescribeBindTo {
+
+    @Test
+    @DisplayName("캐시 이름을 태그로 단 적중과 실패 수를 등록한다")
+    void ItRegistersCacheMetrics() {
+      // given
+      MeterRegistry meterRegistry = new SimpleMeterRegistry();
+      cache.bindTo(meterRegistry);
+
+      // when
+      cache.get(request(null, Category.FOOD, 0), loader);
+      cache.get(request(null, Category.FOOD, 0), loader);
+
+      // then
+      assertThat(meterRegistry
+                     .get("cache.gets")
+                     .tags("cache", ProductListingCache.NAME, "result", "hit")
+                     .functionCounter()
+                     .count()).isEqualTo(1);
+      assertThat(meterRegistry
+                     .get("cache.gets")
+                     .tags("cache", ProductListingCache.NAME, "result", "miss")
+                     .functionCounter()
+                     .count()).isEqualTo(1);
+    }
+  }
+}
@@ -0,0 +1,378 @@
+package com.saiko.bidmarket.product.simulation;
+
+import static java.util.concurrent.TimeUnit.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.Assert;
+
+import com.saiko.bidmarket.bidding.entity.Bidding;
+import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectRequest;
+import com.saiko.bidmarket.chat.controller.dto.ChatRoomSelectResponse;
+import com.saiko.bidmarket.chat.service.ChatRoomService;
+import com.saiko.bidmarket.common.config.ScheduledConfig;
+import com.saiko.bidmarket.common.lease.PartitionAssignment;
+import com.saiko.bidmarket.common.lease.PartitionLeaseManager;
+import com.saiko.bidmarket.common.metrics.AuctionClosingMetrics;
+import com.saiko.bidmarket.common.page.CursorPage;
+import com.saiko.bidmarket.notification.event.NotificationCreateEvent;
+import com.saiko.bidmarket.product.Category;
+import com.saiko.bidmarket.product.controller.dto.ProductCreateRequest;
+import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.repository.ProductRepository;
+import com.saiko.bidmarket.product.service.DefaultProductService;
+import com.saiko.bidmarket.product.service.ProductService;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+import com.saiko.bidmarket.user.repository.UserRepository;
+import com.saiko.bidmarket.util.SimulatedClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 가상 시계 위에서 경매 생성부터 마감까지를 돌린다. 경매는 creationWindow 동안 고르게 생성되어 expireAt 이 흩어지고,
+ * 시계를 1분씩 옮기며 실제 Scheduler.closeProduct 와 DefaultProductService 로 마감한다.
+ * DB 대신 expireAt 으로 정렬된 메모리 색인이 마감 대상 조회를 흉내 내며, 마감된 경매는 생성 때 계산해 둔
+ * 낙찰자와 낙찰가로 검증한 뒤 버린다.
+ */
+public class AuctionSimulation {
+
+  private static final Instant START = Instant.parse("2022-08-01T00:00:00Z");
+
+  private static final Duration TICK = Duration.ofMinutes(1);
+
+  private static final int PARTITION_COUNT = 4;
+
+  private static final int USERS = 10_000;
+
+  private static final int MAX_BIDDINGS = 6;
+
+  private static final long PRICE_UNIT = 100;
+
+  private static final int PRICE_STEPS = 500;
+
+  private static final long WINNING_PRICE_STEP = 1000;
+
+  private static final int NO_WINNER = 0;
+
+  private final int auctions;
+
+  private final Duration creationWindow;
+
+  private final SplittableRandom random;
+
+  private final SimulatedClock clock = new SimulatedClock(START, ZoneOffset.UTC);
+
+  private final TreeMap<LocalDateTime, List<Product>> openAuctions = new TreeMap<>();
+
+  private final List<User> users;
+
+  private final List<ProductCreateRequest> requests;
+
+  private final int[] expectedWinners;
+
+  private final long[] expectedPrices;
+
+  private final BitSet closed = new BitSet();
+
+  private long nextProductId = 1;
+
+  private Product lastSaved;
+
+  private long open;
+
+  private long peakOpen;
+
+  private long expectedNotifications;
+
+  private long notifications;
+
+  private long closedEarly;
+
+  private long closedTwice;
+
+  private long wrongWinners;
+
+  private long wrongPrices;
+
+  private long maxLagSeconds;
+
+  public AuctionSimulation(int auctions, Duration creationWindow, long seed) {
+    Assert.isTrue(auctions > 0, "Auctions must be positive");
+    Assert.notNull(creationWindow, "CreationWindow must be provided");
+    Assert.isTrue(!creationWindow.isNegative(), "CreationWindow must not be negative");
+
+    this.auctions = auctions;
+    this.creationWindow = creationWindow;
+    this.random = new SplittableRandom(seed);
+    this.users = IntStream
+        .rangeClosed(1, USERS)
+        .mapToObj(AuctionSimulation::user)
+        .collect(Collectors.toList());
+    this.requests = IntStream
+        .rangeClosed(1, 10)
+        .mapToObj(step -> new ProductCreateRequest(
+            "title", "description", List.of("image"), Category.ETC, step * 1000, null))
+        .collect(Collectors.toList());
+    this.expectedWinners = new int[auctions];
+    this.expectedPrices = new long[auctions];
+  }
+
+  public AuctionSimulationReport run() {
+    DefaultProductService productService = productService();
+    ScheduledConfig.Scheduler scheduler = scheduler(productService);
+
+    Instant end = START
+        .plus(creationWindow)
+        .plus(Duration.ofDays(Product.PROGRESSION_PERIOD_OF_BIDDING))
+        .plus(TICK.multipliedBy(2));
+    long creatingNanos = 0;
+    long closingNanos = 0;
+    int maxPerRun = 0;
+    int created = 0;
+    for (Instant tick = START.plus(TICK); !tick.isAfter(end); tick = tick.plus(TICK)) {
+      long startNanos = System.nanoTime();
+      for (; created < auctions && !createdAt(created).isAfter(tick); created++) {
+        clock.set(createdAt(created));
+        create(productService, created);
+      }
+      creatingNanos += System.nanoTime() - startNanos;
+      peakOpen = Math.max(peakOpen, open);
+
+      clock.set(tick);
+      long closedBefore = closed.cardinality();
+      startNanos = System.nanoTime();
+      scheduler.closeProduct();
+      closingNanos += System.nanoTime() - startNanos;
+      maxPerRun = Math.max(maxPerRun, (int)(closed.cardinality() - closedBefore));
+    }
+
+    long closedCount = closed.cardinality();
+    return AuctionSimulationReport
+        .builder()
+        .auctions(auctions)
+        .virtualDays(Duration.between(START, end).toDays())
+        .peakOpenAuctions(peakOpen)
+        .closed(closedCount)
+        .unclosed(auctions - closedCount)
+        .closedEarly(closedEarly)
+        .closedTwice(closedTwice)
+        .wrongWinners(wrongWinners)
+        .wrongWinningPrices(wrongPrices)
+        .notifications(notifications)
+        .expectedNotifications(expectedNotifications)
+        .maxClosingLagSeconds(maxLagSeconds)
+        .maxClosedInOneRun(maxPerRun)
+        .creatingMillis(NANOSECONDS.toMillis(creatingNanos))
+        .closingMillis(NANOSECONDS.toMillis(closingNanos))
+        .closedPerSecond(closedCount / (closingNanos / 1e9))
+        .build();
+  }
+
+  private Instant createdAt(int index) {
+    return START.plusSeconds(creationWindow.toSeconds() * index / auctions);
+  }
+
+  /**
+   * 서비스로 경매를 만들고, 작성자를 뺀 서로 다른 입찰자가 서로 다른 금액을 아무 순서로나 넣는다.
+   */
+  private void create(ProductService productService, int index) {
+    int writerId = 1 + random.nextInt(USERS);
+    ProductCreateRequest request = requests.get(random.nextInt(requests.size()));
+    productService.create(request, writerId);
+    Product product = lastSaved;
+
+    int biddingCount = random.nextInt(MAX_BIDDINGS + 1);
+    List<Integer> bidders = new ArrayList<>(biddingCount);
+    List<Integer> steps = new ArrayList<>(biddingCount);
+    while (bidders.size() < biddingCount) {
+      int bidderId = 1 + random.nextInt(USERS);
+      int step = random.nextInt(PRICE_STEPS);
+      if (bidderId != writerId && !bidders.contains(bidderId) && !steps.contains(step)) {
+        bidders.add(bidderId);
+        steps.add(step);
+        new Bidding(price(product, step), users.get(bidderId - 1), product);
+      }
+    }
+
+    expectedWinners[index] = NO_WINNER;
+    expectedPrices[index] = -1;
+    expectedNotifications += biddingCount == 0 ? 1 : 2 + biddingCount - 1;
+    if (biddingCount > 0) {
+      int first = 0;
+      int second = -1;
+      for (int i = 1; i < biddingCount; i++) {
+        if (steps.get(i) > steps.get(first)) {
+          second = first;
+          first = i;
+        } else if (second < 0 || steps.get(i) > steps.get(second)) {
+          second = i;
+        }
+      }
+      expectedWinners[index] = bidders.get(first);
+      expectedPrices[index] = second < 0
+          ? product.getMinimumPrice()
+          : price(product, steps.get(second)) + WINNING_PRICE_STEP;
+    }
+  }
+
+  private static long price(Product product, int step) {
+    return product.getMinimumPrice() + PRICE_UNIT * step;
+  }
+
+  /**
+   * ChatRoomService.create 는 경매마다 마감 직후 불리므로 여기서 결과를 검증한다.
+   */
+  private void verifyClosed(Product product) {
+    int index = (int)(product.getId() - 1);
+    if (closed.get(index)) {
+      closedTwice++;
+    }
+    closed.set(index);
+    open--;
+
+    LocalDateTime now = LocalDateTime.now(clock);
+    if (!now.isAfter(product.getExpireAt())) {
+      closedEarly++;
+    }
+    maxLagSeconds = Math.max(maxLagSeconds,
+                             Duration.between(product.getExpireAt(), now).toSeconds());
+
+    long winnerId = product
+        .getBiddings()
+        .stream()
+        .filter(Bidding::isWon)
+        .mapToLong(bidding -> bidding.getBidder().getId())
+        .findFirst()
+        .orElse(NO_WINNER);
+    if (winnerId != expectedWinners[index]) {
+      wrongWinners++;
+    }
+    long winningPrice = product.getWinningPrice() == null ? -1 : product.getWinningPrice();
+    if (winningPrice != expectedPrices[index]) {
+      wrongPrices++;
+    }
+  }
+
+  private DefaultProductService productService() {
+    ProductRepository productRepository = mock(ProductRepository.class, withSettings().stubOnly());
+    given(productRepository.save(any(Product.class))).willAnswer(invocation -> {
+      Product product = invocation.getArgument(0);
+      ReflectionTestUtils.setField(product, "id", nextProductId++);
+      openAuctions
+          .computeIfAbsent(product.getExpireAt(), expireAt -> new ArrayList<>(1))
+          .add(product);
+      open++;
+      lastSaved = product;
+      return product;
+    });
+    given(productRepository.findAllThatNeedToCloseInPartitions(any(), anyInt(), any()))
+        .willAnswer(invocation -> needToClose(invocation.getArgument(0),
+                                              invocation.getArgument(1),
+                                              invocation.getArgument(2)));
+
+    UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+    given(userRepository.findById(anyLong()))
+        .willAnswer(invocation -> Optional.of(users.get((int)(long)invocation.getArgument(0) - 1)));
+
+    ApplicationEventPublisher publisher = event -> {
+      if (event instanceof NotificationCreateEvent) {
+        notifications++;
+      }
+    };
+    return new DefaultProductService(productRepository, userRepository, null, null, null, null, null,
+                                     null, publisher, clock);
+  }
+
+  /**
+   * findAllThatNeedToCloseInPartitions 처럼 nowTime 보다 먼저 만료된 진행 중 경매를 돌려준다.
+   */
+  private List<Product> needToClose(
+      LocalDateTime nowTime,
+      int partitionCount,
+      Collection<Integer> partitions
+  ) {
+    List<Product> products = new ArrayList<>();
+    Iterator<Map.Entry<LocalDateTime, List<Product>>> expired = openAuctions
+        .headMap(nowTime, false)
+        .entrySet()
+        .iterator();
+    while (expired.hasNext()) {
+      List<Product> sameExpireAt = expired.next().getValue();
+      sameExpireAt.removeIf(product -> {
+        boolean owned = partitions.contains(
+            PartitionAssignment.partitionOf(product.getId(), partitionCount));
+        if (owned && product.isProgressed()) {
+          products.add(product);
+        }
+        return owned;
+      });
+      if (sameExpireAt.isEmpty()) {
+        expired.remove();
+      }
+    }
+    return products;
+  }
+
+  private ScheduledConfig.Scheduler scheduler(ProductService productService) {
+    PartitionLeaseManager leaseManager =
+        mock(PartitionLeaseManager.class, withSettings().stubOnly());
+    given(leaseManager.ownedPartitions()).willReturn(PartitionAssignment.of(
+        PARTITION_COUNT, IntStream
+            .range(0, PARTITION_COUNT)
+            .boxed()
+            .collect(Collectors.toList())));
+
+    ChatRoomService chatRoomService = new ChatRoomService() {
+      @Override
+      public void create(Product product) {
+        verifyClosed(product);
+      }
+
+      @Override
+      public CursorPage<ChatRoomSelectResponse> findAll(
+          long userId,
+          ChatRoomSelectRequest request
+      ) {
+        return CursorPage.empty();
+      }
+    };
+
+    ScheduledConfig config = new ScheduledConfig(
+        productService, chatRoomService, leaseManager,
+        new AuctionClosingMetrics(new SimpleMeterRegistry(), clock), clock);
+    return config.new Scheduler();
+  }
+
+  private static User user(int id) {
+    User user = User
+        .builder()
+        .username("user" + id)
+        .profileImage("image")
+        .provider("google")
+        .providerId(String.valueOf(id))
+        .group(new Group())
+        .build();
+    ReflectionTestUtils.setField(user, "id", (long)id);
+    return user;
+  }
+}
@@ -0,0 +1,65 @@
+package com.saiko.bidmarket.product.simulation;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시뮬레이션 한 번의 결과. 지연은 가상 시간, 처리량은 실제 시간 기준이다.
+ */
+@Getter
+@Builder
+public class AuctionSimulationReport {
+
+  private final int auctions;
+
+  private final long virtualDays;
+
+  private final long peakOpenAuctions;
+
+  private final long closed;
+
+  private final long unclosed;
+
+  private final long closedEarly;
+
+  private final long closedTwice;
+
+  private final long wrongWinners;
+
+  private final long wrongWinningPrices;
+
+  private final long notifications;
+
+  private final long expectedNotifications;
+
+  private final long maxClosingLagSeconds;
+
+  private final int maxClosedInOneRun;
+
+  private final long creatingMillis;
+
+  private final long closingMillis;
+
+  private final double closedPerSecond;
+
+  public boolean isCorrect() {
+    return unclosed == 0
+        && closedEarly == 0
+        && closedTwice == 0
+        && wrongWinners == 0
+        && wrongWinningPrices == 0
+        && notifications == expectedNotifications;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d auctions over %d virtual days (peak open %d): closed=%d unclosed=%d early=%d twice=%d "
+            + "wrongWinners=%d wrongPrices=%d notifications=%d/%d, maxLag=%ds, "
+            + "maxPerRun=%d, creating %.1fs, closing %.1fs (%.0f closed/s)",
+        auctions, virtualDays, peakOpenAuctions, closed, unclosed, closedEarly, closedTwice,
+        wrongWinners, wrongWinningPrices, notifications, expectedNotifications,
+        maxClosingLagSeconds, maxClosedInOneRun, creatingMillis / 1000.0, closingMillis / 1000.0,
+        closedPerSecond);
+  }
+}
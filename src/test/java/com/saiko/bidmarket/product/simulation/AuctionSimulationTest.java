@@ -0,0 +1,67 @@
+package com.saiko.bidmarket.product.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AuctionSimulationTest {
+
+  private static final Logger log = LoggerFactory.getLogger(AuctionSimulationTest.class);
+
+  private static final Path REPORT_DIR = Path.of("build", "reports", "load");
+
+  @Nested
+  @DisplayName("run 메서드는")
+  class DescribeRun {
+
+    @Test
+    @DisplayName("모든 경매를 만료 뒤 1분 안에 한 번씩 마감하고 낙찰자와 낙찰가가 맞다")
+    void ItClosesEveryAuctionCorrectly() {
+      // given
+      AuctionSimulation simulation = new AuctionSimulation(20_000, Duration.ofDays(3), 42);
+
+      // when
+      AuctionSimulationReport report = simulation.run();
+
+      // then
+      assertThat(report.isCorrect())
+          .as("%s", report)
+          .isTrue();
+      assertThat(report.getMaxClosingLagSeconds()).isLessThanOrEqualTo(60);
+    }
+
+    @Tag("load")
+    @Test
+    @DisplayName("백만 개 경매를 가상 시간으로 돌려 마감 처리량을 남긴다")
+    void ItReportsClosingThroughput() throws Exception {
+      // given
+      int auctions = Integer.getInteger("load.auctions", 1_000_000);
+      AuctionSimulation simulation = new AuctionSimulation(auctions, Duration.ofDays(28), 42);
+
+      // when
+      AuctionSimulationReport report = simulation.run();
+
+      // then
+      log.info("{}", report);
+      Files.createDirectories(REPORT_DIR);
+      new ObjectMapper()
+          .writerWithDefaultPrettyPrinter()
+          .writeValue(REPORT_DIR.resolve("auction-simulation.json").toFile(), report);
+
+      assertThat(report.isCorrect())
+          .as("%s", report)
+          .isTrue();
+    }
+  }
+}
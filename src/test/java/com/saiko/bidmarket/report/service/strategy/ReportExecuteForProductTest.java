@@ -17,6 +17,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.saiko.bidmarket.bidding.repository.BiddingRepository;
@@ -51,6 +52,9 @@ public class ReportExecuteForProductTest {
   @Mock
   private ReportValidator validator;
 
+  @Mock
+  private ApplicationEventPublisher publisher;
+
   private static final long reporterId = 1L;
 
   private static final User reporter = User
@@ -30,6 +30,8 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.saiko.bidmarket.common.exception.NotFoundException;
 import com.saiko.bidmarket.common.Sort;
+import com.saiko.bidmarket.common.page.CursorPage;
+import com.saiko.bidmarket.common.page.SortCursor;
 import com.saiko.bidmarket.product.entity.Product;
 import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
 import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectResponse;
@@ -370,7 +372,7 @@ class UserApiControllerTest extends ControllerSetUp {
         ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
 
         List<UserProductSelectResponse> responses = List.of(
-            UserProductSelectResponse.from(product));
+            UserProductSelectResponse.from(product, 0));
 
         given(userService.findAllUserProducts(anyLong(),
                                               any(UserProductSelectRequest.class))).willReturn(
@@ -520,13 +522,15 @@ class UserApiControllerTest extends ControllerSetUp {
         ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
 
         given(userService.findAllUserBiddings(anyLong(), any(UserBiddingSelectRequest.class)))
-            .willReturn(List.of(UserBiddingSelectResponse.from(product)));
+            .willReturn(CursorPage.of(List.of(UserBiddingSelectResponse.from(product, 0)), true,
+                                      item -> SortCursor.of(Sort.END_DATE_ASC, product,
+                                                            item.getId())));
 
         //when
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(BASE_URL + "/biddings")
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-            .queryParam("offset", "1")
+            .queryParam("cursor", SortCursor.of(Sort.END_DATE_ASC, product, 2L).encode())
             .queryParam("limit", "1")
             .queryParam("sort", Sort.END_DATE_ASC.name());
 
@@ -537,55 +541,46 @@ class UserApiControllerTest extends ControllerSetUp {
         response.andExpect(status().isOk())
                 .andDo(document("Select bidding", preprocessRequest(
                     prettyPrint()), preprocessResponse(prettyPrint()), requestParameters(
-                    parameterWithName("offset").description("상품 조회 시작 번호"),
+                    parameterWithName("cursor")
+                        .description("이전 페이지 응답의 nextCursor. 첫 페이지는 보내지 않는다")
+                        .optional(),
                     parameterWithName("limit").description("상품 조회 개수"),
                     parameterWithName("sort").description("상품 정렬 기준").optional()), responseFields(
-                    fieldWithPath("[].id").type(JsonFieldType.NUMBER).description("상품 식별자"),
-                    fieldWithPath("[].title").type(JsonFieldType.STRING).description("상품 제목"),
-                    fieldWithPath("[].thumbnailImage").type(JsonFieldType.STRING)
+                    fieldWithPath("items[].id").type(JsonFieldType.NUMBER).description("상품 식별자"),
+                    fieldWithPath("items[].title").type(JsonFieldType.STRING).description("상품 제목"),
+                    fieldWithPath("items[].thumbnailImage").type(JsonFieldType.STRING)
                                                       .description("상품 썸네일 이미지"),
-                    fieldWithPath("[].minimumPrice").type(JsonFieldType.NUMBER)
+                    fieldWithPath("items[].minimumPrice").type(JsonFieldType.NUMBER)
                                                     .description("최소주문금액"),
-                    fieldWithPath("[].heartCount").type(JsonFieldType.NUMBER)
+                    fieldWithPath("items[].heartCount").type(JsonFieldType.NUMBER)
                                                     .description("찜 갯수"),
-                    fieldWithPath("[].expireAt").type(JsonFieldType.STRING).description("비딩 종료 시간"),
-                    fieldWithPath("[].createdAt").type(JsonFieldType.STRING).description("생성 시간"),
-                    fieldWithPath("[].updatedAt").type(JsonFieldType.STRING)
-                                                 .description("수정 시간").optional())));
-      }
-    }
-
-    @Nested
-    @DisplayName("offset 에 숫자 외에 다른 문자가 들어온다면")
-    class ContextNotNumberOffset {
-
-      @Test
-      @DisplayName("BadRequest 로 응답한다.")
-      void itResponseBadRequest() throws Exception {
-        // given
-        String offset = "NotNumber";
-
-        // when
-        ResultActions response = mockMvc.perform(
-            RestDocumentationRequestBuilders.get(BASE_URL + "/biddings").param("offset", offset));
-
-        // then
-        response.andExpect(status().isBadRequest());
+                    fieldWithPath("items[].expireAt").type(JsonFieldType.STRING).description("비딩 종료 시간"),
+                    fieldWithPath("items[].createdAt").type(JsonFieldType.STRING).description("생성 시간"),
+                    fieldWithPath("items[].updatedAt").type(JsonFieldType.STRING)
+                                                 .description("수정 시간").optional(),
+                    fieldWithPath("nextCursor").type(JsonFieldType.STRING)
+                                               .description("다음 페이지 요청에 보낼 cursor").optional(),
+                    fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN)
+                                            .description("다음 페이지 존재 여부"))));
       }
     }
 
     @Nested
-    @DisplayName("offset 에 음수가 들어온다면")
-    class ContextNegativeNumberOffset {
+    @DisplayName("올바르지 않은 cursor 가 들어온다면")
+    class ContextInvalidCursor {
 
       @Test
       @DisplayName("BadRequest 로 응답한다.")
       void itResponseBadRequest() throws Exception {
         // given
+        given(userService.findAllUserBiddings(anyLong(), any(UserBiddingSelectRequest.class)))
+            .willThrow(new IllegalArgumentException("Invalid cursor"));
 
         // when
         ResultActions response = mockMvc.perform(
-            RestDocumentationRequestBuilders.get(BASE_URL + "/biddings").param("offset", "-1"));
+            RestDocumentationRequestBuilders.get(BASE_URL + "/biddings")
+                                            .param("cursor", "NotCursor")
+                                            .param("limit", "1"));
 
         // then
         response.andExpect(status().isBadRequest());
@@ -605,7 +600,6 @@ class UserApiControllerTest extends ControllerSetUp {
         // when
         ResultActions response = mockMvc.perform(
             RestDocumentationRequestBuilders.get(BASE_URL + "/biddings")
-                                            .param("offset", "1")
                                             .param("limit", limit)
         );
 
@@ -625,7 +619,6 @@ class UserApiControllerTest extends ControllerSetUp {
         // when
         ResultActions response = mockMvc.perform(
             RestDocumentationRequestBuilders.get(BASE_URL + "/biddings")
-                                            .param("offset", "1")
                                             .param("limit", limit)
         );
         // then
@@ -745,13 +738,15 @@ class UserApiControllerTest extends ControllerSetUp {
         ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
 
         given(userService.findAllUserHearts(anyLong(), any(UserHeartSelectRequest.class)))
-            .willReturn(List.of(UserHeartSelectResponse.from(product)));
+            .willReturn(CursorPage.of(List.of(UserHeartSelectResponse.from(product, 0)), true,
+                                      item -> SortCursor.of(Sort.END_DATE_ASC, product,
+                                                            item.getId())));
 
         //when
         MockHttpServletRequestBuilder request = RestDocumentationRequestBuilders
             .get(BASE_URL + "/hearts")
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-            .queryParam("offset", "1")
+            .queryParam("cursor", SortCursor.of(Sort.END_DATE_ASC, product, 2L).encode())
             .queryParam("limit", "1")
             .queryParam("sort", Sort.END_DATE_ASC.name());
 
@@ -762,57 +757,46 @@ class UserApiControllerTest extends ControllerSetUp {
         response.andExpect(status().isOk())
                 .andDo(document("Select bidding", preprocessRequest(
                     prettyPrint()), preprocessResponse(prettyPrint()), requestParameters(
-                    parameterWithName("offset").description("상품 조회 시작 번호"),
+                    parameterWithName("cursor")
+                        .description("이전 페이지 응답의 nextCursor. 첫 페이지는 보내지 않는다")
+                        .optional(),
                     parameterWithName("limit").description("상품 조회 개수"),
                     parameterWithName("sort").description("상품 정렬 기준").optional()), responseFields(
-                    fieldWithPath("[].id").type(JsonFieldType.NUMBER).description("상품 식별자"),
-                    fieldWithPath("[].title").type(JsonFieldType.STRING).description("상품 제목"),
-                    fieldWithPath("[].thumbnailImage").type(JsonFieldType.STRING)
+                    fieldWithPath("items[].id").type(JsonFieldType.NUMBER).description("상품 식별자"),
+                    fieldWithPath("items[].title").type(JsonFieldType.STRING).description("상품 제목"),
+                    fieldWithPath("items[].thumbnailImage").type(JsonFieldType.STRING)
                                                       .description("상품 썸네일 이미지"),
-                    fieldWithPath("[].minimumPrice").type(JsonFieldType.NUMBER)
+                    fieldWithPath("items[].minimumPrice").type(JsonFieldType.NUMBER)
                                                     .description("최소주문금액"),
-                    fieldWithPath("[].heartCount").type(JsonFieldType.NUMBER)
+                    fieldWithPath("items[].heartCount").type(JsonFieldType.NUMBER)
                                                     .description("찜갯수"),
-                    fieldWithPath("[].expireAt").type(JsonFieldType.STRING).description("비딩 종료 시간"),
-                    fieldWithPath("[].createdAt").type(JsonFieldType.STRING).description("생성 시간"),
-                    fieldWithPath("[].updatedAt").type(JsonFieldType.STRING)
-                                                 .description("수정 시간").optional())));
+                    fieldWithPath("items[].expireAt").type(JsonFieldType.STRING).description("비딩 종료 시간"),
+                    fieldWithPath("items[].createdAt").type(JsonFieldType.STRING).description("생성 시간"),
+                    fieldWithPath("items[].updatedAt").type(JsonFieldType.STRING)
+                                                 .description("수정 시간").optional(),
+                    fieldWithPath("nextCursor").type(JsonFieldType.STRING)
+                                               .description("다음 페이지 요청에 보낼 cursor").optional(),
+                    fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN)
+                                            .description("다음 페이지 존재 여부"))));
       }
     }
 
     @Nested
-    @DisplayName("offset 에 숫자 외에 다른 문자가 들어온다면")
-    class ContextNotNumberOffset {
-
-      @Test
-      @DisplayName("BadRequest 로 응답한다.")
-      void itResponseBadRequest() throws Exception {
-        // given
-        String offset = "NotNumber";
-
-        // when
-        ResultActions response = mockMvc.perform(RestDocumentationRequestBuilders
-                                                     .get(BASE_URL + "/hearts")
-                                                     .param("offset", offset));
-
-        // then
-        response.andExpect(status().isBadRequest());
-      }
-    }
-
-    @Nested
-    @DisplayName("offset 에 음수가 들어온다면")
-    class ContextNegativeNumberOffset {
+    @DisplayName("올바르지 않은 cursor 가 들어온다면")
+    class ContextInvalidCursor {
 
       @Test
       @DisplayName("BadRequest 로 응답한다.")
       void itResponseBadRequest() throws Exception {
         // given
+        given(userService.findAllUserHearts(anyLong(), any(UserHeartSelectRequest.class)))
+            .willThrow(new IllegalArgumentException("Invalid cursor"));
 
         // when
-        ResultActions response = mockMvc.perform(RestDocumentationRequestBuilders
-                                                     .get(BASE_URL + "/hearts")
-                                                     .param("offset", "-1"));
+        ResultActions response = mockMvc.perform(
+            RestDocumentationRequestBuilders.get(BASE_URL + "/hearts")
+                                            .param("cursor", "NotCursor")
+                                            .param("limit", "1"));
 
         // then
         response.andExpect(status().isBadRequest());
@@ -832,8 +816,7 @@ class UserApiControllerTest extends ControllerSetUp {
         // when
         ResultActions response = mockMvc.perform(RestDocumentationRequestBuilders
                                                      .get(BASE_URL + "/hearts")
-                                                     .param("offset", "1")
-                                                     .param("limit", limit));
+                                                              .param("limit", limit));
 
         // then
         response.andExpect(status().isBadRequest());
@@ -851,8 +834,7 @@ class UserApiControllerTest extends ControllerSetUp {
         // when
         ResultActions response = mockMvc.perform(RestDocumentationRequestBuilders
                                                      .get(BASE_URL + "/hearts")
-                                                     .param("offset", "1")
-                                                     .param("limit", limit));
+                                                              .param("limit", limit));
 
         // then
         response.andExpect(status().isBadRequest());
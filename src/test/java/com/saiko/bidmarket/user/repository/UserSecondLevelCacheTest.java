@@ -0,0 +1,137 @@
+package com.saiko.bidmarket.user.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.saiko.bidmarket.common.config.QueryDslConfig;
+import com.saiko.bidmarket.user.entity.Group;
+import com.saiko.bidmarket.user.entity.User;
+
+// @DataJpaTest 의 properties 는 @Nested 클래스가 물려받지 않아 컨텍스트가 갈리므로 @TestPropertySource 로 준다
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(value = QueryDslConfig.class)
+public class UserSecondLevelCacheTest {
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private GroupRepository groupRepository;
+
+  private Statistics statistics;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    // 같은 트랜잭션에서 insert 한 엔티티는 2차 캐시에 올라가지 않으므로 시드 데이터의 사용자를 쓴다
+    user = userRepository
+        .findByProviderAndProviderId("google", "113052825681484000000")
+        .get();
+    entityManager.clear();
+
+    statistics = entityManagerFactory
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+  }
+
+  // 한 트랜잭션 안에서 올린 캐시 항목은 같은 세션에서 읽을 수 없으므로 조회마다 세션을 따로 연다
+  @Nested
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @DisplayName("영속성 컨텍스트를 비운 뒤 사용자를 다시 읽으면")
+  class ContextWithClearedPersistenceContext {
+
+    @Test
+    @DisplayName("사용자와 그룹을 2차 캐시에서 읽는다")
+    void ItReadsFromSecondLevelCache() {
+      // when
+      User found = userRepository
+          .findById(user.getId())
+          .get();
+
+      // then
+      assertThat(found
+                     .getGroup()
+                     .getName()).isEqualTo("USER_GROUP");
+      assertThat(statistics.getPrepareStatementCount()).isZero();
+      assertThat(statistics
+                     .getDomainDataRegionStatistics("user")
+                     .getHitCount()).isPositive();
+    }
+  }
+
+  @Nested
+  @DisplayName("사용자 정보를 바꾸면")
+  class ContextWithUpdatedUser {
+
+    @Test
+    @DisplayName("다시 읽었을 때 바뀐 값이 보인다")
+    void ItDoesNotServeStaleUser() {
+      // given
+      userRepository
+          .findById(user.getId())
+          .get()
+          .update("레이", "new image");
+      entityManager.flush();
+      entityManager.clear();
+
+      // when
+      User found = userRepository
+          .findById(user.getId())
+          .get();
+
+      // then
+      assertThat(found.getUsername()).isEqualTo("레이");
+      assertThat(found.getProfileImage()).isEqualTo("new image");
+    }
+  }
+
+  @Nested
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @DisplayName("같은 이름으로 그룹을 다시 찾으면")
+  class ContextWithSameGroupName {
+
+    @Test
+    @DisplayName("query cache 에서 결과를 읽는다")
+    void ItReadsFromQueryCache() {
+      // given
+      groupRepository.findByName("USER_GROUP");
+      entityManager.clear();
+
+      // when
+      Group group = groupRepository
+          .findByName("USER_GROUP")
+          .get();
+
+      // then
+      assertThat(group.getName()).isEqualTo("USER_GROUP");
+      assertThat(statistics.getQueryCacheHitCount()).isPositive();
+    }
+  }
+}
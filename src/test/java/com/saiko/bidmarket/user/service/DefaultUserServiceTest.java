@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,17 +26,23 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import com.saiko.bidmarket.bidding.entity.Bidding;
+import com.saiko.bidmarket.bidding.repository.ArchivedBiddingRepository;
 import com.saiko.bidmarket.bidding.repository.BiddingRepository;
 import com.saiko.bidmarket.common.exception.NotFoundException;
+import com.saiko.bidmarket.common.page.Cursor;
+import com.saiko.bidmarket.common.page.CursorPage;
 import com.saiko.bidmarket.heart.entity.Heart;
+import com.saiko.bidmarket.heart.entity.HeartedProduct;
+import com.saiko.bidmarket.heart.event.HeartToggleRequestedEvent;
 import com.saiko.bidmarket.heart.repository.HeartRepository;
 import com.saiko.bidmarket.product.Category;
 import com.saiko.bidmarket.product.entity.Product;
+import com.saiko.bidmarket.product.repository.ProductListingRepository;
 import com.saiko.bidmarket.product.repository.ProductRepository;
 import com.saiko.bidmarket.product.repository.dto.UserProductSelectQueryParameter;
 import com.saiko.bidmarket.user.controller.dto.UserBiddingSelectRequest;
@@ -61,18 +68,37 @@ class DefaultUserServiceTest {
   @Mock
   ProductRepository productRepository;
 
+  @Mock
+  ProductListingRepository productListingRepository;
+
   @Mock
   BiddingRepository biddingRepository;
 
+  @Mock
+  ArchivedBiddingRepository archivedBiddingRepository;
+
   @Mock
   GroupService groupService;
 
   @Mock
   HeartRepository heartRepository;
 
+  @Mock
+  ApplicationEventPublisher publisher;
+
   @InjectMocks
   DefaultUserService defaultUserService;
 
+  private static HeartedProduct heartedProduct(long productId) {
+    return HeartedProduct
+        .builder()
+        .id(productId)
+        .minimumPrice(2000)
+        .expireAt(LocalDateTime.now().plusDays(1))
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
   @Order(1)
   @Nested
   @DisplayName("findByProviderAndProviderId 는")
@@ -414,8 +440,9 @@ class DefaultUserServiceTest {
         long productId = 1L;
         ReflectionTestUtils.setField(product, "id", productId);
 
-        given(productRepository.findAllUserProduct(
-            any(UserProductSelectQueryParameter.class))).willReturn(List.of(product));
+        given(productListingRepository.findAllUserProductListing(
+            any(UserProductSelectQueryParameter.class))).willReturn(
+            List.of(UserProductSelectResponse.from(product, 0)));
 
         //when
         final List<UserProductSelectResponse> allUserProducts = defaultUserService.findAllUserProducts(
@@ -457,7 +484,7 @@ class DefaultUserServiceTest {
         //given
         User writer = new User("아루루", "image", "google", "1234", new Group());
 
-        UserBiddingSelectRequest request = new UserBiddingSelectRequest(0, 1, END_DATE_ASC);
+        UserBiddingSelectRequest request = new UserBiddingSelectRequest(null, 1, END_DATE_ASC);
 
         Product product = Product
             .builder()
@@ -472,29 +499,21 @@ class DefaultUserServiceTest {
         long productId = 1L;
         ReflectionTestUtils.setField(product, "id", productId);
 
-        User bidder = new User("제로", "image", "google", "1234", new Group());
-        long userId = 1L;
-        ReflectionTestUtils.setField(bidder, "id", userId);
-
-        Bidding bidding = Bidding
-            .builder()
-            .product(product)
-            .bidder(bidder)
-            .biddingPrice(20000)
-            .build();
-
-        given(biddingRepository.findAllUserBidding(
+        given(productListingRepository.findAllUserBiddingListing(
             anyLong(),
             any(UserBiddingSelectRequest.class)
         )).willReturn(
-            List.of(bidding));
+            CursorPage.of(List.of(UserBiddingSelectResponse.from(product, 0)), false,
+                          response -> Cursor.of(response.getId())));
 
         //when
-        List<UserBiddingSelectResponse> result = defaultUserService.findAllUserBiddings(1, request);
+        CursorPage<UserBiddingSelectResponse> result =
+            defaultUserService.findAllUserBiddings(1, request);
 
         //then
-        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.getItems().size()).isEqualTo(1);
         assertThat(result
+                       .getItems()
                        .get(0)
                        .getId()).isEqualTo(productId);
       }
@@ -569,6 +588,7 @@ class DefaultUserServiceTest {
 
         //then
         verify(biddingRepository).deleteAllBatchByBidderId(anyLong());
+        verify(archivedBiddingRepository).deleteAllBatchByBidderId(anyLong());
       }
 
       @Test
@@ -672,8 +692,8 @@ class DefaultUserServiceTest {
     class ContextNotFoundHeartByUserIdAndProductId {
 
       @Test
-      @DisplayName("찜 객체를 만들고 상태를 변경한다.")
-      void ItCreateHeartAndUpdateState() {
+      @DisplayName("찜을 활성화하도록 요청한다.")
+      void ItRequestsActivation() {
         // given
         long userId = Long.MAX_VALUE;
         long productId = Long.MAX_VALUE;
@@ -699,31 +719,34 @@ class DefaultUserServiceTest {
             .images(List.of("ss"))
             .build();
         ReflectionTestUtils.setField(product, "id", productId);
-
-        Heart heart = Heart.of(user, product);
+        ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
 
         given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
         given(productRepository.findById(anyLong())).willReturn(Optional.of(product));
-        given(heartRepository.findByUserAndProduct(any(User.class), any(Product.class))).willReturn(
+        given(heartRepository.findByUserIdAndProductId(anyLong(), anyLong())).willReturn(
             Optional.empty());
-        given(heartRepository.save(any(Heart.class))).willReturn(heart);
 
         // when
         defaultUserService.toggleHeart(userId, productId);
 
         // then
-        verify(heartRepository).save(any(Heart.class));
-        assertThat(heart).extracting("actived").isEqualTo(true);
+        verify(publisher).publishEvent(argThat(
+            (Object event) -> event instanceof HeartToggleRequestedEvent
+                && ((HeartToggleRequestedEvent)event).getUserId() == userId
+                && ((HeartToggleRequestedEvent)event).getProductId() == productId
+                && ((HeartToggleRequestedEvent)event).getProduct().getMinimumPrice() == 2000
+                && ((HeartToggleRequestedEvent)event).isActived()));
+        verify(heartRepository, never()).save(any());
       }
     }
 
     @Nested
-    @DisplayName("userId와 productId에 해당하는 찜이 있다면")
+    @DisplayName("userId와 productId에 해당하는 활성화된 찜이 있다면")
     class ContextFoundHeartByUserIdAndProductId {
 
       @Test
-      @DisplayName("상태를 변경한다.")
-      void ItUpdateState() {
+      @DisplayName("찜을 비활성화하도록 요청한다.")
+      void ItRequestsDeactivation() {
         // given
         long userId = Long.MAX_VALUE;
         long productId = Long.MAX_VALUE;
@@ -749,23 +772,23 @@ class DefaultUserServiceTest {
             .images(List.of("ss"))
             .build();
         ReflectionTestUtils.setField(product, "id", productId);
+        ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
 
-        Heart heart = Heart.of(user, product);
-        ReflectionTestUtils.setField(heart, "actived", true);
+        Heart heart = Heart.of(userId, heartedProduct(productId));
+        heart.toggle();
 
         given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
         given(productRepository.findById(anyLong())).willReturn(Optional.of(product));
-        given(heartRepository.findByUserAndProduct(any(User.class), any(Product.class))).willReturn(
+        given(heartRepository.findByUserIdAndProductId(anyLong(), anyLong())).willReturn(
             Optional.of(heart));
 
         // when
         defaultUserService.toggleHeart(userId, productId);
 
-        // when, then
-        verify(heartRepository, never()).save(any(Heart.class));
-        assertThat(heart)
-            .extracting("actived")
-            .isEqualTo(false);
+        // then
+        verify(publisher).publishEvent(argThat(
+            (Object event) -> event instanceof HeartToggleRequestedEvent
+                && !((HeartToggleRequestedEvent)event).isActived()));
       }
     }
   }
@@ -806,7 +829,7 @@ class DefaultUserServiceTest {
         long userId = 1L;
         ReflectionTestUtils.setField(user, "id", userId);
 
-        UserHeartSelectRequest request = new UserHeartSelectRequest(0, 1, END_DATE_ASC);
+        UserHeartSelectRequest request = new UserHeartSelectRequest(null, 1, END_DATE_ASC);
 
         Product product = Product
             .builder()
@@ -821,25 +844,32 @@ class DefaultUserServiceTest {
         long productId = 1L;
         ReflectionTestUtils.setField(product, "id", productId);
 
-        Heart heart = Heart.of(user, product);
-
-        given(heartRepository.findAllUserHeart(
-            anyLong(),
-            any(UserHeartSelectRequest.class)
+        given(heartRepository.findAllActivedProductIds(userId, END_DATE_ASC, null, 2))
+            .willReturn(List.of(productId));
+        given(productListingRepository.findAllHeartedProductListing(
+            List.of(productId),
+            request
         )).willReturn(
-            List.of(heart));
+            CursorPage.of(List.of(UserHeartSelectResponse.from(product, 1L)), false,
+                          response -> Cursor.of(response.getId())));
 
         //when
         List<UserHeartSelectResponse> result = defaultUserService.findAllUserHearts(
             userId,
             request
-        );
+        ).getItems();
 
         //then
         assertThat(result.size()).isEqualTo(1);
         assertThat(result
                        .get(0)
                        .getId()).isEqualTo(productId);
+        assertThat(result
+                       .get(0)
+                       .getHeartCount()).isEqualTo(1L);
+        assertThat(result
+                       .get(0)
+                       .getHeartCount()).isEqualTo(1L);
       }
     }
   }
@@ -895,7 +925,7 @@ class DefaultUserServiceTest {
             .category(BOOK_TICKET_RECORD)
             .location("test")
             .build();
-        final Heart heart = Heart.of(user, product);
+        final Heart heart = Heart.of(userId, heartedProduct(productId));
         heart.toggle();
 
         when(productRepository.findById(anyLong()))
@@ -940,7 +970,7 @@ class DefaultUserServiceTest {
             .category(BOOK_TICKET_RECORD)
             .location("test")
             .build();
-        final Heart heart = Heart.of(user, product);
+        final Heart heart = Heart.of(userId, heartedProduct(productId));
 
         when(productRepository.findById(anyLong()))
             .thenReturn(Optional.of(product));
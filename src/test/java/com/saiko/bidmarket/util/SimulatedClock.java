@@ -0,0 +1,52 @@
+package com.saiko.bidmarket.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.springframework.util.Assert;
+
+/**
+ * 직접 옮기기 전까지 멈춰 있는 시계. 경매 생성과 마감을 실제 시간을 기다리지 않고 돌려볼 때 쓴다.
+ */
+public class SimulatedClock extends Clock {
+
+  private final ZoneId zone;
+
+  private volatile Instant instant;
+
+  public SimulatedClock(Instant instant, ZoneId zone) {
+    Assert.notNull(instant, "Instant must be provided");
+    Assert.notNull(zone, "Zone must be provided");
+
+    this.instant = instant;
+    this.zone = zone;
+  }
+
+  public void set(Instant instant) {
+    Assert.notNull(instant, "Instant must be provided");
+    Assert.isTrue(!instant.isBefore(this.instant), "Clock must not go backwards");
+
+    this.instant = instant;
+  }
+
+  public void advance(Duration duration) {
+    set(instant.plus(duration));
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    return new SimulatedClock(instant, zone);
+  }
+
+  @Override
+  public Instant instant() {
+    return instant;
+  }
+}
@@ -0,0 +1,47 @@
+package com.saiko.bidmarket.util;
+
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import com.saiko.bidmarket.common.sql.SqlStatementRecorder;
+import com.saiko.bidmarket.common.sql.SqlStatementRecording;
+
+/**
+ * 테스트에서 코드 한 덩어리가 실행하는 SQL 수를 고정한다.
+ * <pre>{@code
+ * ResultActions response = assertMaxStatements(2, () -> mockMvc.perform(get(url)));
+ * }</pre>
+ */
+public final class SqlStatementAssertions {
+
+  private SqlStatementAssertions() {/*no-op*/}
+
+  public static <T> T assertMaxStatements(
+      int max,
+      Callable<T> work
+  ) throws Exception {
+    SqlStatementRecording recording = SqlStatementRecorder.start();
+    T result;
+    try {
+      result = work.call();
+    } finally {
+      SqlStatementRecorder.stop(recording);
+    }
+
+    if (recording.getStatementCount() > max) {
+      throw new AssertionError(String.format(
+          "Expected at most %d statements but %d were executed:%n%s", max,
+          recording.getStatementCount(), describe(recording)));
+    }
+    return result;
+  }
+
+  private static String describe(SqlStatementRecording recording) {
+    return recording
+        .getStatementCounts()
+        .entrySet()
+        .stream()
+        .map(entry -> String.format("  %d x %s", entry.getValue(), entry.getKey()))
+        .collect(Collectors.joining(System.lineSeparator()));
+  }
+}